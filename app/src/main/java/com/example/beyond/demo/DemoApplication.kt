@@ -4,6 +4,9 @@ import android.app.Application
 import android.content.Context
 import com.example.base.AppContext
 import com.example.base.Init
+import com.example.base.player.exoplayer.ExoPlayerPool
+import com.example.base.player.exoplayer.PlaybackProfile
+import com.example.beyond.demo.ui.tts.TTSAudioCache
 
 /**
  *
@@ -15,6 +18,9 @@ class DemoApplication: Application() {
         super.onCreate()
         Init.setApplication(this)
         AppContext.init(this)
+        TTSAudioCache.init()
+        // 主线程空闲时预先创建播放器，首次播放直接租用
+        ExoPlayerPool.preWarm(profile = PlaybackProfile.STREAMING_AUDIO)
         initLogger(this)
     }
 
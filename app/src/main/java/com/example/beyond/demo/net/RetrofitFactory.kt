@@ -1,5 +1,6 @@
 package com.example.beyond.demo.net
 
+import com.example.base.util.HttpClientFactory
 import okhttp3.OkHttpClient
 import retrofit2.Retrofit
 import retrofit2.converter.gson.GsonConverterFactory
@@ -27,7 +28,7 @@ object RetrofitFactory {
 
     private fun getOkHttpClient(): OkHttpClient {
         if (mClient == null) {
-            val builder = OkHttpClient.Builder()
+            val builder = HttpClientFactory.newBuilder()
             mClient = builder.build()
         }
         return mClient!!
@@ -8,11 +8,9 @@ import android.os.Build
 import android.os.Environment
 import android.provider.MediaStore
 import android.util.Log
-import okhttp3.OkHttpClient
-import okhttp3.Request
+import com.example.base.download.DownloadPriority
+import com.example.base.download.FileDownloadManager
 import java.io.File
-import java.io.FileOutputStream
-import java.util.concurrent.TimeUnit
 
 /**
  * 铃声辅助类 - 处理音频下载和闹钟设置
@@ -26,14 +24,6 @@ object RingtoneHelper {
     private const val RINGTONE_DIR = "custom_ringtones"
     private const val DEFAULT_RINGTONE_URL = "https://zmdcharactercdn-new.zhumengdao.com/test/voice/20260417/mp3/57367262214076825692.mp3"
 
-    private val okHttpClient: OkHttpClient by lazy {
-        OkHttpClient.Builder()
-            .connectTimeout(30, TimeUnit.SECONDS)
-            .readTimeout(30, TimeUnit.SECONDS)
-            .writeTimeout(30, TimeUnit.SECONDS)
-            .build()
-    }
-
     /**
      * 获取默认铃声URL
      */
@@ -126,26 +116,21 @@ object RingtoneHelper {
     }
 
     /**
-     * 下载并写入数据（使用 OkHttp + 缓冲区）
+     * 通过 FileDownloadManager 下载到缓存目录，再写入 MediaStore
      */
     private fun downloadAndWrite(context: Context, urlString: String, audioUri: Uri) {
-        val request = Request.Builder().url(urlString).build()
-        val response = okHttpClient.newCall(request).execute()
-
-        if (!response.isSuccessful) {
-            throw Exception("HTTP error: ${response.code()}")
-        }
-
-        response.body()?.byteStream()?.use { inputStream ->
-            context.contentResolver.openOutputStream(audioUri)?.use { outputStream ->
-                // 使用缓冲区写入，提高大文件性能
-                val buffer = ByteArray(8192) // 8KB 缓冲区
-                var bytesRead: Int
-                while (inputStream.read(buffer).also { bytesRead = it } != -1) {
-                    outputStream.write(buffer, 0, bytesRead)
+        val cacheFile = File(context.cacheDir, "$RINGTONE_DIR/${audioUri.lastPathSegment}.mp3")
+        val downloadFile =
+            FileDownloadManager.downloadSync(urlString, cacheFile.path, DownloadPriority.INTERACTIVE)
+        try {
+            downloadFile.inputStream().use { inputStream ->
+                context.contentResolver.openOutputStream(audioUri)?.use { outputStream ->
+                    inputStream.copyTo(outputStream)
+                    outputStream.flush()
                 }
-                outputStream.flush()
             }
+        } finally {
+            downloadFile.delete()
         }
     }
 
@@ -161,24 +146,7 @@ object RingtoneHelper {
             return scanFileToMediaStore(context, outputFile)
         }
 
-        val request = Request.Builder().url(urlString).build()
-        val response = okHttpClient.newCall(request).execute()
-
-        if (!response.isSuccessful) {
-            throw Exception("HTTP error: ${response.code()}")
-        }
-
-        response.body()?.byteStream()?.use { inputStream ->
-            FileOutputStream(outputFile).use { outputStream ->
-                // 使用缓冲区写入，提高大文件性能
-                val buffer = ByteArray(8192) // 8KB 缓冲区
-                var bytesRead: Int
-                while (inputStream.read(buffer).also { bytesRead = it } != -1) {
-                    outputStream.write(buffer, 0, bytesRead)
-                }
-                outputStream.flush()
-            }
-        }
+        FileDownloadManager.downloadSync(urlString, outputFile.path, DownloadPriority.INTERACTIVE)
 
         Log.d(TAG, "下载完成: ${outputFile.absolutePath}")
         return scanFileToMediaStore(context, outputFile)
@@ -147,6 +147,12 @@ class TransformerFragment : Fragment() {
         })
     }
 
+    override fun onDestroyView() {
+        super.onDestroyView()
+        // 播放器释放后会回到实例池，解绑界面
+        binding.playerView.player = null
+    }
+
     override fun onDestroy() {
         super.onDestroy()
         playerWrapper.release()
@@ -0,0 +1,295 @@
+package com.example.beyond.demo.ui.tts
+
+import android.util.Log
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.security.MessageDigest
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * tts完整音频缓存。文件保存在 [TTSFileUtil.ttsDir]，命名为 ttsKey.format
+ *
+ * 1. [buildKey] 由文本、音色、模型和格式计算sha-256，避免 hashCode 冲突
+ * 2. 启动时在子线程加载一次内存索引 [init]，之后查询 [get] 只确认文件存在，不再逐个格式扫描目录
+ * 3. 按总字节数 [maxBytes] 和数量 [maxCount] 做LRU淘汰
+ * 4. 先写临时文件再重命名 [put]，读到的缓存一定是完整文件
+ * 5. 统计命中、未命中和淘汰次数 [stats]
+ *
+ * @author wangshichao
+ * @date 2024/7/4
+ */
+object TTSAudioCache {
+    private const val TAG = "TTSAudioCache"
+    private const val TEMP_SUFFIX = ".temp"
+
+    /**
+     * 下载中断后留下的续传进度文件，不是缓存
+     */
+    private const val META_SUFFIX = ".meta"
+
+    /**
+     * 缓存总字节数上限
+     */
+    @Volatile
+    var maxBytes = 100L * 1024 * 1024
+
+    /**
+     * 缓存文件数量上限
+     */
+    @Volatile
+    var maxCount = 500
+
+    data class Stats(
+        val hitCount: Long,
+        val missCount: Long,
+        val evictionCount: Long,
+        val entryCount: Int,
+        val totalBytes: Long
+    )
+
+    private class Entry(val file: File, val size: Long)
+
+    private val lock = Any()
+
+    /**
+     * 内存索引，key为ttsKey，按访问顺序排列，最久未访问的在最前
+     */
+    private val index = LinkedHashMap<String, Entry>(16, 0.75f, true)
+    private var totalBytes = 0L
+
+    @Volatile
+    private var loaded = false
+    private val ioExecutor = Executors.newSingleThreadExecutor()
+    private val hitCount = AtomicLong(0L)
+    private val missCount = AtomicLong(0L)
+    private val evictionCount = AtomicLong(0L)
+
+    /**
+     * 在子线程加载索引并清理上次残留的临时文件
+     */
+    fun init() {
+        ioExecutor.execute {
+            val startTime = System.currentTimeMillis()
+            loadIndex()
+            File(TTSFileUtil.ttsChunkDir).deleteRecursively()
+            Log.i(TAG, "init: ${stats()} cost=${System.currentTimeMillis() - startTime}")
+        }
+    }
+
+    /**
+     * 由影响合成结果的参数计算缓存key
+     */
+    fun buildKey(vararg parts: String): String {
+        val digest = MessageDigest.getInstance("SHA-256")
+        parts.forEachIndexed { i, part ->
+            if (i > 0) {
+                digest.update(0.toByte())
+            }
+            digest.update(part.toByteArray(Charsets.UTF_8))
+        }
+        val bytes = digest.digest()
+        val chars = CharArray(bytes.size * 2)
+        val hexDigits = "0123456789abcdef"
+        bytes.forEachIndexed { i, b ->
+            val v = b.toInt() and 0xff
+            chars[i * 2] = hexDigits[v ushr 4]
+            chars[i * 2 + 1] = hexDigits[v and 0x0f]
+        }
+        return String(chars)
+    }
+
+    /**
+     * 查询缓存。索引未加载完成时退化为检查文件。文件已被删除时移除索引，按未命中处理
+     */
+    fun get(ttsKey: String): File? {
+        if (!loaded) {
+            return TTSFileUtil.scanCacheFileFromKey(ttsKey)
+        }
+        val entry = synchronized(lock) { index[ttsKey] }
+        if (entry == null) {
+            missCount.incrementAndGet()
+            return null
+        }
+        if (!entry.file.exists()) {
+            Log.w(TAG, "get: file missing ${entry.file.path}")
+            removeEntry(ttsKey, entry)
+            missCount.incrementAndGet()
+            return null
+        }
+        hitCount.incrementAndGet()
+        // 记录访问时间，下次启动时按此恢复LRU顺序
+        ioExecutor.execute { entry.file.setLastModified(System.currentTimeMillis()) }
+        return entry.file
+    }
+
+    /**
+     * 写入完整音频。先写临时文件再重命名，写入后按上限淘汰
+     */
+    fun put(ttsKey: String, format: String, data: ByteArray): File? {
+        val file = TTSFileUtil.createCacheFileFromKey(ttsKey, format)
+        val tempFile = File(file.path + TEMP_SUFFIX)
+        try {
+            tempFile.parentFile?.mkdirs()
+            FileOutputStream(tempFile).use {
+                it.write(data)
+                it.fd.sync()
+            }
+        } catch (e: IOException) {
+            Log.e(TAG, "put: write ${tempFile.path} fail ${e.message}")
+            tempFile.delete()
+            return null
+        }
+        if (!tempFile.renameTo(file)) {
+            Log.e(TAG, "put: rename ${tempFile.path} fail")
+            tempFile.delete()
+            return null
+        }
+        addEntry(ttsKey, file, data.size.toLong())
+        return file
+    }
+
+    /**
+     * 登记已经完整写入的文件，例如下载完成后重命名的文件
+     */
+    fun publish(ttsKey: String, file: File) {
+        ioExecutor.execute {
+            if (file.exists()) {
+                addEntry(ttsKey, file, file.length())
+            }
+        }
+    }
+
+    /**
+     * 把已写完的文件移入缓存，例如边播边写完成的分片文件。在io线程重命名，不拷贝数据
+     */
+    fun putFile(ttsKey: String, format: String, source: File) {
+        ioExecutor.execute {
+            val file = TTSFileUtil.createCacheFileFromKey(ttsKey, format)
+            if (!source.renameTo(file)) {
+                Log.e(TAG, "putFile: rename ${source.path} fail")
+                return@execute
+            }
+            addEntry(ttsKey, file, file.length())
+        }
+    }
+
+    /**
+     * 删除缓存文件和索引，例如缓存文件播放失败时。索引未加载完成时按文件名删除
+     */
+    fun remove(ttsKey: String) {
+        val entry = synchronized(lock) {
+            index.remove(ttsKey)?.also { totalBytes -= it.size }
+        }
+        ioExecutor.execute {
+            val file = entry?.file ?: TTSFileUtil.scanCacheFileFromKey(ttsKey)
+            if (file != null) {
+                Log.w(TAG, "remove ${file.path} deleteResult:${file.delete()}")
+            }
+        }
+    }
+
+    /**
+     * 清空全部缓存
+     */
+    fun clear() {
+        synchronized(lock) {
+            index.clear()
+            totalBytes = 0L
+        }
+        ioExecutor.execute {
+            val deleteResult = File(TTSFileUtil.ttsDir).deleteRecursively()
+            Log.w(TAG, "clear deleteResult:$deleteResult")
+        }
+    }
+
+    /**
+     * 缓存占用的总字节数
+     */
+    fun size(): Long {
+        return synchronized(lock) { totalBytes }
+    }
+
+    fun stats(): Stats {
+        return synchronized(lock) {
+            Stats(hitCount.get(), missCount.get(), evictionCount.get(), index.size, totalBytes)
+        }
+    }
+
+    /**
+     * 只移除索引，文件已经不存在
+     */
+    private fun removeEntry(ttsKey: String, entry: Entry) {
+        synchronized(lock) {
+            if (index[ttsKey] === entry) {
+                index.remove(ttsKey)
+                totalBytes -= entry.size
+            }
+        }
+    }
+
+    private fun addEntry(ttsKey: String, file: File, size: Long) {
+        synchronized(lock) {
+            index.put(ttsKey, Entry(file, size))?.let { totalBytes -= it.size }
+            totalBytes += size
+        }
+        trimToSize(ttsKey)
+    }
+
+    /**
+     * 按上限淘汰最久未访问的缓存
+     *
+     * @param keepKey 刚写入的key，不淘汰
+     */
+    private fun trimToSize(keepKey: String?) {
+        val evicted = mutableListOf<Entry>()
+        synchronized(lock) {
+            val iterator = index.entries.iterator()
+            while ((totalBytes > maxBytes || index.size > maxCount) && iterator.hasNext()) {
+                val eldest = iterator.next()
+                if (eldest.key == keepKey) {
+                    continue
+                }
+                iterator.remove()
+                totalBytes -= eldest.value.size
+                evicted.add(eldest.value)
+            }
+        }
+        if (evicted.isNotEmpty()) {
+            evictionCount.addAndGet(evicted.size.toLong())
+            ioExecutor.execute {
+                evicted.forEach { it.file.delete() }
+            }
+            Log.i(TAG, "evict ${evicted.size} files ${stats()}")
+        }
+    }
+
+    private fun loadIndex() {
+        val files = File(TTSFileUtil.ttsDir).listFiles()
+            ?.filter { it.isFile && !it.name.endsWith(TEMP_SUFFIX) && !it.name.endsWith(META_SUFFIX) }
+            ?.sortedBy { it.lastModified() }
+            ?: emptyList()
+        synchronized(lock) {
+            // 加载期间新写入的缓存更新，保留在后面
+            val written = LinkedHashMap(index)
+            index.clear()
+            totalBytes = 0L
+            files.forEach { file ->
+                val entry = Entry(file, file.length())
+                index[file.nameWithoutExtension] = entry
+                totalBytes += entry.size
+            }
+            written.forEach { (ttsKey, entry) ->
+                index.put(ttsKey, entry)?.let { totalBytes -= it.size }
+                totalBytes += entry.size
+            }
+        }
+        // 清理残留的临时文件
+        File(TTSFileUtil.ttsDir).listFiles()
+            ?.filter { it.name.endsWith(TEMP_SUFFIX) }
+            ?.forEach { it.delete() }
+        loaded = true
+        trimToSize(null)
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.beyond.demo.ui.tts
+
+import android.os.SystemClock
+import okhttp3.Call
+import okhttp3.EventListener
+import okhttp3.Handshake
+import okhttp3.Protocol
+import okhttp3.Response
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.net.Proxy
+
+/**
+ * 单次tts请求各阶段耗时，单位毫秒，未经过的阶段为-1
+ *
+ * 1. dns、connect、tls 为各阶段自身耗时，复用连接时都为-1
+ * 2. requestSent、responseHeaders、firstEvent、firstAudio 为距离请求开始的时间
+ *
+ * @author wangshichao
+ * @date 2024/7/6
+ */
+class TTSConnectTiming(val ttsKey: String) {
+    private val startTime = SystemClock.elapsedRealtime()
+
+    @Volatile
+    var dnsMs = -1L
+        internal set
+
+    @Volatile
+    var connectMs = -1L
+        internal set
+
+    @Volatile
+    var tlsMs = -1L
+        internal set
+
+    @Volatile
+    var requestSentMs = -1L
+        internal set
+
+    @Volatile
+    var responseHeadersMs = -1L
+        internal set
+
+    @Volatile
+    var firstEventMs = -1L
+        internal set
+
+    @Volatile
+    var firstAudioMs = -1L
+        internal set
+
+    /**
+     * 是否复用了连接池中的连接，例如预热过的连接
+     */
+    @Volatile
+    var connectionReused = true
+        internal set
+
+    internal fun elapsed(): Long {
+        return SystemClock.elapsedRealtime() - startTime
+    }
+
+    internal fun markFirstEvent() {
+        if (firstEventMs < 0) {
+            firstEventMs = elapsed()
+        }
+    }
+
+    internal fun markFirstAudio() {
+        if (firstAudioMs < 0) {
+            firstAudioMs = elapsed()
+        }
+    }
+
+    override fun toString(): String {
+        return "TTSConnectTiming(ttsKey=$ttsKey reused=$connectionReused dns=$dnsMs connect=$connectMs " +
+                "tls=$tlsMs requestSent=$requestSentMs responseHeaders=$responseHeadersMs " +
+                "firstEvent=$firstEventMs firstAudio=$firstAudioMs)"
+    }
+}
+
+/**
+ * 把 OkHttp 的连接事件记录到请求 tag 中的 [TTSConnectTiming]
+ */
+internal class TTSTimingEventListener(private val timing: TTSConnectTiming) : EventListener() {
+    companion object {
+        val FACTORY = EventListener.Factory { call ->
+            call.request().tag(TTSConnectTiming::class.java)?.let { TTSTimingEventListener(it) }
+                ?: EventListener.NONE
+        }
+    }
+
+    private var dnsStart = 0L
+    private var connectStart = 0L
+    private var secureConnectStart = 0L
+
+    override fun dnsStart(call: Call, domainName: String) {
+        dnsStart = timing.elapsed()
+    }
+
+    override fun dnsEnd(call: Call, domainName: String, inetAddressList: List<InetAddress>) {
+        timing.dnsMs = timing.elapsed() - dnsStart
+    }
+
+    override fun connectStart(call: Call, inetSocketAddress: InetSocketAddress, proxy: Proxy) {
+        timing.connectionReused = false
+        connectStart = timing.elapsed()
+    }
+
+    override fun secureConnectStart(call: Call) {
+        secureConnectStart = timing.elapsed()
+    }
+
+    override fun secureConnectEnd(call: Call, handshake: Handshake?) {
+        timing.tlsMs = timing.elapsed() - secureConnectStart
+    }
+
+    override fun connectEnd(
+        call: Call,
+        inetSocketAddress: InetSocketAddress,
+        proxy: Proxy,
+        protocol: Protocol?
+    ) {
+        timing.connectMs = timing.elapsed() - connectStart
+    }
+
+    override fun requestBodyEnd(call: Call, byteCount: Long) {
+        timing.requestSentMs = timing.elapsed()
+    }
+
+    override fun responseHeadersEnd(call: Call, response: Response) {
+        timing.responseHeadersMs = timing.elapsed()
+    }
+}
@@ -27,9 +27,16 @@ object TTSFileUtil {
         YWFileUtil.getStorageFileDir(AppContext.application)?.path + "/tts/chunk/"
 
     /**
-     * 检查是否存在缓存
+     * 检查是否存在缓存。通过内存索引查询，文件已被删除时按未命中处理
      */
     fun checkCacheFileFromKey(ttsKey: String): File? {
+        return TTSAudioCache.get(ttsKey)
+    }
+
+    /**
+     * 逐个格式检查缓存文件是否存在。仅在缓存索引加载完成前使用
+     */
+    fun scanCacheFileFromKey(ttsKey: String): File? {
         formatList.forEach { format ->
             val path = "$ttsDir$ttsKey.$format"
             val file = File(path)
@@ -47,6 +54,13 @@ object TTSFileUtil {
         return File("$ttsDir$ttsKey.$format")
     }
 
+    /**
+     * 创建分片音频临时文件路径。播放时边写边读，写完后通过 [TTSAudioCache.putFile] 移入缓存
+     */
+    fun createChunkFileFromKey(ttsKey: String, format: String): File {
+        return File("$ttsChunkDir$ttsKey.$format")
+    }
+
     /**
      * 通过key和url创建缓存路径
      */
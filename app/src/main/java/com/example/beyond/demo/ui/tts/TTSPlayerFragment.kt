@@ -8,11 +8,15 @@ import android.view.View
 import android.view.ViewGroup
 import android.widget.Toast
 import androidx.fragment.app.Fragment
+import com.example.base.download.DownloadPriority
+import com.example.base.download.FileDownloadListener
 import com.example.base.download.FileDownloadManager
 import com.example.base.player.AudioFocusManager
 import com.example.base.player.OnPlayerListener
 import com.example.base.player.PlayState
 import com.example.base.player.exoplayer.ExoPlayerWrapper
+import com.example.base.player.exoplayer.PlaybackProfile
+import com.example.base.player.exoplayer.PlaybackQoe
 import com.example.base.util.YWFileUtil
 import com.example.beyond.demo.R
 import com.example.beyond.demo.databinding.FragmentExoPlayerBinding
@@ -30,8 +34,13 @@ class TTSPlayerFragment : Fragment(), OnPlayerListener, TTSStreamListener, View.
     private var _binding: FragmentExoPlayerBinding? = null
     private val binding get() = _binding!!
     private val mp3Path by lazy { YWFileUtil.getStorageFileDir(context)?.path + "/test.mp3" }
-    private val player = ExoPlayerWrapper()
+    private val player = ExoPlayerWrapper(PlaybackProfile.STREAMING_AUDIO)
     private var currentTtsKey: String? = ""
+
+    /**
+     * 排在当前播放之后的回复，开始播放时成为 [currentTtsKey]
+     */
+    private val queuedTtsKeys = LinkedHashSet<String>()
     private val ttsListenerList: MutableList<OnTTSListener> = mutableListOf()
 
     companion object {
@@ -85,7 +94,12 @@ class TTSPlayerFragment : Fragment(), OnPlayerListener, TTSStreamListener, View.
     override fun onStart() {
         super.onStart()
         Log.i(TAG, "onStart $this")
-        TTSStreamManager.addTTSStreamListener(this)
+        // 页面可见时预热并保持tts连接，点击播放时省去握手耗时
+        TTSStreamManager.warmUp { ready ->
+            Log.i(TAG, "warmUp ready=$ready")
+        }
+        // 预合成页面上的消息，点击时直接命中缓存或接管进行中的请求
+        TTSPrefetcher.prefetch(listOf(TTSStreamManager.buildTtsKey(longStr) to longStr))
     }
 
     /**
@@ -101,7 +115,7 @@ class TTSPlayerFragment : Fragment(), OnPlayerListener, TTSStreamListener, View.
         }
 
         player.clearMediaItems()
-        currentTtsKey = ttsKey
+        switchTtsKey(ttsKey)
 
         // 有缓存直接播放
         val cacheFile = TTSFileUtil.checkCacheFileFromKey(ttsKey)
@@ -111,8 +125,64 @@ class TTSPlayerFragment : Fragment(), OnPlayerListener, TTSStreamListener, View.
             return
         }
 
-        // tts流式请求分片播放
-        TTSStreamManager.addTTSStreamListener(this)
+        // tts流式请求分片播放，片段经通道直接送到播放器
+        val chunkPath = TTSFileUtil.createChunkFileFromKey(ttsKey, "mp3").path
+        val expectedLength = TTSStreamManager.estimateAudioBytes(content)
+        val chunkChannel = player.openChunkChannel(ttsKey, chunkPath, expectedLength) { file ->
+            TTSAudioCache.putFile(ttsKey, "mp3", file)
+        }
+
+        // 正在预合成时接管该请求，已收到的片段先送到播放器，不重新请求
+        if (TTSPrefetcher.isPrefetching(ttsKey) && TTSStreamManager.takeOverChunkChannel(ttsKey, chunkChannel)) {
+            TTSPrefetcher.handOver(ttsKey)
+            return
+        }
+        // 预合成刚好结束等无法接管的情况，已缓存时直接播放，否则取消后重新请求
+        TTSPrefetcher.cancel(listOf(ttsKey))
+        TTSFileUtil.checkCacheFileFromKey(ttsKey)?.let {
+            Log.w(TAG, "take over fail, exist cache ${it.path}")
+            player.addMediaItem(it.path, ttsKey)
+            return
+        }
+        TTSStreamManager.bindChunkChannel(ttsKey, chunkChannel)
+        TTSStreamManager.startConnect(ttsKey, content)
+    }
+
+    /**
+     * 对话的下一条回复排在当前播放之后，当前回复播完后无间隙切换。没有播放时直接开始
+     */
+    fun enqueueTTS(content: String) {
+        val ttsKey = TTSStreamManager.buildTtsKey(content)
+        val playingKey = currentTtsKey
+        if (playingKey.isNullOrEmpty() || playingKey == ttsKey || !player.isLoading(playingKey)) {
+            player.clearMediaItems()
+            startTTS(ttsKey, content)
+            return
+        }
+        if (!queuedTtsKeys.add(ttsKey)) {
+            Log.w(TAG, "enqueueTTS: already queued ttsKey=$ttsKey")
+            return
+        }
+        TTSStreamManager.subscribe(ttsKey, this)
+        // 有缓存直接排队
+        val cacheFile = TTSFileUtil.checkCacheFileFromKey(ttsKey)
+        if (cacheFile != null) {
+            Log.w(TAG, "enqueueTTS: exist cache ${cacheFile.path}")
+            player.enqueueMediaItem(cacheFile.path, ttsKey)
+            return
+        }
+        // 排队期间片段继续经通道写入数据源，和 startTTS 一样优先接管预合成的请求
+        val chunkPath = TTSFileUtil.createChunkFileFromKey(ttsKey, "mp3").path
+        val expectedLength = TTSStreamManager.estimateAudioBytes(content)
+        val chunkChannel = player.enqueueChunkChannel(ttsKey, chunkPath, expectedLength) { file ->
+            TTSAudioCache.putFile(ttsKey, "mp3", file)
+        }
+        if (TTSPrefetcher.isPrefetching(ttsKey) && TTSStreamManager.takeOverChunkChannel(ttsKey, chunkChannel)) {
+            TTSPrefetcher.handOver(ttsKey)
+            return
+        }
+        TTSPrefetcher.cancel(listOf(ttsKey))
+        TTSStreamManager.bindChunkChannel(ttsKey, chunkChannel)
         TTSStreamManager.startConnect(ttsKey, content)
     }
 
@@ -121,12 +191,40 @@ class TTSPlayerFragment : Fragment(), OnPlayerListener, TTSStreamListener, View.
      */
     fun stopTTS() {
         Log.i(TAG, "stopTTS")
-        TTSStreamManager.removeTTSStreamListener(this)
+        TTSStreamManager.unsubscribe(currentTtsKey, this)
+        TTSStreamManager.unbindChunkChannel(currentTtsKey)
+        clearQueuedTTS()
         player.stop()
         currentTtsKey = null
         AudioFocusManager.abandonAudioFocus()
     }
 
+    /**
+     * 切换当前key。取消旧key的订阅和片段通道并重置其状态，订阅新key
+     */
+    private fun switchTtsKey(ttsKey: String) {
+        val lastKey = currentTtsKey
+        if (lastKey != null && lastKey != ttsKey) {
+            TTSStreamManager.unsubscribe(lastKey, this)
+            TTSStreamManager.unbindChunkChannel(lastKey)
+            resetTTSState(lastKey)
+        }
+        clearQueuedTTS()
+        currentTtsKey = ttsKey
+        TTSStreamManager.subscribe(ttsKey, this)
+    }
+
+    /**
+     * 取消排队回复的订阅和片段通道，播放列表由调用方清空
+     */
+    private fun clearQueuedTTS() {
+        queuedTtsKeys.forEach {
+            TTSStreamManager.unsubscribe(it, this)
+            TTSStreamManager.unbindChunkChannel(it)
+        }
+        queuedTtsKeys.clear()
+    }
+
     fun addTTSListener(listener: OnTTSListener) {
         if (!ttsListenerList.contains(listener)) {
             ttsListenerList.add(listener)
@@ -144,8 +242,8 @@ class TTSPlayerFragment : Fragment(), OnPlayerListener, TTSStreamListener, View.
             binding.tvPlayStream1 -> {
                 player.clearMediaItems()
                 val content = shortStr
-                val ttsKey = content.hashCode().toString()
-                currentTtsKey = ttsKey
+                val ttsKey = TTSStreamManager.buildTtsKey(content)
+                switchTtsKey(ttsKey)
                 // 有缓存直接播放
                 val cachePath = TTSFileUtil.checkCacheFileFromKey(ttsKey)?.path
                 if (cachePath != null) {
@@ -157,9 +255,14 @@ class TTSPlayerFragment : Fragment(), OnPlayerListener, TTSStreamListener, View.
             }
 
             binding.tvPlayStream2 -> {
-                player.clearMediaItems()
                 val content = longStr
-                val ttsKey = content.hashCode().toString()
+                val ttsKey = TTSStreamManager.buildTtsKey(content)
+                // 正在播放其他回复时作为下一条回复排队
+                if (player.isPlaying() && !player.isPlaying(ttsKey)) {
+                    enqueueTTS(content)
+                    return
+                }
+                player.clearMediaItems()
                 startTTS(ttsKey, content)
             }
 
@@ -169,18 +272,13 @@ class TTSPlayerFragment : Fragment(), OnPlayerListener, TTSStreamListener, View.
             }
 
             binding.tvCleanCache -> {
-                val startTime = System.currentTimeMillis()
-                val deleteResult = File(TTSFileUtil.ttsDir).deleteRecursively()
-                Log.w(
-                    TAG,
-                    "deleteChunkFile cost ${System.currentTimeMillis() - startTime} deleteResult:$deleteResult"
-                )
+                TTSAudioCache.clear()
             }
 
             binding.tvPlayNet -> {
                 val url = mp3Url1
-                val key = url.hashCode().toString()
-                currentTtsKey = key
+                val key = TTSAudioCache.buildKey(url)
+                switchTtsKey(key)
                 if (player.isPlaying(key)) {
                     return
                 }
@@ -197,8 +295,8 @@ class TTSPlayerFragment : Fragment(), OnPlayerListener, TTSStreamListener, View.
 
             binding.tvDownUrl -> {
                 val url = mp3Url
-                val key = url.hashCode().toString()
-                currentTtsKey = key
+                val key = TTSAudioCache.buildKey(url)
+                switchTtsKey(key)
                 if (player.isPlaying(key)) {
                     return
                 }
@@ -216,32 +314,37 @@ class TTSPlayerFragment : Fragment(), OnPlayerListener, TTSStreamListener, View.
 
                 // 离线下载
                 val file = TTSFileUtil.createCacheFileFromUrl(key, url)
-                FileDownloadManager.download(url, file.path)
+                FileDownloadManager.download(url, file.path, object : FileDownloadListener {
+                    override fun onSuccess(url: String, saveFile: File) {
+                        TTSAudioCache.publish(key, saveFile)
+                    }
+
+                    override fun onFail(url: String, errorMessage: String) {
+                        Log.w(TAG, "download fail url=$url $errorMessage")
+                    }
+                }, DownloadPriority.BACKGROUND)
             }
         }
     }
 
     override fun onReceiveCompleteUrl(ttsKey: String, url: String) {
-        Log.i(TAG, "onReceiveCompleteUrl clickTtsKey=${currentTtsKey} ttsKey=${ttsKey}")
-        if (currentTtsKey == ttsKey) {
-            player.addMediaItem(url, ttsKey)
-        } else {
-            resetTTSState(ttsKey)
+        // 只订阅了当前key，不需要再过滤
+        Log.i(TAG, "onReceiveCompleteUrl ttsKey=${ttsKey}")
+        // 排队的回复换成完整音频，不打断当前播放
+        if (queuedTtsKeys.contains(ttsKey)) {
+            player.enqueueMediaItem(url, ttsKey)
+            return
         }
+        // 移除等待片段的通道数据源
+        player.clearMediaItems()
+        player.addMediaItem(url, ttsKey)
     }
 
     override fun onReceiveChunk(dataSource: ChunkDataSource) {
         val ttsKey = dataSource.ttsKey
-        Log.i(
-            TAG,
-            "onReceiveChunk clickTtsKey=${currentTtsKey} ttsKey=$ttsKey"
-        )
-        if (currentTtsKey == ttsKey) {
-            val chunkPath = TTSFileUtil.createCacheFileFromKey(ttsKey, "mp3").path
-            player.addChunk(dataSource.audioData, ttsKey, chunkPath)
-        } else {
-            resetTTSState(ttsKey)
-        }
+        Log.i(TAG, "onReceiveChunk ttsKey=$ttsKey")
+        val chunkPath = TTSFileUtil.createChunkFileFromKey(ttsKey, "mp3").path
+        player.addChunk(dataSource.audioData, ttsKey, chunkPath)
     }
 
     override fun onRateLimit(ttsKey: String, code: Int, msg: String) {
@@ -265,15 +368,22 @@ class TTSPlayerFragment : Fragment(), OnPlayerListener, TTSStreamListener, View.
     }
 
     override fun onPlaybackStateChanged(playKey: String, playState: Int) {
+        // 排队的回复开始播放，结束上一条的订阅
+        if (playState != PlayState.IDLE && queuedTtsKeys.remove(playKey)) {
+            Log.i(TAG, "queued ttsKey=$playKey start, last=$currentTtsKey")
+            TTSStreamManager.unsubscribe(currentTtsKey, this)
+            TTSStreamManager.unbindChunkChannel(currentTtsKey)
+            currentTtsKey = playKey
+        }
         ttsListenerList.forEach {
             it.onTTSStateChanged(playKey, playState)
         }
     }
 
     override fun onPlayerError(uri: String, playKey: String, desc: String) {
-        // 离线播放失败，删除缓存。方便下次通过在线播放
+        // 离线播放失败，删除缓存文件和索引。方便下次通过在线播放
         if (YWFileUtil.isLocalPath(uri)) {
-            File(uri).delete()
+            TTSAudioCache.remove(playKey)
         }
         Toast.makeText(
             context,
@@ -292,6 +402,17 @@ class TTSPlayerFragment : Fragment(), OnPlayerListener, TTSStreamListener, View.
         Log.i(TAG, "onStop $this")
         // 进入后台取消tts监听并停止播放
         stopTTS()
+        TTSPrefetcher.cancelAll()
+        TTSStreamManager.coolDown()
+        // 导出播放体验指标，供看板统计
+        Log.i(TAG, "qoe ${PlaybackQoe.toJson()}")
+    }
+
+    override fun onDestroyView() {
+        super.onDestroyView()
+        // 播放器释放后会回到实例池，解绑界面，避免池中的播放器持有已销毁的界面
+        binding.playerView.player = null
+        _binding = null
     }
 
     override fun onDestroy() {
@@ -0,0 +1,148 @@
+package com.example.beyond.demo.ui.tts
+
+import android.util.Log
+import androidx.annotation.MainThread
+
+/**
+ * tts预合成调度。提前在后台合成即将播放的消息，结果缓存在 [TTSFileUtil.ttsDir]，播放时直接命中缓存
+ *
+ * 1. [prefetch] 传入按优先级排序的 (ttsKey, content)，排在前面的先合成
+ * 2. 同时进行的请求不超过 [maxConcurrent]，缓存目录超过 [diskBudgetBytes] 后暂停预合成
+ * 3. 消息滑出屏幕时调用 [cancel] 取消。用户点击正在预合成的消息时，播放器接管该连接后调用 [handOver]，不重新请求
+ * 4. 所有方法在主线程调用
+ *
+ * @author wangshichao
+ * @date 2024/7/3
+ */
+object TTSPrefetcher {
+    private const val TAG = "TTSPrefetcher"
+
+    /**
+     * 同时预合成的最大数量
+     */
+    var maxConcurrent = 2
+
+    /**
+     * 缓存目录占用上限，超过后不再预合成
+     */
+    var diskBudgetBytes = 50L * 1024 * 1024
+
+    /**
+     * 等待合成的任务，key为ttsKey，value为文本，按优先级排序
+     */
+    private val pendingMap = LinkedHashMap<String, String>()
+
+    /**
+     * 正在合成的ttsKey
+     */
+    private val runningSet = mutableSetOf<String>()
+
+    /**
+     * 预合成消息列表。新列表决定优先级，之前等待中的任务排在后面
+     *
+     * @param items 按优先级排序的 (ttsKey, content)
+     */
+    @MainThread
+    fun prefetch(items: List<Pair<String, String>>) {
+        val lastPending = LinkedHashMap(pendingMap)
+        pendingMap.clear()
+        items.forEach { (ttsKey, content) ->
+            if (!runningSet.contains(ttsKey)) {
+                pendingMap[ttsKey] = content
+            }
+        }
+        lastPending.forEach { (ttsKey, content) ->
+            if (!pendingMap.containsKey(ttsKey)) {
+                pendingMap[ttsKey] = content
+            }
+        }
+        Log.i(TAG, "prefetch pending=${pendingMap.size} running=${runningSet.size}")
+        schedule()
+    }
+
+    /**
+     * 提高等待中任务的优先级
+     */
+    @MainThread
+    fun prioritize(ttsKey: String) {
+        val content = pendingMap.remove(ttsKey) ?: return
+        val lastPending = LinkedHashMap(pendingMap)
+        pendingMap.clear()
+        pendingMap[ttsKey] = content
+        pendingMap.putAll(lastPending)
+        schedule()
+    }
+
+    /**
+     * 取消预合成。等待中的直接移除，进行中的取消连接
+     */
+    @MainThread
+    fun cancel(ttsKeys: Collection<String>) {
+        ttsKeys.forEach { ttsKey ->
+            pendingMap.remove(ttsKey)
+            if (runningSet.remove(ttsKey)) {
+                Log.i(TAG, "cancel running ttsKey=$ttsKey")
+                TTSStreamManager.cancelConnect(ttsKey)
+            }
+        }
+        schedule()
+    }
+
+    /**
+     * 进行中的预合成已被播放器接管，不再由预合成管理，之后 [cancel] 也不会断开连接
+     */
+    @MainThread
+    fun handOver(ttsKey: String) {
+        pendingMap.remove(ttsKey)
+        if (runningSet.remove(ttsKey)) {
+            Log.i(TAG, "handOver ttsKey=$ttsKey")
+        }
+        schedule()
+    }
+
+    @MainThread
+    fun cancelAll() {
+        cancel(pendingMap.keys + runningSet)
+    }
+
+    /**
+     * 是否正在预合成
+     */
+    fun isPrefetching(ttsKey: String): Boolean {
+        return runningSet.contains(ttsKey)
+    }
+
+    private fun schedule() {
+        while (runningSet.size < maxConcurrent && pendingMap.isNotEmpty()) {
+            val usedBytes = TTSAudioCache.size()
+            if (usedBytes >= diskBudgetBytes) {
+                Log.w(TAG, "schedule: over disk budget used=$usedBytes budget=$diskBudgetBytes")
+                return
+            }
+            val iterator = pendingMap.entries.iterator()
+            val (ttsKey, content) = iterator.next()
+            iterator.remove()
+            // 已有缓存或正在请求（用户点击播放），不需要预合成
+            if (TTSFileUtil.checkCacheFileFromKey(ttsKey) != null) {
+                continue
+            }
+            val started = TTSStreamManager.startConnect(ttsKey, content) {
+                onPrefetchClosed(ttsKey)
+            }
+            if (started) {
+                Log.i(TAG, "schedule start ttsKey=$ttsKey")
+                runningSet.add(ttsKey)
+            }
+        }
+    }
+
+    private fun onPrefetchClosed(ttsKey: String) {
+        // 已取消的任务不再处理
+        if (!runningSet.remove(ttsKey)) {
+            return
+        }
+        val cacheFile = TTSFileUtil.checkCacheFileFromKey(ttsKey)
+        Log.i(TAG, "onPrefetchClosed ttsKey=$ttsKey cache=${cacheFile?.path}")
+        schedule()
+    }
+}
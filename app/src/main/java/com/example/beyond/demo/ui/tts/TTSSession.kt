@@ -0,0 +1,178 @@
+package com.example.beyond.demo.ui.tts
+
+import com.example.base.player.audiotrack.Mp3FrameScanner
+import com.example.base.player.exoplayer.ChunkChannel
+import okhttp3.Call
+import okhttp3.internal.sse.RealEventSource
+import java.util.concurrent.CopyOnWriteArraySet
+
+/**
+ * 单个 ttsKey 的流式tts会话
+ *
+ * 1. 持有该key的sse连接、播放器片段通道和订阅者，事件只分发给该key的订阅者
+ * 2. 订阅者使用 CopyOnWriteArraySet，主线程增删与sse线程遍历互不影响
+ * 3. 多个会话互相独立，可以同时合成多条消息
+ * 4. 没有绑定通道时暂存从头开始收到的片段，预合成中途被点击播放时，播放器可以接管连接 [takeOver] 并从头播放
+ *
+ * @author wangshichao
+ * @date 2024/7/3
+ */
+class TTSSession internal constructor(val ttsKey: String) {
+    private val subscribers = CopyOnWriteArraySet<TTSStreamListener>()
+
+    /**
+     * 正在进行的sse连接
+     */
+    @Volatile
+    internal var eventSource: RealEventSource? = null
+
+    /**
+     * sse连接对应的请求，取消连接时取消该请求
+     */
+    @Volatile
+    internal var call: Call? = null
+
+    /**
+     * 当前请求的各阶段耗时
+     */
+    @Volatile
+    internal var timing: TTSConnectTiming? = null
+
+    /**
+     * 扫描当前请求收到的音频帧，解码前得到已收到音频的时长。只在sse线程访问
+     */
+    @Volatile
+    internal var frameScanner: Mp3FrameScanner? = null
+
+    /**
+     * 连接结束回调，在主线程执行
+     */
+    @Volatile
+    internal var onClosed: (() -> Unit)? = null
+
+    /**
+     * 绑定的播放器片段通道
+     */
+    @Volatile
+    internal var chunkChannel: ChunkChannel? = null
+
+    /**
+     * 没有绑定通道时收到的片段，通道绑定后先写入通道
+     */
+    private val pendingChunks = ArrayList<ByteArray>()
+
+    /**
+     * 是否暂存了本次连接从头开始的全部片段，片段写入过通道后不再暂存
+     */
+    private var recording = false
+
+    /**
+     * 是否正在请求
+     */
+    val isConnecting: Boolean
+        get() = eventSource != null
+
+    val subscriberCount: Int
+        get() = subscribers.size
+
+    internal fun subscribe(listener: TTSStreamListener): Boolean {
+        return subscribers.add(listener)
+    }
+
+    internal fun unsubscribe(listener: TTSStreamListener): Boolean {
+        return subscribers.remove(listener)
+    }
+
+    internal fun forEachSubscriber(action: (TTSStreamListener) -> Unit) {
+        subscribers.forEach(action)
+    }
+
+    /**
+     * 新连接开始，从头暂存片段
+     */
+    @Synchronized
+    internal fun startRecording() {
+        pendingChunks.clear()
+        recording = true
+    }
+
+    /**
+     * 连接结束，丢弃暂存的片段
+     */
+    @Synchronized
+    internal fun stopRecording() {
+        pendingChunks.clear()
+        recording = false
+    }
+
+    /**
+     * 取出绑定的通道并停止暂存，与 [takeOver] 互斥。最后一个片段到达后不能再接管，
+     * 否则接管的通道收不到结束，直到连接结束被取消
+     *
+     * 取出了通道时保留暂存的片段，由 [drainPendingChunks] 写入通道
+     */
+    @Synchronized
+    internal fun takeChunkChannel(): ChunkChannel? {
+        val channel = chunkChannel
+        chunkChannel = null
+        if (channel == null) {
+            stopRecording()
+        } else {
+            recording = false
+        }
+        return channel
+    }
+
+    /**
+     * 接管正在进行的连接。只有暂存了从头开始的全部片段且没有绑定通道时才能接管
+     *
+     * @return 是否接管成功，成功后暂存的片段由sse线程先写入通道
+     */
+    @Synchronized
+    internal fun takeOver(channel: ChunkChannel): Boolean {
+        if (!isConnecting || !recording || chunkChannel != null) {
+            return false
+        }
+        chunkChannel = channel
+        return true
+    }
+
+    /**
+     * sse线程收到片段。没有绑定通道时暂存，与 [takeOver] 互斥，片段不会丢失也不会乱序
+     *
+     * @return 绑定的通道，没有时返回null
+     */
+    @Synchronized
+    internal fun receiveChunk(data: ByteArray): ChunkChannel? {
+        val channel = chunkChannel
+        if (channel == null && recording) {
+            pendingChunks.add(data)
+        }
+        return channel
+    }
+
+    /**
+     * 取出暂存的片段，之后不再暂存。只在sse线程调用
+     */
+    @Synchronized
+    internal fun drainPendingChunks(): List<ByteArray> {
+        recording = false
+        if (pendingChunks.isEmpty()) {
+            return emptyList()
+        }
+        val chunks = ArrayList(pendingChunks)
+        pendingChunks.clear()
+        return chunks
+    }
+
+    /**
+     * 没有连接、通道和订阅者时可以移除
+     */
+    internal fun isIdle(): Boolean {
+        return eventSource == null && chunkChannel == null && subscribers.isEmpty()
+    }
+
+    override fun toString(): String {
+        return "TTSSession(ttsKey=$ttsKey connecting=$isConnecting subscribers=${subscribers.size})"
+    }
+}
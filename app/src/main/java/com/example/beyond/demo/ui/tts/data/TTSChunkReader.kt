@@ -0,0 +1,279 @@
+package com.example.beyond.demo.ui.tts.data
+
+import android.util.Log
+import com.example.base.util.HexUtil
+
+/**
+ * sse 音频片段 [TTSChunkResult] 解析器
+ *
+ * 1. 手写扫描器直接遍历事件 data 字符串，不经过 Gson 反射
+ * 2. data.audio 的十六进制内容直接从原字符串区间解码为字节数组，不再生成第二个大字符串
+ * 3. extra_info 等未使用的字段直接跳过
+ *
+ * @author wangshichao
+ * @date 2024/7/2
+ */
+object TTSChunkReader {
+    private const val TAG = "TTSChunkReader"
+
+    /**
+     * 解析结果。[result] 中 data.audio 为空，音频内容已解码到 [audioData]
+     */
+    class Chunk(
+        val result: TTSChunkResult,
+        val audioData: ByteArray?
+    )
+
+    /**
+     * 解析单个片段，格式错误返回null
+     */
+    fun read(json: String?): Chunk? {
+        if (json.isNullOrEmpty()) {
+            return null
+        }
+        return try {
+            Scanner(json).readChunk()
+        } catch (e: Exception) {
+            Log.w(TAG, "read: error ${e.message}")
+            null
+        }
+    }
+
+    private class Scanner(private val json: String) {
+        private var pos = 0
+        private var audioData: ByteArray? = null
+
+        fun readChunk(): Chunk {
+            var baseResp: TTSChunkResult.BaseResp? = null
+            var data: TTSChunkResult.Data? = null
+            var traceId: String? = null
+            var type = 0
+            var url: String? = null
+            readObject { name ->
+                when (name) {
+                    "base_resp" -> baseResp = if (nextNull()) null else readBaseResp()
+                    "data" -> data = if (nextNull()) null else readData()
+                    "trace_id" -> traceId = nextStringOrNull()
+                    "type" -> type = nextInt()
+                    "url" -> url = nextStringOrNull()
+                    else -> skipValue()
+                }
+            }
+            val result = TTSChunkResult(
+                base_resp = baseResp,
+                data = data,
+                trace_id = traceId,
+                type = type,
+                url = url
+            )
+            return Chunk(result, audioData)
+        }
+
+        private fun readBaseResp(): TTSChunkResult.BaseResp {
+            var statusCode = 0
+            var statusMsg: String? = null
+            readObject { name ->
+                when (name) {
+                    "status_code" -> statusCode = nextInt()
+                    "status_msg" -> statusMsg = nextStringOrNull()
+                    else -> skipValue()
+                }
+            }
+            return TTSChunkResult.BaseResp(statusCode, statusMsg)
+        }
+
+        private fun readData(): TTSChunkResult.Data {
+            var ced: String? = null
+            var status = 0
+            readObject { name ->
+                when (name) {
+                    "audio" -> audioData = if (nextNull()) null else nextHex()
+                    "ced" -> ced = nextStringOrNull()
+                    "status" -> status = nextInt()
+                    else -> skipValue()
+                }
+            }
+            return TTSChunkResult.Data(audio = null, ced = ced, status = status)
+        }
+
+        /**
+         * 遍历对象的每个字段，[onField] 需要消费字段值
+         */
+        private inline fun readObject(onField: (name: String) -> Unit) {
+            expect('{')
+            if (peek() == '}') {
+                pos++
+                return
+            }
+            while (true) {
+                val name = nextString()
+                expect(':')
+                onField(name)
+                when (val c = nextNonWhitespace()) {
+                    ',' -> continue
+                    '}' -> return
+                    else -> throw syntaxError("expect , or } but $c")
+                }
+            }
+        }
+
+        private fun readArray() {
+            expect('[')
+            if (peek() == ']') {
+                pos++
+                return
+            }
+            while (true) {
+                skipValue()
+                when (val c = nextNonWhitespace()) {
+                    ',' -> continue
+                    ']' -> return
+                    else -> throw syntaxError("expect , or ] but $c")
+                }
+            }
+        }
+
+        /**
+         * 十六进制字符串直接在原字符串区间解码。含转义字符时退化为先读字符串
+         */
+        private fun nextHex(): ByteArray {
+            expect('"')
+            val start = pos
+            val end = json.indexOf('"', start)
+            if (end < 0) {
+                throw syntaxError("unterminated string")
+            }
+            if (json.indexOf('\\', start).let { it in start until end }) {
+                pos = start - 1
+                return HexUtil.decode(nextString())
+            }
+            pos = end + 1
+            return HexUtil.decode(json, start, end)
+        }
+
+        private fun nextStringOrNull(): String? {
+            return if (nextNull()) null else nextString()
+        }
+
+        private fun nextString(): String {
+            expect('"')
+            val start = pos
+            var builder: StringBuilder? = null
+            while (pos < json.length) {
+                val c = json[pos++]
+                when (c) {
+                    '"' -> return builder?.toString() ?: json.substring(start, pos - 1)
+                    '\\' -> {
+                        if (builder == null) {
+                            builder = StringBuilder().append(json, start, pos - 1)
+                        }
+                        builder.append(readEscape())
+                    }
+                    else -> builder?.append(c)
+                }
+            }
+            throw syntaxError("unterminated string")
+        }
+
+        private fun readEscape(): Char {
+            return when (val c = json[pos++]) {
+                'b' -> '\b'
+                'f' -> '\u000C'
+                'n' -> '\n'
+                'r' -> '\r'
+                't' -> '\t'
+                'u' -> {
+                    val code = json.substring(pos, pos + 4).toInt(16)
+                    pos += 4
+                    code.toChar()
+                }
+                else -> c
+            }
+        }
+
+        private fun nextInt(): Int {
+            if (nextNull()) {
+                return 0
+            }
+            skipWhitespace()
+            val start = pos
+            while (pos < json.length && json[pos] in "+-0123456789.eE") {
+                pos++
+            }
+            if (start == pos) {
+                throw syntaxError("expect number")
+            }
+            return json.substring(start, pos).toDouble().toInt()
+        }
+
+        /**
+         * 下一个值为 null 时消费并返回true
+         */
+        private fun nextNull(): Boolean {
+            skipWhitespace()
+            if (json.startsWith("null", pos)) {
+                pos += 4
+                return true
+            }
+            return false
+        }
+
+        private fun skipValue() {
+            when (peek()) {
+                '{' -> readObject { skipValue() }
+                '[' -> readArray()
+                '"' -> skipString()
+                't', 'f', 'n' -> skipLiteral()
+                else -> nextInt()
+            }
+        }
+
+        private fun skipString() {
+            expect('"')
+            while (pos < json.length) {
+                when (json[pos++]) {
+                    '"' -> return
+                    '\\' -> pos++
+                }
+            }
+            throw syntaxError("unterminated string")
+        }
+
+        private fun skipLiteral() {
+            while (pos < json.length && json[pos].isLetter()) {
+                pos++
+            }
+        }
+
+        private fun expect(expected: Char) {
+            val c = nextNonWhitespace()
+            if (c != expected) {
+                throw syntaxError("expect $expected but $c")
+            }
+        }
+
+        private fun peek(): Char {
+            skipWhitespace()
+            if (pos >= json.length) {
+                throw syntaxError("unexpected end")
+            }
+            return json[pos]
+        }
+
+        private fun nextNonWhitespace(): Char {
+            val c = peek()
+            pos++
+            return c
+        }
+
+        private fun skipWhitespace() {
+            while (pos < json.length && json[pos].isWhitespace()) {
+                pos++
+            }
+        }
+
+        private fun syntaxError(msg: String): IllegalStateException {
+            return IllegalStateException("$msg at $pos")
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.base.download
+
+/**
+ * 下载优先级，排在前面的先调度
+ *
+ * @author wangshichao
+ * @date 2024/7/5
+ */
+enum class DownloadPriority {
+    /**
+     * 用户正在等待结果，例如设置铃声
+     */
+    INTERACTIVE,
+
+    /**
+     * 即将用到的资源，例如预加载下一条消息
+     */
+    PREFETCH,
+
+    /**
+     * 后台缓存，例如在线播放的同时下载到本地
+     */
+    BACKGROUND
+}
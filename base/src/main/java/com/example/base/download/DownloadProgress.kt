@@ -0,0 +1,25 @@
+package com.example.base.download
+
+/**
+ * 下载进度快照，通过 [FileDownloadManager.getProgress] 查询
+ *
+ * @param contentLength 文件总长度，未知时为-1
+ * @author wangshichao
+ * @date 2024/7/5
+ */
+class DownloadProgress(
+    val url: String,
+    val bytesRead: Long,
+    val contentLength: Long,
+    val done: Boolean
+) {
+    /**
+     * 下载百分比，长度未知时为-1
+     */
+    val percent: Int
+        get() = if (contentLength > 0) (bytesRead * 100 / contentLength).toInt() else -1
+
+    override fun toString(): String {
+        return "DownloadProgress(url=$url bytesRead=$bytesRead contentLength=$contentLength done=$done)"
+    }
+}
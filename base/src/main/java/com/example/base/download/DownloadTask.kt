@@ -0,0 +1,429 @@
+package com.example.base.download
+
+import android.util.Log
+import okhttp3.Call
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.Response
+import okio.BufferedSource
+import java.io.EOFException
+import java.io.File
+import java.io.IOException
+import java.io.RandomAccessFile
+import java.nio.channels.FileChannel
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+
+/**
+ * 单个文件的断点续传下载任务
+ *
+ * 1. 数据写入 savePath 加上 .temp 后缀的文件，各区间的进度记录在 .meta 文件，失败或取消后从已下载的位置继续
+ * 2. 服务端支持 Range 且文件较大时拆分为多个区间，每个区间一个连接，通过 FileChannel 按偏移写入
+ * 3. 续传时带上 If-Range，并比较各区间响应的 ETag，服务端文件变化后重新下载
+ * 4. 重命名前校验文件长度和各区间是否完整
+ *
+ * @param maxConnections 单个文件最多同时使用的连接数
+ * @author wangshichao
+ * @date 2024/7/5
+ */
+internal class DownloadTask(
+    private val okHttpClient: OkHttpClient,
+    val url: String,
+    val savePath: String,
+    private val maxConnections: Int
+) {
+    companion object {
+        private const val TAG = "DownloadTask"
+
+        /**
+         * 单次 transferFrom 的最大字节数
+         */
+        private const val TRANSFER_SIZE = 256L * 1024
+
+        /**
+         * 超过该长度才拆分区间并行下载
+         */
+        private const val PARALLEL_MIN_LENGTH = 4L * 1024 * 1024
+
+        /**
+         * 每下载多少字节保存一次进度
+         */
+        private const val META_SAVE_INTERVAL = 512L * 1024
+
+        /**
+         * 临时文件和进度文件的后缀，追加在保存路径之后，没有扩展名的路径也不会和保存路径相同
+         */
+        const val TEMP_SUFFIX = ".temp"
+        const val META_SUFFIX = ".meta"
+
+        private val rangeExecutor = Executors.newCachedThreadPool()
+    }
+
+    /**
+     * 文件中的一个区间
+     *
+     * @param end 包含在内的结束位置，长度未知时为-1
+     */
+    private class Range(val start: Long, val end: Long, @Volatile var downloaded: Long) {
+        val isComplete: Boolean
+            get() = end >= 0 && start + downloaded > end
+
+        val remaining: Long
+            get() = end - start + 1 - downloaded
+    }
+
+    /**
+     * @param resumable 服务端是否支持 Range，不支持时不保存进度
+     */
+    private class Meta(
+        val etag: String?,
+        val lastModified: String?,
+        val contentLength: Long,
+        val resumable: Boolean,
+        val ranges: List<Range>
+    )
+
+    private val tempFile = File(savePath + TEMP_SUFFIX)
+    private val metaFile = File(savePath + META_SUFFIX)
+    private val calls = CopyOnWriteArrayList<Call>()
+    private var channel: FileChannel? = null
+    private var progressTracker: ProgressTracker? = null
+
+    @Volatile
+    private var cancelled = false
+
+    /**
+     * 取消所有连接，已下载的数据保留用于续传
+     */
+    fun cancel() {
+        cancelled = true
+        calls.forEach { it.cancel() }
+    }
+
+    /**
+     * 同步下载，在子线程调用
+     *
+     * @param progressTracker 下载进度，多个区间并行时在不同线程更新
+     * @return 下载完成的文件
+     */
+    @Throws(IOException::class)
+    fun execute(progressTracker: ProgressTracker): File {
+        this.progressTracker = progressTracker
+        tempFile.parentFile?.mkdirs()
+        val lastMeta = loadMeta()
+        if (lastMeta == null) {
+            deleteTempFile()
+        }
+        val meta = RandomAccessFile(tempFile, "rw").use { file ->
+            channel = file.channel
+            if (lastMeta != null && file.length() < lastMeta.contentLength) {
+                file.setLength(lastMeta.contentLength)
+            }
+            try {
+                val meta = if (lastMeta != null && resume(lastMeta)) {
+                    lastMeta
+                } else {
+                    // 没有续传记录或服务端文件已变化，从头下载
+                    file.setLength(0L)
+                    downloadFromStart(file)
+                }
+                // 重命名前只做一次fsync
+                file.fd.sync()
+                meta
+            } finally {
+                channel = null
+            }
+        }
+        return complete(meta)
+    }
+
+    /**
+     * 从头下载。第一个区间直接使用首个响应，其余区间新建连接
+     */
+    private fun downloadFromStart(file: RandomAccessFile): Meta {
+        val response = newCall(0L, -1L, null)
+        try {
+            val code = response.code()
+            if (!response.isSuccessful) {
+                throw IOException("http $code")
+            }
+            val body = response.body() ?: throw IOException("response body is null")
+            val contentLength = if (code == 206) {
+                parseTotalLength(response.header("Content-Range"))
+            } else {
+                body.contentLength()
+            }
+            val resumable = contentLength > 0 &&
+                    (code == 206 || "bytes".equals(response.header("Accept-Ranges"), true))
+            val count = if (resumable && code == 206 && contentLength >= PARALLEL_MIN_LENGTH) {
+                maxConnections.coerceAtLeast(1)
+            } else {
+                1
+            }
+            val meta = Meta(
+                etag = response.header("ETag"),
+                lastModified = response.header("Last-Modified"),
+                contentLength = contentLength,
+                resumable = resumable,
+                ranges = splitRanges(contentLength, count)
+            )
+            Log.i(TAG, "start url=$url code=$code length=$contentLength ranges=$count")
+            progressTracker?.reset(0L, contentLength)
+            // 长度已知时预分配文件，各区间可以直接写入自己的偏移
+            if (contentLength > 0) {
+                file.setLength(contentLength)
+            }
+            saveMeta(meta)
+            val futures = meta.ranges.drop(1).map { range ->
+                rangeExecutor.submit<Boolean> { downloadRange(meta, range) }
+            }
+            var firstRangeDone = false
+            try {
+                writeRange(meta, meta.ranges[0], body.source())
+                firstRangeDone = true
+            } finally {
+                if (!firstRangeDone) {
+                    // 第一个区间失败时取消其余区间，等它们退出后再抛出，文件关闭时不会还有区间在写入
+                    cancel()
+                    awaitRangesQuietly(futures)
+                }
+            }
+            if (!awaitRanges(futures)) {
+                throw IOException("$url changed while downloading")
+            }
+            return meta
+        } finally {
+            response.close()
+        }
+    }
+
+    /**
+     * 续传未完成的区间
+     *
+     * @return 服务端文件变化时返回false
+     */
+    private fun resume(meta: Meta): Boolean {
+        val downloaded = meta.ranges.sumOf { it.downloaded }
+        progressTracker?.reset(downloaded, meta.contentLength)
+        val pending = meta.ranges.filter { !it.isComplete }
+        Log.i(TAG, "resume url=$url downloaded=$downloaded length=${meta.contentLength} pending=${pending.size}")
+        val futures = pending.map { range ->
+            rangeExecutor.submit<Boolean> { downloadRange(meta, range) }
+        }
+        return awaitRanges(futures)
+    }
+
+    /**
+     * 请求并写入单个区间
+     *
+     * @return 服务端忽略 If-Range 返回完整文件或 ETag 变化时返回false
+     */
+    private fun downloadRange(meta: Meta, range: Range): Boolean {
+        val from = range.start + range.downloaded
+        newCall(from, range.end, meta.etag ?: meta.lastModified).use { response ->
+            val code = response.code()
+            if (code != 206) {
+                if (response.isSuccessful) {
+                    Log.w(TAG, "range ignored url=$url code=$code")
+                    return false
+                }
+                throw IOException("http $code range $from-${range.end}")
+            }
+            val etag = response.header("ETag")
+            if (meta.etag != null && etag != null && etag != meta.etag) {
+                Log.w(TAG, "etag changed url=$url ${meta.etag} -> $etag")
+                return false
+            }
+            val body = response.body() ?: throw IOException("response body is null")
+            writeRange(meta, range, body.source())
+        }
+        return true
+    }
+
+    /**
+     * 通过 FileChannel.transferFrom 把响应直接写入区间对应的位置，读到区间末尾后停止
+     *
+     * 不经过中间的字节数组，okio 的 segment 直接写入文件通道
+     */
+    private fun writeRange(meta: Meta, range: Range, source: BufferedSource) {
+        val fileChannel = channel ?: throw IOException("file is closed")
+        var unsavedBytes = 0L
+        try {
+            while (!range.isComplete) {
+                if (cancelled) {
+                    throw IOException("canceled")
+                }
+                val count = if (range.end < 0) TRANSFER_SIZE else minOf(TRANSFER_SIZE, range.remaining)
+                val position = range.start + range.downloaded
+                val transferred = fileChannel.transferFrom(source, position, count)
+                if (transferred <= 0L) {
+                    if (source.exhausted()) {
+                        break
+                    }
+                    continue
+                }
+                range.downloaded += transferred
+                unsavedBytes += transferred
+                progressTracker?.update(transferred)
+                if (unsavedBytes >= META_SAVE_INTERVAL) {
+                    saveMeta(meta)
+                    unsavedBytes = 0L
+                }
+            }
+        } finally {
+            saveMeta(meta)
+        }
+        if (range.end >= 0 && !range.isComplete) {
+            throw EOFException("range ${range.start}-${range.end} incomplete, downloaded=${range.downloaded}")
+        }
+    }
+
+    /**
+     * 等待所有区间完成。任一区间失败时取消其余区间
+     */
+    private fun awaitRanges(futures: List<Future<Boolean>>): Boolean {
+        var result = true
+        var error: IOException? = null
+        futures.forEach { future ->
+            try {
+                if (!future.get()) {
+                    result = false
+                }
+            } catch (e: ExecutionException) {
+                if (error == null) {
+                    error = e.cause as? IOException ?: IOException(e.cause)
+                    cancel()
+                }
+            }
+        }
+        error?.let { throw it }
+        return result
+    }
+
+    /**
+     * 等待所有区间退出，忽略区间的结果和异常。用于已经失败需要抛出其他异常时
+     */
+    private fun awaitRangesQuietly(futures: List<Future<Boolean>>) {
+        futures.forEach { future ->
+            try {
+                future.get()
+            } catch (e: ExecutionException) {
+                Log.w(TAG, "range fail after cancel: ${e.cause?.message}")
+            }
+        }
+    }
+
+    /**
+     * 校验后重命名为最终文件
+     */
+    private fun complete(meta: Meta): File {
+        val length = tempFile.length()
+        if (meta.contentLength >= 0 && (length != meta.contentLength || meta.ranges.any { !it.isComplete })) {
+            deleteTempFile()
+            throw IOException("length mismatch expect=${meta.contentLength} actual=$length")
+        }
+        val finalFile = File(savePath)
+        // rename 在目标已存在时原子替换，不先删除旧文件，读取方要么看到旧文件要么看到新文件
+        if (!tempFile.renameTo(finalFile)) {
+            throw IOException("${tempFile.path} renameTo $finalFile fail")
+        }
+        metaFile.delete()
+        progressTracker?.finish()
+        Log.i(TAG, "complete url=$url length=$length etag=${meta.etag}")
+        return finalFile
+    }
+
+    private fun newCall(from: Long, end: Long, ifRange: String?): Response {
+        val builder = Request.Builder()
+            .url(url)
+            .header("Range", if (end >= 0) "bytes=$from-$end" else "bytes=$from-")
+        ifRange?.let { builder.header("If-Range", it) }
+        val call = okHttpClient.newCall(builder.build())
+        calls.add(call)
+        if (cancelled) {
+            call.cancel()
+        }
+        return call.execute()
+    }
+
+    private fun splitRanges(contentLength: Long, count: Int): List<Range> {
+        if (contentLength <= 0) {
+            return listOf(Range(0L, -1L, 0L))
+        }
+        val partLength = (contentLength + count - 1) / count
+        return (0 until count).map { i ->
+            val start = i * partLength
+            Range(start, minOf(start + partLength, contentLength) - 1, 0L)
+        }
+    }
+
+    /**
+     * 解析 Content-Range: bytes 0-99/1234 中的总长度
+     */
+    private fun parseTotalLength(contentRange: String?): Long {
+        return contentRange?.substringAfterLast('/')?.trim()?.toLongOrNull() ?: -1L
+    }
+
+    private fun deleteTempFile() {
+        tempFile.delete()
+        metaFile.delete()
+    }
+
+    /**
+     * 保存各区间进度。格式为 key=value，每个区间一行 range=start,end,downloaded
+     */
+    private fun saveMeta(meta: Meta) {
+        if (!meta.resumable) {
+            return
+        }
+        val content = StringBuilder()
+        meta.etag?.let { content.append("etag=").append(it).append('\n') }
+        meta.lastModified?.let { content.append("lastModified=").append(it).append('\n') }
+        content.append("length=").append(meta.contentLength).append('\n')
+        meta.ranges.forEach {
+            content.append("range=").append(it.start).append(',').append(it.end).append(',')
+                .append(it.downloaded).append('\n')
+        }
+        synchronized(metaFile) {
+            try {
+                metaFile.writeText(content.toString())
+            } catch (e: IOException) {
+                Log.w(TAG, "saveMeta: ${e.message}")
+            }
+        }
+    }
+
+    private fun loadMeta(): Meta? {
+        if (!metaFile.exists() || !tempFile.exists()) {
+            return null
+        }
+        return try {
+            var etag: String? = null
+            var lastModified: String? = null
+            var contentLength = -1L
+            val ranges = mutableListOf<Range>()
+            metaFile.readLines().forEach { line ->
+                val value = line.substringAfter('=')
+                when (line.substringBefore('=')) {
+                    "etag" -> etag = value
+                    "lastModified" -> lastModified = value
+                    "length" -> contentLength = value.toLong()
+                    "range" -> {
+                        val parts = value.split(',').map { it.toLong() }
+                        ranges.add(Range(parts[0], parts[1], parts[2]))
+                    }
+                }
+            }
+            if (contentLength <= 0 || ranges.isEmpty()) {
+                null
+            } else {
+                Meta(etag, lastModified, contentLength, true, ranges)
+            }
+        } catch (e: Exception) {
+            Log.w(TAG, "loadMeta: ${e.message}")
+            null
+        }
+    }
+}
@@ -1,123 +1,366 @@
 package com.example.base.download
 
 import android.util.Log
+import androidx.annotation.WorkerThread
+import com.example.base.util.HttpClientFactory
 import com.example.base.util.ThreadUtil
-import com.example.base.util.YWFileUtil
-import okhttp3.Call
-import okhttp3.Callback
-import okhttp3.OkHttpClient
-import okhttp3.Request
-import okhttp3.Response
-import okhttp3.ResponseBody
+import okhttp3.HttpUrl
 import java.io.File
-import java.io.FileOutputStream
 import java.io.IOException
-import java.io.OutputStream
-import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
 import java.util.concurrent.TimeUnit
 
 /**
  * 文件下载管理
  *
+ * 1. 支持断点续传，大文件拆分为多个区间并行下载，见 [DownloadTask]
+ * 2. 按 [DownloadPriority] 调度，限制全局、单个域名和后台任务的并发数量
+ * 3. 同一url正在下载时，后来的请求不论保存路径是否相同都会合并到同一个任务，完成后先复制到各自的路径再回调
+ * 4. 取消的任务在下载线程退出前一直保留，期间同一url的新请求等它退出后再开始，不会有两个任务同时写同一个临时文件
+ *
  * @author wangshichao
  * @date 2024/6/19
  */
 object FileDownloadManager {
     private const val TAG = "FileDownloadManager"
-    private val okHttpClient = OkHttpClient.Builder()
+    private val okHttpClient = HttpClientFactory.newBuilder()
         .connectTimeout(10, TimeUnit.MINUTES)
         .readTimeout(10, TimeUnit.MINUTES)
         .build()
+
+    /**
+     * 单个文件最多同时使用的连接数
+     */
+    var maxConnections = 3
+
+    /**
+     * 同时下载的最大任务数
+     */
+    var maxRunning = 4
+
+    /**
+     * 单个域名同时下载的最大任务数
+     */
+    var maxRunningPerHost = 2
+
+    /**
+     * 后台任务同时下载的最大数量，保证交互任务总有空位
+     */
+    var maxBackgroundRunning = 1
+
+    /**
+     * 是否打印进度日志，关闭时不拼接字符串
+     */
+    var logProgress = false
+
+    /**
+     * 等待下载结果的调用方
+     *
+     * @param onUiThread 是否在主线程回调结果
+     * @param progressExecutor 进度回调的线程，为空时在下载线程回调
+     */
+    private class Waiter(
+        val savePath: String,
+        val listener: FileDownloadListener?,
+        val onUiThread: Boolean,
+        val progressExecutor: Executor? = null
+    )
+
+    /**
+     * 交给调用方的结果，成功时 [file] 是该调用方保存路径的文件
+     */
+    private class Result(val waiter: Waiter, val file: File?, val error: String?)
+
+    private class Job(
+        val url: String,
+        val savePath: String,
+        var priority: DownloadPriority
+    ) {
+        val host: String = HttpUrl.parse(url)?.host() ?: ""
+        val task = DownloadTask(okHttpClient, url, savePath, maxConnections)
+        val waiters = CopyOnWriteArrayList<Waiter>()
+        val progressTracker = ProgressTracker(url) { bytesRead, contentLength, done ->
+            dispatchProgress(this, bytesRead, contentLength, done)
+        }
+
+        /**
+         * 开始下载时的优先级，用于释放并发计数
+         */
+        var runningPriority: DownloadPriority? = null
+
+        /**
+         * 已取消，等待下载线程退出
+         */
+        var cancelled = false
+
+        /**
+         * 取消后到达的请求，任务退出后用它们创建新任务
+         */
+        val deferredWaiters = mutableListOf<Pair<Waiter, DownloadPriority>>()
+    }
+
+    private val lock = Any()
+
     /**
-     * 正在请求任务列表。
+     * 等待中和下载中的任务，key为url
      */
-    private val downCallMap = ConcurrentHashMap<String, Call>()
+    private val jobMap = HashMap<String, Job>()
 
+    /**
+     * 等待中的任务，按加入顺序排列
+     */
+    private val pendingJobs = mutableListOf<Job>()
+    private val hostRunningCount = HashMap<String, Int>()
+    private var runningCount = 0
+    private var backgroundRunningCount = 0
+    private val taskExecutor = Executors.newCachedThreadPool()
 
     /**
-     * 下载url
+     * 下载url，结果在主线程回调
      *
      * @param url 请求地址
      * @param savePath 保存的文件路径
+     * @param priority 优先级
+     * @param progressExecutor 进度回调的线程，为空时在下载线程回调。进度按时间和字节数合并后回调
      */
     fun download(
         url: String,
         savePath: String,
-        listener: FileDownloadListener? = null
+        listener: FileDownloadListener? = null,
+        priority: DownloadPriority = DownloadPriority.INTERACTIVE,
+        progressExecutor: Executor? = null
     ) {
-        if (downCallMap.containsKey(url)) {
-            Log.w(TAG, "$url is requesting")
-            return
-        }
-        val request = Request.Builder()
-            .url(url)
-            .build()
-        val call = okHttpClient.newCall(request)
-        downCallMap[url] = call
-        Log.w(TAG, "down start url:${url}")
-        call.enqueue(object : Callback {
-            @Throws(IOException::class)
-            override fun onResponse(call: Call, response: Response) {
-                val responseBody = response.body()
-                val file = saveResponseBodyToFile(responseBody, url, savePath, listener)
-                downCallMap.remove(url)
-                ThreadUtil.runOnUiThread {
-                    if (file != null) {
-                        listener?.onSuccess(url, file)
-                    } else {
-                        listener?.onFail(url, "文件内容为空")
+        enqueue(url, priority, Waiter(savePath, listener, true, progressExecutor))
+    }
+
+    /**
+     * 查询下载进度，没有在等待或下载中时返回null。界面可以定时查询，不需要监听每次回调
+     */
+    fun getProgress(url: String): DownloadProgress? {
+        val job = synchronized(lock) { jobMap[url] } ?: return null
+        return job.progressTracker.snapshot()
+    }
+
+    /**
+     * 同步下载，经过同样的调度和合并，在子线程调用
+     *
+     * @return 下载完成的文件
+     */
+    @WorkerThread
+    @Throws(IOException::class)
+    fun downloadSync(
+        url: String,
+        savePath: String,
+        priority: DownloadPriority = DownloadPriority.INTERACTIVE
+    ): File {
+        val latch = CountDownLatch(1)
+        var result: File? = null
+        var error: String? = null
+        enqueue(url, priority, Waiter(savePath, object : FileDownloadListener {
+            override fun onSuccess(url: String, saveFile: File) {
+                result = saveFile
+                latch.countDown()
+            }
+
+            override fun onFail(url: String, errorMessage: String) {
+                error = errorMessage
+                latch.countDown()
+            }
+        }, false))
+        try {
+            latch.await()
+        } catch (e: InterruptedException) {
+            throw IOException("interrupted", e)
+        }
+        return result ?: throw IOException(error ?: "download fail")
+    }
+
+    /**
+     * 取消下载，所有等待该url的调用方都会收到失败回调。已下载的部分保留，下次从断点继续
+     */
+    fun cancel(url: String) {
+        var isPending = false
+        val canceledWaiters = mutableListOf<Waiter>()
+        val job = synchronized(lock) {
+            val job = jobMap[url] ?: return
+            isPending = pendingJobs.remove(job)
+            if (isPending) {
+                jobMap.remove(url)
+                canceledWaiters.addAll(job.waiters)
+            } else {
+                // 正在下载，保留到下载线程退出，避免新任务同时写同一个临时文件
+                job.cancelled = true
+            }
+            job.deferredWaiters.forEach { canceledWaiters.add(it.first) }
+            job.deferredWaiters.clear()
+            job
+        }
+        if (!isPending) {
+            // 正在下载的调用方在下载线程回调
+            job.task.cancel()
+        }
+        canceledWaiters.forEach { deliver(job, Result(it, null, "canceled")) }
+    }
+
+    private fun enqueue(url: String, priority: DownloadPriority, waiter: Waiter) {
+        synchronized(lock) {
+            val job = jobMap[url]
+            when {
+                job == null -> addJobLocked(url, waiter, priority)
+                job.cancelled -> {
+                    // 取消的任务还没退出，退出后再开始新任务
+                    job.deferredWaiters.add(waiter to priority)
+                    Log.i(TAG, "defer url:$url deferred:${job.deferredWaiters.size}")
+                }
+                else -> {
+                    // 合并到正在进行的任务，并按更高的优先级调度
+                    job.waiters.add(waiter)
+                    if (priority < job.priority) {
+                        job.priority = priority
                     }
+                    Log.i(TAG, "attach url:$url priority:${job.priority} waiters:${job.waiters.size}")
                 }
             }
+        }
+        schedule()
+    }
 
-            override fun onFailure(call: Call, e: IOException) {
-                Log.w(TAG, "error url:${url}")
-                downCallMap.remove(url)
-                ThreadUtil.runOnUiThread {
-                    listener?.onFail(url, e.message ?: "")
+    /**
+     * 创建等待调度的任务，调用方持有 [lock]
+     */
+    private fun addJobLocked(url: String, waiter: Waiter, priority: DownloadPriority): Job {
+        val job = Job(url, waiter.savePath, priority)
+        job.waiters.add(waiter)
+        jobMap[url] = job
+        pendingJobs.add(job)
+        Log.i(TAG, "enqueue url:$url priority:$priority pending:${pendingJobs.size}")
+        return job
+    }
+
+    /**
+     * 按优先级启动可以运行的任务，同优先级先进先出
+     */
+    private fun schedule() {
+        val startJobs = mutableListOf<Job>()
+        synchronized(lock) {
+            while (runningCount < maxRunning) {
+                val job = pendingJobs.filter { canRun(it) }.minByOrNull { it.priority } ?: break
+                pendingJobs.remove(job)
+                job.runningPriority = job.priority
+                runningCount++
+                hostRunningCount[job.host] = (hostRunningCount[job.host] ?: 0) + 1
+                if (job.priority == DownloadPriority.BACKGROUND) {
+                    backgroundRunningCount++
                 }
+                startJobs.add(job)
             }
-        })
+        }
+        startJobs.forEach { job ->
+            taskExecutor.execute { run(job) }
+        }
     }
 
-    fun cancel(url: String) {
-        val call = downCallMap[url]
-        call?.cancel()
-        downCallMap.remove(url)
+    private fun canRun(job: Job): Boolean {
+        if ((hostRunningCount[job.host] ?: 0) >= maxRunningPerHost) {
+            return false
+        }
+        return job.priority != DownloadPriority.BACKGROUND || backgroundRunningCount < maxBackgroundRunning
     }
 
+    private fun run(job: Job) {
+        val url = job.url
+        Log.w(TAG, "down start url:${url} priority:${job.priority}")
+        var file: File? = null
+        var error: String? = null
+        try {
+            file = job.task.execute(job.progressTracker)
+        } catch (e: Exception) {
+            Log.w(TAG, "error url:${url} ${e.message}")
+            error = e.message ?: ""
+        }
+        synchronized(lock) {
+            jobMap.remove(url, job)
+            // 取消期间到达的请求，现在旧任务已退出，可以开始新任务
+            var nextJob: Job? = null
+            job.deferredWaiters.forEach { (waiter, priority) ->
+                val next = nextJob
+                if (next == null) {
+                    nextJob = addJobLocked(url, waiter, priority)
+                } else {
+                    next.waiters.add(waiter)
+                    if (priority < next.priority) {
+                        next.priority = priority
+                    }
+                }
+            }
+            job.deferredWaiters.clear()
+            runningCount--
+            val hostCount = (hostRunningCount[job.host] ?: 1) - 1
+            if (hostCount > 0) {
+                hostRunningCount[job.host] = hostCount
+            } else {
+                hostRunningCount.remove(job.host)
+            }
+            if (job.runningPriority == DownloadPriority.BACKGROUND) {
+                backgroundRunningCount--
+            }
+        }
+        schedule()
+        // 先给所有调用方准备好文件再回调，前面的回调移动或删除下载的文件不影响后面的调用方
+        val results = job.waiters.map { prepareResult(job, it, file, error) }
+        results.forEach { deliver(job, it) }
+    }
 
+    private fun dispatchProgress(job: Job, bytesRead: Long, contentLength: Long, done: Boolean) {
+        if (logProgress) {
+            Log.d(TAG, "progress:$bytesRead/$contentLength url:${job.url}")
+        }
+        job.waiters.forEach { waiter ->
+            val listener = waiter.listener ?: return@forEach
+            val executor = waiter.progressExecutor
+            if (executor == null) {
+                listener.onProgress(job.url, bytesRead, contentLength, done)
+            } else {
+                executor.execute { listener.onProgress(job.url, bytesRead, contentLength, done) }
+            }
+        }
+    }
 
-    @Throws(IOException::class)
-    private fun saveResponseBodyToFile(
-        responseBody: ResponseBody?,
-        url: String,
-        savePath: String,
-        listener: FileDownloadListener?
-    ): File? {
-        if (responseBody == null) return null
-        val tempPath = YWFileUtil.replacePathSuffix(savePath, "temp")
-        val tempFile = YWFileUtil.createNewFile(tempPath) ?: return null
-        val inputStream = responseBody.byteStream()
-        val outputStream: OutputStream = FileOutputStream(tempFile)
-        val contentLength = responseBody.contentLength()
-        val buffer = ByteArray(8192)
-        var bytesRead: Int
-        var totalBytesRead = 0L
-        while (inputStream.read(buffer).also { bytesRead = it } != -1) {
-            outputStream.write(buffer, 0, bytesRead)
-            totalBytesRead += bytesRead.toLong()
-            listener?.onProgress(url, totalBytesRead, contentLength, totalBytesRead == contentLength)
-            Log.i(TAG, "progress:${bytesRead / totalBytesRead.toFloat()} url:${url}")
-        }
-        outputStream.close()
-        inputStream.close()
-        val finalFile = YWFileUtil.createNewFile(savePath) ?: return null
-        val renameResult = tempFile.renameTo(finalFile)
-        if (renameResult.not()) {
-            Log.e(TAG, "${tempFile.path} renameTo $finalFile fail")
-            return null
-        }
-        return finalFile
+    /**
+     * 准备调用方的结果。保存路径不同的调用方复制一份到自己的路径
+     */
+    private fun prepareResult(job: Job, waiter: Waiter, file: File?, error: String?): Result {
+        if (file == null || waiter.savePath == job.savePath) {
+            return Result(waiter, file, error)
+        }
+        return try {
+            Result(waiter, file.copyTo(File(waiter.savePath), overwrite = true), null)
+        } catch (e: IOException) {
+            Result(waiter, null, "copy to ${waiter.savePath} fail ${e.message}")
+        }
+    }
+
+    /**
+     * 回调结果
+     */
+    private fun deliver(job: Job, result: Result) {
+        val waiter = result.waiter
+        val listener = waiter.listener ?: return
+        val saveFile = result.file
+        val callback = {
+            if (saveFile != null) {
+                listener.onSuccess(job.url, saveFile)
+            } else {
+                listener.onFail(job.url, result.error ?: "")
+            }
+        }
+        if (waiter.onUiThread) {
+            ThreadUtil.runOnUiThread { callback() }
+        } else {
+            callback()
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+package com.example.base.download
+
+import android.os.SystemClock
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 下载进度合并
+ *
+ * 1. 下载线程每次写入后调用 [update]，只更新计数，不创建对象
+ * 2. 距上次回调超过 [minIntervalMs] 或进度增加超过 [minStepPercent] 时才回调 [onDispatch]，完成时一定回调
+ * 3. 界面可以随时通过 [snapshot] 查询当前进度
+ *
+ * @author wangshichao
+ * @date 2024/7/5
+ */
+internal class ProgressTracker(
+    private val url: String,
+    private val onDispatch: Dispatcher,
+    private val minIntervalMs: Long = DEFAULT_MIN_INTERVAL_MS,
+    private val minStepPercent: Int = DEFAULT_MIN_STEP_PERCENT
+) {
+    companion object {
+        const val DEFAULT_MIN_INTERVAL_MS = 100L
+        const val DEFAULT_MIN_STEP_PERCENT = 1
+    }
+
+    /**
+     * 使用接口而不是函数类型，避免 Long 参数装箱
+     */
+    fun interface Dispatcher {
+        fun dispatch(bytesRead: Long, contentLength: Long, done: Boolean)
+    }
+
+    private val bytesRead = AtomicLong(0L)
+
+    @Volatile
+    private var contentLength = -1L
+
+    private var lastDispatchTime = 0L
+    private var lastDispatchBytes = 0L
+
+    /**
+     * 设置已下载的字节数，续传时从已有的进度开始
+     */
+    fun reset(bytesRead: Long, contentLength: Long) {
+        this.bytesRead.set(bytesRead)
+        this.contentLength = contentLength
+    }
+
+    /**
+     * 累加下载的字节数，多个区间并行时在不同线程调用
+     */
+    fun update(read: Long) {
+        val current = bytesRead.addAndGet(read)
+        val length = contentLength
+        val done = current == length
+        val now = SystemClock.elapsedRealtime()
+        synchronized(this) {
+            val step = if (length > 0) length * minStepPercent / 100 else Long.MAX_VALUE
+            if (!done && now - lastDispatchTime < minIntervalMs && current - lastDispatchBytes < step) {
+                return
+            }
+            lastDispatchTime = now
+            lastDispatchBytes = current
+        }
+        onDispatch.dispatch(current, length, done)
+    }
+
+    /**
+     * 下载完成。长度未知的文件在这里补一次完成回调
+     */
+    fun finish() {
+        val current = bytesRead.get()
+        if (contentLength != current) {
+            contentLength = current
+            onDispatch.dispatch(current, current, true)
+        }
+    }
+
+    fun snapshot(): DownloadProgress {
+        val length = contentLength
+        val current = bytesRead.get()
+        return DownloadProgress(url, current, length, current == length)
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.base.player
 
+import com.example.base.util.HexUtil
+
 object MockData {
 
     /**
@@ -12,14 +14,7 @@ object MockData {
      * 解码十六进制数据
      */
     fun decodeHex(hexString: String): ByteArray {
-        val byteArray = ByteArray(hexString.length / 2)
-        var i = 0
-        while (i < hexString.length) {
-            val hex = hexString.substring(i, i + 2)
-            byteArray[i / 2] = hex.toInt(16).toByte()
-            i += 2
-        }
-        return byteArray
+        return HexUtil.decode(hexString)
     }
     val pcmData = "fcfffefffefffefffdfffcfffdfffdfffdfffdfffefffefffdfffefffefffeff000000000000ffffffffffffffff000000000000fffffffffeffffff0000fffffffffefffefffefffdfffdfffdfffefffdfffdfffcfffcfffcfffdfffdfffdfffcfffbfffcfffcfffdfffcfffcfffcfffdfffcfffdfffefffdfffdfffefffefffefffffffffffffffeff0000ffffffff0000ffffffff000000000000010000000000000001000100010001000100020002000300030002000100020001000200020002000300030002000100010002000300030003000400030004000500040002000300050005000400030003000400050004000400060005000500040004000600060006000400040005000600050004000500050006000500050007000600040005000500060006000600050005000500050005000500050005000400050006000400020004000300020003000400040004000500060004000300040004000200020002000300030004000500050003000100030004000400010002000300020002000300020002000300030002000300030003000200030003000300030003000500040001000200020002000300030003000400040004000300020001000200020003000200010001000100000002000200010002000100010002000200000000000000000000000000000001000000000000000000ffff00000100000000000000000000000000ffffffffffff0000ffff0000fffffdfffefffefffefffdfffbfffbfffbfffbfffafffbfffafffbfffcfffbfffbfffbfff9fffafffbfffafffcfffefffcfffcfffdfffcfffdfffdfffdfffdfffdfffcfffcfffcfffefffefffdfffcfffffffefffcfffdffffffffffffff00000000000000000000010000000000000000000000020001000100020002000300040003000400050006000700060007000800080007000700080009000a0009000900090009000c000b0009000b000b000a000b000b000a000b000c000c000c000b000a000c000d000d000c000e000d000c000d000d000d000c000c000c000d000d000d000d000c000d000d000a000b000d000c000b000b000b000b000b000b000c000b000a000a000a000a0009000a000a00090009000b000a000a000a000b000b000a00090008000800080008000800080008000900080008000700060006000600050006000600070006000500050008000800070008000900090009000a000800060008000a000a0009000a000b00090009000c000d000c000b000c000d000b000b000b000d000e000e000c000d000d000c000c000e000e000e000f0010000e000e000e0010000f000f00100011000e000c000f0010000f000e000f000f000f000f000f0010000f000e000e000d000e000f000c000c000d000d000b000a000a000b000b00090008000a000b000a000a000a0009000900090008000700080008000800080007000700070006000500040004000400040003000300030004000300010000000100020001000000000000000000000000000000fffffffffeffffff0000fffffefffefffdfffdfffffffefffdfffcfffdfffcfffcfffcfffbfffcfffcfffbfffbfffbfffbfffbfffcfffdfffcfffafffafffbfffbfffbfffbfffbfffbfffbfffbfffafffafffafffafffafff9fffbfffbfffafffbfffcfffbfffbfffcfffcfffbfffbfffbfffafffcfffcfffcfffefffefffefffeffffff0000fffffefffefffeff000000000000fffffffffeffffff00000000000000000000000002000000feffffff0000ffffffff000000000000000000000000000001000200010000000000000000000000000000000000fffffffffffffffffefffefffffffffffffffffffefffefffefffcfffbfffcfffcfffcfffcfffbfffcfffbfffafffafffafffafff9fff9fff9fff9fff9fff7fff7fff8fff9fff7fff6fff6fff7fff6fff6fff7fff6fff4fff4fff5fff7fff7fff7fff7fff7fff5fff5fff6fff7fff7fff6fff4fff6fff7fff6fff6fff6fff7fff8fff6fff6fff7fff8fff8fff7fff8fff8fffafffafff9fff9fffbfffcfffcfffdfffcfffcfffbfffdfffefffeffffff0000fefffeff000000000000ffff00000000000000000000010001000200030001000000020004000300040004000400040003000400030002000400050003000300050005000500030002000400050005000300030005000500050005000500040005000500050005000500050005000500030003000400040004000400040003000200030006000400020003000500050003000400040001000100020001000200030001000100030002000000010003000200020000000000000001000100000002000200010000000100010000000000000001000300020000000100010001000000000000000000010001000100000000000000000000000000000000000000000001000100010000000000000000000000010002000200020001000100020002000100020002000100020003000200020003000300040004000400040004000400030004000400040003000300030003000500050005000400040004000300030005000500040003000400030003000500050005000500060005000400030003000300030003000500050004000400040003000400040005000400040005000600050006000700050005000500040003000500050004000600060006000600070008000700060006000600070006000600080008000700050005000600060006000700080008000700070007000700090008000800080009000a0009000a000b000a0009000c000d000b000a000c000b0009000a000d000d000d000c000c000d000c000b000d000e000c000a000b000a0009000c000d000a000a000c000b000a000a0009000a000a0009000900080008000a000800070009000a0007000700070007000600050007000700050005000600060005000400040004000600050002000300030002000100010002000200040004000200030003000100000002000200020003000200020002000200020001000100010002000200010001000100010001000100010000000000000000000100000000000000000001000100020002000100000002000300020001000100020003000300030004000500030002000300030003000500040002000300040003000200040005000500040003000400040005000700070005000600070006000600060006000600060006000700070007000700070007000900080006000600070006000500060007000600050004000400070008000600060006000500050005000500060005000500060006000600060006000500060006000600050004000400040005000500040004000500060005000400050006000500050005000500050005000600060007000600070006000600070007000600070007000700070007000800080007000700080008000800080008000b000b000a00080008000a000a000a00090008000700080009000a000b000a0009000900080008000900090009000a000a0009000a000a00090009000a00080007000800090008000800090008000600070009000800070007000700070007000800080007000600050007000800070006000600050005000500040004000500040003000400040003000400050005000500050004000500060004000300030003000400030002000300040004000300030002000100010004000400010001000200030002000100010001000100010001000200020002000100000001000100000001000100000001000200000000000100010001000100010001000100010001000000010001000100010000000000010002000300010000000000000000000000000000000000000000000000fffffefffffffefffeff00000000feffffff0000ffff0000fffffdfffdfffefffefffffffffffffffffffdfffeff0000fffffefffffffffffeffffff0000fffffefffeff000000000000fdfffdfffffffffffcfffcfffefffdfffdfffffffefffeff0000fefffdfffdfffdfffcfffdfffefffcfffcfffcfffcfffcfffcfffdfffcfffbfffcfffcfffcfffdfffcfffdfffefffdfffcfffcfffcfffcfffdfffcfffcfffcfffcfffcfffdfffdfffcfffcfffcfffcfffdfffdfffbfffbfffcfffbfffcfffbfffafffafffcfffcfffafffafffbfffcfffafff9fffbfffafff8fff7fff8fff7fff7fff8fff8fff7fff7fff7fff8fff8fff8fff7fff5fff4fff5fff5fff2fff2fff3fff5fff5fff4fff2fff1fff1ffefffefffeffff0fff1fff0ffeffff0fff1ffefffeeffeffff0fff1fff1ffefffedffedffedffecffebffebffebffecffebffeaffeaffeaffeaffeaffeaffe9ffe8ffe9ffeaffe9ffe9ffe8ffe8ffe9ffe8ffe8ffe9ffe9ffe9ffeaffeaffe8ffe9ffeaffebffebffeaffeaffecffedffecffebffecffecffecffeefff0fff1fff0ffeffff0fff0fff1fff2fff2fff1fff1fff2fff4fff5fff4fff5fff7fff6fff5fff6fff7fff7fff7fff9fff9fff7fff8fffafffafffafffafffafffafffcfffcfffcfffcfffefffffffefffefffffffefffefffffffffffffffffffeffffff0000fefffeffffff00000000fffffffffffffefffeffffffffff00000000ffffffff00000000ffffffffffffffff00000000fffffeffffff0000fffffffffefffdfffffffffffefffdfffeff0000fffffefffefffefffefffefffefffefffefffdfffcfffdfffdfffdfffdfffdfffdfffefffffffefffeffffff0000ffffffff0000fffffdfffdfffffffffffefffeffffffffffffff0000ffffffff000000000100000000000100020002000100010001000100020004000400030003000300040005000400030003000300050007000500060007000700060005000400050006000500060006000500050006000700050005000600060006000700090008000600060006000600060008000800080008000800060006000700070007000800060006000700070007000600070007000600050005000500040004000400040005000500050005000500050005000500040004000400040004000400030002000200030002000300040001000100030002000100020001000000000001000200000000000100000000000100010000000000010000000000010001000100010000000000010001000100000000000000000000000100010000000000000000000000000000000000000001000000ffff0000000000000000ffff0000000000000000000001000000ffff00000000fffffffffffffffffeffffff00000000000000000000feffffff00000000000000000000ffff000000000000fffffffffefffffffffffefffefffffffefffefffffffdfffefffffffefffffffffffdfffdfffdfffefffffffffffeffffffffffffff00000000ffff0000010001000000ffffffff00000000ffff00000000000000000000fefffeffffff000000000000020002000000000002000100010002000100000001000300030005000400040004000300040005000600050003000300050005000500050005000600050004000700090008000600060008000900080009000b000a000a000c000c000a000a000b000b000c000d000b000b000c000c000b000d000e000d000c000d000f000d000c000c000c000c000c000b000a000c000d000d000d000c000a000a000a00090009000a00080008000a00090008000a000c000900080009000900090009000800080008000800080008000700070008000700070007000700070008000a000a0008000600070008000800070007000800090008000700080008000800060007000800080007000700070006000600070007000800090008000a000b000800070009000a000a000a000a000a000a000a0009000a000b000b000a000b000a0009000a000b000a000800080008000900080008000800080009000800090009000700060008000700060009000a00070008000900080008000700070007000700070007000600070008000500070008000700060005000600070007000900080006000500080008000500050005000600060005000500060005000500070006000600070007000700080008000800090009000700070008000a00090009000900090009000b00090009000b0009000a000b000b0009000a000b000c000c000a000a000c000d000c000d000e000d000d000d000d000d000e000d000e000e00100010000f000f0010000f000d000d000f000f000f000e000e000f000f000f000e000f000f000e000e000e000e000f000e000e000f0010000f000f000f000f00100010000e000e000f000f000e000e000e000e000f000f000e000c000c000c000a0009000b000b000b000b000b000b000b000b000a000c000c0009000a000b000900070009000a00090009000a000a00080008000a000b000b000a000b000a00090009000a000a000b000b000a000a000a0009000a000b000a000b000d000c000a000a000c000d000b000b000e000d000b000b000e000e000d000d000e000e000e000e000e000f000d000e000e000d000e000f000d000d000e000d000b000b000c000e000e000b000c000d000e000e000e000e000d000e000e000d000e000f000f0010000f000f000f000e000d000d000b000c000d000c000c000e000e000e000e000c000b000d000d000c000c000b000b000b000c000c000b000b00090009000a000c000a0009000900090009000a0009000800090009000800080007000700090008000700080008000800070007000800080006000600070007000700080007000600060006000400040006000600040004000600050004000500060004000300050005000300030003000400050005000500060007000600060006000600050005000500060006000700070006000500050006000700060005000600050007000800050003000600070005000400050006000600050005000600060006000700070005000500060006000600070006000500050005000600050004000500060006000700070005000600050003000400060006000600060006000600050004000400040003000400030003000400030002000200050004000200010002000200010001000100000000000000010002000100000000000000ffff0000000000000000feffffff00000000ffffffffffff00000000feffffff00000000000000000000000000000000ffff0000010001000200020000000000000002000300030003000200010003000400040003000200050006000500040004000600070008000600040005000800080007000800080008000700070008000500050008000a000700070009000a0008000500050009000a00070006000700090009000a000a000900080009000a000b000b000b000a000c000b000a000a000a0009000a000b000b00090009000b000e000c0009000a000d000c000b000c000b000a000c000c000c000d000b0009000b000c00090008000a000a000a000a000700060008000a00090008000a000a000800070007000700060005000500080009000600030005000600040002000100020003000300020001000000ffff01000000fffffffffefffffffefffdfffefffffffdfffcfffbfffbfffbfffafffbfffcfffdfffcfffafffafffbfff9fff9fff8fff8fff9fffbfffbfffafffafff9fff9fff9fff8fff8fffafff9fff7fff9fffafff9fffafffbfffbfffafffbfffbfffbfffbfffbfff8fff8fff6fff7fffafffbfff8fff8fff9fff9fff8fff9fff9fff9fffafffafff8fff8fff9fffbfffafff7fff9fffafffbfffafff9fff8fff8fff9fff9fffafffbfffcfffdfffbfffbfffefffdfffafffbfffdfffdfffefffefffdfffefffffffdfffdfffffffffffdfffefffefffefffdfffdfffefffeffffff0000fdfffcfffcfffcfffdfffdffffff0000fffffcfffafffafffdfffefffefffffffffffefffffffffffffffffffdfffcfffffffefffdfffefffefffefffefffeffffff0000fdfffdfffefffdfffcfffcfffdfffefffdfffcfffefffdfffeff0100fffffbfffdfffefffefffdfffbfffdff0000fefffcfffcfffbfffcfffdfffbfff9fffdfffcfffafffafffafffafffafffbfffcfffafff9fffafffbfffafff9fff8fff7fff8fff8fff7fff7fff8fff7fff8fff8fff7fff7fff8fff8fff8fff8fff9fffafffafff9fff9fff8fffbfffbfff9fff9fff9fff9fffbfffbfffafffafff9fffafff9fff6fff6fff8fff7fff6fff8fff8fff6fff5fff8fff9fff8fff6fff5fff7fff8fff7fff8fff9fff7fff9fffafff9fff8fff9fffafffbfffafffafffcfffdfffdfffcfffafff8fffafffbfffdfffbfffafffbfff9fffafff9fff9fffbfffcfffbfffbfffcfffcfffdfffdfffcfffcfffdfffdfffcfffcfffeff0000fffffeff00000000fffffdfffdfffdfffefffefffcfffbfffafffbfff9fff8fffafff9fff8fff7fff7fff9fff9fff7fff6fff9fff8fff6fff7fff8fff9fff8fff6fff6fff8fff7fff6fff6fff5fff6fff5fff4fff6fff6fff4fff3fff5fff5fff3fff1fff1fff4fff3ffefffeffff2fff3fff2fff2fff0fff0fff1ffeffff0fff2fff1ffeffff3fff5fff1ffeffff1fff3fff3fff1fff1fff2fff2fff4fff5fff4fff3fff5fff6fff4fff5fff5fff4fff7fff8fff6fff8fffafff7fff5fff9fff7fff2fff3fff4fff4fff5fff5fff5fff5fff5fff9fff8fff4fff4fff5fff4fff6fff7fff6fff6fff9fffafff7fff4fff5fff7fff4fff1fff3fff4fff4fff4fff4fff4fff3fff4fff5fff2fff0fff5fff5fff1fff2fff4fff7fff6fff2fff0fff0ffeeffeffff3fff1fff3fff7fff3fff1fff3fff2ffeeffefffefffedffeffff1ffeeffedffeefff0ffeeffebffe9ffebffeffff3fff5ffefffeffff5fff2ffebfff3fff6ffeffff3fffefffafff6fff7fff3fff4fffafff5ffecffeefff4fff9fff9ffefffedfff8fff4ffeefffbfffbffeefff7ff0300f9fff8ff0500fffffaff07000800ffff08000d000200ffff0b000b00050009000b000a000c000d000d000b0009000d000b00fdfffdff0b000700fdff01000200fbffffff0200fcfff7fffbfffefffffffcfffafffbfffefffeff00000000fcfff6fff9fffcfff6fff8fffdfff2fff1ff05000100eafff7ff0600f1ffeeff0000efffe2ffffffffffd8ffe5ff0900f2ffd8fff4ff0000dcffd6fff2ffe3ffc7ffe8ff0000d0ffc6ff0500fdffbeffdfff0600cdffc6ff0300dcffa4ffeaff0d00c1ffc4ff0100d8ffb4fff2fffbffc6ffdaff0200deffc7ffeefff3ffd0ffdbff0100eeffcbffe9ff0b00e9ffd6ff05000300d5fff9ff2600f1ffe0ff1c000d00e0ff14002b00eefffeff37001500ffff2d002c00120028002c0017002a003a002b00330040002f0036004f0042003e0057004c003c0059005c00420052005e0045005800740054004d00730064004a0066006e005b0063006a006c006d0055004b005d0048003c005b003f0014004400540012000f002b000a00f7ff0000f6ff01000700d6ffc8ffe6ffc9ffa5ffbbffbaff9bff9dff9aff86ff8bff88ff6dff6aff63ff40ff40ff5fff53ff41ff52ff46ff22ff2fff4eff37ff11ff24ff56ff54ff31ff3eff5aff35ff17ff50ff6dff38ff3bff83ff87ff58ff67ff83ff75ff7effa2ffa3ff9cffb4ffd1ffe6ffe3ffd5fff4ff1d0008000200350047003e00520060006f008a0084008100aa00c200cb00e900fb0006011c011d012701420137013b0167016d0171019b018b01610180019b0181017601800184018701800177016c015a015601480131013e012c01dd00da000501bb006d0087007d00470051004000edffceffd1ffa8ff7aff6dff67ff42ff0aff04ff08ffb8fe74fe82fe69fe31fe36fe2cfe03fefafdd2fd90fd8bfd76fd48fd68fd82fd55fd4afd4dfd2dfd37fd4afd26fd06fdf7fc05fd61fd7efd30fd4dfdb3fd95fd6ffdb1fdbdfda8fdfbfd5dfe76fe84fea8fedbfe1bff57ff86ffabffdfff260048005c00ae00f80020018001c201af01ed01570249025a02df02250331037003a103cb031104200433049204bb04bd0412054a052b05380555054a0559056b0562057a058005610571056f05200506050c05bc047b0479043a04de03c50397030d038b025b023902cc013101b4003800acff4bfff7fe78fefdfd8cfdf7fc75fc0efc81fb08fbd7fa7efae0f969f935f9fff8a0f84df838f804f88ff782f7b1f747f7d6f6fbf6e0f688f6ccf620f703f7fbf6eff6dbf634f75ff72bf79bf72af8ecf7e2f73df819f85bf85df9a0f974f9f5f95bfa63fad1fa7afb3efc1bfd8ffdf5fdadfe21ff7fff49002c011502dd022e03ba03b8045005c905ab0650079a073d081a0971094f09cb09fa0a850bd00bfa0c810dc60cef0cbc0d950df60d7e0f0910870f550f000f690e6c0eb20ecb0ef20ecb0e150e550de50cc20c830cd70b510b180b610a6a09ee085e0850077106e5052c054b0474035f02d80092ff09ff56fe22fd66fcbbfb22faa0f8d8f7b3f67df52ff5cef4aaf3aff2f9f1f3f0fcef91ef5defe5ee3deed6edaaed3fedbcec7bec46ec40ec9aeca1ec5becd0ec7aed41edecec4fedbfedc1edc8ed64ee67efebef39f00af133f19bf087f158f3eef3bcf445f660f68ff6adf8d1f99ff944fb6efdf4fddefe7b00250109028f035a046e053007d8073808bd09d50a160b030c460d190ee30e7f0fd10f66102d111f122e13891394137a1454155c15aa1543166816841690167016f0168f1764172917c216691567146e142b14af13b6135e132712db10e10fe90ea40d9e0c990c800c5d0b4b0a41091507f304fd0321033f02d301ee0043ff68fd5efb7bf928f81bf757f68ef530f4f9f2ecf1f2ef0eee57ed87ecabebafeb1ceb9be913e9e7e8b8e712e7a3e7b0e71ae730e7cde71ce820e839e89ee844e9dee931ea65ea94eabbea47eb4eec1fedcaeda4eef5eedeee91ef9ff07df1f2f241f4a2f4b0f54bf7c5f7b3f81efb8cfc1afd06ffdd003a01450265049b053c06950714094d0aac0bd00c520dd80da30e2f0fb70fda101d12fa12ee13f1141f15aa149514f3148b15ba167318bf19ea1938195518a117651721188d194d1ae7192f1950181017f2151915621459147a148813ff11b2103a0ff00d4d0d4e0cf20a620ae809580855068a04ef02e401600191000eff16fd39fbdaf978f8b9f660f58af448f397f11cf0baee46ed1dec51eb76ea47e90ee831e794e603e68ce540e528e520e500e534e5b8e57ce5f2e494e5b9e68de7c5e8d0e9d7e9c8e9a6e965e994eaabec11eea7efe1f0faeff9eeaaefa0f020f2c9f495f6e9f639f719f88af9e4fa9efb16fd77fffa000b02bf031e05fa05f406ca07c8084c0aec0bbe0d550fc60fc30ffe0f4a104d11f51241145015c61533156015a816111738175118dc1896180819bd19ba19ca197d1ac81a2f1abf19a019ca18f317de1748178b16ef169c16b0145d133c12f20f930e0d0f100fe90da50c330b2009f806a505ea04e703df02090277005dfeb3fc03fb30f9edf7d6f6a0f59df457f3ccf16ff08aee78ec96ebdfea88e915e911e9bce732e65ae529e458e397e35ae3e6e2b6e35ae4f8e35ee455e543e538e557e698e75ee81ce9d9e95deac0ea8feb0aed59eeffeed3ef11f1adf16ef1b8f167f317f5bdf5daf6a5f849f91afac0fc1afe6bfd9afef1009401e402b4050707eb07e8098e0a950a660c9d0dad0dd90f65122412d3113513c513da136815b31674166c162a17cf1789185519781947195f199819e019501a931a761a311a071ada191e19ed173a170e178c16dd158715ea146e139311f50fb80e150e0e0ea00d1b0c410a680836069304f7034703690264013cffc2fc22fb55f9c2f79cf7e9f6d6f485f386f272f080eeffec6eebc5eab4ea03ea32e967e81be7d6e5d1e40ce4fbe323e437e4d4e434e5bbe4b8e488e542e6e1e685e71ae8f6e8f0e977eaa2ea27eb5bec74ed10ee1eef8cf095f1a6f22ff36cf2b1f2ddf439f61cf78ff997fbf1fbbafcf3fd79fe56ff8f0054010a03b8051507c6075d09f6092509f1095d0cf60d050f5010081141119c110612ab126013c513a0140216ad16d916c617c0182c18c516861625179917ee18021b641b3b1a731987181a173d16af157d1576163017701633159c13771103102a0fc60da10c7d0c330c030b7c09d507e40526041003e7013000c6fec3fd26fc64fa5df926f85af604f5c9f3bcf1c7efbaee00ee77edc3ece2eae7e85ae8cce764e60ce69ae60ee6fae484e42be4f2e312e426e4bae40ee6c1e6b2e663e78be8c9e8cbe8d3e9e0ea44eb68ecfeed4beeddee2ef179f2fdf199f2fbf359f4d5f4a8f537f613f8d4fa78fcd6fdb8fe7afdd9fc1bff5501a702d804c70695078f0852097509190a1e0b310cf30dd90f0e11d4114012561244123d121513a814a3156d166e1765171717ea171b181e172a17121897189c19f21a041bfe19b8184117e51524153c15061690161016cc1428134a118b0ffe0d970cea0bea0b540b0f0a2709e4074d05e902c601bc00b0ff32ff19fe12fc55fabff8d7f686f5fbf427f4b4f237f123f02defb7ed11ecf7ea37ea70e9f4e8a6e8d3e7cae689e66ae62ee5ebe3f3e332e428e4b2e462e5f1e50ee7cde7a8e726e83be9cae97aea77eb01ecc6ec40eecbef4ff17df2d8f233f3edf35af4f4f437f62bf70ff885fa3ffd27fdc2fbf3fc25ff95ff29017104b50466036005e5074708ab09a20bf00bf40cbb0ee10e870f82111d12ba12d314f1143713c713f1153a178018b6194419fd176e177e1722188d19f91a981b5f1b781a2a1903185017da16681675166217ec17aa1679148a129810ec0e450e580edb0e150f8c0d050b0309b8066f04dd03ea032e032f02370032fd49fb6cfa1bf9d0f792f6e5f4a3f3c4f281f11cf088eee6ec31ecefeb22eb39ea60e938e80ee786e6dfe622e75be6a6e57de5cee465e4ede428e5dfe5d4e7a9e84fe822e91deacae9c2e9a4ea75ebc4ec26efeff0edf0cdf0e0f1e4f2e3f315f6a2f722f7eff63df807fa4afc67fe11ff11ffabffd30068023704a7053f06f905df056607360a760c880d270e440eff0d1a0f84118d1227125c120c135914ef169418fd170617f115fa145116b5187119f919151b691a67187b1724176c1655160e178717921744174916cb14d2122c103b0e760ed20fce10dd102a0f120c5a094607700584043804ab030b0311023e006dfecdfc77faf2f762f680f5a4f4d2f311f333f22bf1d3efe1edbaeb5eea0aea05ea86e9b4e8cae8ade921e9ebe642e529e40ce3c9e34de6d1e71fe857e8bfe776e610e67be632e704e98aebfeec61ed89edfaeca8ecc0ee72f119f200f37ff594f61cf64df678f6ecf67df998fc6ffea6fffbff89ffa0ff2b00c7012305560726079307bd08ea08b809b90b0a0d350e12100e11dd101b11e7118c12c113b615d9165e17f618f3196c183b17ca17c6171c18741ac61bd51a371a9d19f2173617a4170517c415a6151816b815ab1499134e128a10000f470eff0d9e0dc20c0d0bf608d207c207f206710416021401faff6cfe98fd8efc72fa3bf9fdf82af792f49af3d3f2bbf046efe7eec7ede7ecf3ed50eeebeb99e9dfe88ce733e625e75ce8c9e780e714e8b0e7a7e6a1e561e439e477e571e696e799e9b7ea8aea35ea99e993e979ebbfed06ef29f003f180f1e2f23cf436f433f53bf8f7f907fa90fb53fd8efc10fc38fe1b002001f603f006e506e305320653067e06f808660cd60d0d0eed0e061038111a131714f71240120914701699173f189318d117441767186a19d4189f18ac19201a9819c8182d1763151c15e8157616cd16e216ed15f7130a128610020f300e9f0ead0ee20dcc0d490dd50aad087f073005c9020b02b901780180010500f6fc8ffa38f90af8bdf617f571f344f20cf10df06bf0fbf0b1ef8eed31ecc5ea3fe927e9bae98ce958e922e957e8fae78ae79fe533e4e2e405e6ede6c9e7b9e731e738e73fe74de71ce887e94aebbcec4bedbbed2eee84ee37f0a3f246f346f379f480f55bf694f813fb32fc79fc23fd6bfe53ffe6ff5b0178028e02b30456083f093f097a0b7b0ce80af20a120dc50e75104c1206138413bf14be1566163b176f17a516331640174119421a85196b18e9173d18b6199a1a111906171216db14b1131c148015de16ed16641445119d0f680eda0da50ec10eee0dd30d3f0d130b8408ff050804810360031b036803dd024e0090fd83fb14f9eef67af67ef63df59cf3a6f294f1a2f080f045ef4bec75ea76ea2feac4e916eaf8e925e9c3e82fe846e678e46be412e580e571e654e711e7a5e6ade683e6d9e645e8d2e93febb6ecb6ed51ee94ee4beed1ee31f1fdf3d4f507f772f774f67bf5faf659faeffc3cfee5fe14ff31007302fb02f5011303bf05c10632079d083209ea08ed09a70b160d7f0f87123914c814c914cb1318134f14ac16b718a9199c198b197619b018fa17ed1702185b18cc1834188f16b914291346123c122d130b1578163b1635146410ab0ce20b040dd30dc00ee10e600c580901081b072306bc05d504c60265000afe05fcc7fa88f9d9f7d7f687f66bf55af35cf1cdefa7ee08ee0feea5ee97eeb7ec58ea55e948e9bae91deb96ecd5ecedeb66eaaee8b0e7f5e79be885e815e827e842e8efe7d7e7d3e7bce728e94cecb8ee5fef52ef34efffeee7ee97ef61f128f3a5f43af7ecf985faa5fa30fc4bfd70fd84fef8ff8e00a901be03f5040c05b3055b070c09620a720b280cc30c550d4a0d4b0dec0e5211c61228144116ab1703183a183918051831184318c1172917a2165f16e016a8175c182219b71890166414a01203111d113312811187107c110912c410520fde0d3a0c2e0b210acf0821084d078b05dc039a02b9017b01cd002bff50fd98fa3df761f59bf492f394f367f4acf3ebf103f1a2f0d1ef51eed5ec75ec85ecb3ebc9eac9ea49ebbceb79eb64eaade960e94fe803e790e697e692e6c7e6afe7ffe88ce9b1e90eebb8ec34ed2dee2bf0d7f067f014f1bff281f441f6d2f796f990fb62fc39fce4fc7cfe0200ea00a800ebff830068024604e0053e070108a708be095f0ad50944098809550ab60c58111e15c21569151c15c313c0126a138a14dd154917511789167016281684158d152d15ee138f1317143a14b1131f122a1004106f115612b9124912520f700bcb09c209cf095b0a7e0a2609fe07b40794066d04160281ff52fd4afcc6fb22fbfff912f873f61df64ff657f6b8f5b1f34bf11af07deff1ee27ef83ef45ef29ef27ef82eef1ed22ee36ee79ed5eec52eb64eaf6e918eac0e9ade88de8e3e9f5ea41ebcfeba9ec6fed3fee1bef2ff05ef18ff1f8f0a6f139f42ef767f902fb34fcc3fca8fc8bfc29fd22ff9902be052e06760406038d0277024503b305a208250a2f0ab509da0873089409cd0a440b100dff0fa211af12b613901287101a118613f1155618e7186b169b134912b7114c121e143d150b15801478138711480f6d0d830cca0c720dab0d7a0dcb0c910b8d0a0f0ad009f609ee098c084a0608046b0144ff1dffe0ffa8ffa2fe10fdbbfac7f8f9f715f76df5f9f322f358f27bf18ef085ef3fef44f0f0f043f0dbef3bf0a8ef10eef8ecc9ec86edc4ee24ef83eee8ed2bed4dec67ec84eddbeea6ef56eee3ea96e8a7e9b7ec12f02bf34cf53bf694f648f61cf565f482f5d7f770fa17fd11ffd2ff1f003800beffb9ff21016e030f06e007ef060904240252029604b9080f0c4f0c280b520a76096c092f0b590dbe0ec70fc3101412d5137214e912ea105c104911e91244142c14741278104e0fc80efc0e45106211a310990e0e0dac0c0d0d330d360c5a0aa108d40744081e09d80821071805fa03f403d703c80269013f0007fff0fd08fdb4fbcdf9cbf745f6d1f585f662f7f2f623f5bcf357f381f267f144f123f197f0b5f084f093ef50f072f210f36cf28bf1b8ef67eef6eebfee90ec2eeb79ebf7ebb9ece0edaceebaef5af145f2f5f2fdf464f7eff8e8f997f900f8a3f723f9cafa2cfc53fde6fd82fe32ff3dff3effe6ff29012a03220503065c0667069a05fb04760556069b07b709430b930a69082e0756088a0b900f61123c121210510e490e5710431325147412b9106c101811b7112211bc0f1f0f390fe20edc0d630cfc0af60916094009610b920db40d290c9809d306f2051707e807ff063e049500a1fe6dffea006901b7002ffffffd91fdcffc5dfb44f97af656f478f3e8f23bf39ef47df468f2ccf085f0caf1aff4acf6b6f54cf347f178f040f199f28af336f4ddf310f2daf04ef1bbf149f1f8f04ef118f2edf2edf2d3f1b5f082f037f1daf2bdf531f92cfbfaf998f63af4f7f455f87efc6aff1100b4ff0f001f011d022a03a5042006fe064f076f074607a606eb05a80594063409680c9c0dbd0b9f08840628069b073e0a230c3d0cde0b620cbf0d5e0f4810e60ffd0e2f0e530de30c480dbd0d5a0dbe0b9509dd08630a490cfd0cb50ce30b0a0bee0a3b0be00ae009fa083d0890075207e2062105ce023201f5ffd7fe59fe00fe09fd92fbedf9b8f868f86df850f824f8c1f78bf717f8aaf860f845f7c4f5d3f43bf50ff6c6f5fcf361f154ef2fef55f1b2f4d7f64bf645f456f2d8f08bf0d2f1fdf260f22cf0bdeddeec9aeeebf1daf488f641f77ef705f8f1f9a4fcb9fdecfc7efc41fd71feadff5e004000a40098023b05c2062a0619041f0257012202c503a10456042a04e5042e06920716090b0b200d300e980d480cf30bcb0c360d8f0c900b490a3909c809410bc60bae0bfa0b830c0b0d160d3b0c330b510ada082a077606d8067f07d007b1074a07f0064e076608b70886075c0647066b063506da05f604e202d9fff4fc62fb86fbb5fc4dfddafb74f99ff831f96cf9a0f92ffaf3f9b5f8ecf6a0f406f33ef334f4d1f4ebf44ef40af435f553f658f6c4f698f7d5f6b5f44df32df378f351f348f225f185f19ff335f634f8e8f888f84ef84bf8f4f778f86dfa2bfcdefcedfc6ffc1ffc62fc7afcfefce5fedc0076010d01a0002b01930297030a047c0475046103a3014300f4ff4d005f01110499076d0a730c7b0da10d420eda0e880d3f0b030a730944087a066c052e0629084d0a040cbb0cc90cc90ccf0b780998072b07ed06cd059904e904e6061309540aa40a6b0a080a18094307b1050005c00361015fff75fec5fdd3fc06fc9afbc7fbccfcdbfdbffdbafc8efb92fa66fa13fbc1fb59fcc4fc02fc0cfa3df894f70df89bf8a2f839f987fadffa0ffa45f928f82ef6aaf4d3f4e8f572f6fef517f576f485f442f596f66df8f0f9fdf9ccf8d3f738f8b2f907fbc7fb6dfc04fdc9fd64ffeb001201a200ba0005010f0100012c01b3010802900174006bff76ffb400ae016d01c3000301120317066c074006f8046205c406e0073808c707700684047e0363042406670717085e084d086f08000967094d097109380a480a5608640578035203b303a4023a008cfe5cfec2fe6bff16002000ceffa4ffc7ffe9000703d204d705e9050404f40044ffa4ffd4001601fffec1fb1afacbf90cf9a2f867f9ecf9aff913fa52fbdffbb7fa91f816f736f733f8fcf89af907fa79f97bf8a0f8bbf909fb27fd87ffe5ff11fefefb6afa29f9b9f812f919f96af8b4f72cf713f750f840fa14fb64fbb0fc01fe3bfe40fec2feb9ffe600670158015402c5045b075b08ba062704c7037705320690049e0189ff1d0065026b036d02400108018d0194020304c505c207330979099b098e0a370b5c0a5908eb05fa038d033c04c004d0049a041904030463051108640a280a4606edff3afa37f804fab1fce0fdeefd25fe52fffc01fc05b3092a0b250a0108c5056803aa00cbfd7ffb33fad8f9c9fa1efd26ffd1fe66fc41fa74fadefc64ff42003bffc9fc1dfadef844f930fabcfa36faf2f8fbf8e8fa71fc5efceafb05fcc0fc93fdf2fc9bfabff8a4f857f9fff9a7faa3fbf0fc8bfde6fc29fcf8fb9bfb59fb2dfc56fd3dfdf8fb71fb3cfd59006c021503b203a504e1058907350894065b047b0352032103ae020f0192fecffcfcfbbdfb89fc09fefbfe23ff73ffcf00330320066509260ce50c930b64095d074906c305fe03930061fd4cfc2bfdc3fd5efdb1fecb0266063c07be06e6069b07f0063d040d025a029e03cb03a9025001120189012f0163006b007d0030ff1bfd12fcb9fc09fed8fe88fe39fd76fc4bfd2afeb0fdeffce3fc2ffd58fd2ffd17fd6efd63fd7ffc00fcc0fc33fe87ffd5ffd5feaefd52fd85fdf6fd05fedefc5efb52fb7efc1dfd3afc30fa7ef8d1f850fb5dfe1e00f7fff3fe2bfe7afd17fdfafd9bffddff60fd3bf9a4f6b7f731fbdefee70101043805c90590055b05ad06c508e6083d062b0363025c03f10240005dfe2d00a404eb079b07ef046502d40003002d0060011a027500fbfc50fa27fa6bfc1c007f033305680528055c056706bf076708c307c3050203880017ffd2feb7feabfdcbfc0cfecc00c20211037602b601050182005d00050092fe52fc89fafaf967fa2cfb30fcb8fd60ffa500b2019f026203e90322038b002dfedefd0bfef0fb74f757f351f29bf46cf8edfb1bfeecfee3fe7dfec9feee0085036403d7ff2ffb00f867f7bcf8a9fa7efcb5fd1afebcfe3900de016b036a0490037b013400bfffb8fe6ffc3cf904f7b3f772faf1fc5cfe0eff2eff26ff560069035c06d7063605f402fb005900750148036304ac038d018a006402cd0532081508dc05330386017c016202d201bcfe7cfb92fad6fbf0fdb7ffaa005d01be02c3047906a207e4088109b2073604c4010f017200befee9fcdbfc94fea400f902d305cd07ba075d0657055205e2041202d8fcd6f672f207f212f53ff814fa29fc4afff8011903df039405e0069005f70132fe45fbb7f86cf64bf57ef50cf605f732f9c8fb3ffddefd53ff55026b0570062e050303c600dffeaefdc8fcd5fb31fbf0fa84fbc9fd66001b017a001a0009004300750051ff0efd5cfb08fbf9fb47fdd6fdd6fedb0118053d06fa0565050504e6014300e5ff6d00f400b500a2ffcbfeb1ff9202e90524080709b208c006f203b402080429061707f505dc026effc9fd55fec4ff8e004f00cdff91ffd3ff5301260419073609190a8409bf075605ec020e0139ffb9fc74fae0f901fb36fc06fcc9fbe1fd18016b02f001c0014d02240247003bfe1ffe4cffe8ffb5ff38ffeafe1dff39ff99febcfd75fdc5fde5fde2fd13ff3301040219011200c8fffdff7fff47fdd0fa0bfa14fa65f985f869f8ccf800f917f9d3f98dfbcefd9fff1c0031ffe7fd8afd74feacffeeff02ffdbfdc3fde5fef6ff5e00a1003e00b8feacfdc5fe8001f20363041b03f6010d027803430521056b029bffbdfe55ff88ff22fe67fc1bfc9ffc4efd5affc60298056e06760523044004cb05a8062205f8018cff7bff510121034103c601f7ffd5fe06ffc9001f035204d603f6023b0322047704ef04ae0561049c0093fd9bfdc5ff9a0189016300c5ffc0ffd7ff0e00e4ff76fef7fb3efa10fb50fde2fd4bfc37fb73fc3bffc201c2022602cd00b7ff32ffdafe82fe3afe84fd3cfc37fbacfa53fa98fa88fb99fc90fd32fe6fff0f030d07b4066002bbfec6fdf6fe54017c02a300edfc63f9a9f737f908fd1cfffcfcdaf8b0f601f832fbfefd8fff48002d0041ff1eff1601fe034f066d078b067d0414049f055d06f6048602790084ff92ff2700730067ff5ffd46fc01fdf5fe0801f20165015d009cffc2ff5d013e037203e30145006b0073029404be053a068f059103e801990186014700f0fd3bfc86fcd9fd95febcfe43ff77009601d801a4011502aa037305820586039801e10087002700daff3cff68fea8fd09fd24fda7fddffc32fb45fb56fdb8fe1afe67fc7dfa47f932fa0efd94ff6e003f00aaffc4fe59fe92ffd0017f027f00e0fdddfc95fd2cffd600b2010701bbfed6fb27fab0fa03fd6cff82ffa0fca5f9b6f913fcc3fd28fef9fe4900530060ffc7fff5010404dc0495044503e70117027503ea0390021500b8fdfafc24feacff97004101970155012e01cf012103f904fa0610089707350683043702ddff35ff9a0029021e029c0010ff7efed2fed2ffe201e504270794063703d0ff3fffaf01a504b6057704900129fe5cfc36fd0eff33003700bbfec5fc60fc59fd4dfe0bff56ff19ff28ff6bff80ff5c00250270035d03420212010800cefd18fa02f714f62cf7bdf96cfce1fdbcfe6400d102b2041a055f042a03a601c7ff37fd15faa8f74ef6e8f48df385f330f526f827fb00fdbdfe6901ba03540546079a082d082307ff05ad031100affc22fbfefa1bfa8ff87bf840f9fef8fdf8f3faf8fdfb00a00319053d051905d4059e07e508e60737058602a400deffaeff20ff5cfeb3fd6ffd38ff6e035807f20893080b078a05cd043f04fc038a04d204c503fc01ec00e60102043904d10105ffa1fddcfeb80225061f06390346004b00e103ac079e0833075d046c0005fd1cfcbdfdc5ffa6ff90fd44fc53fd1100fa021c04af027a00ccffb100120185ff27fd77fb74fa52fa8bfb08fd9bfde0fda4fe98ff4a00cc006101c201f900c3feabfc99fc6afe54ffdcfce9f8e7f719fa4cfbecf9eff877fafcfc14fe8ffd26fda6fdd3fda4fce9fa04fa41fae0fa33fba7fb12fd2bffc5008401290202034b033502580090ff74003401ee00e700f000d2ff06ff7800ca027d038302da01970253038c02d70066ffc4fea8feaffd99fb7afa5ffb20fdd1fe6b004e02a4047306330787072807980502044c03ce02830104ffa8fc44fc65fdf0fe160109034d0360028e017201ba02ad05b808250933066f028600630051008bfeedfa03f898f78bf829fac4fc07ff34ffbdfdbafca3fdd7ffe501c5020a01fefc49fa69fbc0fe8a01de019cff23fd7bfc55fd9ffe0fff6ffda4fa3cf950fa54fc96fd6dfe43ffecfeaefd4cfe930192048f0435021500b4ffdd0046025e020e0172ffd3fd94fc00fd97fe31ff40fe85fcfcfa71fb4ffeba001600b1fde5fca6fecd0015028f031505b904f70290022304c6058205850248fe34fcadfd680018029702580228026e033f06de08d3091a09d70738070b076d0697058e04f301b4fd6ffa30fa0efcd7fd65feb8fd8bfcaffc86ff50035e05f5054f06ec058204d902650165009bff42fec7fc25fc1dfc9ffc4dfe90003b0244034904910597066006eb044d0327024001f1ffe2fdf4fb49fb7bfb7ffb55fb8efb4cfcddfc9dfc1efc04fcc5fbedfae5f92bf93ef934fa3bfb72fb71faf9f851f95cfcdbff170287033c04a2033d024d01d701a9039704820232fe6cfadef88af9b0fb7afd26fde3fb38fcedfd63ff0001690343052b05ac03980213031a049e0333014afe38fcfbfadef95af9dbfacefda1ff9cff6eff7c0048033407a009ee087c07e5071f095009e908f708e808160734038fff4ffe93fe93fe7dfed7fef5fec5fe59ff3901ed037706d407b8076006e6030e0154ff13ff56ff11ff57fd5bfa55f8b2f83dfae5fb0afeb5003403700461035e015301c3021502b9fefbfb8efb77fbdcf90ff844f860faf6fc1fffc7ffb4fe50fe2200ca01960184018d02a702d70087fe0afd4dfca2fb31fb3bfb61fa18f8d8f6d7f7d3f8dff8daf93bfc3afe92fedffdb8fdd5fe520035019c0115027202720185feaafbb9fb9afe34013b018cff5bfe7afe78ff0c01ff028704650400025effcfff07033805f3040f044003c9013300feffa501ae03c703d9013200b3ff3bffe2fe72fff7ff12ffd0fc3efa1df97ffac1fcc5fd3dfe79ffd800eb016e03310562063807de078f076906d30527060206750442027900fcfe4dfd6afc5ffd2ffe97fccafae6fba4fe91007d017c01c2009200eb0078002cfff9fd87fd86fd9afc28fbc0fb01fe07ff05ff8cfff5ffe4ffdcff8fff96ff870097001cff76feb8ff59018e0191ff0bfdb5fc37fe7dff2d007b0062000201ae02d103b0033603230322031402d0ff2ffe41fe51fe9dfcfff9abf869f9dafadffb66fd390047037305c5069e077c084609ba0885063d040b03ad024402b50017fe2cfca8fb89fbdcfb8dfd0300b901db0103011f013b03f705b2070d08b006b703dd00f9ffb000de006effd0fd79fd20fe7cff7f01ec02d50210028c01a20135022702d80032ffb3fd32fc1ffb8cfa89fa05fc42fe36ff98ff700166042507bd08a8081508ff070b07a9043202ffffc1fd63fb80f844f682f6c9f72df801f92bfb3bfd71fe47ff8e00b0022b049a036c020a02ad019c001cffa2fde1fceffcd1fcbcfb21faa7f960fbd6fdf8fe19ff9aff95003801f1001100bdffd800d502f4033d03a501d6008301f302690312023600adfeb7fcb4fad1f96df99ff8fcf7fef78df8baf9b7fbd9fe990205055705fc045a0510077009d8096807db04aa03200283ff5efdeffc8efd99fd01fd57fdc1fe0500130126029c02bf026203d5032003f2012f013e00a8fed2fd10ff09016d0119008bfe8efd26fd78fdaffe2700f90002011c0003fe6ffc0cfe3e028e05050670042d02b1ff53fd8bfc48fe9200b600a3fe62fc90fbe3fb5bfcb1fdc10037033402d9fe80fc90fcf8fd43ff2d00d3004f0028febefba2fa7bfb31fe1f01f701600022fe16fdb4fde5fe96ffd3ff7eff0ffe21fc1afbd4fb17fe55001c014b012b02af02b70174001000a0fff7fde2fb7efb1bfd85fe8bfe76fe11ffe1fff700fc01e701bc015103fc04ce03ce005fff1800bc003e00c2ffd3ff8dff8afe40fd84fc91fd0100110188ff6ffdb8fc40fd2cfe39ffa000cd01a501b4006000bb00710123028a01c9fffdfe57ff05fffcfda7fd6cfebaff000129026403e10393029700190033016302aa02910115ff58fc02fbb3fb77fdccfe65ffffffa600f00079011d03410519064404ff007dff81005d019a00a1ff83ffa3ff37ff6ffe59fe9fffc101a0032c0487035c038304ac0501063c064f06d0045101cafda1fcbafd0aff90ffb7ffd5ffdeff9dff77ff8e00d0023a045e031e01deff56012a0423058f039901600053ff98fe09ff1b002300a3fef0fc33fcf1fb94fb22fcb5fed501a002d10069ff9c001b03620445045204ac0408040e027bff33fd8cfcd6fd78fe1efc77f89af60df7a5f8acfaf0fce9fe52ffd2fda2fcf3fdc000ee0206044c04e103090302025e01b3010802b300fafdf2fbeefbf1fc04fd21fc0ffc78fd70ff30016302f202d802ba01c8ff8afe3cff1e016602310220013100c2ff19007e013303d2039202d6ff50fdcffcfbfddcfe95fedefd8cfddbfd50fe52fe3cfe2dff8701150411055e044c0344023d015b0141039605880614059c0143fe18fd2efe4c00d7018301a4ffb9fdcdfc65fd4aff13018f012c01e100b0000b0007ff61fe67fee0feb8ffdc0009029a027701dafe3ffd4ffea000240246028101a200f3ff39fff3fe10000c02f0028a01fafe7afdc2fddcfef2ffd0004d015701bd0014ffc2fc8cfbaafcd9fef9ffb5ffe0feb5fd73fc1bfc2afdcdfed0ffd3ff3aff14fe31fcbcfa77fbf5fd2700eb002d0088fe96fda3fe1d018903fd042505f503fa0151009aff72ff8fff0d001f009ffe2efcc9fa40fbb9fc5ffe21009d01b901410099fe22fe39ff5f013f039f03b7027e0171000100cf00a802ff034a03a700a8fdcffb03fc25fe920061010a007cfdcdfbd7fc9cff6801e801b102e1034904a603e502e1024f034903f102f1029202cc00a4fed0fd05fe2ffe81fe1dff49ffebfe72fecffd1ffdf1fc6ffd43fe0dff8fff88ffd4fe59fe34ff6d007a000c002a00220076ffabfe1dfef4fd45fed9fe76ff8dff94fe78fdfcfda500f7037a058a041e035a025b01340066004202dd037d02cafd61f9b0f8aefa42fc57fcc4fb64fb5cfb7dfbedfb32fd6cffe601620334032502d8010f039d04f1045104ff03e903db027d0037feb6fd7efe9cfec4fd1ffd1dfd96fd7cfec8ffb001d603f004ae042a041f044e041f0485035303ba0390032102070005fec7fce4fce8fd8bfe32fe40fd34fc79fb04fcaefe8b02390533054a03870147018f0273047c05960444021400f3feecfeeeff4b018e01f9ff6dfd8cfb57fb28fc64fcdbfbd7fb6dfc6efccffbc6fb1bfd84ffc201a202a3020c03a103850321034f03f40335042703bc002afecafcb8fc14fd10fda9fc76fc95fc99fcd0fc1afe25005e011d018000a3001001de003b00e8fffdffdbff21ff4cfe32fed8fe92ff0a006d000a010e020b034f03f702b602da022103c3020d01a5fe31fd7dfdbffe8fff5aff04ffabff0b0154027e03a9047a0544057a03ba00d6fe6efe20fea7fc1dfabcf72af78df8fef98afafefa91fb45fcf6fdc400ea03bb06d4074d06db039a02ba028703f203270390015aff44fc05fa8cfacdfc9cfe24ff73fe37fd48fcf8fb98fc46fe360055011d012000b9ff12004500c30062022e04b8048303da001cfe15fd59fec70037028b01540005007dff69fed9fe4f0164030503b80090feb9fd11feb2ff66028104e80447047c03f1028a02d0017b01a402e703d30282ff47fc55fbddfc97fef4fe38ff0e00cbff90fdf2fa9cfa93fd1e01da014400d7fea6fec6ff5f014502480350055506a004f501e300ca011c035c03c0020f02f40023ff7bfdc9fce4fc34fd48fdfffc39fcd3fa49f9d8f87afa75fd7bff3affcafdacfc5afcf9fc5bfeebff8a012403e3032903c8017b011c039005c406af05080373000fffa2fe70fe4bfe53fe34fe7ffdc9fc1bfd37fe30ff2b005d01e20142017a00cc00320229037b02fd0039005f008a001c006dff5cffd9ffe2ff30ff7bfe7efe24ff6cffd3fea6fedbff1101d400edff0b0092012b037603f802e102190302037e02ce018c01ae01fc003dffeafdeafdc6fe64ffcdfe49fd1bfce3fba3fc1afe42ff65ff2eff55ffadfffeffc3008d026e046e04450206005eff17000f018a019f0154012a005afe0afdfdfc0cfe51ffa8ffe9fefdfd82fd83fd21fe99ffcc010f0460052205d203d5020b03d403ff03f202f10007ffe6fdedfc5ffbb9f904f9abf9c9fa20fb45fb87fc4bfe44ffbfffde00ec02c20409052e0449035a028a017f01d4018e012400c0fd87fb7afa7cfa79fb33fd54fe6ffef4fe6c00aa0130020603bf043b06160669044e028c0056ff79fe90fd6dfc50fb9efa41faf2f96cfa85fc3dff12016902100453054d056704fe031405da063507470535028eff00fe4afd0dfd61fde3fd77fd01fccffaf8fa9cfc00ffdc008c0180013101c100980012010602e202bd021801fefeeffdd1fdd8fd17fe9dfeccfe78fe23fe46fe04ff1b00ee0031015201c101ca0153001dfe36fdf0fda1feeffd25fce5fa27fbd1fb16fc11fd2fff2c0102029401f300cd01d20328055c05b9041d034101e4ff8afe39fd8efc3dfcd0fb0efbd9f944f965fa83fcfcfe1a0208057a0688064406ca065208b609260ae309c5086206660324013700defffcfea1fd4ffca5faa7f88af745f863fa80fcd2fd15ffc7000f02e3028d045407ff09120bdd098407e80529051e04b702a5017f00c4fd6ff903f655f51af697f63df794f865f90af931f92cfbccfd9bffcc0014028c038f0460044003e5019f000f006d003c004efe80fb52f97cf8d1f88af97cfaebfbfbfc92fc57fb25fbeefca3ff3501d00063ff21fe7efd8afd4dfe83ff3e00bbff68fe64fd52fd33fe88ff750090006500a000400110020a030f04fd04d50556063806d5059d058c05830530050304160293007b00400147014900f6ff4001ab029f02de0147026204e6062c08ec075a0750076307260714078407e5075507a005910312027601be016d028902d201dd00e3ff32ff9dff1a0161028302d2013901f50096003c006800ed004d014c01c700e5fff4fe30fe28fe26ff1e00ccfffafd4ffb0df936f841f804f850f757f6f2f44cf317f2faf154f3baf5eaf7bcf806f813f7b3f72afad8fc77fe19ffdbfea9fd51fc0efcf2fce9fd1cfe74fd4bfc18fb1efa8ff9a2f92dfab9fad1fae6f94df8b4f7daf867fa2dfb79fb01fc05fd14fe9dfe3cffcf00c2020a047f0469045504e404cc0557069406aa0637060d05d403b00300057d06b9062f063206d5066707f6071d09db0a2c0c160c260bb40af10a220b010bc20a730aaf09f507d905f404ab057606fa05a004c20315041605f505a9069b07b1083c09c608d707a2078e0885096e09b4081d080b07b2041c02c9007d00f5ffa1fe00fdecfb4dfb24fa84f8c9f772f87ef9b2f9c2f8ccf7d1f7f7f749f7b9f667f7c6f869f98af8f0f621f66ef60df7b4f74ef850f86df7c9f5bdf330f2def11ff2e4f111f1e1ef78ee4dedf9ece7edfeef1bf239f3c7f37cf4a2f597f7fbf9bffb1dfdd4fe79005c015501a9004e00d8009001a501cb0034ffa5fd68fc47fbdbfa75fb34fcc0fc5efdd4fd3efe27ffed002c046508520b000c2f0c9c0d1810061254124d12731371143f137410e50d6b0ce00b750b880a7f09b5089e073706b705dc061309630b090dcf0d6c0e3c0f950f6a0fd40f2f115e12b111ac0e540bf009c409d10815079705a7040204f9024b0106000e00e100c4017b02c902660264014b00a4ff28ff32fef2fcaffba6f987f69ef315f2bff1d4f18cf18cf07bef2bef69efbbef35f0f3f0b1f1eef12af1c6ef18efa5ef62f052f07cef7dee29eeefee0df02ff02bef8deeadef8af12df2b6f19df124f207f378f4eff57ef675f6e9f668f86afaacfb1efc41fd19ff66ff75fda5fb6afc87ff2c02af01a5fe27fc25fc00fe2e00d0010f0320045f04ae03960393056909640d340ff00de20b240ca70ecc101911a41025117d12dd129511481061105011d0117f11e510aa10e110c1109e0f1a0ed50d350f99107c10470f220e8e0d6b0d5b0d580db70d0b0e420d720be8097509ac09c6096b09b308c607b4069e05d3048e04870426044003ff017f0010ff10fe53fd80fc86fb40fabaf864f75df634f5cef3b5f243f222f2aef1d8f044f042f033f094efe8eeecee99ef49f033f007ef7cedb0ece0ec36edc1ecc8eb8aeb0becddeb06eb15eb5dece1edeaee49efb5ef16f1f2f27df40df6d2f762f9a9fa86fbeafb5cfc14fda2fdbafd4cfd76fc5cfb44fa0afa1dfb2efce8fbe5fa9dfa95fb12fd64fe1500b402620524071008cd08300ab80cca0f43124f13ca12ac114811ee110213d2130614c6134b136f120811950f470fc910e4127113bb11140f840d2e0e2d10851161118610c30f2c0fa30e420e4a0eac0edf0e4c0ee40c2f0be9099a091f0a6c0a3e09e406420536058405fe04f9033d03d202360249018e0059004d00defff2fed3fdb9fc8ffb3bfaf2f8e6f7c8f609f5aaf258f0b8eee7ed63ed6bec0eeb56ea8aeab0ea54ea1cea9aeaaeebb7ec19edfdec11ed7cedf8ed80ee0bef43ef1fef4def3bf017f1e8f013f0caefbaf07cf2b9f3cbf399f3e6f3caf45bf6a5f7b0f7d8f74cf9ebfac3fbb2fb10fb98fb85fd66feeafd0dfeeffeb7ff030058ffc8fe00002b02f00371058b06f10648073408030a7e0ca90e1c10ea10cd102510d80f6110da116113b5134313e9125f128c11ad102d1023110e137413ec1140107a0fdb0f0211db115612e512f41239121f110110c60fe510e3113d114f0f5b0d2b0c780b980aa809d8089807c9050004c1024602120258015700d1ff78ffc8fe29fe28fea2fef2fe66fe1cfd12fcb1fb8cfb60fbf5fad0f9fcf71ef6bdf4daf3ddf23bf16cef10eeddec5aebb5e953e87ee723e7ebe6cee6e3e6fde624e7bae7e8e861eaa0eb86ec6fed73ee5bef44f044f109f260f2b0f27ef35ef470f40af465f4c8f546f7acf7abf6b5f561f63ff8b1f9a3f9b9f804f908fb8afceffb53facef9a8fbe0fe9500a1ff38fef3fe9c01ef0308059806aa09c10c120e860ddd0c400ea611ae146915f31304126911ce11bc117b11f3118e1238128910510e8c0de10ed41076126813e412b3115e11ae116f12fd131515a314a213a0124e111010620f6e0fdc0f090f4c0cd80970090c0a0a0abe08cf06c805fe05f1059e04a802660188011b028c01deff99feabfe34ffa4fe20fd6efc3dfd5ffe5bfebffccdfa54fa35fb9afb68fa10f8cff562f435f39ff1e8ef3dee7fecc9eafae829e74de6aee63be71ee778e61be6c9e624e872e9fdeadbec11ee20ee0fee36ef5ef1e1f237f36af3e1f32ff42ef40bf46ef4def573f71bf82ff857f8b6f879f9aafa06fc23fd8ffd55fd05fde3fcc3fc88fca4fca5fde1fedffe9bfd9efc04fdb7feca00430231035b040806bd07f508290a6f0c760f97117a1242135f145f15cd15af15f31539170d18c9166b14ec1277123712e51168118f10810f990ef90dd50d5f0e180f460ff90ea70e6f0e6b0eba0e0c0f1b0fd20ef10da90cc70b980bb00b680b1a0a1808bd065d06d905b604a5033a0320034d028d0058ff98ff2600f7ff68ffebfe96fe73fe18fe39fd5dfcedfb7ffb79fae7f89cf701f707f6f2f3e0f1eef0aaf010f0a8eed1ec3deb26ea5de9aae800e8bee7e9e7b4e7dde62ae667e6c5e763e92dea98ea5cebd7ebffebefece9ee28f1bcf21bf321f3e9f3fbf4e1f534f709f9b3faacfbedfb20fcbcfc43fd87fd11fef9fe82ffe5fe7afd87fc5bfc4cfc5dfccffc75fde6fd97fdf6fc79fd04ff71001c0268045a066e071d081c09160bd90d7310561232131d13341321143615bb15b41592159e157c159d14371344126212c2122812f1105c1069104d10fc0ff50f55107a10cc0fec0efd0eaa0f580fc40d940ca30cb20c8f0bc709a30894088b0850077905a304ea04ec04e703bb02ac027b03bc03ed02d00125011d0156013101800082ff6cfe60fd5ffc70fbb9fa4dfae3f9caf8d5f624f5b6f4dcf478f47bf35ff26df1a3f0ceefe5ee09ee5fedf5ec61ec2aebdfe978e9bce9b5e93be908e95ae99be99ae9b2e9ffe98aea3bebc6eb7beccfed1feff6effcf07af209f462f58df61df859fa05fc51fc9cfc37fe7000a4010501efff6700de010402670086fedcfd80fe7afe71fc7cfae0fa8dfc6cfd03fd3afc98fcd5fedc0127045e058206c208cf0b670e44100c1237147f16ca17b817aa177f186b198f198218af16b615d8150e15b612a210e20fc80f650f3f0ec30c180c9f0c450dec0c2a0c560c4e0de50db90d160d830c8d0cc30c3c0c330b5d0ac509340967081b07b705f704ca0463044f032f02d101ef01dc0187012101d600ba0088000f0086ff06ff7bfeeefd52fd83fc8afb86faa8f9f2f8fff7aaf683f5ddf435f41ff3d2f1b8f015f0bdef16ef0fee54edfbec5fec78ebe0ead0eaebeaadea11eabae906ea7feaaeeab9eaf4ea7beb28eca4ecdfec3eed19ee46ef76f086f16df26af3edf4d1f68ef81efa92fbd2fc66fe8d001c025c0244028b020503880371033302bf0016008eff5dfeeafceffbe2fb83fc9ffccdfb6dfb89fc87fe82003f02f2030d0668084c0a110c9a0e7911ea13dd15e716db16d51670170a18581831183d17ff15d114211340112f10b80f340f890e970d790cb50b740b8f0bdb0b1f0c770c190d850d0b0dec0b220b410bec0b440ca80b240a7f085c077a069905fb048d04fe0339031d02ed006e009f00f5006801d601b7012501a7007d00c10033011001290037ff91feb7fd70fc41fb75fadcf930f903f84bf6eef44af4aef3f6f247f248f16ef049f0f4efe2eecded1fedf8ec5ded78ede6ec39ec80ebd4eacfea28eb3eeb2bebffeaceea06eb87ebe5eb58ec3eed54ee43ef5df0e8f146f329f46af562f79df9d4fb7cfd59fe96ffb40198038d047b04ce0308042a05e904ef022c012c0069ffa4fe5ffdd5fb17fb2cfb81fbadfb26fb9efae8fbf8febc010703c2039c05d708e30b9d0da70e9010ed13e9166717511622167917fc18fa183b1798153d15fc14b213a2119b0f8e0e980e950eba0d470cee0a850af60a2c0bfa0a180b890bc20b560b570ab709180acd0af30a440aec08a7071707fc06ca0636065705af048d048704ee03af02d5012602b9029002f20135019b0093008800e5ff62ff40ffeffe81fed9fd8efc34fb55faa8f936f9c6f884f7a6f532f479f339f3ddf201f220f1acf04df0e5ef7defe0ee61ee76eed2eee6ee58ee56edc1eccceccaec95ec34ec96eb52eb6feb12eb9eeaf0ea8feb0aec9fec41ed21ee71ef99f0b7f19ff3e3f595f7fdf8befac9fcc9fea4005402b703d804a0058605e404ff047305ba040c039c01c4003400f1feb6fc67fb20fcfbfc5afc15fbd9fa78fcf8feb200d101a0032a06a808b20a920c280f6612b714b215af16ec178a18b218fc182219d51802187b16b71484137012b110000f450edf0dce0c260bbe094409ba09590a5c0a1b0a490aa10a770a1d0a350a9a0ae70ad70a430a6e09c4084a08d20729076006e4059005d404f70377030903910247020002cd01c10131012700cdff2500180062ff70febdfd95fd6dfd7ffc26fb39fadff9aaf9ebf8a1f7a7f61df668f59df4f7f350f3e3f28ff2a8f190f00ef0ccef68eff1ee64ee07eed5ed4bedb0ec63ec0fecf9eb45ec19ecc1eb08ec46ec50ecb8ec11ed76ed73ee29ef6def53f06af1f7f1b1f2dff32ff593f6c8f702f994facffbc0fc66fe5b00dd010e0395037203be039a042905e404cd031603a303b803e601d1ff2bffc9ff9c005600ebfe34fe25ff8d0041019d01ed02a4058f08550a120b050c410e4c11ad13de1473150716db16731731177b160116ca159c15c214b4127810380fa10e220e720d3c0c0b0b970a530ab40945095b09bf09350a3e0aa6092709380962096209640925096308a3073907b106ed0539056f0496032b03e30222023e01a3005c008800a4000c0080ffacffc4ff60ff03ffb9fe66fe31fee5fd48fda7fc27fc95fbbcfa8ef968f89df7edf608f6fdf4edf310f37cf2d7f1eff024f0b1ef7cef7bef60efc5ee04eed3ed3beea1ee85ee1deef1ed18ee2dee09eed7edc4edf8ed5bee7eee3cee12ee49eec1ee6bef03f051f0eaf034f276f34df456f5dbf68df835fab7fb0efd6afee3ff5c0193026703e50320047e042b0539054e04aa039c0335038b02c2017e00bfff310061009bffd1feaafe96ff53016702dc022e0433062108090aae0b460d990f1712bc138d14d4145515b816ee17fd175a177c16c415501533146b1233118c10ca0fd80e5f0da30bc80ab60a6e0aef098e09740992095b09bb086e089608bc08d308d50896080c084a07ac067e0673062706a005060581040f047503c40266027a029e022e023e01b500b80086001400c1ff6cff23ffe5fe3dfe58fdc8fc64fcd3fb0cfb0ffa26f992f8f1f7fff608f650f5d8f463f49ff393f2a7f12af1f2f096f00ff09bef3def0aef1cef0aefafee8ceeb2eea2ee5fee44ee4dee50ee4eee39ee01eef4ed42ee88ee8dee8dee9ceeccee65ef25f09af017f1f5f1edf2f2f348f5c4f621f87af9cefa00fc77fd6fff2701f50167021a03ef03bb043e052105a9044704f603b9037303b902ec01c501c8014701a6006e00dc00eb01cb021003c503a105be0738093e0a860ba90d3d100612d512be1323156516251764175e179117d3173717ba156b14a013e3120e121511b80f160eb40cd60b520bd20a1e0a450981080008b807880776078a079407750749072e072a07280722070e07ba063506e105c50589052805b8042a04c0039f035c03a602cd0140010a01c00010004effd1fe61fec6fd4afde2fc27fc3bfb7ffabcf9caf805f862f79df6e0f52cf54df48cf321f3c6f248f2a0f1fdf0d6f0eef097f01ff01ff037f018f0e7ef8fef44ef6cef7cefefee74ee5bee32ee0fee0beeb2ed40ed53ed8ced71ed50ed49ed4fedbded7fee1aefb4ef7df038f11cf293f332f593f608f87ef9affa29fc21fec5ffee001c0208039e036a04350582058f057e054e053c05f4043b04e40323042004c3035b03e102e902d403b90402054605f1050f07a308460a810b870cc10d460fed1061126a13571469154216a916e31616173e174117bf16b915e1147114ed131613f511a6109a0ffc0e3f0e300d340c6c0bb00af30934098508fb0780070b07a1061f068c052905f704c2047b04120492033a030f03d70294026a0248020f02bb015901f900ae0089005500ebff82ff28ff9cfe01fe98fd2cfd96fcfefb53fb84fab8f9fdf84ff8a1f7e5f63df6a2f5cdf401f495f329f38cf20ef29df12af1e9f0a4f03df00ff00bf0ecefd9efcfefa2ef6eef3beffbeee0eed9eea7ee64ee12eeaaed8fedb8ed88ed38ed81ede0eda1ed67edc7ed63ee21eff3ef60f0e2f032f286f364f4b3f570f7d8f83efadefb52fdddfe9800c30171026c039e048e0527064a0636068a0612071207ac066f06690670064b06cf055f058205f20521060406fd058306b4070e09f409750a340b880c130e650f6810391125125d135814a314db147e151616511635169b15bc1440142514d31319131112e810fe0f6c0fc90eef0d100d250c2f0b6b0ac209ea081d08a4073c07a306e1051d05940454040e049603190397022a021202fa017101f200f200ec0085001200bfff7aff47ff04ff9ffe47fe04fea1fd19fd9afc28fcb0fb3efbcdfa21fa4ff9aff818f854f7bbf658f6b7f5ebf44cf4b0f310f3b5f285f236f2c2f139f1caf0abf0a7f089f06ef03ff0e8efc3efdfefe5efc9efa8ef77ef6defa4efa4ef4eef30ef4aef30ef0def1def2aef30ef51ef7aefb7ef19f094f042f110f2bbf280f39af4bdf5e5f645f8a8f9fdfa69fcc1fdf2fe12001d0128022903db0346049704df045605d805f705e30501062d0645063806fc05040693061b0759079b07f4079308b609d40a770b110cf20ced0de40eae0f581040113c12d3122a137d13bd13221494149a145014f2135e13ee12d81272129611d5102c10770fe70e410e630dc00c4c0c7b0b890af5098309da083b08d4076407d1064806cb055e051205a9040204740332030903c6024c0296010601d2009c003100c5ff5cffdcfe60feebfd64fde5fc8bfc2dfca4fb0ffb89faf6f966f907f9aff818f87af710f79df60ef696f52af5acf438f4d5f37bf32ff3e8f287f226f2f2f1d7f1a6f17af168f14bf12bf125f120f12cf15cf165f147f158f175f167f16ff1acf1def1edf1edf1f2f10af238f261f265f275f2def246f34ff377f3faf36ef4f3f4aff52cf6bdf6dff7cbf858f961fa9bfb7efc73fd48fecdfeb6ffc6004101ab015102c6024d0300044b046504d5046505db05260643068b062107a107f90740087b0809090a0aeb0a670bc50b470c180df90d7f0ee90ea00f5010a110ca1000113f117d11a31192114a110811e910b21059100c10a90f320fee0ea30e190ec10d940d010d550c080cb90b3a0bd90a720ade0966091309b0084708e3076e07f606950626069f0541051005a904f8035803e4026602dd016601d000090061ffeffe6dfed7fd4dfdb9fc31fccdfb45fb98fa2cfaecf986f918f9b5f83cf8d3f788f727f7caf687f620f6a3f54ff5f7f483f424f4daf382f330f3eff2a0f250f230f225f2eef1adf1a0f1a1f194f188f16bf146f158f186f18ff196f1acf1aff1bdf1e3f1f1f1fcf11ef236f24cf26ef278f27cf2a7f2eaf229f36bf3abf300f48ef428f5b1f555f617f7e1f7c0f88af925fad5fa9efb57fc12fdb2fd1afea5fe60fff2ff6600d2002d01ce01a102fa020d0380031604aa0477052606840621071508fa08b809590a000be90be50ca30d390ed40e8e0f5c10e81024117f1100125e1293129e12801268125b123f121a12e0118d1150112811e8108a102610d30f8c0f360fe10e990e410eeb0db00d5d0df00c990c460ced0b9c0b2a0b9e0a280aa8091809a9082e087a07c6061a066105b50401042d037202c501eb00140066ffb3fe05fe77fdebfc46fc9cfb04fb96fa3ffac8f946f9e6f878f8e4f773f729f7b9f635f6c7f558f5ecf48cf40cf491f347f3eaf26cf20ef2c1f169f133f1f7f097f06bf066f037f013f01ff00bf0f3ef0ef022f01ff03bf05df05ef06af096f0b6f0c3f0e2f010f132f13ef14ef16bf193f1caf10cf253f2a1f203f37ff315f4b8f464f51bf6d9f6b3f7a8f884f945fa1cfbf2fbabfc65fd15fe9ffe37ffe7ff7400e6006a01e8015b02ed028c03ee033004b6047805170697063807fd07cd088d09340af70aca0b680c0e0dea0d8e0e010fad0f4c109410e41044118911d9111f1228121712ec11b611c611e2119d114b112911f610c110a31065101910f00fbf0f710f2f0ff00ea80e760e330e9e0d0a0dc80c700cce0b420bbd0af9094709c20815085f07d3061d063e058a04df0319036b02c601fc00360097fff5fe40fea4fd39fdc8fc21fc77fbfefaa1fa45facbf924f995f840f8e6f77ff71bf792f60bf6b2f540f5adf441f4e5f371f3f9f277f2f9f1acf16ff11cf1c7f07bf035f003f0e1efc5efb3efa5ef95ef97efbfefefefffef1af05af07ff096f0dff028f14ff182f1b9f1ddf114f24cf260f291f2ebf21ff33bf382f3d9f336f4bcf443f5a7f52ff6f2f6a6f750f81bf9d8f968fa0dfbcdfb67fcf5fc99fd26fe9cfe37ffd4ff4300bf005f01f3017d02150398031904d7049a052306b90675071408b10871090b0a8c0a590b3c0cd70c5d0df80d870e140fa80f14106010be101e11521170119b11b511a911a611be11bf11a01188117c1164113711f910c510b6109b104610e10fa80f7e0f2a0fb30e3e0ecc0d5a0df80c8c0cf10b520be00a670ab109f8086d08f3076e07d30609063d05ae0426047603c00207025101cd005500a1ffe6fe5cfee0fd5ffdd1fc2bfc9cfb30fba5fa06fa8ef913f976f8f1f78cf70df786f612f69df523f5c2f465f4eef37df332f3eef297f248f21bf2f4f1c0f18df15ef135f116f1f3f0c2f0a3f0a4f0a9f096f081f088f095f09cf0b7f0cef0caf0eff03bf155f15df1a2f1e5f101f22df261f292f2ecf242f369f3a5f312f483f402f5a9f54af6d1f67bf75bf823f9bef973fa38fbd5fb6cfc0dfd94fd27fed8fe78ff05008400f30091014802c9023b03c6034704e504ac054e06db0691074d08ed088e09370adc0a7b0b220ccc0c640dfb0da40e450fd20f3b106f10be104e11b011cd11fe11241223124612661238120812111225121f12e6118711581150111a11b2104410ec0fa60f4b0fc70e2f0e970d270dd80c4c0c830be70a640ac2092b099b08f0074d07b60619068505db0417047c03ef0231027601db0032008dfffbfe64fec8fd30fd9afc05fc68fbe3fa7afae7f943f9d5f858f8b6f74ff7edf651f6d6f57cf5f6f474f411f4a9f357f304f384f222f2f1f1aff16cf12cf1d8f0a0f082f046f018f00ef0f5efe7efeeefc5ef98efc1ef0af023f024f02bf04bf08bf0c4f0ebf01ef15af18ef1bff1edf117f242f27bf2d0f219f335f36bf3f6f392f4fdf466f500f6b5f663f710f8d1f8a7f96efa0dfbacfb67fc0afd91fd3dfeecfe61ffd8ff7800060181011702ab023603c4034704d60487053606da067d071a08d008a509660a0d0bb50b4e0cf20cbb0d6f0eef0e650fda0f4610ba1029117f11c411041237124712451263128e128b127912751256122c1220120912d1119e1161110511b7108b104b10e00f740f0a0f840e080eb10d360d890cfe0b8b0be70a2c0a980920099808ec0729076d06c8053705ab04020431035e02b40126018400caff1fff86feedfd49fd99fc0ffca9fb20fb80fafff976f9e6f880f812f880f7fff678f6e2f57ff529f59bf412f4a3f328f3b3f249f2e0f18cf137f1caf073f025f0c9efa3efb1ef85ef33ef1fef30ef31ef31ef3cef41ef55ef90efc5efc8efd6ef1ef066f095f0c7f0f5f01ff15cf19af1d0f1fcf10ff24df2c3f2fcf218f3a3f34af4aaf426f5caf55bf616f7eaf78ff847f91ffaaafa17fbd4fb8bfcf9fc87fd3efeb1fe26ff0d00cd001601bd01c40242038e035f042105970561062c0785072b084009f109670a260bd80b710c400d040e910e360fd90f4e10be102c118311e5113f12591253126d129512aa12b812cf12d012aa129712af12ae12821265124b120112a4115b112011e810a5103d10af0f230fc00e770e030e580db00c110c630bc90a410aa9090b0961089007cc0633068005ba04140458037302a601f7005f00ecff4cff5dfe97fd18fd7efcd2fb58fbcefafdf94cf9eaf872f8b4f719f7caf651f693f5faf48ef412f4a6f34df3c0f220f2aff159f112f1c7f054f0e7efafef7aef37ef04efe4eed6eecceea9ee89ee83ee8feeb5eee4eef1eefbee23ef47ef7befceef04f018f043f075f0a1f0e3f022f156f1a6f1eaf10cf25af2cbf22ff3a8f333f4adf439f5e7f59df660f734f8fcf8a2f92afabffa79fb28fcbafc54fdf5fd91fe24ffb1ff5400f7008101430220038903dd03c304b9053406a50654070f08d208ab09750a130ba30b610c420d060eac0e560f01109e1016115e11bd115512c612eb1217134b1363139413d713e213d513ee1309140114f013df13b51377134e132713c9125c122c12f6116d11d7106710e30f5a0ffd0e830eb90df70c720ce70b310b7f0aec094e098908c7070d073d068605f104230435037f02c501e50029007affa1fedbfd38fd8dfce4fb45fb95faf0f95cf9baf81ff897f700f761f6daf54af59bf4f5f36df3edf272f2faf179f1fef09ff045f0e9ef98ef43efe5eeb1eea5ee7cee3aee1dee1beefdeddfedecedfaedf8ed1bee57ee69ee66ee82eebaeefdee36ef47ef5fefafefffef22f045f087f0d8f02bf177f1c9f13df2c0f233f3b1f34cf4eaf493f55ef630f7f5f7c4f879f9fbf9a2fa7bfb0dfc6afc11fdccfd53fefdfeb0ff2200c800b6015c02e902c4038c043a051e06df0654070e081309f009920a270bcc0b9d0c7e0d300ebf0e5d0f0e10b0103a11b51126129a1213136c139e13c913fa1336147514891481148a148c148014921489143414f313e213b81374131f13bb127e124712c4112911b5103b10b10f280f840ecd0d240d7d0cd50b320b840acf09170952088c07ce0601062e056e04aa03d5020f02450166009ffff2fe36fe74fdadfcd8fb3bfbd0fa29fa62f9d7f854f8aff716f783f6e7f563f5e1f43ff49df312f395f227f2b7f12ef1a4f039f0f2efb3ef60effceea0ee58ee2bee0feedaed90ed74ed7ced75ed60ed54ed5ced8feddaedf1eddcededed3cee86eeb3eeddee08ef38ef80efd2ef08f026f061f0d3f04df198f1dff173f241f3f6f37bf409f5cbf5b0f687f746f8f8f89bf939fad6fa6dfb00fc98fc41fd06fecffe76ff0f00c000880156021503a8033304f904d0057c062107da0796087709700a100b800b510c470df00d910e4e0fe50f77103211d1113712ab123a13a913eb1331148e14cd14e91407151315151525151415e414ca14a51469143a140414bb1378132813d11286120e127411ff10991016107a0fc20e140e8f0dfc0c3a0c7f0beb0a5a0aa909e3081608340752069e05db04d703e002180254019300c4ffd3fe14fe95fdf2fc25fc6afbb7fa0cfa74f9c8f80bf869f7d1f626f67df5d4f425f48bf300f367f2cff142f1b8f03bf0d6ef7cef2cefe5ee9bee53ee21ee06eedaed93ed6eed86ed90ed5bed2aed3aed5eed60ed60ed79ed8ded9cedccedf9ed11ee40ee8aeebdeee0ee19ef5eef93efd8ef46f0a7f0faf082f127f2b1f25df33af4f2f49df58df68ef754f8fdf8aef966fa26fbdbfb64fce0fc92fd59fef2fe7aff1500bf008c016d020a037b033404360534060107a10743081609010ae20a8e0bf80b8f0c9b0d970e1b0f950f4f10fe10921124128112d1127a13241457146e14ab14cd14f4144d156e153315031505150c150715e1148f14481425140114b7134813d9127b1219129611fb105c10d60f600fc60e020e3c0d900cff0b6d0baf0adf0916093e086907a406c305c504e0031303460271018b00a3ffe4fe51fea7fdc1fcf3fb71fbe8fa27fa6ef9cdf822f889f712f77af6b8f513f597f402f443f3a2f227f299f111f1a4f021f098ef50ef18efaeee3deef8edd5edc2ed9bed5aed39ed48ed45ed2fed36ed56ed6fed7ced91edbaeddfedf4ed1bee4eee76eeadeef4ee26ef63efc2ef03f01ff06bf0f0f06ef1e1f168f2fff29df361f44cf51cf6cbf6a8f798f843f9cef981fa30fbabfb2afcd7fc85fd13feb9fe7aff04007e005e015502ec0273032f04ec04b1058d064e070108e208dc09ab0a470bf30bd60caf0d5a0ef20e8a0f45102411b511f71177123113b51303143f146514ad1425156a1550153a1566157e1548151315f414ad14741469141d1494134d132513ca125e12d51116118c105510e50f110f3e0ea60d300da10cdb0bf50a230a980929094d0819074606d80530052b04130326027101c100e2ffe9fe0dfe73fdecfc20fc3bfb91fafbf94ff9b1f80df84df7a6f61df681f5d8f439f4a0f3fdf255f2d0f16cf1e6f055f0f8ef9aef2feff0eeb6ee5dee25ee0feeebedc2ed95ed76ed80ed88ed86eda3edb9edb2edb0edadedc4ed07ee2aee37ee7feecaeeeeee12ef3fef8defffef2ef03bf096f012f17ff1f4f160f2eef2c7f382f413f5e3f5cff69df76bf81cf9a1f945fa02fb8dfbe8fb69fc3bfd06fe93fe42ff2000cb0075015a022003d603d104bc05640635073408f70895096c0a610b120ca30c780d570eeb0e840f3e10dd108c113c129012e712aa1355149914c514f8142f157f15cc15f415f115c315a415bf15bf157b153a151615e014961446140b14e8139c13f5124512cf116311ed107b10d30fd90e070ea20d230d1d0c110b6d0ac109c708ec073a0760069105df04dd03b802f60153015d005cffa6fe1efe65fd61fc76fbdcfa41fa75f9bbf815f854f798f60cf685f5d2f402f461f311f3b6f2eff1fdf040f0b4ef5aef09ef5aee99ed5eed40edc1ec52ec2dec12ec02ecf8ebc3eb88eb86eba4ebafeb97eb74eb60eb63eb7deb99eb9aebb2eb0dec75ecc2ec09ed57edb3ed0aee50eeb3ee35ef9bef0af0b3f05df101f2d0f2aaf385f494f5bcf6c7f7dcf82ffa82fb67fcfefcd9fde7fe9bff1500bd0094018a026603d80356045d058d06b507d10856098e098b0aec0bb00c250dcf0db30ee20ff11078112a125b135714e4144615c11597166317b21709186f1867188d183e199a1976198319d4190f1ad3193519f91807199718f3178a17fc167a163f16a315871467135c129111ee10c70f570e670db40cf10b2a0b030aa708e0077f07d906bf053204cd024902dc018500d3fe95fdbffcfefbecfa8cf98bf8f9f72df71cf634f570f48df3a1f2d9f112f12ff085ef36ef98ee78edc3ecb2ec32ec27eb9eea7feaffe978e951e90ae988e83ee83fe868e88ce877e843e80fe816e88ee8e6e897e851e8a1e808e935e944e948e991e946ea06ebaaeb3fecbdec99edf4eee9ef10f03ff050f13ff30df51bf65df779f969fbc6fc3efeccff650157030e053c06ac079209380b0b0cfa0bc30b420c2a0db70dd70de50dee0db50d570d540db40d600e6f0ff90f4d0fa40eda0e3c0fc40f9810fa103d112e12ef12e512f81277132a142915df15c615b3153f16c716be1675168716fc1661176417c716731559142214cc13cf12f2111e11c70f6c0e530d110cd70af409e00839079805760470034c02630199007aff52fe8afdbdfcc9fb3dfb01fb5ffa8af93bf93bf9fcf8c3f8e0f8caf831f8cdf71af863f813f895f728f7b2f674f64ef6b0f5fcf4daf4abf4c9f3f8f2e1f2e3f267f2e7f1d5f1b7f134f1b2f057f0f9efd4efd9ef80efe3ee62eef1edd5ed46ee87ee42ee57eefeee53ef1ceff7ee32efb8ef68f0e9f0d5f077f09ef04ef18ef138f167f159f206f3f2f290f276f229f394f4dcf5d7f63df8fbf946fb30fc64fd16fff100a50218042105b1057206a207090836078e069f06ac06ac0678067a05710441046c04c1045e05d1057f06c8077a082a084908b409ec0ba80d140e470e4e0f69105b11b312cb136814621549164b1650160917ac17d117e517e41790176f17d417a817201655146a131313e8127012e210cc0ea60d370d6e0c940b0e0b3e0aed08a8079b06d005a205bd052705e303d8024b021602000268015200a9ff78ff24ffc3fe74fef4fd6cfd0afd9dfc1dfcb7fb97fb6efb5ffa93f86af72cf7e3f63ef67af598f4b2f310f3d0f2d5f2f5f2e7f254f276f1edf092f018f0f6efc8ef89eeffec5aec1aeca2eb04eb3ceabae9fbe9a8ea57eb9beb17ebe3ea11ec7eedf6edf3edfded1fee3eee02eef6edf0ee09f026f0d4efa6efbbef8ef007f26bf3a2f4c2f5a4f67af78df8f2f97cfb91fc56fde5fe1301b302ef034005c7053905f904d605280720083308ee06c5040303ad0209048e06ec08ca09af08bc066906f008950c2c0f7310e310b5107910ff10b512fe148116fb1626170217b61626170c185c181e18e21738181119cf18d216e614dd131c13fb1239137a12e210630f0f0ef40c550c800c8e0d050e7c0c1e0a910807086708f8086f08cd06fe046e03760213027d0167004fff92fe23feb1fd0bfd56fccefb90fb5cfbfcfaeafa5afb58fb6cfa35f9f5f7eef6eff6a4f79df790f656f56ef4eef3dff320f452f420f475f341f2c8f0d5ef75efd3eecdedb3ec6aeb36ea80e910e9eae821e955e9c8e9b3ea29eb25ebd4eb04edacede8ed3aeea3eeebee10ef3aef36eff3ee37ef1cf09cf0bbf032f1c0f155f282f304f575f621f8eff946fb03fcaffceefd81ffa600c3018203f9041e05c0041305e0057206b9068f06b205f8043b059a054605d304d904d105e5079d090d0a830a670b090c660dc20f3f11eb111e130214eb1330143d157116a8173f18d31779178b177f17fc17fb18e218f3174017bd158d13df12081329125c11d210c60ebd0cfe0c8b0db70c080cac0bad0af409df0939091308310727069e045603e402d0023e02ed005dff4bfe41fed0feeafe95fe43fe52fdf1fbacfb71fc9cfcccfb94fa24f9eaf773f75df7eef664f648f6fcf5f7f462f4e6f418f540f443f37ef2f7f1aff1dbf075efa2ee33ee65edd6ecc4ec7aec0cecbbeb60eb4aebc6eb6eecd4ece3ecffec71edcaede6ed6dee5befeeefdfef6def47efe8ef96f09ff09cf0e5f0d0f03ff0faef86f0c4f15cf3dcf4eef5d7f65cf8c9fa7bfd8cffc700fa0129041f0789092f0aab0878066b06c3084c0a0e094a063304fa038e040404700305058807ff087209a6084e078608c10c7a10c911b6118b111b1226139313a6137414c915b516a71692154114c5130c142b142d14c61432152f14ac12fc1161119c10c5109f11d611c510870e670ca90b740bf60ae70aed0aff09bf08d807da061e064d06b7065e064405fe03d8029101eeff2bfeb6fc0bfc56fcbafc25fcf8fa39fa04fa4afa4efb68fcddfc1afdd2fc15fb1cf9a1f815f99bf9d7f9a4f84ef6e6f47bf4b0f3dff2b3f289f203f242f115f08aee1bed10ec96ebbceb19ec1aec9beb0eebe2ea14eb96eba7ec00eee4ee3bef5bef60ef8deff1ef04f0e2ef37f0b2f099f02af0f8ef1bf0a1f07af111f21bf23ff2fdf22cf4d7f5b3f7edf821fa6cfc0cff2501dc02cb039204f206e709fe0a1f0a32085406f2055106fd058205c3041c031902890282032f051d07fe07bd08110ad30a9a0b460d820e7b0f4d114512d611be12d814191501140b141b158e161f18db1782154014a9147e1465144015de140313ce11ea10ac0f730fec0f7a0f7b0e670de90b140ba50b190c680b120a43084f064c052c05bd04a5036e025a016100b3ff98ffa1fff2fedefd5cfd61fda5fd01fe9ffd5bfc65fb29fb5cfbfffb49fc6cfb47fa83f9c9f8a9f879f9f2f996f927f977f849f78ff687f63cf684f5c1f4abf342f239f186f08bef91ee4eee95eebeee55ee4ded78ecb6ec74edbcedc7edd9edb4edb3ed04ee23ee85eed6efeff0d0f07af009f167f2a3f3adf312f35ff329f402f476f3a3f377f4eff598f702f8e8f7c9f903fd29ff9c001202c402e403c6060709890867060204cd021404b9054a049e00a2fe2e00790344054004830241031507010bb50b8609f607b309ab0d7d10b310f40ff40f0411b812eb130214fe1383144115321691165a15f213331436151f15eb13e212b7128e125211420f830d0f0dd60d620e780d580bec0868079d07b20828096b08b006c1046103a902de02ef039104e90389022a01240055ff9cfe93fefefe9ffebffd25fd11fcdafa22fb52fcbafc45fc69fb84fae0f9f4f8e4f725f84cf962f976f8c4f764f729f7c3f6a3f589f488f4bdf4d9f30cf223f0eaeeadeea9ee57ee3eee5aeed0ed94ececeba7ecbded2ceea5ee70efc5efe7ef92f06df162f290f330f40ff406f45cf4cdf424f5ecf433f4f9f38cf4eaf4c5f417f503f698f61ef774f81dfa85fbf3fc6dfe23005702660413068807a6072c060005f1043e055a0531047301aaffbf00e802c8038803f7033206f108cd09c708c9089b0b3a0fa710b60f490ec10d7d0ed20f5a101d106310e4108910ed0ffa0f67102d118612bd132814b0135612bb10e60fde0f211078106510680fc80df40b530abe099b0a080ca80cb10b81098907fb069b073008d1078506d20412035f01faff13ffa2fe94feaafe4afe6bfdf5fc47fdd3fd5bfe95fee9fdedfcbefcedfc82fc74fb29fa86f940fa34fbc7fa56f958f888f869f969f98bf7eef467f339f30df3dbf127f0fdeeabeeb5ee73ee34ee0aef6af0b7f033f0f0efdbeff4ef43f01df0ccefd8ef76efb5ee81ee30ee99ed59ee2bf05af12af22ff394f3b8f302f5c3f65cf731f78ff742f837f84af79bf67ef7e4f93dfc8efd5ffe4fffce006c035d06d407b6074107d2064c06d005e9045d0339022a02410287016b002400aa01c50490076e084b08ae086e09be0a6e0df40f6d1021104410ce0ffe0e160faa0f84101212e212c31162106510b411c2134215cc14f112ed10ff0eeb0dcb0e5010d70f0d0d0f0a31080f07ca0623084c0a570bab0a1d09b6071d077d078e083309fd076905430381019cffbffe00ffa8fed0fdc9fd1efe03fecbfd9dfd80fd09fe2affc0ffd7fea7fc9efa1afa92fa5afa65f93ff92ffae0faa3facdf9c0f83af8bcf802f9b7f76cf52bf36df195f03af0a2efdfee11ee96ed44ee73efc3efb1ef11f0c5f0c3f14cf2b4f124f130f1f4f080f000f05cefb2effef0bcf12ef2ddf24cf34bf41af602f7f5f6dbf61df64af5ccf5abf68bf64df635f718f9ebfa52fc3afe4e01d7041b07dd0692057805e00587058c05fd05e80458024600d0ffa600b701b6029404f506b507bd06fa06170aeb0d760f760ef80cdf0cd40d0f0e080e5e0f6d104b0fe70d010e350fa911431490147713511351137212ac11271182107110cd103510690e3a0c780a240a4f0b2f0ca00b7d0aa8094d094409df0803087e07300719060904c1017900a8000d01e300d300890016ff83fdbcfdc6ff93010e01abfef4fc62fd9ffe20fecffb9efa9afb04fc29faacf7c0f6eff795f96df962f71df50bf4d0f437f6eff5a4f31ef10df0a2f0edf005ef5becd7ebaded74ef5aef3aee2ceea7ef91f1c3f291f2dcf114f286f20df24df1a8f008f036f0e5f0fcf00af1b4f1b0f227f4c7f5c0f66af705f89cf837fa6efc73fdb3fd70fe72ff9e00b7014a02780393056c064c05de0343034603ba022001340010016302d602c9010c007600be034b07c209d90af109cf08b709f90b720e7810ef105f10ff0f6a0fd60e2e0f0110061136121a12e30f540de50c050f1311b510360f920ea00ebd0e750ee50d440e110f2e0e360ce80a9809fb079407940893096609c807f305ad05d20668074c0681048d035203b6027a013f00baffe2ff89ff54fea5fdfafd75fee6fefafef1fdccfc11fdf6fde6fdb5fc33fb67fa71fafef98af89af70af89af80ff8a0f637f5b2f42ff550f5daf3ccf193f0abef73eecdedfaeddfed3fedf1ec6fed9aeedeefa0f03df142f2e4f280f213f22ff233f200f2c2f123f198f0c6f00bf11cf1ebf1a3f384f5fdf68cf7caf70ff9a4fa1dfbadfb6efde2fe5dffeaffd40061029404700566040804a104d80349023a0230039103bc02980085fe06ff5602c4051f079606640528056d07270b480d750d880d870d2e0d640dec0dbf0ee1109e12d4118610c810bf11ca12271332121212a813f7131d12f70fb70de60b100c230d8a0d250df00a5407c40531071d096f0afb0aee09ce07ea05b704b204d0055b061705d502ef001d005500c0008300fcff2200b800ce007200f9ff0aff01feaefdc3fdc1fd8cfd79fc8cfa05f94ef838f8edf8c1f9c2f9ecf873f73ef6bcf647f8b4f832f79ff4c1f29bf2e0f218f283f0d5eefaed7ceeebee39ee9bede1ed85eee0eea1eeb6eef7eff2f0eaf02cf17cf10cf14df1f8f298f41af552f425f35ff303f57ff65df7c8f7fff7e2f857fab8fb9afdc2ffaa00ca0005027c046506c7050d035b01690234042f043d0241003bff29fe17fda7fdbeff62028305d4072b080d08ab08230a2e0d1f10ea0f120eff0df70ed90eee0da30dc40e8510251179102c1039116b121312ee104111d7125f13ff11f20fd80eca0e360ec00cd50bb00b970b7b0bc70af8083d07ae064d07d908400a0b0a6f08fa069c06fa06fc06e6052c04c5029b017fffa6fc62fb52fc5efda5fdd4fda6fd24fd54fd23fec3fedffef7fd60fcc5fb5cfc4afc5ffa8ff75af6c3f70df9b6f76ef592f4bbf4b9f42bf47af372f3b1f3d6f210f1f2ef04f046f082efe2eda3ec1fecf0eb1deca1ec2aedbded48eecbeebbef06f11af214f32cf409f559f5fcf43df405f4e2f456f67af7a8f70ff7ecf636f890fa29fdc3ff39020004d8042f0556055305ff040804f602c202390284ff4bfcb2fb8cfd40ff9affdeffc301de042b07d307cb078708ab0a200d3a0eef0d540deb0ce00cbe0d620f74103710c70f2510d71035111211ef10cc11d812aa11de0eb70d9b0e100f350e1a0d7a0c460c1f0c940bee0a2b0b270c490c160bf1098e0969094d091e097c089307780685042a027001c10278039801b1fe5efdf3fd09ff60ffc1fe39fed4feb6ff18ff58fdc5fce8fdaffe9ffd7dfbd3f985f948fac4fa21fa0cf951f8baf7e3f6fdf533f513f420f2b4efd0ed13ed38ed29ed0fecc6eaafea76eb69eceded95ef2af0efefcaef00f0b5f08ef1dff18cf17ef040ef61efc1f0f5f1fff229f454f505f7cdf8d0f90ffbd8fc92fd42fd44fd27fe3500a4026803f301aeff86feaaffaa014802bb019e00d4fed5fdb7fe5e0014028e033904bb0484050406ed06ee08cb0aaf0bca0b8b0b1d0cbe0d040f910f2210a210fb1083111a128512a612831295122313cc13de13c3121111ff0f700fc40e180ef50cee0a220979086f0877088c08a608ac08a508d6081a09bc08e20770072a0770066a051804b4025702c6021b02f9ff4ffeb7feba003c02b00106002bff5effa3ff74ffe0fef9fda4fc01fbd2f96cf90ff970f826f81bf8a3f7d6f61ef692f514f52bf46bf273f026ef8cee23ee66ed1dece5eaacea76eba8ecc8ed71ee7bee41ee65ee51ef90f020f121f1adf170f258f23af2a4f317f618f80ef925f902f9a8f96bfb52fd16fe80fdc1fc5efd81ff8e012202850164000eff80fe7effe8001f01d0ffa3fde2fbfefb33fe5701ec034305ae05a405c3054f077d0a560d430ea70d5c0c3e0b3a0b210c1c0deb0d1b0e1c0d190cd00cb30e011068107c104610e90f1b103c11741216126b0f370c270b980c220e7f0d250b250994081d090d0a950a380a5b096a084f070806d304f703ba03b703e502150185ff66ff35004c0035ff5cfec8febcff2300c1fff1fe67fea1fe0dffd1fe3bfee0fd27fd7efbbaf9cbf8a2f8def8fcf853f8e2f666f55ef4d8f3a8f362f38bf219f19eef85eeafed38ed70ed02ee64ee86ee9ceefeeeb8ef4af09cf022f1dbf18cf212f32ff360f34af446f5cbf58ff695f752f81df9e3f91efa95facffbcefc67fd84fef8ff03015701c700feff4b005a019801ba008dffa5fe7ffe20ffbdfffbffb300ac0253058607f408ed09740ab60a730b020daa0e0b0f900dc40b8a0b370c260cbe0b1e0cf10c6a0d550d2d0df10dc70f5f11af11d1103f0fe70db60d050e820d670c700b340a80086a07cf074d09b10af60a140ac708df070908f208df08ee0623047e0166ff55fe3dfe7dfe94fe3afeb2fd9efd17fef6fe5b00cf013e0227014cff1dfecffdfbfc38fbcaf93cf9ecf81bf88ff657f590f542f63bf605f6f8f5a0f5d5f43ef330f140f079f07bf026f0a5efc9ee5feeb1ee0bef0cf044f23ef4c6f444f496f3a1f381f466f5fff526f665f566f479f4bcf578f717f94bfa3ffb41fc79fd25ff170197021c03bc021102b001820120012e009afe48fd22fdcafdbdfec3ff7900c4019b041607460798062b076f09520c8a0d330c4a0a4e093a09380a8d0bbb0b0f0bd80a510be60bf60bd60bcc0c9d0eba0fe50fa10fc30e7d0d8f0c120c920be00a400ae9095f0908082706da041e057f066f079607bb078c07a606fe052206a80621078a061204f200ecfe35feedfd19fdd1fb3efbaafb60fc27fdb3fdb5fd03fe11fff0ff45000e008ffe2bfc71fa9bf9c8f8a8f74cf6fbf425f49bf3f1f284f2e9f2f4f3ebf417f54cf42df3a2f2e1f232f3d8f2d4f1bcf035f055f0a3f0fff0daf103f3cbf368f438f5d4f544f6e9f660f7b6f79cf87ef996f9a3f947fa5bfbe6fc35fe85fe05ff79008f01f30162025402af017701a601e9017102a10205023401bd008701d703bf050c062606b9060b0751070208ed08c5094c0aa00ac30a4b0ad1094a0a480b680ca20de30d390d530d390ed70e0a0f9b0ea80d5c0da30d630d820cf70ac9085d078307ea0763076706db05cc059f055905d1050b07a2079206ba04c103d203a803a0025d018e00fafff1fec9fd88fdf6fd19fed5fd7dfd54fdb9fd3efe01fe4afdc5fc33fc12fbb4f92df9d7f90dfa68f835f65df5e1f596f644f6aff437f3f5f21bf3c8f289f2d4f201f37bf2aff17ef142f272f331f434f4d7f391f3cef3a6f49ef52cf65df66af659f654f6adf6a8f735f9aafa50fb6dfbfffb7dfd5dffc9006d01ae0113026b021d025b01d300840052008600b5004b00dfff0900d1008602af04b3056b054405e60548075109f50a010bf4095e09c9095a0a3d0ad8091a0a080bbe0bbe0b4d0bed0a420ba10c330eca0e6a0ea60ddd0c780c560cba0bb60aeb095709b508b9073006300519060308bf08c9074c0673057d05ce05b605f1047f039e01b9ff59fe00fe7cfeb7fee7fda4fc51fc2afdfafd30fe46fe47fe0afec3fd11fdb6fbb8fab1fac8fa36fa00f9b9f71ff746f793f75af75df664f54df56af5cef4f0f368f324f32cf353f3f4f20cf26df163f17ff1ccf17df2fbf222f3c9f3d3f474f500f6daf6bef7e4f809fa5ffaacfa9bfbf2fbbefbb2fc6afe6affefff6f009c006e0017004900d1015103c102e50094ff31ffe7ff77018f02c902ca02b5020e039804aa062a08dd08d808b7087d09f00acb0b6c0b5d0a82092e097209660a2b0bc00a160a4e0af70af90b880d9a0e990e0d0efc0ce60bee0b7a0c0a0c960ade089c0732070f07f306a707bb088e082607f405af0522068e06de05e403ca018d001500deff8bffcafea7fdccfc9afcbcfce8fc35fd9cfdb3fd1bfd26fcb7fb10fc49fc86fb01fa93f8d4f79cf746f785f6b5f527f5c4f482f497f4e7f4c9f419f4b6f3dcf3a7f307f3e4f238f33ff3dff260f205f24bf230f30ff4caf489f502f640f6c0f67bf73cf810f9a1f9ccf941fa29fbeefbb2fccffdf2fe2a0091013202d00171014b01200146015701bf002900dcff8dffdeffe0009e014c0273038e0474055b061e0724088c093a0ad8097809bb097d0a550be00b040c980b9d0a300a280ba80c7c0d210db70b520af809710a280b830bbf0a6809fc087209aa094f099a08150849088c08df07dd065f06e205170595046a042504bf032a034f027e01fd00e9004f01a3011001dafffefee4fe3fff51ff7efe0ffddbfb49fb1bfbcafa0cfa25f977f813f8b1f72cf7e4f602f70ef7d8f66ff68bf5acf4cbf455f531f5adf445f4d2f36ef317f39ef276f2e1f234f316f3f0f2f8f227f3b0f3b6f4e4f5c8f653f78ff7c3f7a9f83bfa79fb2bfcd6fc84fd3cfee9fe31ff92ff7b00f200a6005200b3ff0aff9cff83002b00b7ff51002f010702de02110332034f04aa057f067e07b9084f091509ba083c09ee0a240c5d0b250a440ac20a9f0a670a6e0ae90a0c0cda0c930cf00b990ba90bf90bca0bf50a4d0ad50910096708470857080a084507c6062907b3078507b106b7052d05fa0412048d02bd01b3016f0185002cff0bfec9fd1afe6efe95fe77fe3ffe05fe7bfdfafc21fd57fdd7fccefb98fa94f9f8f85ff8c3f78bf75bf7b0f6cef528f536f5f4f53ff672f57ff435f431f4eff3b5f3ecf311f496f313f343f3f0f3a8f4fcf401f5b3f504f790f77bf70bf8f7f884f9d1f9dff9faf9e5fa2afcf8fcb2fd72feadfed9fe59ffadff02009600c300a500a7003500b7ff5c006101ef01f102290478048c041905c205f706b20881095e0973098b0959096d09a909c7092e0aaa0aad0a7c0a550a290a790a860b930c070d9a0c280b99092a099609ed09ed094809e607b4063506fe054e065407ff07ba0720078f06430675063f06de04820316037402af00befee8fd53fe14ff2dffbffea0fec7feb2feb5fe07fffdfe46fe35fd00fcf0fa37fa57f91af837f700f7ddf65cf6b8f57bf5edf58ef690f602f698f570f536f5f9f4d0f48df44ef41af4a5f35af3d3f395f431f5e9f583f6d0f63df7acf71cf82df950fa6cfa07fa08fa68fa39fb3cfca5fca8fc09fd8ffde1fd55feedfe3aff30ff19ff2fffbdffca007d0142012c0128023803900326048805c7062807e5069d060c07490858098109160986083d08d708e309320ae309bb0994098209140abe0ad50a9c0a270a9a09ba09340a0d0ab5098609a6085207ce060c0746074407d0060b06b205e40512060e06c205180579040f047903d80284020a0222016c002800d3ff5eff16ffbbfe06fe40fdb0fc6bfc72fc50fc8bfb7cfad5f9bcf9d3f9a1f9d6f8bff707f7cef6b9f6b7f6b2f632f64ff5c0f4b0f4d6f426f571f581f57ff57ef576f5abf520f65ef64cf625f6eaf5d8f534f689f680f6c2f69ff768f80df91bfa32fbf9fbeffcedfd61feb7fe1fff0affb4fea4febafe1effb7ff8affe5fe1dffffffa1002101d101c802e8035904f10305040d05fc057706ef06560787079f07a607d1079808cd098e0a970a6b0a680abf0a4a0b520bf00a180b440b6a0a67091909e508d808390912093c08c507a2075c076607a8077c0701077306c20551053f05c604e30364033803da026b02f1013d01b500a500b900bf008100c0fffbfec0fea0fe30feadfd1efd68fcd1fb73fb06fb60faa2f91ef9f5f8bef81af84af7c7f6b4f6b7f65cf6bdf54df520f522f56af5d4f50df60ff60ef644f6d0f682f7e3f7c4f7a4f7ddf7f2f78af72df75df7d9f70df8e8f71ef818f92cfafafafdfb0bfd88fdcefd6afe33ffc6ffc8ff30ffbefe11ffbfff0200abff4fff93ff7900a401ce02aa031a043804110430043e0592060807bc064806f2051806cd069e075f08f6082a0926092a094209c0097d0a9d0a460a4a0a4b0aaa09f308bc08d108cc086108cc07a207ae0731075506c805c50522065a06d905e2042104ac035d0333031303ef02c0025602bd0148011001f500ce005900b6ff4affe5fe0bfefcfc5cfc3efc2ffcd2fb29fb86fa12faa0f93bf948f9a2f98af9e1f864f84bf812f8a0f753f737f712f7ccf69df6caf62cf764f781f7b2f7dcf723f8a9f8ecf8bcf8aaf8bff8a7f8b2f826f9aff908fa16fafcf966fa76fb65fcd5fc04fd24fd7ffd12fe60fe8ffe06ff5dff55ff67ffa7ffe4ff4700e400a5016002c70203037c0300045004a804180599052a0670063406b7053e05440524061e0754072507300754077f070308d408740984091209900850080d0888072f072f07da060506760561054d05300535053605320545053c05fe04b9049a04870425046803e202ce0286029f01a0001200e0ffb8ff75ff29ffecfeaafe4afefbfdfffd1cfed7fd2afd84fc29fc07fcc1fb12fb59fa00facbf986f977f9acf9bff963f9c1f854f84cf861f85ef834f8c2f73af712f74af7a0f7f3f737f86af89df8e9f850f99cf9baf9e5f941fa9efad3fae8fa17fba6fb57fcd0fc47fdd5fd1bfe45febdfe27ff2fff35ff62ff83ffa0ffadff85ff77ffdeff98004c01b201e00151022c03ec034b049904f10420052005fd04d204fb046b05950578059705ff058b061f077b07c00717081608bf07b207f1070608d5076007e306a2065706e705b605ca05d905b9054905b9047a0477045404030491032203d1026e02f901a40163012f010f01d600910075004200eaffc2ffa9ff5afffffeb4fe6bfe1efeb7fd4ffd0afdcafc86fc4cfcebfb7ffb5efb54fb0cfba4fa4cfaeef978f91df910f90df9e3f8d6f8f5f822f974f9b2f9c7f936fad0fadcfa97fa80fa6efa53fa39faedf9acf9bef9daf9f0f954faedfa8bfb33fcd6fc76fd31fedcfe40ff91fff3ff1d00f8ffccffadff79ff5fff90ffd3ff0c007000e7003701b801aa029c0330048f04c904d404d404b904750441041404d603e60346047e04aa0417058405de054706a6060a076d075507cd0667061906ab0556051205a8043e04f003b603ad03cb03e203f403ed03b3038503890377030b036802dd0183012f01c0004c00ebffa5ff88ff81ff7dff89ffa1ff93ff55ff21ff18ff05ffb3fe3cfecffd57fdc5fc4dfc19fc15fc17fcfcfbb7fb80fb90fbbcfbcffbcbfb99fb35fbebfacbfaaefa97fa7cfa4efa40fa62fa9bfaeefa34fb56fb8cfbc5fbd1fbeffb28fc41fc61fc81fc65fc73fce1fc3bfd78fde0fd3dfe6dfe9efed2fe14ff6dffaeffcaffe4ff01001f003e0048006000a700eb003201c301550274025d029a023303b103d303e00308040b04dd03ca03f1033e047f04840468046c048804a404d7041305330535051905e704c904c304b2049904810457041a04d3039d038c03790344030b03d20276021802ef01e301bc0179013001f600d700cf00cd00c900b1006d000700abff73ff3dffd5fe38fea5fd47fd0ffde9fcc3fc97fc89fcb2fcebfc1cfd43fd54fd51fd45fd1bfde1fcbbfc88fc28fcbcfb50fbeafabcfac0fac3facbfae7faf2faf5fa2efb91fbf1fb37fc44fc24fc26fc55fc74fc8bfcaffcc9fcf2fc48fd9efdf1fd6efedffe0dff46ffc1ff3d008400960087008600ad00c300aa00a900d300d3009b0079009e0007018101c601e7012a029802f7022f034f038003bf03d703c703c903ca03ab039f03ba03d203ef031a0430042f042a041d041b0433043f0432041604d6037e0343033c034f0346030203a7026902520245022302ef01bc017d013a010e01e900c100990055000a00e6ffbfff82ff59ff2effe0fe9cfe63fe28fe14fe0afed2fd98fd8afd81fd79fd8afd9ffda9fda6fd8efd74fd6ffd5cfd2dfd08fdf0fcb5fc50fcfcfbd5fbb9fb97fb7bfb70fb80fba8fbd6fb15fc6bfcabfcc8fce9fc19fd4ffd90fdbbfdb4fd9dfd95fda3fde1fd40fe85feb3fee4fefafe09ff63ffeeff55009100aa009d00a100d1000701340159014f012601280152018701d5012a025a027b02ad02e9023b039a03c103a903970398039e03b003aa0375033d031203e002d502040325030d03d402980281029902b202b902b5028a023c020f02130225023a023a021302e601c801b101a8019d0169011901db00a3005a001400d9ff97ff59ff2dff10fffffefcfef8fee4fecbfebcfeacfe8ffe6efe4cfe23feeffda9fd66fd46fd33fd14fd06fd08fdf6fce5fce8fcd8fcc2fcd0fce5fcdafcc6fcaefc90fc89fc97fca5fcc4fcf1fc08fd1cfd55fda9fd00fe53fe92feb6fed8fe09ff33ff50ff6fff78ff53ff20ff12ff26ff3bff4bff53ff4eff5fff99ffdbff1c006900a100b400cb00f20025017001ad01ad01a001b401da010e024a0273028d02a802ba02d60214034f0363034e031a03f502fa02fa02df02cf02be0292026702580259026b027f0271024a023302300231022e022102fb01bf0185015e01450130011301e000a40082007b0078007900790062003a001200eeffdaffcaff98ff43fff3feb8fe99fe9efea1fe87fe69fe5dfe5cfe60fe6cfe76fe66fe2ffeedfdbffda6fd94fd80fd58fd2cfd17fd1cfd2ffd54fd7afd83fd7dfd83fd9efdc4fddcfdd0fdb2fd9ffd96fd96fdadfdd8fd06fe30fe50fe6dfea5fef0fe3cff7effa2ffabffbaffceffd4ffdcfff2fffdfff6ffeffffcff1d0047007400a000c500df00f8001e014e0173017a016e0169016b016501550146013e013d0152017a01a401d3010c023c0262028a02a802c002d902d502af0283024f021d020602f401d601bb01a3018f019401a901b101af01a801950182016b0146011b01ed00b5008400560021000200f9ffeaffd8ffc9ffbbffb5ffb2ffa7ff9fff92ff6dff46ff2eff17ff02fff2fed5feb7fea4fe90fe84fe8efe99fe94fe8afe7efe6cfe5cfe4afe2dfe0cfef7fde3fdc5fda8fd98fd99fda7fdbbfdcefde6fd0afe33fe5bfe7dfe97fea6feadfeb6fec8fee4fefbfef8feebfef3fe0dff2dff57ff86ffacffcaffdbffe1fffaff2a00570074007e0068004c004f00690083009a00a600a100a300c200f40023013f014101380136013d0154017a019101830161014a0154017a01a301a801860161014d0150016d018d018b0167013e011c0116012d01410140012401f300cf00d700eb00e800cd00a1006d0047003a00390029000600daffb4ffadffc5ffdaffdaffcdffbcffb0ffb2ffbfffc3ffb5ff8fff5fff39ff22ff1bff19ff0efffbfeedfee5fee4fef1fe06ff0bfffffef2fee9fee0fedbfed6fec3fea8fe99fe97fea8fec4fed5fed6fed8feecfe12ff3eff61ff75ff78ff70ff77ff92ffabffb4ffacff97ff8aff95ffa8ffbdffd3ffd8ffceffceffe7ff0e003900560056004f00550068007f009600a400a1009b00a300bc00df00fd000e01140116011f0139015a016e016b0153013a0136013c01360124010e01f300de00dd00eb00f700f500ea00de00e100f60006010201f300dc00be00af00b300ae009d00870069004b003b004000500059004e0038002c002f0033002c001c00fdffd0ffaaff97ff87ff73ff58ff36ff1bff14ff1aff23ff2cff2dff24ff19ff17ff26ff36ff33ff1cfffcfee5fedffee0fedbfed4fecafebffec2fed5feeafef6fefcfefefefefe03ff11ff21ff2dff30ff27ff21ff2dff45ff62ff7fff93ffa3ffb5ffc7ffe1ff02001e002d0033002b00250039005c006f006a005e005800600074008800970098008e0089009000a100b800c900ca00c100bb00c200d100e200e700e000d700d400d200d600e400ea00e000d400ce00d200dd00e400e000d300be00b200bb00ca00d000cb00be00b100b000b100b100b000a6008d00740062005200450032001500f5ffd8ffc3ffbaffb9ffb2ffa7ff9bff94ff98ffa2ffa9ffaaffa2ff90ff7fff76ff6eff62ff53ff3dff29ff20ff1eff26ff37ff3fff3eff45ff53ff5eff63ff64ff5bff4eff42ff35ff2cff26ff1cff09fff9fef8fe05ff1bff38ff53ff64ff72ff8bffafffd3fff1fffcfff1ffe2ffdaffdcffe1ffe1ffd4ffc7ffc5ffcaffd9fff4ff110027003b0052006a008700a000aa00aa00a5009b00950095008e0083007b007500770088009f00b000be00ca00cd00cf00db00e500df00d000bd00a40093008e0088007f007300640058005b0065006e0070006b0069006b006b006a006a0061004c0036002800200016000b000000f5ffe8ffdcffd5ffd9ffdbffceffbfffb4ffacffaaffa9ffa3ff9aff90ff89ff83ff7eff7cff7cff79ff74ff6eff66ff60ff60ff64ff68ff67ff5cff58ff5bff5bff59ff5cff5eff5bff57ff59ff5eff64ff64ff61ff5fff5fff62ff6aff72ff7aff81ff85ff89ff94ffa2ffb3ffc5ffd2ffd7ffddffedffffff11001b001d001c0021002a0034003c00420044004400480051005a006500700077007b0081008d009900a300aa00ac00ab00a800ab00b200b500b200ac00a900a800aa00ae00b400b700b300b100b300b400b300b200aa009b008d0084007d0076006b005b0052004a0044004400440042003b003200280027002900220016000b00fbffe9ffddffd4ffc7ffb8ffaeffa4ff9cff98ff96ff94ff92ff91ff8cff89ff86ff7cff70ff68ff60ff53ff47ff41ff3bff34ff31ff30ff30ff34ff3cff44ff49ff4dff52ff55ff57ff59ff5dff60ff5fff5bff5aff5fff66ff6dff74ff7bff84ff93ffa3ffafffb5ffbeffcdffd8ffdcffdeffe0ffe6ffeefff8ff02000a0011001c002c003b004a005800660073007e0083008a009200960097009700980099009a009a0099009d009f00a100a600aa00ac00ae00b100b000af00ad00a900a500a400a2009f009e009d009e009e009c009d009d009d009d009d009a00970093008c00850081007a0072006a00620058004f0047003e0032002800210019000e000500fdfff3ffeaffe0ffd8ffd0ffc8ffbeffb1ffa9ffa6ff9eff97ff93ff8fff88ff82ff80ff83ff84ff7fff81ff84ff82ff80ff7eff7cff7dff7cff77ff72ff70ff6fff71ff73ff73ff75ff76ff78ff7cff82ff87ff8dff91ff93ff98ff9dff9fffa4ffabffb0ffb9ffc4ffcaffd2ffdfffeffffaff020008001000180020002a00310034003800420049004e0055005d0065006a006f0076007b008200870089008d008f008f009000920091008e008d008d008f009300960096009600960095009200920090008a0083007e007a0075006e006b00690061005a00570054004f004800440041003a002f002b00230016000d000200f8fff3ffe8ffd9ffd1ffcaffc2ffbaffb4ffafffacffa6ff9dff97ff90ff89ff84ff82ff7dff76ff71ff70ff6fff6dff68ff62ff5fff61ff63ff64ff65ff5fff5aff5fff64ff63ff65ff6bff6cff6bff71ff79ff80ff85ff86ff8aff93ffa0ffa6ffacffb8ffc0ffc2ffcaffd2ffd7ffe0ffe9ffeffff4fffdff0300080010001a002400280030003b0044004c0057006000680071007a0083008a008f0095009d00a400a800ac00b200b600b600b400b400b600b600b400b400b200af00b000af00aa00a400a0009d00990093008b0083007a007500710069005f00590055004d004300390031002b00230015000700fffff5ffe9ffdfffd6ffceffc5ffbcffb3ffacffa0ff93ff8aff84ff7dff76ff6dff61ff58ff4fff47ff41ff3dff36ff2eff28ff23ff22ff21ff1cff16ff14ff14ff12ff0eff0eff0eff0fff0fff0fff12ff16ff1dff26ff2dff34ff3cff46ff50ff5bff66ff70ff7bff84ff8bff94ffa2ffacffb1ffbaffc3ffcdffd8ffe7fff3fffcff05000f001a00260034003f0047004e0055005d006700700075007e008500880091009a00a100a800b200b900bc00c100c800ce00d000d100d300d200d300d400d200ce00cf00cd00c800c400c100bc00b600b100aa00a3009e0096008c0085007d0070006700610057004d0043003a002f0023001a00130009000100f8ffecffe2ffdaffceffc4ffbcffb3ffa9ffa2ff99ff8eff88ff82ff7aff74ff6dff66ff60ff5cff58ff54ff51ff4eff4bff47ff43ff42ff42ff43ff43ff44ff46ff46ff47ff4bff4fff51ff55ff59ff5fff65ff6aff70ff75ff7dff86ff8dff93ff9affa4ffabffb3ffbeffcaffd2ffdbffe7fff1fffbff03000d00180023002e0037003f00480052005c0065006d0076007d0084008c0095009c009f00a200a500aa00b100b600b700b800bc00bf00c300c500c500c600c700c700c500c400c300c300c200bf00ba00b600b400b100ae00ab00a4009d00990093008b0085007d0073006b0063005c0052004b00440039002d00230018000d000400fefff4ffe9ffdfffd6ffceffc6ffbdffb2ffa9ffa1ff99ff90ff87ff82ff7dff75ff6fff6dff6aff66ff62ff5eff5bff59ff57ff55ff55ff54ff54ff55ff53ff51ff53ff55ff55ff57ff5bff5eff62ff65ff68ff70ff75ff79ff81ff88ff8cff91ff9bffa4ffabffb0ffb8ffc1ffc9ffd3ffddffe6fff0fffbff02000a0015001d0024002e0037003d004600500056005a00600065006d0074007b008000840086008c009100960099009c009f00a300a400a600a500a500a700a900a900a700a700a700a600a300a100a0009d009a00950091008c00870083007e00770071006e0064005a0054004e004300390032002a00200016000d000300fbfff3ffe9ffdeffd5ffccffc4ffbbffb2ffabffa5ff9bff93ff8fff88ff80ff7cff77ff71ff6dff68ff64ff63ff60ff5eff5aff55ff54ff54ff52ff52ff54ff53ff53ff56ff59ff59ff58ff5bff60ff63ff66ff6aff70ff74ff79ff7eff81ff86ff90ff99ffa0ffa8ffb1ffb9ffc0ffc6ffd0ffdbffe4ffeefff6fffcff05000f00190023002c0033003c0044004b0054005e0066006b00710078007f00840089008e009300970097009b00a200a400a300a400a600a900aa00aa00ad00ac00a800a800a800a3009f009d009800950092008d00860084007f007a00770073006c00650060005a005100490043003b0033002c0024001b0014000e000700fffff5ffedffe5ffdeffd6ffceffc8ffc0ffb8ffb3ffafffa6ffa0ff9eff97ff90ff8cff8bff88ff81ff7dff7cff79ff74ff72ff72ff6fff6bff6bff6bff6bff6cff6dff6eff71ff73ff73ff74ff77ff79ff7dff81ff85ff88ff8dff93ff97ff9bffa3ffaaffafffb4ffb9ffc1ffcaffcfffd5ffddffe5ffedfff5fffcff03000d0013001a00230029002e003900420045004c0055005b005e00630069006e0076007b007c008100860087008b008e009000910091009300950093009400960093009300920090008e008b008600850084007c007900790073006d006b0065005d00580053004e00470041003a0031002b0027001e00160011000800fffff9fff3ffedffe7ffe0ffd9ffd2ffc9ffc3ffbfffb8ffb2ffacffa6ff9fff9dff98ff92ff8cff88ff86ff83ff7fff7bff7aff79ff78ff76ff77ff77ff77ff75ff74ff77ff79ff79ff7bff7cff7dff81ff87ff89ff89ff8fff93ff97ff9cffa1ffa6ffacffb3ffb9ffbeffc5ffcbffd3ffdcffe3ffe9fff0fff7fffdff05000b00110018001f0024002b0033003a003f0045004a005000530059006000630065006b006f007200750079007d007f008100830085008500850089008b00880089008d008a00880087008700850082007d007b007800750071006e006a0064005f005a00560050004a0044003d00370032002b0025001f00170010000b0008000200fdfff8fff2ffedffe8ffe1ffdbffd9ffd6ffcfffc8ffc4ffc1ffbcffb7ffb7ffb4ffaeffaaffa7ffa7ffa2ff9cff9aff9aff99ff96ff92ff92ff90ff8dff8eff90ff90ff8fff90ff94ff94ff95ff97ff99ff9cff9fffa2ffa6ffa7ffa9ffb1ffb6ffb6ffbbffc2ffc5ffc9ffcfffd4ffd9ffdfffe3ffe8ffeefff4fff9fffeff020008000c000f0014001a001f00240026002b00310037003a003c004000440048004a004c005100560058005a005a005d005f0060005e005e0060006100620061005f005f0060005f005d005a0057005700560053004f004c0049004600430040003d00370033002e002a00280022001b00180014000f000c0007000000fdfff8fff3ffeeffe9ffe3ffe0ffdcffd6ffd2ffccffc8ffc4ffbfffbdffbaffb4ffb0ffafffacffa7ffa6ffa2ff9fff9dff9bff98ff96ff95ff96ff94ff91ff92ff94ff92ff93ff95ff96ff95ff97ff98ff98ff9aff9bff9dffa0ffa3ffa6ffa8ffacffafffb2ffb6ffbaffbdffc0ffc4ffc8ffcdffd2ffd6ffdaffdeffe2ffe8ffeffff4fff8fffdff010005000c000e000e0014001b001e002200260029002e0030003200350038003c003f0041004300430045004700490049004a004a00480049004a0049004800490049004700470047004400430041003e003c003c003b003800360032002f002c002700240021001e001a00170013000f000d00070002000100fffffafff4fff0ffecffe8ffe4ffe1ffdcffd6ffd2ffd1ffd1ffcdffc8ffc5ffc3ffbdffbaffb8ffb8ffb6ffb1ffaeffaeffacffa9ffa8ffa8ffa6ffa6ffa4ffa3ffa4ffa4ffa5ffa3ffa4ffa5ffa8ffa9ffaaffabffadffafffb1ffb4ffb7ffb8ffbbffc0ffc4ffc7ffcbffcfffd2ffd4ffdbffe0ffe2ffe5ffeaffeffff2fff6fffaffffff020008000c000d00110017001c001e002200260029002b002d0032003300340039003d003d0040004300430044004500450046004a004b00490048004b004b004b004c004c004b004a004b0049004900480046004500430040003e003b0038003700350032002e002a002900280026001f001b001c001900140011000e0008000700060001000000fdfff6fff4fff5fff1ffeaffe8ffe7ffe4ffe2ffdeffdaffd8ffd6ffd5ffd4ffd2ffd0ffcdffccffccffcaffc8ffc6ffc5ffc5ffc5ffc5ffc4ffc3ffc3ffc3ffc4ffc3ffc2ffc3ffc5ffc7ffc7ffc7ffc8ffcaffccffceffd0ffd0ffd1ffd6ffd9ffdcffdeffe0ffe1ffe4ffe7ffe9ffecfff0fff4fff7fffafffbfffeff0100030006000a000c000e001300170019001c001f0021002500280029002c002e002f00310034003700370039003b003c003c003e004000400040003f003f0040003e003e00400040003d003e003d003b003c003c003a003900380036003400320031002f002c002a002a002700230021001f001b00190018001600120010000f000d000a000800080003000000fffffcfffafff9fff5fff3fff3ffefffecffecffecffeaffe7ffe5ffe4ffe3ffe1ffe0ffe0ffdfffdfffdcffdaffdaffdaffdaffdaffdbffdcffdcffdbffdbffdbffdcffdfffdfffdfffe0ffe2ffe5ffe7ffe8ffecffebffecfff1fff4fff3fff5fff8fff9fff9fffdff010003000400040007000b000a000b000f001100110012001300130014001a001c001b001d001f001f002000200021002400260025002600250027002b002a0028002a002c002a00290029002900280027002800270024002300250024002100210020001e001f001d001900170018001500120011000f000e000c000b000900070006000300000000000000fffffdfffbfffafff9fff6fff5fff3fff0ffeeffeeffedffeaffe9ffe7ffe5ffe4ffe2ffe0ffdfffddffdbffdcffdbffd9ffd8ffd7ffd7ffd8ffd8ffd9ffd9ffd8ffd7ffd9ffdaffdaffdbffdbffddffdfffe0ffe1ffe3ffe6ffe6ffe7ffeaffebffedfff0fff1fff0fff2fff5fff6fff7fffafffdffffff000000000300050006000a000c000d000f001200130015001600180018001a001c001d001f00210022002100240026002700260026002800280028002a002b002a002800280028002a002b002800280027002600250025002400240022002100210020001e001e001c001a001b001b0018001700140013001200110010000c000c000c000c0009000600060006000300030002000000fffffffffdfffdfffdfffbfffafff9fff7fff7fff6fff4fff4fff3fff2fff1fff0ffefffefffeeffedffeeffeeffeeffedffeefff0fff1ffefffeeffeffff1fff2fff2fff2fff2fff2fff5fff6fff8fffafffbfffafffbfffcfffdff00000100020005000700070009000a000b000d0010001100110013001500160017001a001b001b001c0020002000200022002300240025002600270027002700280029002b002b002a002a0029002900290028002800280027002500260024002300230023002200220020001f001f001e001b00190017001700170014001100100010000d000a00090008000500040006000400fffffdfffdfffbfff9fff7fff5fff4fff2ffefffedffedffecffeaffe8ffe5ffe4ffe3ffe0ffdfffe1ffddffdeffdeffdbffdaffdcffdbffd9ffd9ffdaffdaffd9ffd8ffd8ffd7ffd9ffd9ffdaffdaffdaffdaffdbffddffe0ffdfffdeffe1ffe2ffe2ffe4ffe6ffe6ffe8ffeaffeaffecffecffecfff0fff0fff0fff5fff7fff6fff9fffbfffdffffff00000000020004000600070009000c000d000d001000140014001400160018001a001d001f001f001f0021002600260025002600260028002900270027002a00290028002900280028002a00280027002700270025002600260023002200210022001f001f001e001c001a001a0016001500160014001300140010000e000d000c000b000a000700050005000400010000000000fffffdfffdfffbfff9fff7fff5fff5fff5fff3fff2fff0ffedffedffecffeaffe8ffe8ffe9ffe9ffe6ffe5ffe7ffe6ffe4ffe4ffe3ffe2ffe2ffe3ffe2ffe2ffe4ffe4ffe4ffe5ffe6ffe5ffe6ffe7ffe6ffe6ffe7ffe9ffebffecffecffecffedffeeffefffeffff0fff1fff1fff2fff2fff1fff2fff5fff5fff6fff9fffbfffdfffefffeffffff000001000000010005000600050006000800070008000c0010000f000d000e000f00110011001400130013001600150015001700180017001600160016001600170017001800190018001700160014001400150014001300130013001200110011000f000f000f000e000d000a000a000a0008000800050004000400040001000000000000000000fefffcfffcfffcfffafff8fff7fff7fff5fff5fff6fff3fff2fff3fff2fff3fff3fff3fff2fff1fff1fff3fff3fff2fff2fff1fff3fff4fff2fff2fff3fff3fff3fff3fff3fff3fff3fff5fff5fff7fff7fff7fff8fff8fffafffbfffcfffcfffcffffff0100020002000300050006000700080008000a000c000d000d000e0010001200120013001500150016001700180019001a001b001b001c001c001d001e001d001e0020001f001e001f002000210020001f002000210020001f0020001f001e001f001f001e001c001a001c001c001a001900190018001600150015001300110012001100100010000e000c000b000b000a00090008000600040005000500030003000100000000000000fffffcfffdfffdfffcfffafffafff8fff7fff7fff6fff4fff2fff3fff4fff4fff2fff2fff3fff1fff0fff0fff0fff0fff0fff2fff1fff0fff0fff1fff1fff2fff3fff3fff3fff4fff5fff5fff5fff6fff9fffcfffcfffcfffdfffdfffeff00000000000001000200010002000500050004000600080008000a000b000b000e000e000d000d000e00100012001200120013001200140015001400140016001500160016001700180017001700170017001700160016001600150015001400120012001200120012000f000e000f000d000c000b000a0008000800090009000600050005000400030001000100000000000000fefffdfffcfffdfffcfff9fff8fff7fff6fff6fff5fff5fff5fff4fff3fff3fff1fff0ffeffff0ffeeffedffedffedffedffecffecffeeffeeffecffedffeeffefffeeffedffeeffefffefffefffefffeffff0fff1fff2fff2fff3fff4fff5fff4fff5fff7fff7fff9fffafffafffcfffefffdfffefffeffffff000000000000020002000100040005000500060008000900080009000a000c000c000c000d000d000e000e000e000e000e000f001100110011001200130011001000110011001100130012000f00100012001100120011001100110010001100110011000f000d000d000e000d000b000b000b000a000800070009000a00070006000500060005000300030004000200020003000200010002000100000001000100fffffeff00000000fdfffdfffffffefffcfffdfffefffdfffbfffcfffcfffbfffbfffbfff9fff9fffafffafffbfffbfffafff9fffafffafff9fffbfffafffafffbfffbfffbfffdfffefffdfffdfffdfffdfffefffdfffdfffeff00000000ffffffffffff0100030003000300050007000700070009000b000b000c000e000f0010001100110012001400150013001400160017001600170018001800180018001900190019001a0019001a00190018001a001d001b001a001a0019001a0019001800180018001700180018001700160015001400140012001200120011000f000d000c000c000c000b000800060006000400030003000100000000000000fefffefffcfffafffafffbfffafff9fff7fff5fff5fff4fff4fff5fff4fff2fff1fff0fff0ffefffeeffedffefffefffedffedffedffedffedffedffecffebffebffedffedffeeffeeffedffeefff0fff0fff1fff3fff1fff0fff6fff6fff4fff4fff7fff7fff6fff8fffbfffdfffdfffcfffdffffff0000ffffffff0200020002000500040005000700080008000800090009000b000b000c000d000e000f001000100010001200120011001300150014001400140015001600170015001500180019001800160017001900180017001700160015001500160015001200130014001300120010000f000c000d000e000b000a0009000b0009000600060007000600050003000200020001000000fffffefffefffffffefffefffefffcfffafff8fff8fff7fff7fff6fff4fff4fff3fff2fff2fff3fff1fff1fff1fff1fff1fff2fff1fff0fff1fff1ffefffeffff0ffefffefffefffefffeeffedffeefff1fff0ffedffeefff0fff0ffeffff0fff1fff1fff1fff1fff3fff5fff4fff4fff5fff5fff5fff7fff8fff9fff9fff8fff8fff9fffafffcfffdfffcfffbfffcfffeffffff00000000000000000000010000000000010003000400020002000400050005000600050005000600060005000400060007000500040004000400030003000200020002000100000000000000fefffefffefffdfffcfffafffafff9fff7fff7fff6fff5fff5fff4fff1fff1fff1ffefffeeffeeffedffebffecffeaffe8ffe8ffe9ffe8ffe7ffe6ffe5ffe5ffe5ffe4ffe3ffe3ffe4ffe3ffe2ffe1ffe1ffe1ffe0ffe0ffe1ffe0ffdfffdfffe0ffe1ffe0ffe1ffe1ffe2ffe3ffe5ffe5ffe5ffe7ffe8ffe9ffe9ffeaffebffebffecffeeffeffff0fff2fff3fff4fff6fff6fff7fff8fffafffbfffcfffdfffeffffff00000100020003000300040006000800090009000b000b000c000e000f000e0010001000110014001400150016001700160016001500150016001600170017001600160016001700160015001500140014001500160014001400120011001100110011001000100010000f000d000b000b000b000a000a00080007000700070006000500040003000200010001000000000000000000ffffffff0000fffffefffdfffdfffdfffcfffbfffbfffbfffcfffbfffafffafffafffafffafffafffafffbfff8fff9fffafff9fff9fffbfffafff9fff9fffbfffcfffbfffbfffdfffcfffcfffefffffffeffffff000000000000010002000300040004000300060008000800080009000b000b000b000c000e000e000f000f00100011001200130013001500170017001600170019001900190019001a001b001c001c001c001e001d001c001e001e001e001d001e001f001d001e00200020001d001e001e001c001d001d001d001d001c001b001a00190019001900170016001500150014001200130013001000100011000f000e000f000e000d000b000a000a00090009000a000a0008000900080007000700070005000500060006000500030003000300020001000000010002000300020000000000010002000200020004000400020003000400040004000500050004000600060008000a000a000a000b000a000a000d000e000f000e000e0010001100110013001400160015001400170019001a00190019001a001c001c001d001f0020001f00220023002100200021002200240025002400250026002600250027002800270026002700280026002600260026002500250024002400240025002500240022001e001e001e001d001b001c001a0019001a001900160015001700140012001100110010000e000c000c000b000a000a000a000800080008000600060005000400040004000500040002000000010002000100000000000000000000000000000000000000ffffffff00000000ffffffffffffffff000000000000010002000100020004000300020004000600060007000900090009000a000a000b000e000e000d00100010001000110014001500140014001600170017001800190019001a001c001c001d001c001b001d001d001b001e0020001e001f0020001f001f001f001f001f001f001f001e001e001f001f001e001d001e001c001a001b001b001c001b001b001b00180017001800170016001400130011001100120010000e000d000d000d000b000900090009000900070007000700060005000300030003000300010000000000ffffffff0000fffffdfffdfffcfffbfffbfffafff9fff9fffafff9fff8fff6fff6fff8fff8fff7fff8fff7fff6fff7fff8fff6fff6fff7fff7fff7fff8fffafffafffbfffbfffcfffcfffcfffdfffffffefffdffffff0000ffff000000000000010002000200020003000300050005000400060009000800080009000a000c000c000b000b000c000d000d000f000f000f0010001000100010001000100010000f0010001000100010000f000e000f0010000f000f000f000e000f000f000c000b000d000d000b000a000a000900080009000b000a0008000700080008000600040004000500050003000200010001000000000001000000ffffffff0000fefffdfffefffdfffcfffcfffdfffcfffafff9fffbfffbfffafffafffafff9fff9fff8fff9fff9fff8fff8fff7fff7fff8fff8fff6fff7fff7fff6fff5fff5fff5fff6fff6fff4fff5fff7fff8fff7fff8fff9fff8fff9fff9fff9fffafffcfffcfffdfffdfffdfffefffefffeffffffffff0000000000000100020002000400040003000400060007000700070007000700080009000a000a000a0009000a000a000b000b000a000b000b000b000c000c000b000b000b000b000b0009000a000a000a0009000900080008000800080008000700060005000600060005000500040003000300020002000200010001000000000000000000fefffefffffffdfffcfffcfffcfffafffafff9fff9fff9fff8fff8fff8fff8fff7fff6fff7fff6fff5fff5fff4fff4fff4fff4fff4fff3fff2fff2fff3fff3fff3fff3fff3fff3fff3fff4fff2fff1fff3fff4fff3fff4fff5fff5fff5fff5fff6fff6fff7fff7fff8fff8fff8fff8fff8fff9fffafffafffbfffafffbfffbfffcfffcfffcfffdfffefffeffffff00000000000000000000000001000100020002000200030002000200030003000300030003000400040004000400030005000500040004000500040004000400040003000300030003000400040003000300030002000200020003000200000000000100000000000000000000000000fffffffffffffffffffffefffefffefffdfffdfffcfffcfffcfffcfffcfffcfffbfffafffafffafffafffafffafffafff9fff9fffafff9fff8fff8fff9fff9fff9fff8fff9fff9fff9fffafff9fff9fff9fff9fffafffafffafffafffafffafffafffbfffafffafffcfffcfffcfffcfffcfffdfffdfffdfffdfffefffefffefffefffeffffff0000000000000000000000000100010001000200020003000200020003000300030004000400040004000500050006000600050006000600060006000700060006000600060006000700070006000600070006000500060006000500050005000500050005000400040004000400040003000300030002000200020002000200010001000100010001000000000000000000000000000000000000000000fffffffffffffefffffffffffefffefffefffefffefffefffdfffdfffdfffdfffefffdfffdfffdfffdfffdfffdfffdfffdfffdfffdfffdfffdfffdfffefffdfffdfffefffefffefffefffefffefffefffeffffffffffffffffffffffffffffff0000000000000000000000000000000000000000000000000000000000000000000001000100010001000100010001000100010001000100010001000100010001000100010001000100010001000100010001000100010001000100010001000100010001000100010001000100000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000"
     val mp3Data = "49443304000000000023545353450000000f0000034c61766635382e32392e3130300000000000000000000000fffb98c400025d7a22e8ad6581039fc4df05aca41800c001e7366a2215c4103b207123f226b098ea0ebbc2b12c473f2596cecfd21e36fe2c58258964f8dc3b3f2596e8201635081a162e702393c960dcfcecff496070d17e55a10098e15098c99bec44d8860709879838088604c58767f038dc670b2ae53af0389cfe5b5ebcfee764b27becab48b0e22beda3308af9df09fc4be359d75fec2f7cec4b69d7e98fd3b1656cb1cf6d59c289c85fd6ccdf6ccda3071b3382994d5ed13f217e669099888606089fcd822e6ef32dddb3330120f1650e0f32978d655fcebcd162c302644dda8bccd79d9fdd7fd179ffeddb7d83c5efe5185955eff7dd7999fbf8b0cd7fa84032c7d538fe26e8a1639969671db6556410251803c6046b8f20b152a9118a992680e1394545a8abc80d38c0f2221288c49230486cb9664a8842e28442c6911e2e2a2e2c28c3e4a5c38483a1770142cc26639c449919a27282d8a330a2312570fa232d284a7c501b2151e85a149457641b8a689958849c5335a0cac0624147a35c802c192689b28366f056bcc378da3587d030f8ad424249af01e4d1d900fa0488109a100795b61b1417571e7a442023241932341428712410e9c6671e58cb137b07ccbf535987caf575589d5904f04faf38b9e811ec51a4b5b693eb67141d0f4ea2f7bf5452507a6804f79d2e06cd599a3219415bd6eb4f79dea56a8d1f511934aeb9d567a62e25f4e4b2b924e21950b0af5a6b4b44f1317b821aca2a2910966c9fa090a817898400b111b60344c5d4132e32449251602229400b88817010fffb98c42b801cfe26f82d3129c2dc41e0e5849a39502243c1054c2e58756291d58a088a049115232e92619a10a389119951a246d83ccb62674c809064fa885b14122824069b52c8992a997a0d068a225db4c8d92312106931bb84d630d0754454954495a274a73a559143427832321e9a1e70611368e4c3de934764513427d974732519af552ecc6938cbf2d8592eaefac2ac347653745b9464e2f083c88b29d3d69862edf600232dffcb117c2acb28ce85aeacc616ec55c72dd7c2ce38d6a99ca73b827369749bb92ab648a48a2fa6e8e34662786291aa68866723058ba132b1122a691b2a2c508d1b94217aa8125d864da1a96196268594500b517824286d1a8c8ae2c4e1f51144afadb913ecfe06474abd80b315bd12da50c98aef70d97459e9e5e530a39f94c625ac8627d38896f09576db3e5b7a7768dc5eb5b4c4ebc6bc7ed8fd59de65076f2fd1dfb8ced0c946e23b799e0c9415604b4d6b330401794670b26da9c6146c10c0342ac1222ab1abaff72e8e058b3ad04bba3c94cb45f1ccf601d17bc6e8d5ad394662b4ec94f16074aa20e0e09624275886b1f1d84956bcdc91194562a3ce30565f2b882aa079642907cfa34f2c2e1e9e2a7ef5413879c25ac80a44b5c864b32f27222b3a7c3f9334ac69c210ea82d3c2c756d4a87863913091f2e41a844f4fa4d444d27c6e218eb05571e2248a8a8dc2e0e2e5183b12cb2910a3614ad403cc64cda5ac2154baca0d5a516355ba5c776c3cb91650ace1daa82b52fb7451cfd5657a17598ce5dbb4a9f5b47aae3f4f48e22617b470a2f2fffb98c471801f421ef635b6000ee9439d573ba000f4bf11dafe61c58dc5152abe05eabd12c2acebee1f048e040029004345c2c30c04f34304d3304ab3a5943358cae31500430080a30841d309c173214c031c068300007662240b0b0342c27804051628b4c3820e0d020c28068252f922e2a77955b40a183860a835064ba499478446648c79e44362b0e482030485c61718c604190a323d54187a02e95240bd6b2c14f54ac0c18905a2b0a0f56d692b5d3d54b159d35501c98824195b1159e9a65672ce17742a4d04e06288e49f62c042c12381706cad7e8380a59b105748124cc61609000202102d2f42a020c284097e481478a98620aca500c3878e8c503284e4c187988580aee5931b69d059081705baa63279128757e0d12a50b041712afd0183231010a085f32f0a02df96609e610113d80481b441d50706845675639225fa063287edada663104522212c31d943a2cb070077d4f4b92f583aa45564d14d04ca52b0e16ab28c388b4c51c596b0883abfcc493326241e9cda420e10bf4c1990707110414029b85e01230c9402140a0e2cc1d00aef3bcd8d5232b90b20680edbc6c9164adf89283368b997720f3767f9c5425bf0c81c7765c369ad49ee70769d8aaabd1f951a84c7500edd99bc599ab2e4cc8faf7542a0d07a54c3ee6c3f1e66cbd1ca7115020410310810400000302400b300301030540303070002317f24e34fc2b3280146a2608a06e605a02e62421840800f46c6285972f98f019184802c35c6b88f6f21ff8a6fcac8292f2548396178020864839aa9395e40fc390cfffb98c42c8027c59b1539ed00048231e4c3bd9000310eebcd1911a307edcb69f0e5c676d223c8085544680c4eac03a2cc5892e713009663961730a4b0b0ecde54ebc390db9724123e620905c0a1950a8799c28620e437aa5b70543949528eeba0bde2948cba03844376a585d716070d2f2048530204ba6af1b327bf686d56863186e7ec5b94548c3a6fb4cde2efbdcee3278db548c3eafce680858230e8cb6d020b137a6a18600ccc2a5c1dd2ead02606597a98499c781e339dabd9f7fd4b16519c2450865c9d09f158680c4e4699ad0a922fdf2e0997666c120d680348071b061c0e1a5e31d02103c68aa7340eef04a8f9a755efb7ee73b746a08470018a80c66068286702a3de97e6020002606200c61940640c012960400f0602623420e8a0098b079bd83d10250348f56a809b82c25fa946c3352fbb2b7ff191e11fb71b6ed209b600ce559d34dbd5cc482171537c70052c1c0565005732401f80ce483ef072604780e9019865c24c18802a78f815742b193c542568268da58600803488800b208361619af9022027d8d34b0116d11e4ab0d4a248eeb3871172244212191d9662a66d79e35c8e5973dafb38861c06591f97c6e18b7063c1ed85cb78dafb0d87640e648f0861e895bcd4905b4b81258e945f8831274286713d002f3543f6ecb952970101a99e90f17739e569eba404523037e820240d7f2ad6472448e4785616e0ae5722f477654920efc2d61dcc8c3757ce077f2ae12f357a4a61d04cc080d8c8d964d5dc370c1d408421412863ecb42012358d1e1ab204090288c096e9fffb98c41283e361912c0efb42043531e601dcbdf9375ed4f454ce0495bf56f8cb0f6b0b2da9bc10c370a7b71c7f62cbbd97a438541b1f5874c7e88438081a200a815092400304d2ca9c108c041cc314003432470eaa330ce0c600326380824b7c63588395843352c6f11d0460d00a5ce7d5822262121fb4f911812a8e07090b0e0610020333a15d42dc2d078db936ed756bbb0c8969af5711be50583de08f2e572d05e096bf0c40d2dad013a8f6bb7053588161d7dda7c35139fdcba37249c8ad0442762394be6a0f74e663f33107f5ca89af6c62cfa43d38dcd326410341d2d7021e7fd5b646d8dfd6629c947409510040905d47adcc715bd705f29a7f9b35358c70b71af94c9fb28b9d44e1401c121418610f995cbc185c1096791e098365186bc20030682e498301c17118166038ae4c2d1f6e99e083809e616ff42199b3066e2a297ed0de07698a94b7ed012f232ca4b7098a622c9a85d57dcd469b0860aed2a65965b56b092ca52d4404939d1e055240425f9aa408d860edcd0a0ee8069361cb84046b5979d741318cad4f28a29b3285489a0c98ca08123871260a0dccbecf5af671546a2aca1879fafc1b4691383d097b8a40961394d086250dc8a99499df1d2a6e39238e66e637142d0d32098221b13cce9a605e646c5029d0b791e63d4f3662fcc8a556c560da856a1c74e1c2a5430c84cdda4ad52a64f17ce4f8c9289a0a61bd1d755ac154655b3e149349074a27072552f425ea83d0e2181318a86e9dc87298b0010044a5c8e1650a90808481049a63e67879a566152476a319acfffb98c41383e359912e0eeb25c44431a601bc26e9069e295ad01020714140061030a9d2134602585438154a312268589996e9864073088818d982d990298648e2e32618ee88dd3403a2526921122a828df345ec5e6af50f4b7ab494c80cf1ba20f003cb1a6416e8ba866ce738211518819236504854ac52b1ff330a5b41c1b2a4da305b2b640df81c32a982489466ac4580a48c0818326da68beecf2dc995411f1813048094969b1343a48166194b4740b4c25e8ca17e3d29d0a7a2cfc3209b9c60ed65c0b501b831487685e780246ee4f4a2dc4353cf54dd1611ea3999fabf8c3334fddb9a5db05d77eb9565d7aaf276d549159a3a78fd7ed9bf876c4ecb357a8ed4e4bbb2de5376265fc140b1c803617730a164bd5be020f715a39790c4c64c048400106363002483131e3342a3370832e390e955ec62634162231818062718dae9a31b18a9a9ae89942483838eccd4c9ca8044a0916051ba72030b46424c01558078267cf3cebf51b9318bf343189033947956c5dc82eff97444405900a00d253146047101b504443155449742c016b51503886751316893356aa982bb2209afc4123f042aa136d748048c8d245bad1883904291c99e97cdfac55e89d2d8a109349a0f82622c7182b08530654c49b1c02e43a4ac51f58cf1c16bb12425b4705c3b1189c79f69f7da51107b64709cf1ec4d144e235560207acb0511a1b3aa73528274bb72817524b99328e70252188a18d30ac4c2153db052b2170497064491ef6c197804f5aaba6a5cb44c30400715072a070c666181030424818f4c6da9fffb98c41303e16583300d61974c6930e581bd626018f1c0ece71cf9cf1a202671e108011a37a62931c60044cc08287c01297324380a0078d880cb424305f859703000b203544035f29991b91362952f761304af45d0a32c06196acdcd469198984ce000828cb8a27b4c74c96a4d00903123134eb2220ad5256853c2278a88e2e0178b4e026808a8612bbcfd8459663aea765d3081afa81113da3472025d834968ea1af22a606c1c9578f4b0586972a062d95c94a5db2ff2df2fbb5b5eebde4705caa81ca6beee3fedaa8bcbde56bd39372f6939468d3b22914a11c9f5183b5c9cf951d2f44b6d32f5faae2fc44aecdf274f581765aae4494145f5194747438e5801941189062c028b0c852f319033004943a1a70d984831938c820242c126807861c3c6d6e0674286307e066532b81341393c024e477054031d74c4bc3325840b80c1c6910f025e810692d8a00b421e168b2906a60aa9944e98602cb2b28cb96d693a9c14d12e8ca5004b9d91a2014047e8c613053d0e7048107ab0aa7051f0385868c4143821884c0288411238992a2c4a30a98f9703b9a128aaed6e6ff38ca52eeb6ef54fb3f7184417f96fc21350c66338d0cc386bd00581a30f0d2293611f018349200920d54cde08cb0c37316dbfebb5d65e902b8edd53a5935f7062d3ec5a0491edd881598e72470ec38ae72f58fdfd4b23fba994c4f56fab9614d84d726a7759768356e7b0b176f5248f2cb09fcb0b93956b289cd44cf524c9cbcc6880c6075ed0005a3ea78838d8c542cc7010ce06cc2cd869c0c8ce4c9490d9874efffb98c41583e2b9872c0de19c845fb0e541dde4b91c64cf930ce5a015c8738c2738666a814482e6202e64c04183c00196525d2160362a970440c400ebe9772b99f491684adaf228e35ba6879d577636fdb3cb4a62ce9ac34f7014c11315e3002ca182090906884302a54480c68e2c6489a65e02e1986008b1d1c8e348588ad20fb02aa1408750bc45fa514594c165eb46069e5dd2b83a1957715409b217152d52152fd022d913042824845cf0d248f0bbcb78984aad4077b9689864ac78ec0e32b15c469ccbc7809b4d79b77f1fb974916ab94db5e86613003cc312a9c9a151488f543b40b66ecd22599930d3ed8afa169e3054b5395929d2b315bae4d25cb5e241f180980aec9f170b1806128a0417bcd159d83188089900e19b301d2182448e10998bf9b48318d089d69918cad98a959a5861b40498ea32cf0c683264b33e0131005300074ca4e5542102891ab0ab2195b567799e38ef1503c2d062d6a01c1673cd00c0af1ca23306b225fd52025324bd5040e2e12061c140a670dd26ec088c648c0e70ca2088f1250346111218218a5008181831e5d84454345af72a2323a38b4eb059978d3d1b9bcea44a800c00160961838f06024c6061a204cd115890b0099663882c1ba60ea159890382d7980844f9652a5eb722ece258dad0b035a724af4d1688cbe8634ea5ca38063f289c99b319b96f1b79e553edd2f3b631e6e9b1ecbe2f47490e43b109c9358cf78c6efd4af2bcb931784a5560b01a48191844cc9ed82a189012ab7160392a828d0c280598100f186e779894058a8446321986fffb98c41403dff1872e0ee5f1cbfc30e581dc2678850a460488e60781c63a08c64600463c8062c81b209d271b89880a224511161df87819c3c6d6229085bce5c55fc705c988cf45af5edd146aadea1b529b79d58f52c4ad36475a12a3a0c150165bf031062c8900150479456b8497296d04329ee0b2c1c2260aa4520eab3b7e581456530b955f8f6a76550a80dce636cda531755256f2a06150c5185a45c40204343ac2217984028e29b10210d06d84347f0dd4d8e62025626d44ad503f96030caf72fa36d895ec10a14281123ff8a7afc5dd66257706f0a4ab16ecfaef35169baeb5f501f47c29a699b6a0b4850b8246000aa6a9de275217660804860080e213140001d18e8d2601ae865783860681661408069c9261c968882c31605733dca430741b30842f31cc0531c01f303807443030465d2546d7d73433317616fcca9d79551ca2822728b34577ed635b56e83e2d94ed6ad2e70ad3c72873222a30069dc7d458465489017b20190e0ba9f3155ae11c32f8411ad2690abd923a8ca5e6984f88e4b24f167dad418ddde5799d27c55137eaaa1c00cf9098b8e0a52be330d3d038a24847f51802305a6a951fd24550d3bf51e9c6f20b94ca71a5d5fee516ddaca1c9ca4b67cc4cf0a66b5edbf6912cdf1412c57935758d40842809b9460d5c9c5d48c9ee0da4985cce9a7d810019862351e296698e02f818580a89e67589c1c1705c4a31292333105f0400463109a6c8a5865283461a012672ad667791062885660187865f0ee619026060810a4b7d01b2a4ad9c7f1e4769ca96df954bf1fffb98c42a03dea1892a0ee193cbbd3164819f7001c63349c7fa473b6f9cb16afd8fbdcb12ea3ada95c3b379ca98c211bc3d78e505522e28e30d7f6393edc9079d1828bb4fdca15f4fc111b86a233f14ace4418a62eac6d418b3ad25605a42fe5e25f62181318b748070e6aa187d3d0ba4fcb3a72a185a8a16f04b21302e4e0ef3ad5eaddedaab5354b733ad2aa4fbca5bd8af765ce6ff75739426c362f2fa36f42da3468ae970b2b1b596f2562d1076a2db42982ada32ca3b0f309d0fd366b10c37a91460c2649ce0289c6100c196dc06c74027d98018c79d9919bc1263e149a16f86bb2118881a6062a9a48d20e1a920403822a8184a732c57f5afd149a0c87b28bbcb2d8cc6e92572894d9ca832946a8719fc7797dcc696b5aecec96059d96df74576b9afa2ba7a6290fc35014a90c99fca5e9a5bd1a9555e65ff4da96b5aa67460d61b21952f15296a0a62a41fe4c4301809319d9789faad2a9646ab523f7217a5ed92652f87a76b6e9ab63633e4d5cc2d5593dec6c55d65417f76bed635ad678cccd51da9e9aad69fea4a2af413d1a94e33dac2555e8a76bd5a59fad9ca2d535cb1c6aa300c04f30150f0300559731b83ae3079065302e0ac332616130a000e31f0a3402730b070605042b16dcc0898c2004f495470180a086b8022460102c0e7f2ecb504fd683206c91468a90fc723fd14f5c554a26e3fd09648cceff0ee4655e66cae1cd7e1e1ca464f0981eb761855b123a8969adeba6134746ca88b60d44535a4dc63b73e66678b5bb5d30dc8597e60657ea2551922dac4561b84a1fffb98c44d039d3d8d1c0f6de74b6a30e3c9ed30f25cdcf89d652c8f330e27aaf94fe5873637f1af162c281160b1426b54b65e0dd81b20562c050c08749a1c7957db0eb614e30216d686a81c59212b6afdd2aa13c7cdcc4aec65d37b96349c532fea9379f401180900a9827819187811a9c620d9185b019983584b194388a870451ae0a0e2e668aae431118cb15072032a38fd043044412b8e20470c4404d9180c22adc441d309980a10782bbc4c70981c9bbfa689d92a3ad14d246b9c604f3d55ce325d2e3bb579b825f5d5a65ac55a9cb0dc7405894a07f2917c1ad7ce92ae5cf756bb4b4152e177969988a493a00a3a803a3a98a5eaabac89077d4cb9d7dbbb56dda4acb38967b23432621a464bc5b415e4cfaacd7d8151a0e4b8f47d6c333330797f0e0aa138f81846cb1759ee45ec3de78a9ecfffff5db925dbb2a8a535300900e3007073306e33636601ed31080c8306f0e730641d8307a0580c6d332263033d3494930d5410a19b5a0884981ea80e0703169a19f99186b513155d303096ec3806a249168cc890b1dda2f42fc72d5e44eb3ff450f82f12c435ad1483c12c47110b152a8e6238962199aac64431fce2abcb85905cf8a64f3b3f7ccee5f5e0c1610579b8f85a2c52c7ef72145b8b233b41313c744408084220b4b2004481c0740683a908e46e864a142a12d7211c293f78e12d961d99c2a96ec2dbec4b509e713cb6b07b2fb712f7fe89c742f034a30bc96ac889115feef317668d64b515ffb8ecde9119b4608c0208054c2d238fc3584c79134c94174ca3124c5e04cc08fffb98c48003dcf585200f6d87c3dbb12581dd3dd00541c15038e01a0a0c512b8224830dc1830841c30f4c7071b6404ce63a226c040830b4f08105070117318a8591b0856f5046e9030da539c4fdfa9d40a16d30128b2e949884cacd845c7617e8e9116908cc8a924961140821e02d43310f280e61602064880700821b83a1406f920269932ceb438cf667a4f0e77eae430d04220da31d85b191769d558f815c1908c370e4592f87d41321348a2d84e0ec52b793c473a53b2406f84e99d92cb86c4e620b3d5fd9867c3836521be50323c6d78e67fb6e952b4a172657ed769de48f62c64fd76f1e6b5a8cdf9f19d4056562545ab56928221849983ba060e09a9b99018e63505baed24c9c0c50f068b8d661d0c0db0c03004cc62302008c02283488dc140b52b36200714c142a79fabb0e11062028381626c85483eee8d2723d00d6f853669aab45d9543d0e43b86552571ea28c41b9c3ceac61b22292c772949404ba0121a6fbecc416a485b682db94bdbd709a0c2da424db2c90bfed8265df89410ce21daaa0101b5e952ea668f33282efb2b5c8c6d69522f06096df764b1786c5c203a5c5c7870595b866d6a446a3d6ab56f623bfb14e762b428f5b97175f3a15c7bfae2531655d236cb4c2ccc54770c30417756dd3f5ccad489b95b132f29c53aa4c53890e8b81d0367684c30889db77d4c64752f3521504195c86dc9858099c2277d7ad70b80016f22705c3308a0ebc32efb6e2216c4136d65ae67e9db8dbaee3c6a6e85c98bbe549d88cbeece45e2923ab129f806170985a9e94b265d861fffb98c4a603dce189320e6591cba830a681cd3db9c0973cbc491ea1c06189540014ca13050482d85ddf81a68f028a88b184212c59279148f76ec98a26e5d5545f68e28c5b2f020c09c330fc1332da902a42a96611f293693f88cab87e9622dea6397a8d2f1db5faae7aaa5fcad9bac580fdca650bf83061ee2c90331adadc27ec547f8afdcdb7e7f5d5719e458b786d77f6acb063c36fac66e7080002c6485301c3230ee5031c714cc1c58d4b0572ea9845a600c0e1a04113851cd99f15063a3cd7ce364319519e6261c062009b670561c6203903cdbc8340578846e53ab8ca6571c8625f0e43b4cfdc6ebd78c58ab5b2b772969a259534c4b1eb865ff6bc86ca28d2c94656381107c80153815214917a564208a1b2ff2280e8ea509d6850b9689d96575234f4c4ef3792dbcc6d79a42cfcd3f0b5986ce2972c141cc05eb7e25d1978596c0cd3640dfc99b84011d9f7ea491a8b4333514bfafb5777632a1ca631b72cef39ca5b39febf0fa1bf2ede5fac2c634fbabad72770b1aad967fbab76f5ec3719a7e4951ad84040640c107441006018260a1933663326044d004029a07f9a38d911c101a9a6031a6819961b28505ae406078189219b7249a28d9980f1872d9baa9844b908f8e0a98409201c3211a11206aeae9772d555d597dc1cd6dde5cd75e770a1f8122512a186e54fcc762afbb4a588af65e48602247047de1a7e708042c04c1d820c82e47160eacb9896034619a147878cc384770100480a6aeb282cb59e21b2d4656f54dace796028054b17bb494e169659d41b168a76ba0ca1fffb98c4d301dd8d8534aeeb238c3930e581dde0b97ea80af34ba588d295bd86a1837cd661f88c79d97f227724f4119c28aa3d566188dc5e2528af2778a76596f3ab16a3a9671cf0c1e9a2ed8ad4dda95b776a4d6328fa7bf01f65f6a72b4e4cc356328fdbb718ad50826c69800d06451d43f403a30e006305415010321d789ca280c648ba64a706141cce8c85582338c6010ca8f9070da620cd0a0101c011a38d323400a0e5530d9734e9a346103221d1d0290112416d1bba3222bb5e4b48d3aef1b447fa454ce9c34eddeb12e8f548fbcaec59af0333595b194e843642f2d622d0651060f7257aa68754a0402e34ac12a07382a506b41dd6745a72a01078786d51e6bed5252cb5b8aef7e1d15d0bc98e3f6a5a93ee45e2fe404d7d94b7056d7debaa82735785a63342b20e0ba8b71f961cfc596aefd313c24b2f707e0b812257e1b75a595ee4d3af4b0053c46acae7eb6ae53f71c7091c6aacdcb232febd3372296c130866aef41766376a8f08dc7a5f2d94cfbbd3d04534c5fb37b60c00402040105730de5432ea4b30544030e2106031919e854481c1c4a726c1ca0c173110d2133334031091a421991c99c2a9ce1180438c1010b0566d11e011933f4330f5438160374220a0d1910b0cca62129664818c8481347c755e82ff402fc587fe6a9e05745d29caf564171da869ad31c70d78beaff394c844a4587994c131d14d2083ccaa480348b0012e4042f07a120d244b070d005ac4b244f68f69d4ebb6bc63903cbe18a55e094e88d615e85014e56632664a97099169f768afc4f4260d42fffb98c4eb03e25d8d2a0eef07c4563064c1dde4b9163cbb40c4a0a2b44310b6bb17bec561d8d3f4f0610ec3f5f9622b494b7a1f78218a6e4aadcc375b341dab358ea66337627759ceefce35ebf4100c3c9f548ffd0e32997ceca696827633761986a5dda6818d35800090012b46987b25307928f46f05087b516d82ab89b61c30070503a2ec056c280b242fe2c3034041c268b22a3040c0c060e5df760c140569ad7577c0912b317c33a2b715b17e2b334500ced7ab7392de6b56acdaa8ed4ab916d3f8b194a9ef644f631348170295d707774f00793c942119920ac7ef32b5d7588627bb5d79d84413d2d749912953cba04288e89d55ee9d0f055b4b486d18c0d1e391ae3ea451d33bce0fb29358d7330b35a5be4e61a2e61da7dfa6ea0ca3aadea2d2a2e2821c7819942060493682987b62e7bffffffffffe5af79e99a8654377dc449fe5cde556da74e989d93f2de50a466c0000830028580e4c0840b0c0944fcd4690bcc1f824ccfca0c70748068a1e45024046864f4867a565040106a65a8a620b06b804898684080aba240730b1132e0c31844335743420a040719b2e1c78c1918a818795b8bc410b2f67755b9e3809f186e9983ac34467b38ac7a532eb99dfaf6a435233594c9605fc7cd4b4c901a51768c414b9a01088016b12733051a816705430492170564830818b0103840a5c1869f689bc4fac529a8af40b1a6d1de7fadc621f719ce75a250f3f7157a5f9953a4a5480560b002a65b4b3e087fa56d39af6107c0b0cf292a339ed9ad179d945348a8352fa96e556a7a230d5fbfffb98c4ec011d7a1b32ee317cdc8b30e309ede4bad356aac662b11a38fc571a5b516a966f5d98a3a08d45a49ce56d4f4eea6a37497261ee98b916833a3fe986b72a815f38fc78d34cb00895000000764c3c0f987029983c3f1e67251aaa2705c0b0303058074041125b2008c0d0d0c5300913844069840070184633e68cb3161c1018002586a6281001b3103cecdf3714206a641af14ceda597856ac4deca1865da8262b3b3152ad596d163ab356d4a5fdc31b595adcada6d489b5970650ca9773f2fd329796505d64166dc2c059d4a930a1b02866245a260cf13b2e0bf384f5375234163e79d35c112514b506a2f42946db813b058255019154d5667342ab2962cd626a22d9eba9ac96359ed9eadc6fc366b2f4d2d9f2d0a4aa4f5dc68111650542a4060c324b6c2ae923edc52ccafbb5fffe1fc67fecab2e4fa94a1b1953392ac63b370db4ea353c86f9fb62e1774dc219af50b057980203b181085b18500149b960681833011188043880da9859a6f5019720687b1a36269879b10e06706548182462d7464198144187854e99c2e0d384008c21b167075e71ab5061c21830833c4845c4a961490731da5e0ba8aec426aaf3f0b6cc752299d4a9b64624394ee6f528ebe5c9249e25b3390f64e8f917a78dd94dd008415202f000e0210b1440e22ee26a841cd6561ecbd1594fa959de331eced7485b8b22494aad7cdaa590beb8a820b547c4755489fa228b721d1a1cd00e5668ca64f33c66546b935235ebf46adaa5811f2b0a7d40e114ea88dce27e9d8cc74b5abd8545115670b22a8df4afffb98c4fa03a10623146ee92fc4cfc4dfc1ed3cb82e1993ae0b6de76b4212c6bfa6d9602e5e45dc24e44b476aa620c56ac385a7b496b5b3789bcee4dc6dd21428525714d62da82db1f58bfce3c1c5337fbde35aadf70f7fdaf4ce3da43060b6302d72068566a0e24625d6a67c97c6258240911043786140aac1c49c908266354831870a80bd51f1670d048f4944d393a5d14866d92f959d96b72901b910967b0261d8d1f7c6a29f9504ef3268e0e909f3b3e2b2f5de0993104424aea57cb04f509e9112c712489d531269e940f0be018a0a0dd8334a270add2bdcd8ac7c766a0e2a4cbae66252194511f9e8926719c2a281bbe7c2d1d93b87a4b6cc4b8627e4f5c7438da2100c9084b1fc6238b88cd1250a585a3ff0ac4fc3c351057a107cc0e07a6e765556627e63668bd8a71a711dd4df5d241a90f153542b9ed99693b2b9e7a87c870476b33ce7bca4fdf812d3207972649904fc154ee427d366ecdb9bb4890a3a24e94cbf316ac5aeb6de59a5b18c308b19c3044024308e00d3039048350b1b830df02a304201b2e50a0051668c04401566a0e8b003a9a8dd1724c5dc857d44a34243f90c9516a3328f249a2ca1572999526869c6a55854271b11686405022550b9696567a4750b93044563f6973431b980aa4be558a54ea90f857f2717aeca34a5539421ec7523a82b06c5a2f789ea8ddc5823959a1e8edc585f32251d612490a09571db6c259d0623cc44448a0b61eb69784a1f0f68947022275c3a1a978946c4c64e85d7464850b898563846383ce272617ce50c4e3c322e8bcb8b17fffb98c4f183e28222fa0ee5878c6fc4df01e7b1b87aa0f843712265e6490c9693f2ee9e14583878a484f3cd467a91a6f687d073afd6532fd5c5358dc4c1cf5606dfafb6fd9c4b4c53ab636e26dbfb7ade3b6ce75880f16328cf5958c591c0b59ac04c414d45aaaaaa2a50130fa5cd2459339164cf529326b90c16003088a014024429d23274800a8c7605f0c682bc65a819a331a12a9542495d2b84b0e2d665148f55af5c51a8f88ad4b972398a8358961eb0957082064f893e1eb260432c800a02af2e00134076127910ed38fa295c823d27723e1049263432849c3813876753b47c561dcab189249a8fa83e72c11e87e22fa554cc4737a2968c8ac7cd6978b510e4834649c7d2f12a35c7cb992b194758a184e68b8e7aa76b1265ab1a130ba3bb4f08d54a55347af47bd6a2554b7c0f3bd19cfad74a4ade9bec50e3d54dfeed9b2b34533c525e303e95acb891950848dd6f8e4d7fd198dac950e87ad451b8ea11fe295cebcdb10c106c67b65ea2110a6e7fcc63b38454d0ca342e4e09f479d531d3c47341098cc089a9d0947c658949b564924d74e949d1f1d094f62e3a1049b5e679725249936493d422743d8c98c56b5aa989c845ae25139eaa632312f1b12513649530929540647cf1d094aadaea506aa1e395b69c3a79931a7b4251f62e5df309289c7c864d42129e3a8235bcd190940d84674e8f8944e2e88ab4c5e3a7c928bd6a67a4944e8eab62b6bc1c80d5864647ccf40b973cd3624b0fd8e8fb7b56ad60711d5698adac07c86657ec1c876872fb03cb569cc4751b47c9c4961bfffb98c4eb8220d226f84e3d89c3f044dda5adb048882600226d6b53926d1a3276659313d75931fc85df2a9369f2cc4d1946e9d2acb924f6ab5089cd991f5e032a4c414d45332e313030aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaafffb98c40003c00001a400000020000034800000044c414d45332e313030aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa4c414d45332e313030aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaafffb98c40003c00001a400000020000034800000044c414d45332e313030aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa4c414d45332e313030aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaafffb98c40003c00001a400000020000034800000044c414d45332e313030aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa4c414d45332e313030aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaafffb98c40003c00001a400000020000034800000044c414d45332e313030aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa4c414d45332e313030aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"
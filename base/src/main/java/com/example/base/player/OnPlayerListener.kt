@@ -1,5 +1,7 @@
 package com.example.base.player
 
+import com.example.base.player.exoplayer.ChunkSourceMetrics
+
 /**
  * 播放器监听
  */
@@ -13,4 +15,14 @@ interface OnPlayerListener {
      * 播放错误
      */
     fun onPlayerError(uri: String, playKey: String, desc: String)
+
+    /**
+     * 分片播放结束，回调本次数据源的统计
+     */
+    fun onChunkMetrics(playKey: String, metrics: ChunkSourceMetrics) {}
+
+    /**
+     * 分片播放开始出声，回调首个片段到达到开始出声的耗时
+     */
+    fun onChunkStartLatency(playKey: String, latencyMs: Long) {}
 }
\ No newline at end of file
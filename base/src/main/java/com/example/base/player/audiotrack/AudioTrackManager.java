@@ -32,12 +32,11 @@ public class AudioTrackManager {
      * 指定采样率 （MediaRecoder 的采样率通常是8000Hz AAC的通常是44100Hz。
      * 设置采样率为44100，目前为常用的采样率，官方文档表示这个值可以兼容所有的设置）
      */
-    //TODO 需要与源音频保持一致
-    private static final int mSampleRateInHz = 32000;
+    private int mSampleRateInHz = 32000;
     /**
      * 指定捕获音频的声道数目。在AudioFormat类中指定用于此的常量
      */
-    private static final int mChannelConfig = AudioFormat.CHANNEL_OUT_MONO; //单声道
+    private int mChannelConfig = AudioFormat.CHANNEL_OUT_MONO; //单声道
 
     /**
      * 指定音频量化位数 ,在AudioFormaat类中指定了以下各种可能的常量。
@@ -61,6 +60,13 @@ public class AudioTrackManager {
     private IAudioPlayStateListener iAudioPlayStateListener;
     private static final int BUFFER_CAPITAL = 10;
 
+    /**
+     * 从 PCM 环形缓冲区读取时的最长等待，超时后检查是否停止
+     */
+    private static final long STREAM_READ_TIMEOUT_MS = 200;
+    private static final int STREAM_BUFFER_SIZE = 8 * 1024;
+    private volatile PcmRingBuffer streamBuffer;
+
     private ExecutorService executorService = Executors.newCachedThreadPool(new ThreadFactory() {
 
         private final AtomicInteger mCount = new AtomicInteger(1);
@@ -124,6 +130,27 @@ public class AudioTrackManager {
     }
 
 
+    /**
+     * 按解码输出配置采样率和声道数，与当前不同时重新创建 AudioTrack
+     */
+    public synchronized void configure(int sampleRate, int channelCount) {
+        int channelConfig = channelCount == 1 ? AudioFormat.CHANNEL_OUT_MONO : AudioFormat.CHANNEL_OUT_STEREO;
+        if (sampleRate == mSampleRateInHz && channelConfig == mChannelConfig && mAudioTrack != null) {
+            return;
+        }
+        Log.i(TAG, "configure: sampleRate=" + sampleRate + " channelCount=" + channelCount);
+        boolean playing = mAudioTrack != null && mAudioTrack.getPlayState() == PLAYSTATE_PLAYING;
+        if (mAudioTrack != null) {
+            mAudioTrack.release();
+        }
+        mSampleRateInHz = sampleRate;
+        mChannelConfig = channelConfig;
+        initAudioTrack();
+        if (playing) {
+            mAudioTrack.play();
+        }
+    }
+
     public void addAudioPlayStateListener(IAudioPlayStateListener iAudioPlayStateListener) {
         this.iAudioPlayStateListener = iAudioPlayStateListener;
     }
@@ -159,7 +186,7 @@ public class AudioTrackManager {
             bufferCount += byteSize;
             Log.d(TAG, "write: threadName=" + Thread.currentThread().getName());
             Log.d(TAG, "write: 接收到数据 " + byteSize/1000 + " kb | 已写入 " + bufferCount/1000 + " kb");
-            int write = mAudioTrack.write(bytes, 0, byteSize);
+            int write = write(bytes, 0, byteSize);
             Log.i(TAG, "write complete: 接收到数据 " + byteSize/1000 + " kb | 已写入 " + bufferCount/1000 + " kb");
             if (write == 0 && null != iAudioPlayStateListener) {
                 //由于缓存的缘故，会先把缓存的bytes填满再播放，当write=0的时候存在没有播完的情况
@@ -176,8 +203,55 @@ public class AudioTrackManager {
     }
 
 
+    /**
+     * 写入 PCM，阻塞直到写完
+     *
+     * @return 写入的字节数
+     */
+    public synchronized int write(@NonNull byte[] bytes, int offset, int length) {
+        if (null == mAudioTrack) {
+            return 0;
+        }
+        return mAudioTrack.write(bytes, offset, length);
+    }
+
+    /**
+     * 播放 PCM 流。在后台线程从缓冲区读取已有的数据立即写入，不等待凑满，
+     * 解码出一帧就能送到 AudioTrack。缓冲区关闭且读完后结束
+     */
+    public void playStream(@NonNull final PcmRingBuffer pcmBuffer) {
+        streamBuffer = pcmBuffer;
+        prepareAudioTrack();
+        executorService.execute(new Runnable() {
+            @Override
+            public void run() {
+                byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+                long total = 0;
+                try {
+                    while (streamBuffer == pcmBuffer) {
+                        int read = pcmBuffer.read(buffer, 0, buffer.length, STREAM_READ_TIMEOUT_MS);
+                        if (read < 0) {
+                            break;
+                        }
+                        if (read > 0) {
+                            total += write(buffer, 0, read);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                Log.i(TAG, "playStream: end total=" + total / 1000 + " kb");
+            }
+        });
+    }
+
     public void stopPlay() {
         Log.i(TAG, "stopPlay: ");
+        PcmRingBuffer pcmBuffer = streamBuffer;
+        if (pcmBuffer != null) {
+            streamBuffer = null;
+            pcmBuffer.close();
+        }
         if (null == mAudioTrack) {
             return;
         }
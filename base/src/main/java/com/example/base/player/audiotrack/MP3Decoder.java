@@ -11,6 +11,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
+/**
+ * 整段 mp3 解码，需要写临时文件并等待全部解码完成。边到边解码使用 {@link StreamingMP3Decoder}
+ */
 public class MP3Decoder {
     private static final String TAG = "MP3Decoder-ExoPlayer";
     public static byte[] decodeMP3(byte[] mp3Data) {
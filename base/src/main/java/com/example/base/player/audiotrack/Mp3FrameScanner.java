@@ -0,0 +1,481 @@
+package com.example.base.player.audiotrack;
+
+/**
+ * mp3 帧扫描，不依赖 Android，可以在 JVM 单测中运行
+ * <p>
+ * 1. 按片段增量扫描 {@link #scan(byte[], int, int)}，片段边界可以落在帧中间，不拷贝数据
+ * 2. 跳过 ID3v2 标签；第一帧是 Xing/Info/VBRI 头时读取总帧数、总字节数和 LAME 编码延迟，不计入音频帧
+ * 3. 逐帧累加采样数，{@link #end()} 后 {@link #durationUs()} 是精确时长，扫描中是已到达部分的时长
+ * 4. 按 {@link #getPosition(long)} 提供稀疏的定位表，表满时隔一个删一个并加倍间隔，内存固定
+ * <p>
+ * 所有缓冲在构造时分配，扫描过程不再分配内存。非线程安全
+ *
+ * @author wangshichao
+ * @date 2024/7/8
+ */
+public final class Mp3FrameScanner {
+    public static final long TIME_UNSET = -1;
+
+    public static final int DEFAULT_SEEK_POINTS = 128;
+    public static final long DEFAULT_SEEK_INTERVAL_US = 1_000_000;
+
+    private static final int STATE_SYNC = 0;
+    private static final int STATE_ID3 = 1;
+    private static final int STATE_FRAME = 2;
+
+    private static final int ID3_HEADER_SIZE = 10;
+
+    /**
+     * 同步字、版本、层和采样率
+     */
+    private static final int LOCK_MASK = 0xFFFE0C00;
+
+    /**
+     * 最大的帧：MPEG2 Layer II 160kbps 8kHz 带填充
+     */
+    private static final int MAX_FRAME_SIZE = 2881;
+
+    private static final int XING = 0x58696E67;
+    private static final int INFO = 0x496E666F;
+    private static final int VBRI = 0x56425249;
+    private static final int VBRI_OFFSET = MpegAudioHeader.HEADER_SIZE + 32;
+    private static final int XING_FLAG_FRAMES = 0x1;
+    private static final int XING_FLAG_BYTES = 0x2;
+    private static final int XING_FLAG_TOC = 0x4;
+    private static final int XING_FLAG_QUALITY = 0x8;
+    private static final int XING_TOC_SIZE = 100;
+    private static final int LAME = 0x4C414D45;
+    private static final int LAVF = 0x4C617666;
+    private static final int LAVC = 0x4C617663;
+
+    /**
+     * LAME 标签中编码延迟相对标签开头的偏移
+     */
+    private static final int LAME_DELAY_OFFSET = 21;
+
+    private final MpegAudioHeader header = new MpegAudioHeader();
+    private final byte[] id3Header = new byte[ID3_HEADER_SIZE];
+    private final byte[] firstFrame = new byte[MAX_FRAME_SIZE];
+    private final long[] seekTimesUs;
+    private final long[] seekPositions;
+    private final long initialSeekIntervalUs;
+
+    private int state;
+    private long position;
+    private int window;
+    private int windowBytes;
+    private int id3Bytes;
+    private long skipRemaining;
+    private int lockedHeader;
+
+    private boolean firstFrameDone;
+    private int firstFrameBytes;
+    private long frameStartPosition;
+    private int frameSize;
+    private int sampleRate;
+    private int channels;
+    private int samplesPerFrame;
+
+    private long frameCount;
+    private long sampleCount;
+    private long audioBytes;
+    private long firstAudioPosition = -1;
+    private long skippedBytes;
+
+    private long headerFrames = TIME_UNSET;
+    private long headerBytes = TIME_UNSET;
+    private int encoderDelay;
+    private int encoderPadding;
+
+    private int seekPointCount;
+    private long seekIntervalUs;
+    private long nextSeekTimeUs;
+    private boolean ended;
+
+    public Mp3FrameScanner() {
+        this(DEFAULT_SEEK_POINTS, DEFAULT_SEEK_INTERVAL_US);
+    }
+
+    /**
+     * @param maxSeekPoints  定位表最多的条目数
+     * @param seekIntervalUs 定位表的初始间隔
+     */
+    public Mp3FrameScanner(int maxSeekPoints, long seekIntervalUs) {
+        seekTimesUs = new long[Math.max(2, maxSeekPoints)];
+        seekPositions = new long[seekTimesUs.length];
+        initialSeekIntervalUs = seekIntervalUs;
+        reset();
+    }
+
+    /**
+     * 扫描新到达的数据
+     */
+    public void scan(byte[] data, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            if (state == STATE_FRAME) {
+                int count = (int) Math.min(skipRemaining, end - i);
+                if (!firstFrameDone) {
+                    // 第一帧保存下来解析 Xing/VBRI 头
+                    System.arraycopy(data, i, firstFrame, firstFrameBytes, count);
+                    firstFrameBytes += count;
+                }
+                i += count;
+                position += count;
+                skipRemaining -= count;
+                if (skipRemaining == 0) {
+                    onFrameEnd();
+                }
+                continue;
+            }
+            if (state == STATE_ID3) {
+                if (id3Bytes < ID3_HEADER_SIZE) {
+                    id3Header[id3Bytes++] = data[i++];
+                    position++;
+                    if (id3Bytes == ID3_HEADER_SIZE) {
+                        skipRemaining = Mp3FrameSplitter.id3Size(id3Header, 0);
+                    }
+                } else {
+                    int count = (int) Math.min(skipRemaining, end - i);
+                    i += count;
+                    position += count;
+                    skipRemaining -= count;
+                }
+                if (id3Bytes == ID3_HEADER_SIZE && skipRemaining == 0) {
+                    state = STATE_SYNC;
+                    windowBytes = 0;
+                }
+                continue;
+            }
+            int b = data[i++] & 0xFF;
+            position++;
+            window = (window << 8) | b;
+            windowBytes++;
+            if (windowBytes == 3 && (window & 0xFFFFFF) == 0x494433) {
+                // 帧之间的 ID3 标签，已读取"ID3"三个字节
+                state = STATE_ID3;
+                id3Header[0] = 'I';
+                id3Header[1] = 'D';
+                id3Header[2] = '3';
+                id3Bytes = 3;
+                continue;
+            }
+            if (windowBytes < MpegAudioHeader.HEADER_SIZE) {
+                continue;
+            }
+            if ((lockedHeader != 0 && (window & LOCK_MASK) != lockedHeader) || !header.setForHeaderData(window)) {
+                skippedBytes++;
+                continue;
+            }
+            onFrameStart();
+        }
+    }
+
+    /**
+     * 没有更多数据，之后的时长扣除编码器补齐的采样
+     */
+    public void end() {
+        ended = true;
+    }
+
+    public boolean isEnded() {
+        return ended;
+    }
+
+    /**
+     * 已扫描音频帧的时长。{@link #end()} 后为精确时长，已扣除 LAME 记录的编码延迟和补齐
+     */
+    public long durationUs() {
+        if (sampleRate == 0) {
+            return TIME_UNSET;
+        }
+        long samples = sampleCount - encoderDelay;
+        if (ended) {
+            samples -= encoderPadding;
+        }
+        return Math.max(0, samples) * 1_000_000L / sampleRate;
+    }
+
+    /**
+     * 预估总时长，扫描完之前可以用于进度条
+     * <p>
+     * 已结束时返回精确时长；有 Xing/VBRI 头时按总帧数计算；否则按已扫描部分的平均码率和总长度估算
+     *
+     * @param contentLength 文件总长度，未知时传 {@link #TIME_UNSET}
+     */
+    public long estimateDurationUs(long contentLength) {
+        if (ended || sampleRate == 0) {
+            return durationUs();
+        }
+        if (headerFrames > 0) {
+            long samples = headerFrames * samplesPerFrame - encoderDelay - encoderPadding;
+            return Math.max(0, samples) * 1_000_000L / sampleRate;
+        }
+        int bitrate = averageBitrate();
+        if (contentLength <= 0 || bitrate <= 0 || firstAudioPosition < 0) {
+            return TIME_UNSET;
+        }
+        return (contentLength - firstAudioPosition) * 8 * 1_000_000L / bitrate;
+    }
+
+    /**
+     * 已扫描音频帧的平均码率，单位 bit/s
+     */
+    public int averageBitrate() {
+        if (sampleCount == 0 || sampleRate == 0) {
+            return 0;
+        }
+        return (int) (audioBytes * 8 * sampleRate / sampleCount);
+    }
+
+    /**
+     * 按定位表查找不晚于 timeUs 的帧的字节位置
+     *
+     * @return 字节位置，还没有音频帧时返回-1
+     */
+    public long getPosition(long timeUs) {
+        if (seekPointCount == 0) {
+            return -1;
+        }
+        int low = 0;
+        int high = seekPointCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (seekTimesUs[mid] <= timeUs) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return seekPositions[low];
+    }
+
+    public int seekPointCount() {
+        return seekPointCount;
+    }
+
+    public long seekTimeUs(int index) {
+        return seekTimesUs[index];
+    }
+
+    public long seekPosition(int index) {
+        return seekPositions[index];
+    }
+
+    public int sampleRate() {
+        return sampleRate;
+    }
+
+    public int channels() {
+        return channels;
+    }
+
+    /**
+     * 已扫描的音频帧数，不含 Xing/VBRI 帧
+     */
+    public long frameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Xing/VBRI 头记录的帧数，没有时为 {@link #TIME_UNSET}
+     */
+    public long headerFrames() {
+        return headerFrames;
+    }
+
+    /**
+     * Xing/VBRI 头记录的字节数，没有时为 {@link #TIME_UNSET}
+     */
+    public long headerBytes() {
+        return headerBytes;
+    }
+
+    public int encoderDelay() {
+        return encoderDelay;
+    }
+
+    public int encoderPadding() {
+        return encoderPadding;
+    }
+
+    /**
+     * 已扫描的字节数
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * 重新同步时跳过的字节数，不包含 ID3 标签
+     */
+    public long skippedBytes() {
+        return skippedBytes;
+    }
+
+    public void reset() {
+        state = STATE_SYNC;
+        position = 0;
+        window = 0;
+        windowBytes = 0;
+        id3Bytes = 0;
+        skipRemaining = 0;
+        lockedHeader = 0;
+        firstFrameDone = false;
+        firstFrameBytes = 0;
+        frameStartPosition = 0;
+        frameSize = 0;
+        sampleRate = 0;
+        channels = 0;
+        samplesPerFrame = 0;
+        frameCount = 0;
+        sampleCount = 0;
+        audioBytes = 0;
+        firstAudioPosition = -1;
+        skippedBytes = 0;
+        headerFrames = TIME_UNSET;
+        headerBytes = TIME_UNSET;
+        encoderDelay = 0;
+        encoderPadding = 0;
+        seekPointCount = 0;
+        seekIntervalUs = initialSeekIntervalUs;
+        nextSeekTimeUs = 0;
+        ended = false;
+    }
+
+    private void onFrameStart() {
+        frameStartPosition = position - MpegAudioHeader.HEADER_SIZE;
+        frameSize = header.frameSize;
+        skipRemaining = frameSize - MpegAudioHeader.HEADER_SIZE;
+        if (lockedHeader == 0) {
+            lockedHeader = window & LOCK_MASK;
+            sampleRate = header.sampleRate;
+            channels = header.channels;
+            samplesPerFrame = header.samplesPerFrame;
+        }
+        if (!firstFrameDone) {
+            firstFrame[0] = (byte) (window >>> 24);
+            firstFrame[1] = (byte) (window >>> 16);
+            firstFrame[2] = (byte) (window >>> 8);
+            firstFrame[3] = (byte) window;
+            firstFrameBytes = MpegAudioHeader.HEADER_SIZE;
+        }
+        state = STATE_FRAME;
+    }
+
+    private void onFrameEnd() {
+        state = STATE_SYNC;
+        windowBytes = 0;
+        if (!firstFrameDone) {
+            firstFrameDone = true;
+            if (parseInfoFrame()) {
+                // Xing/VBRI 帧不包含音频
+                return;
+            }
+        }
+        if (firstAudioPosition < 0) {
+            firstAudioPosition = frameStartPosition;
+        }
+        long timeUs = sampleCount * 1_000_000L / sampleRate;
+        if (timeUs >= nextSeekTimeUs) {
+            addSeekPoint(timeUs, frameStartPosition);
+        }
+        frameCount++;
+        sampleCount += samplesPerFrame;
+        audioBytes += frameSize;
+    }
+
+    private void addSeekPoint(long timeUs, long framePosition) {
+        if (seekPointCount == seekTimesUs.length) {
+            // 表满时保留偶数位置的条目，间隔加倍
+            int count = 0;
+            for (int i = 0; i < seekPointCount; i += 2) {
+                seekTimesUs[count] = seekTimesUs[i];
+                seekPositions[count] = seekPositions[i];
+                count++;
+            }
+            seekPointCount = count;
+            seekIntervalUs *= 2;
+            long lastTimeUs = seekTimesUs[seekPointCount - 1];
+            if (timeUs < lastTimeUs + seekIntervalUs) {
+                nextSeekTimeUs = lastTimeUs + seekIntervalUs;
+                return;
+            }
+        }
+        seekTimesUs[seekPointCount] = timeUs;
+        seekPositions[seekPointCount] = framePosition;
+        seekPointCount++;
+        nextSeekTimeUs = timeUs + seekIntervalUs;
+    }
+
+    /**
+     * 解析第一帧的 Xing/Info/VBRI 头
+     *
+     * @return 是否是信息帧
+     */
+    private boolean parseInfoFrame() {
+        int xingOffset = MpegAudioHeader.HEADER_SIZE + sideInfoSize();
+        if (firstFrameBytes >= xingOffset + 8) {
+            int tag = MpegAudioHeader.readHeader(firstFrame, xingOffset);
+            if (tag == XING || tag == INFO) {
+                parseXing(xingOffset + 4);
+                return true;
+            }
+        }
+        if (firstFrameBytes >= VBRI_OFFSET + 18 && MpegAudioHeader.readHeader(firstFrame, VBRI_OFFSET) == VBRI) {
+            // 标识4字节、版本2字节、延迟2字节、质量2字节之后是字节数和帧数
+            headerBytes = readUnsignedInt(VBRI_OFFSET + 10);
+            headerFrames = readUnsignedInt(VBRI_OFFSET + 14);
+            return true;
+        }
+        return false;
+    }
+
+    private void parseXing(int offset) {
+        int flags = MpegAudioHeader.readHeader(firstFrame, offset);
+        offset += 4;
+        if ((flags & XING_FLAG_FRAMES) != 0 && offset + 4 <= firstFrameBytes) {
+            headerFrames = readUnsignedInt(offset);
+            offset += 4;
+        }
+        if ((flags & XING_FLAG_BYTES) != 0 && offset + 4 <= firstFrameBytes) {
+            headerBytes = readUnsignedInt(offset);
+            offset += 4;
+        }
+        if ((flags & XING_FLAG_TOC) != 0) {
+            offset += XING_TOC_SIZE;
+        }
+        if ((flags & XING_FLAG_QUALITY) != 0) {
+            offset += 4;
+        }
+        // LAME 标签：编码延迟和补齐各12位，其它编码器写的 Xing 头没有
+        int delayOffset = offset + LAME_DELAY_OFFSET;
+        if (delayOffset + 3 <= firstFrameBytes && isLameTag(offset)) {
+            int value = ((firstFrame[delayOffset] & 0xFF) << 16)
+                    | ((firstFrame[delayOffset + 1] & 0xFF) << 8)
+                    | (firstFrame[delayOffset + 2] & 0xFF);
+            encoderDelay = value >>> 12;
+            encoderPadding = value & 0xFFF;
+        }
+    }
+
+    private boolean isLameTag(int offset) {
+        int tag = MpegAudioHeader.readHeader(firstFrame, offset);
+        return tag == LAME || tag == LAVF || tag == LAVC;
+    }
+
+    /**
+     * Layer III 边信息长度，Xing 头紧随其后
+     */
+    private int sideInfoSize() {
+        if (header.version == MpegAudioHeader.VERSION_1) {
+            return channels == 1 ? 17 : 32;
+        }
+        return channels == 1 ? 9 : 17;
+    }
+
+    private long readUnsignedInt(int offset) {
+        return MpegAudioHeader.readHeader(firstFrame, offset) & 0xFFFFFFFFL;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.base.player.audiotrack;
+
+/**
+ * 把陆续到达的 mp3 数据切分成完整的帧，不依赖 Android
+ * <p>
+ * 1. 跳过 ID3v2 标签和无法识别的字节，重新同步到下一个帧头
+ * 2. 第一帧确定版本、层和采样率，之后帧头不一致的按无效数据跳过，避免把音频数据误认为帧头
+ * 3. 数据保存在一块复用的缓冲区，{@link #nextFrame()} 返回的帧在 {@link #consumeFrame()} 前一直有效
+ * <p>
+ * 非线程安全
+ *
+ * @author wangshichao
+ * @date 2024/7/8
+ */
+public final class Mp3FrameSplitter {
+    private static final int ID3_HEADER_SIZE = 10;
+
+    /**
+     * 同步字、版本、层和采样率
+     */
+    private static final int LOCK_MASK = 0xFFFE0C00;
+
+    private final MpegAudioHeader header = new MpegAudioHeader();
+    private byte[] buffer;
+    private int start;
+    private int end;
+    private long id3Remaining;
+    private int lockedHeader;
+    private long skippedBytes;
+
+    public Mp3FrameSplitter() {
+        this(8 * 1024);
+    }
+
+    public Mp3FrameSplitter(int initialCapacity) {
+        buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * 追加数据，缓冲区不足时先整理再扩容
+     */
+    public void append(byte[] data, int offset, int length) {
+        if (end + length > buffer.length) {
+            int pending = end - start;
+            if (pending + length > buffer.length) {
+                byte[] newBuffer = new byte[Math.max(buffer.length * 2, pending + length)];
+                System.arraycopy(buffer, start, newBuffer, 0, pending);
+                buffer = newBuffer;
+            } else {
+                System.arraycopy(buffer, start, buffer, 0, pending);
+            }
+            start = 0;
+            end = pending;
+        }
+        System.arraycopy(data, offset, buffer, end, length);
+        end += length;
+    }
+
+    /**
+     * 查找下一个完整帧
+     *
+     * @return 有完整帧时返回true，帧位于 {@link #buffer()} 的 {@link #frameOffset()}，帧信息在 {@link #header()}
+     */
+    public boolean nextFrame() {
+        while (true) {
+            if (id3Remaining > 0) {
+                int skip = (int) Math.min(id3Remaining, end - start);
+                start += skip;
+                id3Remaining -= skip;
+                if (id3Remaining > 0) {
+                    return false;
+                }
+            }
+            int available = end - start;
+            if (available < MpegAudioHeader.HEADER_SIZE) {
+                return false;
+            }
+            if (buffer[start] == 'I' && buffer[start + 1] == 'D' && buffer[start + 2] == '3') {
+                if (available < ID3_HEADER_SIZE) {
+                    return false;
+                }
+                id3Remaining = ID3_HEADER_SIZE + id3Size(buffer, start);
+                continue;
+            }
+            int data = MpegAudioHeader.readHeader(buffer, start);
+            if ((lockedHeader != 0 && (data & LOCK_MASK) != lockedHeader) || !header.setForHeaderData(data)) {
+                start++;
+                skippedBytes++;
+                continue;
+            }
+            if (available < header.frameSize) {
+                return false;
+            }
+            if (lockedHeader == 0) {
+                lockedHeader = data & LOCK_MASK;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 跳过 {@link #nextFrame()} 找到的帧
+     */
+    public void consumeFrame() {
+        start += header.frameSize;
+        if (start == end) {
+            start = 0;
+            end = 0;
+        }
+    }
+
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    public int frameOffset() {
+        return start;
+    }
+
+    public MpegAudioHeader header() {
+        return header;
+    }
+
+    /**
+     * 重新同步时跳过的字节数，不包含 ID3 标签
+     */
+    public long skippedBytes() {
+        return skippedBytes;
+    }
+
+    public void reset() {
+        start = 0;
+        end = 0;
+        id3Remaining = 0;
+        lockedHeader = 0;
+        skippedBytes = 0;
+    }
+
+    /**
+     * ID3v2 标签体长度，不含10字节标签头，有脚注时加上脚注
+     */
+    static int id3Size(byte[] data, int offset) {
+        int size = ((data[offset + 6] & 0x7F) << 21)
+                | ((data[offset + 7] & 0x7F) << 14)
+                | ((data[offset + 8] & 0x7F) << 7)
+                | (data[offset + 9] & 0x7F);
+        boolean hasFooter = (data[offset + 5] & 0x10) != 0;
+        return hasFooter ? size + ID3_HEADER_SIZE : size;
+    }
+}
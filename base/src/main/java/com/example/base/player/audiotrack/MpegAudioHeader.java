@@ -0,0 +1,132 @@
+package com.example.base.player.audiotrack;
+
+/**
+ * MPEG 音频帧头解析，不依赖 Android，可复用同一个实例避免分配
+ * <p>
+ * 帧头4字节：11位同步字、版本、层、CRC、码率、采样率、填充、声道模式
+ *
+ * @author wangshichao
+ * @date 2024/7/8
+ */
+public final class MpegAudioHeader {
+    public static final int HEADER_SIZE = 4;
+
+    public static final int VERSION_2_5 = 0;
+    public static final int VERSION_2 = 2;
+    public static final int VERSION_1 = 3;
+
+    /**
+     * 单声道的声道模式
+     */
+    public static final int CHANNEL_MODE_MONO = 3;
+
+    private static final int[] SAMPLE_RATE_V1 = {44100, 48000, 32000};
+
+    private static final int[] BITRATE_V1_L1 = {
+            32, 64, 96, 128, 160, 192, 224, 256, 288, 320, 352, 384, 416, 448
+    };
+    private static final int[] BITRATE_V1_L2 = {
+            32, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 384
+    };
+    private static final int[] BITRATE_V1_L3 = {
+            32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320
+    };
+    private static final int[] BITRATE_V2_L1 = {
+            32, 48, 56, 64, 80, 96, 112, 128, 144, 160, 176, 192, 224, 256
+    };
+    private static final int[] BITRATE_V2_L2_L3 = {
+            8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160
+    };
+
+    /**
+     * 版本 [VERSION_1] [VERSION_2] [VERSION_2_5]
+     */
+    public int version;
+    /**
+     * 层，1到3
+     */
+    public int layer;
+    public int channelMode;
+    public int channels;
+    public int sampleRate;
+    /**
+     * 码率，单位 bit/s
+     */
+    public int bitrate;
+    /**
+     * 整帧字节数，包含帧头
+     */
+    public int frameSize;
+    /**
+     * 每帧每声道的采样数
+     */
+    public int samplesPerFrame;
+
+    /**
+     * 按大端读取4字节帧头
+     */
+    public static int readHeader(byte[] data, int offset) {
+        return ((data[offset] & 0xFF) << 24)
+                | ((data[offset + 1] & 0xFF) << 16)
+                | ((data[offset + 2] & 0xFF) << 8)
+                | (data[offset + 3] & 0xFF);
+    }
+
+    /**
+     * 解析帧头，无效时不修改当前值
+     *
+     * @return 是否为有效帧头。自由码率不支持，按无效处理
+     */
+    public boolean setForHeaderData(int header) {
+        if ((header & 0xFFE00000) != 0xFFE00000) {
+            return false;
+        }
+        int versionBits = (header >>> 19) & 3;
+        int layerBits = (header >>> 17) & 3;
+        int bitrateIndex = (header >>> 12) & 0xF;
+        int sampleRateIndex = (header >>> 10) & 3;
+        if (versionBits == 1 || layerBits == 0 || bitrateIndex == 0 || bitrateIndex == 0xF || sampleRateIndex == 3) {
+            return false;
+        }
+        int newLayer = 4 - layerBits;
+        int newSampleRate = SAMPLE_RATE_V1[sampleRateIndex];
+        if (versionBits == VERSION_2) {
+            newSampleRate /= 2;
+        } else if (versionBits == VERSION_2_5) {
+            newSampleRate /= 4;
+        }
+        int padding = (header >>> 9) & 1;
+        int newBitrate;
+        int newSamplesPerFrame;
+        int newFrameSize;
+        if (newLayer == 1) {
+            newBitrate = (versionBits == VERSION_1 ? BITRATE_V1_L1 : BITRATE_V2_L1)[bitrateIndex - 1] * 1000;
+            newSamplesPerFrame = 384;
+            newFrameSize = (12 * newBitrate / newSampleRate + padding) * 4;
+        } else if (versionBits == VERSION_1) {
+            newBitrate = (newLayer == 2 ? BITRATE_V1_L2 : BITRATE_V1_L3)[bitrateIndex - 1] * 1000;
+            newSamplesPerFrame = 1152;
+            newFrameSize = 144 * newBitrate / newSampleRate + padding;
+        } else {
+            newBitrate = BITRATE_V2_L2_L3[bitrateIndex - 1] * 1000;
+            newSamplesPerFrame = newLayer == 3 ? 576 : 1152;
+            int coefficient = newLayer == 3 ? 72 : 144;
+            newFrameSize = coefficient * newBitrate / newSampleRate + padding;
+        }
+        version = versionBits;
+        layer = newLayer;
+        channelMode = (header >>> 6) & 3;
+        channels = channelMode == CHANNEL_MODE_MONO ? 1 : 2;
+        sampleRate = newSampleRate;
+        bitrate = newBitrate;
+        samplesPerFrame = newSamplesPerFrame;
+        frameSize = newFrameSize;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "MpegAudioHeader(version=" + version + " layer=" + layer + " channels=" + channels
+                + " sampleRate=" + sampleRate + " bitrate=" + bitrate + " frameSize=" + frameSize + ")";
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.base.player.audiotrack;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PCM 环形缓冲区，解码线程写入，播放线程读取
+ * <p>
+ * 1. 缓冲区满时写入等待，形成背压；没有数据时读取等待，最多等待指定时间
+ * 2. {@link #close()} 后写入直接返回，读完剩余数据后返回-1
+ * 3. {@link #clear()} 后可以复用，不重新分配内存
+ *
+ * @author wangshichao
+ * @date 2024/7/8
+ */
+public final class PcmRingBuffer {
+    private final byte[] data;
+    private int readPosition;
+    private int size;
+    private boolean closed;
+
+    public PcmRingBuffer(int capacity) {
+        data = new byte[capacity];
+    }
+
+    /**
+     * 写入 src 中剩余的全部数据，缓冲区满时等待
+     *
+     * @return 写入的字节数，关闭时可能小于剩余数据
+     */
+    public synchronized int write(ByteBuffer src) throws InterruptedException {
+        int written = 0;
+        while (src.hasRemaining()) {
+            while (size == data.length && !closed) {
+                wait();
+            }
+            if (closed) {
+                break;
+            }
+            int writePosition = (readPosition + size) % data.length;
+            int count = Math.min(src.remaining(), Math.min(data.length - size, data.length - writePosition));
+            src.get(data, writePosition, count);
+            size += count;
+            written += count;
+            notifyAll();
+        }
+        return written;
+    }
+
+    /**
+     * 读取已有的数据，不等待凑满 length
+     *
+     * @return 读取的字节数。等待超时返回0，关闭且读完返回-1
+     */
+    public synchronized int read(byte[] dst, int offset, int length, long timeoutMs) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (size == 0) {
+            if (closed) {
+                return -1;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return 0;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        int read = 0;
+        while (read < length && size > 0) {
+            int count = Math.min(length - read, Math.min(size, data.length - readPosition));
+            System.arraycopy(data, readPosition, dst, offset + read, count);
+            readPosition = (readPosition + count) % data.length;
+            size -= count;
+            read += count;
+        }
+        notifyAll();
+        return read;
+    }
+
+    public synchronized int available() {
+        return size;
+    }
+
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * 没有更多数据，唤醒等待的读写线程
+     */
+    public synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 丢弃剩余数据并重新打开
+     */
+    public synchronized void clear() {
+        readPosition = 0;
+        size = 0;
+        closed = false;
+        notifyAll();
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.base.player.audiotrack;
+
+import android.media.MediaCodec;
+import android.media.MediaFormat;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * 边到边解码的 mp3 解码器，不写临时文件
+ * <p>
+ * 1. {@link #feed(byte[])} 接收陆续到达的 mp3 数据，{@link Mp3FrameSplitter} 自行切帧，不依赖 MediaExtractor
+ * 2. MediaCodec 使用异步回调，有完整帧且有空闲输入缓冲时立即送入解码，不等待整段数据
+ * 3. 解码出的 PCM 直接写入复用的 {@link PcmRingBuffer}，不为每个输出缓冲分配数组
+ * 4. 所有解码操作在解码线程执行，切帧缓冲区与调用线程之间加锁
+ *
+ * @author wangshichao
+ * @date 2024/7/8
+ */
+public class StreamingMP3Decoder {
+    private static final String TAG = "StreamingMP3Decoder";
+
+    public interface Listener {
+        /**
+         * 输出格式确定，在第一段 PCM 之前回调，可以据此配置 AudioTrack
+         */
+        void onOutputFormat(int sampleRate, int channelCount);
+
+        /**
+         * 全部数据解码完成
+         */
+        void onEnd();
+
+        void onError(Exception e);
+    }
+
+    private final PcmRingBuffer pcmBuffer;
+    private final Listener listener;
+    private final Mp3FrameSplitter splitter = new Mp3FrameSplitter();
+    private final HandlerThread decodeThread;
+    private final Handler handler;
+
+    /**
+     * 空闲的输入缓冲序号，只在解码线程访问
+     */
+    private final ArrayDeque<Integer> freeInputs = new ArrayDeque<>();
+    private MediaCodec codec;
+    private int sampleRate;
+    private int samplesPerFrame;
+    private long frameCount;
+    private volatile boolean endRequested;
+    private boolean inputEnded;
+    private boolean released;
+
+    private final Runnable queueFramesRunnable = new Runnable() {
+        @Override
+        public void run() {
+            queueFrames();
+        }
+    };
+
+    private final MediaCodec.Callback codecCallback = new MediaCodec.Callback() {
+        @Override
+        public void onInputBufferAvailable(@NonNull MediaCodec mediaCodec, int index) {
+            freeInputs.add(index);
+            queueFrames();
+        }
+
+        @Override
+        public void onOutputBufferAvailable(@NonNull MediaCodec mediaCodec, int index, @NonNull MediaCodec.BufferInfo info) {
+            ByteBuffer outputBuffer = mediaCodec.getOutputBuffer(index);
+            if (outputBuffer != null && info.size > 0) {
+                outputBuffer.position(info.offset);
+                outputBuffer.limit(info.offset + info.size);
+                try {
+                    pcmBuffer.write(outputBuffer);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            mediaCodec.releaseOutputBuffer(index, false);
+            if ((info.flags & MediaCodec.BUFFER_FLAG_END_OF_STREAM) != 0) {
+                Log.i(TAG, "onOutputBufferAvailable: end frameCount=" + frameCount + " skipped=" + splitter.skippedBytes());
+                pcmBuffer.close();
+                listener.onEnd();
+            }
+        }
+
+        @Override
+        public void onError(@NonNull MediaCodec mediaCodec, @NonNull MediaCodec.CodecException e) {
+            Log.e(TAG, "onError: " + e);
+            pcmBuffer.close();
+            listener.onError(e);
+        }
+
+        @Override
+        public void onOutputFormatChanged(@NonNull MediaCodec mediaCodec, @NonNull MediaFormat format) {
+            Log.i(TAG, "onOutputFormatChanged: " + format);
+            listener.onOutputFormat(format.getInteger(MediaFormat.KEY_SAMPLE_RATE),
+                    format.getInteger(MediaFormat.KEY_CHANNEL_COUNT));
+        }
+    };
+
+    /**
+     * @param pcmBuffer 解码输出，播放线程从中读取
+     */
+    public StreamingMP3Decoder(@NonNull PcmRingBuffer pcmBuffer, @NonNull Listener listener) {
+        this.pcmBuffer = pcmBuffer;
+        this.listener = listener;
+        decodeThread = new HandlerThread(TAG);
+        decodeThread.start();
+        handler = new Handler(decodeThread.getLooper());
+    }
+
+    /**
+     * 追加 mp3 数据，任意线程调用
+     */
+    public void feed(@NonNull byte[] data) {
+        feed(data, 0, data.length);
+    }
+
+    public void feed(@NonNull byte[] data, int offset, int length) {
+        if (endRequested || length == 0) {
+            return;
+        }
+        synchronized (splitter) {
+            splitter.append(data, offset, length);
+        }
+        handler.post(queueFramesRunnable);
+    }
+
+    /**
+     * 没有更多数据，剩余的帧解码完后回调 {@link Listener#onEnd()}
+     */
+    public void end() {
+        endRequested = true;
+        handler.post(queueFramesRunnable);
+    }
+
+    /**
+     * 停止解码并释放解码器，可以在任意线程调用
+     */
+    public void release() {
+        endRequested = true;
+        // 先关闭缓冲区，唤醒可能在写入时等待的解码线程
+        pcmBuffer.close();
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                released = true;
+                if (codec != null) {
+                    try {
+                        codec.stop();
+                    } catch (IllegalStateException e) {
+                        Log.e(TAG, "release: " + e);
+                    }
+                    codec.release();
+                    codec = null;
+                }
+                freeInputs.clear();
+                decodeThread.quitSafely();
+            }
+        });
+    }
+
+    /**
+     * 把完整的帧送入空闲的输入缓冲，解码线程调用
+     */
+    private void queueFrames() {
+        if (released || inputEnded) {
+            return;
+        }
+        if (codec == null && !createCodec()) {
+            return;
+        }
+        while (!freeInputs.isEmpty()) {
+            synchronized (splitter) {
+                if (!splitter.nextFrame()) {
+                    if (endRequested) {
+                        // 没有更多数据，送入结束标记
+                        codec.queueInputBuffer(freeInputs.poll(), 0, 0, presentationTimeUs(), MediaCodec.BUFFER_FLAG_END_OF_STREAM);
+                        inputEnded = true;
+                    }
+                    return;
+                }
+                int index = freeInputs.poll();
+                ByteBuffer inputBuffer = codec.getInputBuffer(index);
+                int frameSize = splitter.header().frameSize;
+                if (inputBuffer == null || inputBuffer.capacity() < frameSize) {
+                    Log.w(TAG, "queueFrames: input buffer too small frameSize=" + frameSize);
+                    splitter.consumeFrame();
+                    freeInputs.addFirst(index);
+                    continue;
+                }
+                inputBuffer.clear();
+                inputBuffer.put(splitter.buffer(), splitter.frameOffset(), frameSize);
+                codec.queueInputBuffer(index, 0, frameSize, presentationTimeUs(), 0);
+                splitter.consumeFrame();
+                frameCount++;
+            }
+        }
+    }
+
+    /**
+     * 用第一帧的帧头创建解码器。数据已结束且没有有效帧时直接结束
+     */
+    private boolean createCodec() {
+        MediaFormat format;
+        synchronized (splitter) {
+            if (!splitter.nextFrame()) {
+                if (endRequested) {
+                    Log.w(TAG, "createCodec: no frame");
+                    inputEnded = true;
+                    pcmBuffer.close();
+                    listener.onEnd();
+                }
+                return false;
+            }
+            MpegAudioHeader header = splitter.header();
+            sampleRate = header.sampleRate;
+            samplesPerFrame = header.samplesPerFrame;
+            format = MediaFormat.createAudioFormat(MediaFormat.MIMETYPE_AUDIO_MPEG, header.sampleRate, header.channels);
+            format.setInteger(MediaFormat.KEY_MAX_INPUT_SIZE, header.frameSize * 2);
+            Log.i(TAG, "createCodec: " + header);
+        }
+        try {
+            codec = MediaCodec.createDecoderByType(MediaFormat.MIMETYPE_AUDIO_MPEG);
+            codec.setCallback(codecCallback, handler);
+            codec.configure(format, null, null, 0);
+            codec.start();
+            return true;
+        } catch (IOException | IllegalStateException | IllegalArgumentException e) {
+            Log.e(TAG, "createCodec: " + e);
+            if (codec != null) {
+                codec.release();
+                codec = null;
+            }
+            inputEnded = true;
+            pcmBuffer.close();
+            listener.onError(e);
+            return false;
+        }
+    }
+
+    private long presentationTimeUs() {
+        return sampleRate > 0 ? frameCount * samplesPerFrame * 1_000_000L / sampleRate : 0L;
+    }
+}
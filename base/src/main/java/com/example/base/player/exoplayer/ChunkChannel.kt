@@ -0,0 +1,217 @@
+package com.example.base.player.exoplayer
+
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * 音频片段通道。单生产者（sse读取线程）单消费者（播放器加载线程）的有界无锁队列
+ *
+ * 1. 生产者 [offer] 在队列满时挂起当前线程，暂停读取socket，形成背压。最多等待 timeoutMs，
+ *    超时说明播放器已不再读取，丢弃该片段并计入 [dropped]，由调用方结束整个会话，避免sse线程一直挂起
+ * 2. 消费者 [poll] 取出片段后唤醒生产者
+ * 3. 统计队列深度和迟到的片段数量，便于排查卡顿
+ *
+ * @param capacity 最多缓存的片段数量
+ */
+class ChunkChannel(capacity: Int = DEFAULT_CAPACITY) {
+    companion object {
+        const val DEFAULT_CAPACITY = 64
+        const val DEFAULT_OFFER_TIMEOUT_MS = 5_000L
+    }
+
+    private val slots = arrayOfNulls<ByteArray>(capacity)
+
+    /**
+     * 消费位置，只由消费者写
+     */
+    @Volatile
+    private var head = 0L
+
+    /**
+     * 生产位置，只由生产者写
+     */
+    @Volatile
+    private var tail = 0L
+
+    @Volatile
+    private var waitingProducer: Thread? = null
+
+    /**
+     * 消费者的读等待，片段入队、关闭或取消时唤醒
+     */
+    @Volatile
+    internal var consumerWaiter: ReadWaiter? = null
+
+    /**
+     * 生产者已写完全部数据
+     */
+    @Volatile
+    var isClosed = false
+        private set
+
+    /**
+     * 消费者已放弃读取，后续片段直接丢弃
+     */
+    @Volatile
+    var isCancelled = false
+        private set
+
+    private val offeredCount = AtomicLong(0L)
+    private val offeredBytesCount = AtomicLong(0L)
+    private val droppedCount = AtomicLong(0L)
+    private val lateCount = AtomicLong(0L)
+    private val blockedTimeMs = AtomicLong(0L)
+
+    @Volatile
+    var maxDepth = 0
+        private set
+
+    /**
+     * 首个片段入队的系统时间，还没有片段时为0
+     */
+    @Volatile
+    var firstOfferTimeMs = 0L
+        private set
+
+    /**
+     * 当前队列中的片段数量
+     */
+    val depth: Int
+        get() = (tail - head).toInt()
+
+    /**
+     * 已入队的片段数量
+     */
+    val offered: Long
+        get() = offeredCount.get()
+
+    /**
+     * 已入队的字节数
+     */
+    val offeredBytes: Long
+        get() = offeredBytesCount.get()
+
+    /**
+     * 等待空位超时丢弃的片段数量
+     */
+    val dropped: Long
+        get() = droppedCount.get()
+
+    /**
+     * 关闭或取消后到达的片段数量
+     */
+    val late: Long
+        get() = lateCount.get()
+
+    /**
+     * 生产者因背压挂起的总时长
+     */
+    val blockedMs: Long
+        get() = blockedTimeMs.get()
+
+    /**
+     * 写入片段，仅生产者线程调用。队列满时挂起直到有空位，或者通道被取消、关闭，或者线程被中断，最多等待 [timeoutMs]
+     *
+     * @return 是否写入成功。失败时后续数据已不完整，调用方需要结束整个会话
+     */
+    fun offer(data: ByteArray, timeoutMs: Long = DEFAULT_OFFER_TIMEOUT_MS): Boolean {
+        if (isClosed || isCancelled) {
+            lateCount.incrementAndGet()
+            return false
+        }
+        val currentTail = tail
+        if (currentTail - head >= slots.size && !awaitSpace(currentTail, timeoutMs)) {
+            if (isClosed || isCancelled) {
+                lateCount.incrementAndGet()
+            } else {
+                droppedCount.incrementAndGet()
+            }
+            return false
+        }
+        slots[(currentTail % slots.size).toInt()] = data
+        tail = currentTail + 1
+        if (offeredCount.incrementAndGet() == 1L) {
+            firstOfferTimeMs = System.currentTimeMillis()
+        }
+        offeredBytesCount.addAndGet(data.size.toLong())
+        val currentDepth = depth
+        if (currentDepth > maxDepth) {
+            maxDepth = currentDepth
+        }
+        consumerWaiter?.signal()
+        return true
+    }
+
+    /**
+     * 取出片段，仅消费者线程调用
+     *
+     * @return 队列为空时返回null
+     */
+    fun poll(): ByteArray? {
+        val currentHead = head
+        if (isCancelled || currentHead >= tail) {
+            return null
+        }
+        val index = (currentHead % slots.size).toInt()
+        val data = slots[index]
+        slots[index] = null
+        head = currentHead + 1
+        waitingProducer?.let { LockSupport.unpark(it) }
+        return data
+    }
+
+    /**
+     * 生产者写完全部数据
+     */
+    fun close() {
+        isClosed = true
+        waitingProducer?.let { LockSupport.unpark(it) }
+        consumerWaiter?.signal()
+    }
+
+    /**
+     * 消费者不再读取。唤醒挂起的生产者，剩余片段随通道一起回收
+     */
+    fun cancel() {
+        isCancelled = true
+        waitingProducer?.let { LockSupport.unpark(it) }
+        consumerWaiter?.signal()
+    }
+
+    /**
+     * 已关闭且队列中没有剩余片段
+     */
+    fun isFinished(): Boolean {
+        return (isClosed && head >= tail) || isCancelled
+    }
+
+    /**
+     * 挂起直到有空位。通道取消、关闭、线程中断或超时返回false
+     */
+    private fun awaitSpace(currentTail: Long, timeoutMs: Long): Boolean {
+        val startTime = System.nanoTime()
+        val deadline = startTime + TimeUnit.MILLISECONDS.toNanos(timeoutMs)
+        waitingProducer = Thread.currentThread()
+        try {
+            while (currentTail - head >= slots.size) {
+                if (isCancelled || isClosed || Thread.currentThread().isInterrupted) {
+                    return false
+                }
+                val remaining = deadline - System.nanoTime()
+                if (remaining <= 0L) {
+                    return false
+                }
+                LockSupport.parkNanos(this, remaining)
+            }
+            return true
+        } finally {
+            waitingProducer = null
+            blockedTimeMs.addAndGet(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime))
+        }
+    }
+
+    override fun toString(): String {
+        return "ChunkChannel(depth=$depth maxDepth=$maxDepth offered=$offered dropped=$dropped late=$late blockedMs=$blockedMs)"
+    }
+}
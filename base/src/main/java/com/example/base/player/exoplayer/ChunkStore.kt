@@ -0,0 +1,136 @@
+package com.example.base.player.exoplayer
+
+import androidx.media3.datasource.DataSource
+
+/**
+ * 分片播放数据源的存储方式
+ *
+ * @author wangshichao
+ * @date 2024/7/7
+ */
+enum class ChunkStoreType {
+    /**
+     * 全部放在堆内存 [StreamDataSource]，最快，只适合短音频
+     */
+    HEAP,
+
+    /**
+     * FileChannel 按位置读写文件 [FileChannelDataSource]
+     */
+    FILE,
+
+    /**
+     * 内存映射文件 [MmapDataSource]，不占用堆内存
+     */
+    MMAP,
+
+    /**
+     * 先放堆内存，超过 [ChunkStorePolicy.spillBytes] 后转存文件 [HybridDataSource]
+     */
+    HYBRID
+}
+
+/**
+ * 分片播放数据源的选择策略，每次开始分片播放时调用
+ */
+fun interface ChunkStorePolicy {
+    companion object {
+        const val DEFAULT_SPILL_BYTES = 1024 * 1024L
+    }
+
+    /**
+     * @param expectedLength 预估的音频字节数，未知时为 C.LENGTH_UNSET
+     * @param availableHeap 当前还可以分配的堆内存
+     */
+    fun select(expectedLength: Long, availableHeap: Long): ChunkStoreType
+
+    /**
+     * [ChunkStoreType.HYBRID] 转存文件的阈值
+     */
+    val spillBytes: Long
+        get() = DEFAULT_SPILL_BYTES
+}
+
+/**
+ * 默认策略
+ *
+ * 1. 预估长度不超过 [heapMaxBytes] 且堆内存充足时放堆内存
+ * 2. 长度未知时先放堆内存，超过 [spillBytes] 转存文件
+ * 3. 长音频或堆内存紧张时使用内存映射文件
+ *
+ * @param heapMaxBytes 放堆内存的最大预估长度
+ * @param heapReserveRatio 可用堆内存至少是数据长度的倍数，给解码和界面留出余量
+ */
+class DefaultChunkStorePolicy(
+    private val heapMaxBytes: Long = 512 * 1024L,
+    override val spillBytes: Long = ChunkStorePolicy.DEFAULT_SPILL_BYTES,
+    private val heapReserveRatio: Int = 8
+) : ChunkStorePolicy {
+
+    override fun select(expectedLength: Long, availableHeap: Long): ChunkStoreType {
+        return when {
+            expectedLength in 1..heapMaxBytes && availableHeap > expectedLength * heapReserveRatio -> ChunkStoreType.HEAP
+            expectedLength <= 0 && availableHeap > spillBytes * heapReserveRatio -> ChunkStoreType.HYBRID
+            else -> ChunkStoreType.MMAP
+        }
+    }
+}
+
+/**
+ * 单次分片播放数据源的统计
+ *
+ * @param bytesBuffered 已写入数据源的字节数
+ * @param peakHeapBytes 数据源在堆内存中最多持有的字节数
+ * @param readCount 读取次数，不包含没有数据的等待
+ * @param readUs 读取总耗时，单位微秒
+ * @param maxReadUs 单次读取的最大耗时，单位微秒
+ * @param waitMs 等待数据的总耗时
+ */
+class ChunkSourceMetrics(
+    val storeType: ChunkStoreType,
+    val bytesBuffered: Long,
+    val peakHeapBytes: Long,
+    val readCount: Long,
+    val readUs: Long,
+    val maxReadUs: Long,
+    val waitMs: Long
+) {
+    /**
+     * 平均每次读取耗时，单位微秒
+     */
+    val avgReadUs: Long
+        get() = if (readCount > 0) readUs / readCount else 0L
+
+    override fun toString(): String {
+        return "ChunkSourceMetrics(storeType=$storeType bytesBuffered=$bytesBuffered peakHeapBytes=$peakHeapBytes " +
+                "readCount=$readCount readUs=$readUs avgReadUs=$avgReadUs maxReadUs=$maxReadUs waitMs=$waitMs)"
+    }
+}
+
+/**
+ * 分片播放数据源的公共接口，[ExoPlayerWrapper] 通过它追加片段，不关心具体存储
+ *
+ * 1. [appendDataAsync] 和 [noMoreDataAsync] 在同一个写线程按顺序执行，结束标记不会早于片段
+ * 2. 设置了完成回调时，全部数据写完后回调完整的音频文件
+ * 3. 会话结束时调用 [release] 停止写线程并关闭文件
+ */
+internal interface ChunkSource : DataSource {
+    val storeType: ChunkStoreType
+
+    fun appendDataAsync(newData: ByteArray)
+
+    fun noMoreDataAsync()
+
+    /**
+     * 在写线程持续从片段通道取出片段，直到通道结束。排在播放列表后面、还没开始加载的数据源调用，
+     * 避免通道写满后生产者被挂起
+     */
+    fun prefill()
+
+    fun metrics(): ChunkSourceMetrics
+
+    /**
+     * 结束会话，停止写线程并关闭文件，之后不再回调完成。播放器正在读取时在 [DataSource.close] 中关闭文件
+     */
+    fun release()
+}
@@ -0,0 +1,243 @@
+package com.example.base.player.exoplayer
+
+import android.content.ComponentCallbacks2
+import android.content.res.Configuration
+import android.os.Looper
+import android.os.SystemClock
+import android.util.Log
+import androidx.media3.common.AudioAttributes
+import androidx.media3.common.C
+import androidx.media3.common.Player
+import androidx.media3.exoplayer.ExoPlayer
+import androidx.media3.exoplayer.analytics.AnalyticsListener
+import com.example.base.Init
+import java.util.concurrent.TimeUnit
+
+/**
+ * 播放器配置，池中按配置分别保留空闲播放器
+ */
+enum class PlaybackProfile {
+    /**
+     * 默认缓冲控制，适合视频和完整音频
+     */
+    DEFAULT,
+
+    /**
+     * 流式音频，使用 [StreamingLoadControl] 小阈值起播
+     */
+    STREAMING_AUDIO
+}
+
+/**
+ * ExoPlayer 实例池，只在主线程使用
+ *
+ * 1. [preWarm] 在主线程空闲时提前创建播放器，创建播放线程和渲染器不再占用首次播放的耗时
+ * 2. 池中的播放器已设置好音频属性，音频焦点统一由 AudioFocusManager 管理，播放器不自行申请
+ * 3. [acquire] 优先取同一配置的空闲播放器，[recycle] 重置后放回，超过 [maxIdle] 时直接释放。
+ *    归还时还有监听（例如未解绑的 PlayerView）的播放器直接释放，不放回池中
+ * 4. 内存紧张时释放全部空闲播放器
+ * 5. 统计租用耗时和冷/热启动次数 [stats]
+ *
+ * @author wangshichao
+ * @date 2024/7/7
+ */
+object ExoPlayerPool {
+    private const val TAG = "ExoPlayerPool"
+
+    /**
+     * 每种配置最多保留的空闲播放器数量
+     */
+    var maxIdle = 2
+
+    data class Stats(
+        val leaseCount: Long,
+        val warmCount: Long,
+        val coldCount: Long,
+        val avgLeaseUs: Long,
+        val maxLeaseUs: Long,
+        val idleCount: Int
+    )
+
+    /**
+     * 池中创建的播放器，记录外部添加的监听，归还时确认已全部移除
+     */
+    private class PooledPlayer(private val delegate: ExoPlayer) : ExoPlayer by delegate {
+        val listeners = mutableSetOf<Player.Listener>()
+        val analyticsListeners = mutableSetOf<AnalyticsListener>()
+
+        override fun addListener(listener: Player.Listener) {
+            listeners.add(listener)
+            delegate.addListener(listener)
+        }
+
+        override fun removeListener(listener: Player.Listener) {
+            listeners.remove(listener)
+            delegate.removeListener(listener)
+        }
+
+        override fun addAnalyticsListener(listener: AnalyticsListener) {
+            analyticsListeners.add(listener)
+            delegate.addAnalyticsListener(listener)
+        }
+
+        override fun removeAnalyticsListener(listener: AnalyticsListener) {
+            analyticsListeners.remove(listener)
+            delegate.removeAnalyticsListener(listener)
+        }
+
+        override fun toString(): String {
+            return "PooledPlayer(listeners=${listeners.size} analyticsListeners=${analyticsListeners.size})"
+        }
+    }
+
+    private val idlePlayers = mutableMapOf<PlaybackProfile, ArrayDeque<ExoPlayer>>()
+    private var warmCount = 0L
+    private var coldCount = 0L
+    private var leaseTimeNanos = 0L
+    private var maxLeaseNanos = 0L
+    private var trimRegistered = false
+
+    private val trimCallbacks = object : ComponentCallbacks2 {
+        override fun onTrimMemory(level: Int) {
+            if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+                trim()
+            }
+        }
+
+        override fun onConfigurationChanged(newConfig: Configuration) {}
+
+        override fun onLowMemory() {
+            trim()
+        }
+    }
+
+    /**
+     * 在主线程空闲时创建播放器，直到该配置的空闲数量达到 [count]
+     */
+    fun preWarm(count: Int = 1, profile: PlaybackProfile = PlaybackProfile.DEFAULT) {
+        registerTrimCallbacks()
+        val players = idleQueue(profile)
+        Looper.myQueue().addIdleHandler {
+            if (players.size < Math.min(count, maxIdle)) {
+                val startTime = SystemClock.elapsedRealtime()
+                players.addLast(buildPlayer(profile))
+                Log.i(TAG, "preWarm profile=$profile idle=${players.size} cost=${SystemClock.elapsedRealtime() - startTime}")
+            }
+            // 返回true时下次空闲继续创建
+            players.size < Math.min(count, maxIdle)
+        }
+    }
+
+    /**
+     * 租用播放器，使用完后调用 [recycle]
+     */
+    fun acquire(profile: PlaybackProfile = PlaybackProfile.DEFAULT): ExoPlayer {
+        registerTrimCallbacks()
+        val startTime = System.nanoTime()
+        val players = idleQueue(profile)
+        val idlePlayer = players.removeFirstOrNull()
+        val player = idlePlayer ?: buildPlayer(profile)
+        if (idlePlayer != null) {
+            warmCount++
+        } else {
+            coldCount++
+        }
+        val cost = System.nanoTime() - startTime
+        leaseTimeNanos += cost
+        if (cost > maxLeaseNanos) {
+            maxLeaseNanos = cost
+        }
+        Log.i(TAG, "acquire profile=$profile warm=${idlePlayer != null} costUs=${TimeUnit.NANOSECONDS.toMicros(cost)} idle=${players.size}")
+        return player
+    }
+
+    /**
+     * 归还播放器。调用方需要先移除自己添加的监听并解绑 PlayerView，否则播放器直接释放
+     *
+     * @param profile 租用时的配置
+     */
+    fun recycle(player: ExoPlayer, profile: PlaybackProfile = PlaybackProfile.DEFAULT) {
+        val players = idleQueue(profile)
+        if (players.contains(player)) {
+            return
+        }
+        // 界面未解绑时 surface 仍由界面持有，先清除
+        player.clearVideoSurface()
+        if (player !is PooledPlayer || player.listeners.isNotEmpty() || player.analyticsListeners.isNotEmpty()) {
+            // 还有外部监听，放回池中会让下一个租用方驱动旧的界面
+            Log.w(TAG, "recycle: release $player")
+            player.release()
+            return
+        }
+        if (players.size >= maxIdle) {
+            player.release()
+            return
+        }
+        player.stop()
+        player.clearMediaItems()
+        player.playWhenReady = false
+        player.repeatMode = Player.REPEAT_MODE_OFF
+        player.volume = 1f
+        players.addLast(player)
+        Log.i(TAG, "recycle profile=$profile idle=${players.size}")
+    }
+
+    /**
+     * 释放全部空闲播放器
+     */
+    fun trim() {
+        val idleCount = idleCount()
+        if (idleCount == 0) {
+            return
+        }
+        Log.w(TAG, "trim idle=$idleCount")
+        idlePlayers.values.forEach { players ->
+            players.forEach { it.release() }
+            players.clear()
+        }
+    }
+
+    fun stats(): Stats {
+        val leaseCount = warmCount + coldCount
+        return Stats(
+            leaseCount = leaseCount,
+            warmCount = warmCount,
+            coldCount = coldCount,
+            avgLeaseUs = if (leaseCount > 0) TimeUnit.NANOSECONDS.toMicros(leaseTimeNanos / leaseCount) else 0L,
+            maxLeaseUs = TimeUnit.NANOSECONDS.toMicros(maxLeaseNanos),
+            idleCount = idleCount()
+        )
+    }
+
+    private fun idleQueue(profile: PlaybackProfile): ArrayDeque<ExoPlayer> {
+        return idlePlayers.getOrPut(profile) { ArrayDeque() }
+    }
+
+    private fun idleCount(): Int {
+        return idlePlayers.values.sumOf { it.size }
+    }
+
+    private fun buildPlayer(profile: PlaybackProfile): ExoPlayer {
+        val audioAttributes = AudioAttributes.Builder()
+            .setUsage(C.USAGE_MEDIA)
+            .setContentType(C.AUDIO_CONTENT_TYPE_MUSIC)
+            .build()
+        val builder = ExoPlayer.Builder(Init.application)
+            // 音频焦点由 AudioFocusManager 统一管理
+            .setAudioAttributes(audioAttributes, false)
+            .setHandleAudioBecomingNoisy(true)
+        if (profile == PlaybackProfile.STREAMING_AUDIO) {
+            // 缓冲控制不能在播放器之间共用，每个播放器单独创建
+            builder.setLoadControl(StreamingLoadControl())
+        }
+        return PooledPlayer(builder.build())
+    }
+
+    private fun registerTrimCallbacks() {
+        if (trimRegistered) {
+            return
+        }
+        trimRegistered = true
+        Init.application.registerComponentCallbacks(trimCallbacks)
+    }
+}
@@ -1,45 +1,162 @@
 package com.example.base.player.exoplayer
 
 import android.util.Log
+import androidx.media3.common.C
 import androidx.media3.common.MediaItem
 import androidx.media3.common.PlaybackException
 import androidx.media3.common.Player
+import androidx.media3.common.Timeline
 import androidx.media3.datasource.DataSource
 import androidx.media3.datasource.DataSpec
 import androidx.media3.datasource.TransferListener
+import androidx.media3.exoplayer.DecoderCounters
 import androidx.media3.exoplayer.ExoPlayer
+import androidx.media3.exoplayer.analytics.AnalyticsListener
 import androidx.media3.exoplayer.source.ProgressiveMediaSource
-import com.example.base.Init
 import com.example.base.player.OnPlayerListener
 import com.example.base.player.PlayState
+import java.io.File
 import java.lang.ref.WeakReference
 
 
 /**
  * exoPlayer 播放器封装
  *
+ * 分片播放时每个key一个媒体项，排队的媒体项在当前音频加载完后由播放器提前准备，切换无间隙
+ *
+ * @param profile 播放器配置，流式tts使用 [PlaybackProfile.STREAMING_AUDIO] 减少起播缓冲
  * @author wangshichao
  * @date 2024/6/17
  */
-class ExoPlayerWrapper {
+class ExoPlayerWrapper(private val profile: PlaybackProfile = PlaybackProfile.DEFAULT) {
     private val TAG = "ExoPlayerWrapper"
     val player: ExoPlayer
     private val playbackStateListener: Player.Listener = playbackStateListener()
     private val playerListenerList: MutableList<WeakReference<OnPlayerListener>> = mutableListOf()
 
     /**
-     * 播放资源key。除了分片播放音频，其它场景key与uri保持一致
+     * 当前播放资源key，切换媒体项时更新。除了分片播放音频，其它场景key与uri保持一致
      */
     private var playerKey: String? = null
-    private var dataSourceFactory: FileChannelDataSource.Factory? = null
 
+    /**
+     * 分片播放数据源的选择策略，按预估长度和可用堆内存选择存储方式
+     */
+    var chunkStorePolicy: ChunkStorePolicy = DefaultChunkStorePolicy()
+
+    /**
+     * 分片播放会话，一个key对应播放列表中的一个媒体项
+     */
+    private class ChunkSession(val key: String, val source: ChunkSource, val channel: ChunkChannel?) {
+        /**
+         * 播放指标采集，会话结束时汇总到 [PlaybackQoe]
+         */
+        val tracker = PlaybackSessionTracker(key, source.storeType)
+
+        /**
+         * 首个片段到达的时间，还没有片段时为0
+         */
+        val firstChunkTimeMs: Long
+            get() = channel?.firstOfferTimeMs ?: tracker.startTimeMs
+
+        init {
+            source.addTransferListener(tracker)
+        }
+    }
+
+    /**
+     * 分片播放队列，与播放列表顺序一致，只在主线程访问
+     */
+    private val chunkSessions = mutableListOf<ChunkSession>()
+    private val chunkTransferListener = object : TransferListener {
+        override fun onTransferInitializing(
+            source: DataSource,
+            dataSpec: DataSpec,
+            isNetwork: Boolean
+        ) {
+            Log.i(TAG, "onTransferInitializing dataSpec=$dataSpec")
+        }
+
+        override fun onTransferStart(
+            source: DataSource,
+            dataSpec: DataSpec,
+            isNetwork: Boolean
+        ) {
+            Log.i(TAG, "onTransferStart dataSpec=$dataSpec")
+        }
+
+        override fun onBytesTransferred(
+            source: DataSource,
+            dataSpec: DataSpec,
+            isNetwork: Boolean,
+            bytesTransferred: Int
+        ) {
+            Log.i(TAG, "onBytesTransferred dataSpec=$dataSpec")
+        }
+
+        override fun onTransferEnd(source: DataSource, dataSpec: DataSpec, isNetwork: Boolean) {
+            Log.i(TAG, "onTransferEnd dataSpec=$dataSpec")
+        }
+    }
+
+
+    /**
+     * 当前音频渲染器的解码计数，渲染器启用期间在播放线程持续更新，未启用时为null
+     */
+    private var audioCounters: DecoderCounters? = null
+
+    /**
+     * 播放事件，按分片播放会话采集出声、卡顿、解码器初始化、丢弃的解码缓冲和音频欠载
+     */
+    private val analyticsListener = object : AnalyticsListener {
+        override fun onAudioPositionAdvancing(eventTime: AnalyticsListener.EventTime, playoutStartSystemTimeMs: Long) {
+            findChunkSession(playerKey)?.let { reportStartLatency(it, playoutStartSystemTimeMs) }
+        }
+
+        override fun onPlaybackStateChanged(eventTime: AnalyticsListener.EventTime, state: Int) {
+            val tracker = findChunkSession(playerKey)?.tracker ?: return
+            when (state) {
+                Player.STATE_BUFFERING -> tracker.onBuffering(System.currentTimeMillis())
+                Player.STATE_READY -> tracker.onReady(System.currentTimeMillis())
+            }
+        }
+
+        override fun onAudioDecoderInitialized(
+            eventTime: AnalyticsListener.EventTime,
+            decoderName: String,
+            initializedTimestampMs: Long,
+            initializationDurationMs: Long
+        ) {
+            findChunkSession(eventTime)?.tracker?.onDecoderInitialized(initializationDurationMs)
+        }
+
+        override fun onAudioEnabled(eventTime: AnalyticsListener.EventTime, decoderCounters: DecoderCounters) {
+            audioCounters = decoderCounters
+            chunkSessions.forEach { it.tracker.onAudioEnabled(decoderCounters) }
+        }
+
+        override fun onAudioDisabled(eventTime: AnalyticsListener.EventTime, decoderCounters: DecoderCounters) {
+            chunkSessions.forEach { it.tracker.onAudioDisabled(decoderCounters) }
+            audioCounters = null
+        }
+
+        override fun onAudioUnderrun(
+            eventTime: AnalyticsListener.EventTime,
+            bufferSize: Int,
+            bufferSizeMs: Long,
+            elapsedSinceLastFeedMs: Long
+        ) {
+            findChunkSession(eventTime)?.tracker?.onUnderrun()
+        }
+    }
 
     init {
-        player = ExoPlayer.Builder(Init.application)
-            .build()
+        // 从实例池租用，释放时归还。播放界面会绑定 player，租期与封装对象一致
+        player = ExoPlayerPool.acquire(profile)
             .also { exoPlayer ->
                 exoPlayer.playWhenReady = true
                 exoPlayer.addListener(playbackStateListener)
+                exoPlayer.addAnalyticsListener(analyticsListener)
             }
     }
 
@@ -60,72 +177,252 @@ class ExoPlayerWrapper {
      */
     fun addMediaItem(uri: String, key: String) {
         Log.w(TAG, "addMediaItem uri=${uri} key=${key}")
+        releaseChunkSessions()
         playerKey = key
-        dataSourceFactory = null
+        val mediaItem = MediaItem.Builder()
+            .setUri(uri)
+            .setMediaId(key)
+            .build()
         player.apply {
-            addMediaItem(MediaItem.fromUri(uri))
+            addMediaItem(mediaItem)
             prepare()
             playWhenReady = true
         }
     }
 
     /**
-     * 增加音频片段
+     * 将媒体项排在播放列表末尾，不打断当前播放。当前没有播放时立即播放，已排队的同一key会被替换
+     *
+     * @param uri 资源地址
+     * @param key 资源key
      */
-    fun addChunk(data: ByteArray, key: String, path: String) {
+    fun enqueueMediaItem(uri: String, key: String) {
+        Log.w(TAG, "enqueueMediaItem uri=${uri} key=${key}")
+        if (key == playerKey || !canEnqueue()) {
+            clearMediaItems()
+            addMediaItem(uri, key)
+            return
+        }
+        removeQueued(key)
+        val mediaItem = MediaItem.Builder()
+            .setUri(uri)
+            .setMediaId(key)
+            .build()
+        player.addMediaItem(mediaItem)
+    }
+
+    /**
+     * 增加音频片段。新的key排在播放列表末尾，前面的音频播完后无间隙切换
+     *
+     * @param expectedLength 预估的音频字节数，用于选择数据源，未知时为 C.LENGTH_UNSET
+     */
+    fun addChunk(data: ByteArray, key: String, path: String, expectedLength: Long = C.LENGTH_UNSET.toLong()) {
         Log.w(TAG, "addChunk: data=${data.size} key=${key} path=$path")
-        // 正在播放的数据源追加数据
-        if (dataSourceFactory != null) {
+        // 该key的数据源追加数据，排队中的数据源也继续写入
+        val session = findChunkSession(key)
+        if (session != null) {
             if (data.isEmpty()) {
-                // 没有更多数据
-                dataSourceFactory!!.dataSource.noMoreData()
+                // 没有更多数据，排在已追加的片段之后
+                session.source.noMoreDataAsync()
             } else {
                 // 追加数据
-                dataSourceFactory!!.dataSource.appendDataAsync(data)
+                session.source.appendDataAsync(data)
             }
             return
         }
         // 同一个key只有一个MediaItem
+        if (key == playerKey || data.isEmpty()) {
+            return
+        }
+        val source = createChunkSource(path, data, expectedLength, null, null)
+        startChunkSession(ChunkSession(key, source, null), true)
+    }
+
+    /**
+     * 打开音频片段通道。生产者线程直接写入通道，播放器加载线程从通道读取，片段不经过主线程
+     *
+     * 片段写入按 [chunkStorePolicy] 选择的数据源，通道关闭且写完后文件即为完整音频。会停止当前播放
+     *
+     * @param key 资源key
+     * @param path 片段写入的文件路径
+     * @param expectedLength 预估的音频字节数，用于选择数据源，未知时为 C.LENGTH_UNSET
+     * @param onComplete 完整音频写完后在子线程回调，可以把文件移入缓存。播放中途停止时不回调
+     * @return 片段通道。写完全部片段后调用 [ChunkChannel.close]
+     */
+    fun openChunkChannel(
+        key: String,
+        path: String,
+        expectedLength: Long = C.LENGTH_UNSET.toLong(),
+        onComplete: ((File) -> Unit)? = null
+    ): ChunkChannel {
+        Log.w(TAG, "openChunkChannel: key=${key} path=$path")
+        releaseChunkSessions()
+        val channel = ChunkChannel()
+        val source = createChunkSource(path, ByteArray(0), expectedLength, channel, onComplete)
+        startChunkSession(ChunkSession(key, source, channel), false)
+        return channel
+    }
+
+    /**
+     * 打开音频片段通道并排在播放列表末尾，不打断当前播放。当前没有播放时立即播放
+     *
+     * 排队期间数据源在子线程继续从通道取出片段，当前音频加载完后播放器提前准备下一个，切换无间隙。
+     * 已排队的同一key会被替换，与当前播放的key相同时从头播放
+     *
+     * @see openChunkChannel
+     */
+    fun enqueueChunkChannel(
+        key: String,
+        path: String,
+        expectedLength: Long = C.LENGTH_UNSET.toLong(),
+        onComplete: ((File) -> Unit)? = null
+    ): ChunkChannel {
+        Log.w(TAG, "enqueueChunkChannel: key=${key} path=$path")
         if (key == playerKey) {
+            return openChunkChannel(key, path, expectedLength, onComplete)
+        }
+        removeQueued(key)
+        val channel = ChunkChannel()
+        val source = createChunkSource(path, ByteArray(0), expectedLength, channel, onComplete)
+        startChunkSession(ChunkSession(key, source, channel), true)
+        return channel
+    }
+
+    /**
+     * 当前分片播放数据源的统计，没有分片播放时为null
+     */
+    fun chunkMetrics(): ChunkSourceMetrics? {
+        return findChunkSession(playerKey)?.source?.metrics()
+    }
+
+    /**
+     * 按 [chunkStorePolicy] 创建分片播放数据源
+     */
+    private fun createChunkSource(
+        path: String,
+        initData: ByteArray,
+        expectedLength: Long,
+        channel: ChunkChannel?,
+        onComplete: ((File) -> Unit)?
+    ): ChunkSource {
+        val runtime = Runtime.getRuntime()
+        val availableHeap = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory())
+        val policy = chunkStorePolicy
+        val storeType = policy.select(expectedLength, availableHeap)
+        Log.i(TAG, "createChunkSource: storeType=$storeType expectedLength=$expectedLength availableHeap=$availableHeap")
+        val source = when (storeType) {
+            ChunkStoreType.HEAP -> StreamDataSource(
+                initData,
+                chunkChannel = channel,
+                completeFile = File(path),
+                onComplete = onComplete
+            )
+            ChunkStoreType.FILE -> FileChannelDataSource(path, initData, channel, onComplete = onComplete)
+            ChunkStoreType.MMAP -> MmapDataSource(path, initData, channel, onComplete)
+            ChunkStoreType.HYBRID -> HybridDataSource(path, initData, policy.spillBytes, channel, onComplete)
+        }
+        source.addTransferListener(chunkTransferListener)
+        return source
+    }
+
+    private fun findChunkSession(key: String?): ChunkSession? {
+        return chunkSessions.firstOrNull { it.key == key }
+    }
+
+    /**
+     * 事件所属的会话。排队的媒体项提前准备时，解码等事件属于该媒体项而不是当前播放的
+     */
+    private fun findChunkSession(eventTime: AnalyticsListener.EventTime): ChunkSession? {
+        val timeline = eventTime.timeline
+        if (timeline.isEmpty || eventTime.windowIndex >= timeline.windowCount) {
+            return findChunkSession(playerKey)
+        }
+        val mediaId = timeline.getWindow(eventTime.windowIndex, Timeline.Window()).mediaItem.mediaId
+        return findChunkSession(mediaId)
+    }
+
+    /**
+     * 结束分片播放会话，取消通道、释放数据源并回调本次统计，播放指标汇总到 [PlaybackQoe]
+     */
+    private fun releaseChunkSession(session: ChunkSession) {
+        if (!chunkSessions.remove(session)) {
             return
         }
-        val factory = FileChannelDataSource.Factory(path, data, object : TransferListener {
-            override fun onTransferInitializing(
-                source: DataSource,
-                dataSpec: DataSpec,
-                isNetwork: Boolean
-            ) {
-                Log.i(TAG, "onTransferInitializing dataSpec=$dataSpec")
-            }
+        session.channel?.cancel()
+        // 停止数据源的写线程并关闭文件
+        session.source.release()
+        val metrics = session.source.metrics()
+        Log.i(TAG, "releaseChunkSession: key=${session.key} $metrics")
+        playerListenerList.forEach {
+            it.get()?.onChunkMetrics(session.key, metrics)
+        }
+        PlaybackQoe.record(session.tracker.finish(session.firstChunkTimeMs))
+    }
 
-            override fun onTransferStart(
-                source: DataSource,
-                dataSpec: DataSpec,
-                isNetwork: Boolean
-            ) {
-                Log.i(TAG, "onTransferStart dataSpec=$dataSpec")
-            }
+    /**
+     * 记录首个片段到达到开始出声的耗时，每个会话只记录一次
+     *
+     * @param audibleTimeMs 开始出声的系统时间
+     */
+    private fun reportStartLatency(session: ChunkSession, audibleTimeMs: Long) {
+        val firstChunkTimeMs = session.firstChunkTimeMs
+        if (firstChunkTimeMs <= 0L || !session.tracker.onAudible(audibleTimeMs)) {
+            return
+        }
+        val latencyMs = Math.max(0L, audibleTimeMs - firstChunkTimeMs)
+        Log.i(TAG, "reportStartLatency: key=${session.key} latencyMs=$latencyMs profile=$profile")
+        playerListenerList.forEach {
+            it.get()?.onChunkStartLatency(session.key, latencyMs)
+        }
+    }
 
-            override fun onBytesTransferred(
-                source: DataSource,
-                dataSpec: DataSpec,
-                isNetwork: Boolean,
-                bytesTransferred: Int
-            ) {
-                Log.i(TAG, "onBytesTransferred dataSpec=$dataSpec")
+    /**
+     * 移除排队中的key，结束其分片会话并移除媒体项，避免同一key有两个媒体项
+     */
+    private fun removeQueued(key: String) {
+        findChunkSession(key)?.let { releaseChunkSession(it) }
+        for (i in player.mediaItemCount - 1 downTo 0) {
+            if (i != player.currentMediaItemIndex && player.getMediaItemAt(i).mediaId == key) {
+                player.removeMediaItem(i)
             }
+        }
+    }
 
-            override fun onTransferEnd(source: DataSource, dataSpec: DataSpec, isNetwork: Boolean) {
-                Log.i(TAG, "onTransferEnd dataSpec=$dataSpec")
-            }
+    /**
+     * 播放器有正在准备或播放的媒体项时，新的媒体项可以排在末尾
+     */
+    private fun canEnqueue(): Boolean {
+        val state = player.playbackState
+        return player.mediaItemCount > 0 && state != Player.STATE_IDLE && state != Player.STATE_ENDED
+    }
+
+    private fun releaseChunkSessions() {
+        chunkSessions.toList().forEach { releaseChunkSession(it) }
+    }
 
-        })
-        dataSourceFactory = factory
-        val audioByteUri = ByteArrayUriUtil.getUri()
-        val mediaItem = MediaItem.fromUri(audioByteUri)
+    /**
+     * 开始分片播放
+     *
+     * @param enqueue 是否排在播放列表末尾。播放器空闲或已播完时直接播放
+     */
+    private fun startChunkSession(session: ChunkSession, enqueue: Boolean) {
+        val factory = DataSource.Factory { session.source }
+        val mediaItem = MediaItem.Builder()
+            .setUri(ByteArrayUriUtil.getUri())
+            .setMediaId(session.key)
+            .build()
         val audioSource = ProgressiveMediaSource.Factory(factory)
             .createMediaSource(mediaItem)
-        playerKey = key
+        chunkSessions.add(session)
+        audioCounters?.let { session.tracker.onAudioEnabled(it) }
+        if (enqueue && canEnqueue()) {
+            Log.i(TAG, "startChunkSession: enqueue key=${session.key} after=$playerKey")
+            // 排队期间持续取出片段，避免生产者被通道背压挂起
+            session.source.prefill()
+            player.addMediaSource(audioSource)
+            return
+        }
+        playerKey = session.key
         player.apply {
             setMediaSource(audioSource)
             prepare()
@@ -135,8 +432,8 @@ class ExoPlayerWrapper {
 
     fun clearMediaItems() {
         player.clearMediaItems()
+        releaseChunkSessions()
         playerKey = null
-        dataSourceFactory = null
     }
 
     fun addPlayerListener(listener: OnPlayerListener) {
@@ -205,12 +502,18 @@ class ExoPlayerWrapper {
     fun stop() {
         player.stop()
         player.clearMediaItems()
+        releaseChunkSessions()
     }
 
+    /**
+     * 释放封装对象，播放器重置后归还实例池。绑定了 PlayerView 的调用方需要先解绑，否则播放器不会放回池中
+     */
     fun release() {
+        releaseChunkSessions()
         player.let { player ->
             player.removeListener(playbackStateListener)
-            player.release()
+            player.removeAnalyticsListener(analyticsListener)
+            ExoPlayerPool.recycle(player, profile)
         }
     }
 
@@ -223,18 +526,51 @@ class ExoPlayerWrapper {
         }
     }
 
+    private fun toPlayState(playbackState: Int): Int {
+        return when (playbackState) {
+            ExoPlayer.STATE_BUFFERING -> PlayState.LOADING
+            ExoPlayer.STATE_READY -> PlayState.PLAYING
+            ExoPlayer.STATE_IDLE, ExoPlayer.STATE_ENDED -> PlayState.IDLE
+            else -> PlayState.IDLE
+        }
+    }
+
+    private fun dispatchPlayState(key: String, playState: Int) {
+        playerListenerList.forEach {
+            it.get()?.onPlaybackStateChanged(key, playState)
+        }
+    }
+
     private fun playbackStateListener() = object : Player.Listener {
         override fun onPlaybackStateChanged(playbackState: Int) {
-            val playState = when (playbackState) {
-                ExoPlayer.STATE_BUFFERING -> PlayState.LOADING
-                ExoPlayer.STATE_READY -> PlayState.PLAYING
-                ExoPlayer.STATE_IDLE, ExoPlayer.STATE_ENDED -> PlayState.IDLE
-                else -> PlayState.IDLE
-            }
+            val playState = toPlayState(playbackState)
             Log.i(TAG, "changed state to originPlayState=$playbackState realPlayState=${playState} key=${playerKey}")
-            playerListenerList.forEach {
-                it.get()?.onPlaybackStateChanged(playerKey ?: "", playState)
+            dispatchPlayState(playerKey ?: "", playState)
+        }
+
+        /**
+         * 无间隙切换时播放状态不变，在这里结束上一个key并通知新的key
+         */
+        override fun onMediaItemTransition(mediaItem: MediaItem?, reason: Int) {
+            val key = mediaItem?.mediaId ?: return
+            val lastKey = playerKey
+            if (key.isEmpty() || key == lastKey) {
+                return
+            }
+            Log.i(TAG, "onMediaItemTransition lastKey=$lastKey key=$key reason=$reason")
+            playerKey = key
+            if (lastKey != null) {
+                findChunkSession(lastKey)?.let { releaseChunkSession(it) }
+                dispatchPlayState(lastKey, PlayState.IDLE)
+            }
+            // 移除已播完的媒体项，播放列表只保留当前和排队的
+            val index = player.currentMediaItemIndex
+            if (index > 0) {
+                player.removeMediaItems(0, index)
             }
+            // 无间隙切换时音频输出不重新开始，切换时刻即开始出声，耗时包含排队等待
+            findChunkSession(key)?.let { reportStartLatency(it, System.currentTimeMillis()) }
+            dispatchPlayState(key, toPlayState(player.playbackState))
         }
 
         override fun onPlayerError(error: PlaybackException) {
@@ -14,6 +14,7 @@ import androidx.media3.datasource.FileDataSource
 import androidx.media3.datasource.FileDataSource.FileDataSourceException
 import androidx.media3.datasource.TransferListener
 import com.example.base.util.YWFileUtil
+import java.io.File
 import java.io.FileNotFoundException
 import java.io.IOException
 import java.io.RandomAccessFile
@@ -26,18 +27,31 @@ import java.util.concurrent.atomic.AtomicLong
 /**
  * 支持边播边（外部）加载的数据源。参考 [FileDataSource]
  *
- * 1. 使用 FileChannel 读写数据
- * 2. 读 [read] 和写 [appendData] 在不同的线程，需要保证线程安全
+ * 1. 使用 FileChannel 按位置读写，读直接填充到播放器的 buffer，不创建临时数组
+ * 2. 读 [read] 和写 [appendData] 在不同的线程，不共享通道位置，读写不加锁并行。
+ *    写完成后才更新 [writtenLength]，读只读取已写完的部分
+ * 3. 设置 [chunkChannel] 时，在加载线程读取前直接从通道取出片段写入，不经过主线程
+ * 4. 没有可读数据时在 [readWaiter] 上等待写入，最多等待 readTimeoutMs，不空转
+ * 5. 结束后文件即为完整音频，通过 [onComplete] 回调
  *
  * @author wangshichao
  * @date 2024/6/30
  */
 internal class FileChannelDataSource(
-    path: String,
+    private val path: String,
     initData: ByteArray,
-): BaseDataSource(false) {
-    class Factory(path: String, byteArray: ByteArray, var listener: TransferListener? = null) : DataSource.Factory {
-        val dataSource = FileChannelDataSource(path, byteArray)
+    private val chunkChannel: ChunkChannel? = null,
+    readTimeoutMs: Long = ReadWaiter.DEFAULT_TIMEOUT_MS,
+    private val onComplete: ((File) -> Unit)? = null
+): BaseDataSource(false), ChunkSource {
+    class Factory(
+        path: String,
+        byteArray: ByteArray,
+        var listener: TransferListener? = null,
+        chunkChannel: ChunkChannel? = null,
+        readTimeoutMs: Long = ReadWaiter.DEFAULT_TIMEOUT_MS
+    ) : DataSource.Factory {
+        val dataSource = FileChannelDataSource(path, byteArray, chunkChannel, readTimeoutMs)
 
         override fun createDataSource(): DataSource {
             listener?.let {
@@ -51,16 +65,48 @@ internal class FileChannelDataSource(
     private var file: RandomAccessFile? = null
     private var fileChannel: FileChannel?= null
     private var uri: Uri? = null
-    private var readPosition = AtomicLong(0L)
-    private val bytesRemaining = AtomicLong(0L)
+
+    /**
+     * 读取位置，只在加载线程访问
+     */
+    private var readPosition = 0L
+
+    /**
+     * 已写入文件的长度，也是下次追加的位置
+     */
+    private val writtenLength = AtomicLong(0L)
+    @Volatile
     private var opened = false
     private val noMoreData = AtomicBoolean(false)
-    private val lock = Object()
+
+    /**
+     * 只用于多个追加线程之间互斥，读不需要获取
+     */
+    private val appendLock = Object()
+
+    /**
+     * 加载线程和预填充任务都会取片段，保证通道只有一个消费者
+     */
+    private val drainLock = Object()
     private val appendExecutor = Executors.newSingleThreadExecutor()
 
+    /**
+     * 没有数据时的读等待，同时统计等待和读取耗时
+     */
+    val readWaiter = ReadWaiter(readTimeoutMs)
+
+    /**
+     * 已写入但还未读取的字节数
+     */
+    private val bytesRemaining: Long
+        get() = writtenLength.get() - readPosition
+
+    override val storeType: ChunkStoreType
+        get() = ChunkStoreType.FILE
+
     init {
         initFileWithData(path, initData)
-        bytesRemaining.set(initData.size.toLong())
+        chunkChannel?.consumerWaiter = readWaiter
     }
 
     /**
@@ -70,7 +116,7 @@ internal class FileChannelDataSource(
     override fun open(dataSpec: DataSpec): Long {
         uri = dataSpec.uri
         transferInitializing(dataSpec)
-        readPosition.set(dataSpec.position)
+        readPosition = dataSpec.position
         Log.w(TAG, "open: readPosition=${readPosition} bytesRemaining=${bytesRemaining}")
         opened = true
         transferStarted(dataSpec)
@@ -81,41 +127,48 @@ internal class FileChannelDataSource(
      * 从输入中读取最多length字节的数据，从buffer的offset位置开始填充length长度。
      */
     override fun read(buffer: ByteArray, offset: Int, length: Int): Int {
-        Log.i(TAG, "read: offset=$offset readLength=$length bytesRemaining=$bytesRemaining noMoreData=$noMoreData")
-        val startTime = System.currentTimeMillis()
-        var readLength = length
-        if (readLength == 0) {
+        if (length == 0) {
             return 0
         }
-        // 没有可用数据且没有更多数据加载，输入结束
-        if (bytesRemaining.get() == 0L && noMoreData.get()) {
-            return C.RESULT_END_OF_INPUT
-        }
-        if (bytesRemaining.get() == 0L) {
-            return 0
+        var available: Long
+        while (true) {
+            // 先记下版本再检查数据，检查后到达的数据会让等待立即返回
+            val version = readWaiter.version
+            drainChunkChannel()
+            // 先判断结束标记再取可读长度，避免结束前最后追加的数据被漏读
+            val finished = noMoreData.get()
+            available = bytesRemaining
+            if (available > 0L) {
+                break
+            }
+            // 没有可用数据且没有更多数据加载，输入结束
+            if (finished) {
+                return C.RESULT_END_OF_INPUT
+            }
+            // 等待追加数据，超时返回0交给播放器重试
+            if (!readWaiter.await(version)) {
+                return 0
+            }
         }
+        val channel = fileChannel ?: return C.RESULT_END_OF_INPUT
+        val startTime = System.nanoTime()
 
-        // 从上次读取文件位置开始
-        synchronized(lock) {
-            fileChannel?.position(readPosition.get())
+        // 从上次读取位置直接读到buffer中
+        var readLength = Math.min(length.toLong(), available).toInt()
+        try {
+            val read = FileChannelUtils.read(channel, buffer, offset, readLength, readPosition)
+            if (read < readLength) {
+                Log.e(TAG, "read: error readLength=$readLength read=$read")
+                readLength = read
+            }
+        } catch (e: IOException) {
+            throw FileDataSourceException(e, PlaybackException.ERROR_CODE_IO_UNSPECIFIED)
         }
-
-        // 从ChannelFile中读取readLength长度的数据填充到buffer中
-        readLength = Math.min(readLength.toLong(), bytesRemaining.get()).toInt()
         if (readLength > 0) {
-            val readData = FileChannelUtils.read(fileChannel, readLength)
-            if (readData.size < readLength) {
-                readLength = readData.size
-                Log.e(TAG, "read: error readLength=$readLength")
-            }
-            System.arraycopy(readData, 0, buffer, offset, readLength)
-
-            // 更新可用数据
-            readPosition.set(readPosition.get() + readLength)
-            bytesRemaining.set(bytesRemaining.get() - readLength)
+            readPosition += readLength
             bytesTransferred(readLength)
         }
-        Log.i(TAG, "read: readPosition=${readPosition} bytesRemaining:${bytesRemaining} cost=${System.currentTimeMillis() - startTime}")
+        readWaiter.recordRead(startTime)
         return readLength
     }
 
@@ -128,7 +181,7 @@ internal class FileChannelDataSource(
      */
     @Throws(FileDataSourceException::class)
     override fun close() {
-        Log.w(TAG, "close")
+        Log.w(TAG, "close $readWaiter")
         uri = null
         try {
             fileChannel?.close()
@@ -144,9 +197,13 @@ internal class FileChannelDataSource(
         }
     }
 
-    fun appendDataAsync(newData: ByteArray) {
+    override fun appendDataAsync(newData: ByteArray) {
         appendExecutor.execute {
-            appendData(newData)
+            try {
+                appendData(newData)
+            } catch (e: IOException) {
+                Log.e(TAG, "appendDataAsync: ${e.message}")
+            }
         }
     }
 
@@ -154,26 +211,100 @@ internal class FileChannelDataSource(
      * 追加数据
      *
      * 1. 可能在[open]之前执行
-     * 2. 注意多线程同步
+     * 2. 写在已写入长度的位置，写完再更新长度，读线程不会读到未写完的数据
      */
+    @Throws(IOException::class)
     fun appendData(newData: ByteArray) {
+        val channel = fileChannel ?: return
         val newLength = newData.size
-        Log.i(TAG, "appendData: newData=${newLength} bytesRemaining=$bytesRemaining}")
         val startTime = System.currentTimeMillis()
+        synchronized(appendLock) {
+            val position = writtenLength.get()
+            FileChannelUtils.write(channel, newData, position)
+            writtenLength.set(position + newLength)
+        }
+        readWaiter.signal()
+        Log.i(TAG, "appendData: newData=${newLength} bytesRemaining=$bytesRemaining cost=${System.currentTimeMillis() - startTime}")
+    }
 
-        // 文件位置移到末尾，并写入新数据
-        synchronized(lock) {
-            fileChannel?.position(fileChannel?.size() ?: 0)
+    override fun prefill() {
+        chunkChannel ?: return
+        appendExecutor.execute {
+            try {
+                while (!noMoreData.get()) {
+                    val version = readWaiter.version
+                    drainChunkChannel()
+                    if (!noMoreData.get()) {
+                        readWaiter.await(version, false)
+                    }
+                }
+            } catch (e: IOException) {
+                Log.e(TAG, "prefill: ${e.message}")
+            }
         }
-        FileChannelUtils.write(fileChannel, newData)
+    }
 
-        bytesRemaining.set(bytesRemaining.get() + newLength)
-        Log.w(TAG, "appendData: newData=${newLength} bytesRemaining=$bytesRemaining file=${fileChannel?.size()} cost=${System.currentTimeMillis() - startTime}")
+    override fun noMoreDataAsync() {
+        appendExecutor.execute {
+            noMoreData()
+        }
     }
 
-    fun noMoreData() {
+    override fun metrics(): ChunkSourceMetrics {
+        return readWaiter.metrics(storeType, writtenLength.get(), 0L)
+    }
+
+    override fun release() {
+        // 中途停止时文件不完整，不再回调完成
         noMoreData.set(true)
-        Log.w(TAG, "noMoreData")
+        readWaiter.signal()
+        // 排在已提交的写入之后关闭。播放器正在读取时由 close 关闭
+        appendExecutor.execute {
+            if (!opened) {
+                closeFile()
+            }
+        }
+        appendExecutor.shutdown()
+    }
+
+    fun noMoreData() {
+        if (noMoreData.getAndSet(true)) {
+            return
+        }
+        readWaiter.signal()
+        Log.w(TAG, "noMoreData: length=${writtenLength.get()}")
+        val callback = onComplete ?: return
+        try {
+            fileChannel?.force(false) ?: return
+        } catch (e: IOException) {
+            Log.e(TAG, "noMoreData: force fail ${e.message}")
+            return
+        }
+        callback(File(path))
+    }
+
+    /**
+     * 从片段通道取出已到达的片段写入文件。通道关闭且取完后标记没有更多数据
+     */
+    @Throws(IOException::class)
+    private fun drainChunkChannel() {
+        synchronized(drainLock) {
+            val channel = chunkChannel ?: return
+            var chunk = channel.poll()
+            while (chunk != null) {
+                appendData(chunk)
+                chunk = channel.poll()
+            }
+            if (channel.isCancelled) {
+                // 取消时文件不完整，不回调完成
+                noMoreData.set(true)
+                return
+            }
+            if (channel.isFinished() && !noMoreData.get()) {
+                Log.w(TAG, "drainChunkChannel: finished $channel")
+                noMoreData()
+            }
+        }
     }
 
     /**
@@ -190,8 +321,9 @@ internal class FileChannelDataSource(
             file = RandomAccessFile(Assertions.checkNotNull(path), "rw")
             fileChannel = file!!.channel
             val startTime = System.currentTimeMillis()
-            FileChannelUtils.write(fileChannel, byteArray)
-            Log.w(TAG, "initFileWithData: write=${fileChannel!!.size()} cost=${System.currentTimeMillis() - startTime}")
+            FileChannelUtils.write(fileChannel!!, byteArray, 0L)
+            writtenLength.set(byteArray.size.toLong())
+            Log.w(TAG, "initFileWithData: write=${byteArray.size} cost=${System.currentTimeMillis() - startTime}")
         } catch (e: FileNotFoundException) {
             throw FileDataSourceException(
                 e,
@@ -199,11 +331,27 @@ internal class FileChannelDataSource(
             )
         } catch (e: SecurityException) {
             throw FileDataSourceException(e, PlaybackException.ERROR_CODE_IO_NO_PERMISSION)
+        } catch (e: IOException) {
+            throw FileDataSourceException(e, PlaybackException.ERROR_CODE_IO_UNSPECIFIED)
         } catch (e: RuntimeException) {
             throw FileDataSourceException(e, PlaybackException.ERROR_CODE_IO_UNSPECIFIED)
         }
     }
 
+    private fun closeFile() {
+        synchronized(appendLock) {
+            try {
+                fileChannel?.close()
+                file?.close()
+            } catch (e: IOException) {
+                Log.e(TAG, "closeFile: ${e.message}")
+            } finally {
+                fileChannel = null
+                file = null
+            }
+        }
+    }
+
     private fun isPermissionError(e: Throwable?): Boolean {
         return e is ErrnoException && e.errno == OsConstants.EACCES
     }
@@ -4,34 +4,39 @@ import java.io.IOException
 import java.nio.ByteBuffer
 import java.nio.channels.FileChannel
 
+/**
+ * FileChannel 按位置读写，不修改通道的 position，读写可以在不同线程并行
+ */
 object FileChannelUtils {
-    fun read(channel: FileChannel?, length: Int): ByteArray {
-        channel ?: return ByteArray(0)
-        try {
-            val buffer = ByteBuffer.allocate(length) // 创建缓冲区
-            val bytesRead = channel.read(buffer) // 从文件通道读取数据到缓冲区
-            if (bytesRead > 0) {
-                buffer.flip() // 切换缓冲区为读模式
-                val data = ByteArray(bytesRead)
-                buffer[data] // 从缓冲区读取数据
-                return data
+
+    /**
+     * 从文件 position 处读取最多 length 字节，直接填充到 buffer 的 offset 位置
+     *
+     * @return 实际读取的字节数，到达文件末尾时可能小于 length
+     */
+    @Throws(IOException::class)
+    fun read(channel: FileChannel, buffer: ByteArray, offset: Int, length: Int, position: Long): Int {
+        val byteBuffer = ByteBuffer.wrap(buffer, offset, length)
+        var readPosition = position
+        while (byteBuffer.hasRemaining()) {
+            val read = channel.read(byteBuffer, readPosition)
+            if (read <= 0) {
+                break
             }
-            return ByteArray(0)
-        } catch (e: IOException) {
-            e.printStackTrace()
+            readPosition += read
         }
-        return ByteArray(0)
+        return (readPosition - position).toInt()
     }
 
-    fun write(channel: FileChannel?, data: ByteArray?): Int {
-        channel ?: return 0
-        data ?: return 0
-        try {
-            val buffer = ByteBuffer.wrap(data) // 包装字节数组为缓冲区
-            return channel.write(buffer) // 将缓冲区中的数据写入文件通道
-        } catch (e: IOException) {
-            e.printStackTrace()
+    /**
+     * 把 data 全部写入文件 position 处
+     */
+    @Throws(IOException::class)
+    fun write(channel: FileChannel, data: ByteArray, position: Long) {
+        val byteBuffer = ByteBuffer.wrap(data)
+        var writePosition = position
+        while (byteBuffer.hasRemaining()) {
+            writePosition += channel.write(byteBuffer, writePosition)
         }
-        return 0
     }
-}
\ No newline at end of file
+}
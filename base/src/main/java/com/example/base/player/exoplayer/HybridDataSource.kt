@@ -0,0 +1,336 @@
+package com.example.base.player.exoplayer
+
+import android.net.Uri
+import android.util.Log
+import androidx.media3.common.C
+import androidx.media3.common.PlaybackException
+import androidx.media3.datasource.BaseDataSource
+import androidx.media3.datasource.DataSpec
+import androidx.media3.datasource.FileDataSource.FileDataSourceException
+import com.example.base.util.YWFileUtil
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.io.RandomAccessFile
+import java.nio.channels.FileChannel
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 先放堆内存、超过阈值后转存文件的边播边加载数据源
+ *
+ * 1. 写入总量不超过 [spillBytes] 时片段保存在 [store]，读写和 [StreamDataSource] 一样不经过文件
+ * 2. 超过后写线程把已有片段写入文件并标记 [spilled]，之后的片段按位置追加到文件，释放堆内存
+ * 3. 读线程在转存前读堆内存，转存后读文件。[writtenLength] 在数据写完后才更新
+ * 4. 结束后文件即为完整音频，未转存时把堆内存写入文件，通过 [onComplete] 回调
+ *
+ * @param spillBytes 转存文件的阈值
+ * @author wangshichao
+ * @date 2024/7/7
+ */
+internal class HybridDataSource(
+    private val path: String,
+    initData: ByteArray,
+    private val spillBytes: Long = ChunkStorePolicy.DEFAULT_SPILL_BYTES,
+    private val chunkChannel: ChunkChannel? = null,
+    private val onComplete: ((File) -> Unit)? = null,
+    readTimeoutMs: Long = ReadWaiter.DEFAULT_TIMEOUT_MS
+) : BaseDataSource(false), ChunkSource {
+
+    private val TAG = "Hybrid-ExoPlayer"
+    private var uri: Uri? = null
+
+    @Volatile
+    private var opened = false
+
+    @Volatile
+    private var released = false
+    private val store = SegmentedByteStore(true)
+    private var randomAccessFile: RandomAccessFile? = null
+    private var fileChannel: FileChannel? = null
+
+    /**
+     * 是否已转存文件。先写完文件再置为true，之后才释放堆内存
+     */
+    @Volatile
+    private var spilled = false
+
+    /**
+     * 已写入的总字节数，堆内存和文件共用
+     */
+    private val writtenLength = AtomicLong(0L)
+
+    /**
+     * 读取位置，只在加载线程访问
+     */
+    private var readPosition = 0L
+    private val noMoreData = AtomicBoolean(false)
+    private val appendLock = Object()
+
+    /**
+     * 加载线程和预填充任务都会取片段，保证通道只有一个消费者
+     */
+    private val drainLock = Object()
+    private val appendExecutor = Executors.newSingleThreadExecutor()
+
+    /**
+     * 没有数据时的读等待，同时统计等待和读取耗时
+     */
+    val readWaiter = ReadWaiter(readTimeoutMs)
+
+    override val storeType: ChunkStoreType
+        get() = ChunkStoreType.HYBRID
+
+    init {
+        appendData(initData)
+        chunkChannel?.consumerWaiter = readWaiter
+    }
+
+    @Throws(IOException::class)
+    override fun open(dataSpec: DataSpec): Long {
+        uri = dataSpec.uri
+        transferInitializing(dataSpec)
+        readPosition = dataSpec.position
+        Log.w(TAG, "open: readPosition=$readPosition writtenLength=$writtenLength spilled=$spilled")
+        opened = true
+        transferStarted(dataSpec)
+        return C.LENGTH_UNSET.toLong()
+    }
+
+    @Throws(IOException::class)
+    override fun read(buffer: ByteArray, offset: Int, length: Int): Int {
+        if (length == 0) {
+            return 0
+        }
+        var available: Long
+        while (true) {
+            // 先记下版本再检查数据，检查后到达的数据会让等待立即返回
+            val version = readWaiter.version
+            drainChunkChannel()
+            // 先判断结束标记再取可读长度，避免结束前最后追加的数据被漏读
+            val finished = noMoreData.get()
+            available = writtenLength.get() - readPosition
+            if (available > 0L) {
+                break
+            }
+            if (finished) {
+                return C.RESULT_END_OF_INPUT
+            }
+            // 等待追加数据，超时返回0交给播放器重试
+            if (!readWaiter.await(version)) {
+                return 0
+            }
+        }
+        val startTime = System.nanoTime()
+        val readLength = Math.min(length.toLong(), available).toInt()
+        // 转存后堆内存已释放，读到0时改读文件
+        var read = if (spilled) 0 else store.read(readPosition, buffer, offset, readLength)
+        if (read == 0) {
+            val channel = fileChannel ?: return C.RESULT_END_OF_INPUT
+            try {
+                read = FileChannelUtils.read(channel, buffer, offset, readLength, readPosition)
+            } catch (e: IOException) {
+                throw FileDataSourceException(e, PlaybackException.ERROR_CODE_IO_UNSPECIFIED)
+            }
+        }
+        if (read > 0) {
+            readPosition += read
+            bytesTransferred(read)
+        }
+        readWaiter.recordRead(startTime)
+        return read
+    }
+
+    override fun getUri(): Uri? {
+        return uri
+    }
+
+    /**
+     * 关闭源。结束后在写线程关闭文件，排在完成回调之后。会话已结束时直接关闭
+     */
+    override fun close() {
+        Log.w(TAG, "close $readWaiter")
+        uri = null
+        if (released) {
+            closeFile()
+        } else if (noMoreData.get() || chunkChannel?.isCancelled == true) {
+            try {
+                appendExecutor.execute { closeFile() }
+            } catch (e: RejectedExecutionException) {
+                // 同时结束了会话，写线程已停止
+                closeFile()
+            }
+        }
+        if (opened) {
+            opened = false
+            transferEnded()
+        }
+    }
+
+    override fun appendDataAsync(newData: ByteArray) {
+        appendExecutor.execute {
+            appendData(newData)
+        }
+    }
+
+    override fun prefill() {
+        chunkChannel ?: return
+        appendExecutor.execute {
+            while (!noMoreData.get()) {
+                val version = readWaiter.version
+                drainChunkChannel()
+                if (!noMoreData.get()) {
+                    readWaiter.await(version, false)
+                }
+            }
+        }
+    }
+
+    override fun noMoreDataAsync() {
+        appendExecutor.execute {
+            noMoreData()
+        }
+    }
+
+    override fun metrics(): ChunkSourceMetrics {
+        return readWaiter.metrics(storeType, writtenLength.get(), store.peakBytes)
+    }
+
+    override fun release() {
+        released = true
+        // 中途停止时数据不完整，不再回调完成
+        noMoreData.set(true)
+        readWaiter.signal()
+        // 排在已提交的写入之后关闭。播放器正在读取时由 close 关闭
+        appendExecutor.execute {
+            if (!opened) {
+                closeFile()
+            }
+        }
+        appendExecutor.shutdown()
+    }
+
+    /**
+     * 追加数据。未转存时放堆内存，超过阈值后转存文件。转存失败时继续使用堆内存
+     */
+    private fun appendData(newData: ByteArray) {
+        if (newData.isEmpty()) {
+            return
+        }
+        synchronized(appendLock) {
+            val channel = fileChannel
+            if (spilled && channel != null) {
+                try {
+                    val position = writtenLength.get()
+                    FileChannelUtils.write(channel, newData, position)
+                    writtenLength.set(position + newData.size)
+                } catch (e: IOException) {
+                    Log.e(TAG, "appendData: ${e.message}")
+                    return
+                }
+            } else {
+                store.append(newData)
+                writtenLength.set(store.size)
+                if (store.size > spillBytes) {
+                    spill()
+                }
+            }
+        }
+        readWaiter.signal()
+    }
+
+    /**
+     * 把堆内存中的数据写入文件，之后的片段追加到文件
+     */
+    private fun spill() {
+        val startTime = System.currentTimeMillis()
+        YWFileUtil.createNewFile(path) ?: return
+        try {
+            val file = RandomAccessFile(path, "rw")
+            randomAccessFile = file
+            fileChannel = file.channel
+            store.writeTo(FileOutputStream(file.fd))
+        } catch (e: IOException) {
+            Log.e(TAG, "spill: ${e.message}")
+            closeFile()
+            return
+        }
+        spilled = true
+        store.clear()
+        Log.w(TAG, "spill: length=${writtenLength.get()} cost=${System.currentTimeMillis() - startTime}")
+    }
+
+    fun noMoreData() {
+        if (noMoreData.getAndSet(true)) {
+            return
+        }
+        readWaiter.signal()
+        Log.w(TAG, "noMoreData: length=${writtenLength.get()} spilled=$spilled")
+        val callback = onComplete ?: return
+        try {
+            appendExecutor.execute { writeCompleteFile(callback) }
+        } catch (e: RejectedExecutionException) {
+            Log.w(TAG, "noMoreData: released")
+        }
+    }
+
+    private fun writeCompleteFile(callback: (File) -> Unit) {
+        val file = File(path)
+        try {
+            synchronized(appendLock) {
+                if (spilled) {
+                    fileChannel?.force(false)
+                } else {
+                    file.parentFile?.mkdirs()
+                    FileOutputStream(file).use {
+                        store.writeTo(it)
+                        it.fd.sync()
+                    }
+                }
+            }
+        } catch (e: IOException) {
+            Log.e(TAG, "noMoreData: write ${file.path} fail ${e.message}")
+            return
+        }
+        callback(file)
+    }
+
+    /**
+     * 从片段通道取出已到达的片段写入。通道关闭且取完后标记没有更多数据
+     */
+    private fun drainChunkChannel() {
+        synchronized(drainLock) {
+            val channel = chunkChannel ?: return
+            var chunk = channel.poll()
+            while (chunk != null) {
+                appendData(chunk)
+                chunk = channel.poll()
+            }
+            if (channel.isCancelled) {
+                // 取消时数据不完整，不回调完成
+                noMoreData.set(true)
+                return
+            }
+            if (channel.isFinished() && !noMoreData.get()) {
+                Log.w(TAG, "drainChunkChannel: finished $channel")
+                noMoreData()
+            }
+        }
+    }
+
+    private fun closeFile() {
+        synchronized(appendLock) {
+            try {
+                fileChannel?.close()
+                randomAccessFile?.close()
+            } catch (e: IOException) {
+                Log.e(TAG, "closeFile: ${e.message}")
+            } finally {
+                fileChannel = null
+                randomAccessFile = null
+            }
+        }
+    }
+}
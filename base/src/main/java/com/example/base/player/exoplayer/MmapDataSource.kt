@@ -0,0 +1,408 @@
+package com.example.base.player.exoplayer
+
+import android.net.Uri
+import android.util.Log
+import androidx.media3.common.C
+import androidx.media3.common.PlaybackException
+import androidx.media3.datasource.BaseDataSource
+import androidx.media3.datasource.DataSource
+import androidx.media3.datasource.DataSpec
+import androidx.media3.datasource.FileDataSource.FileDataSourceException
+import androidx.media3.datasource.TransferListener
+import com.example.base.util.YWFileUtil
+import java.io.File
+import java.io.IOException
+import java.io.RandomAccessFile
+import java.nio.ByteBuffer
+import java.nio.MappedByteBuffer
+import java.nio.channels.FileChannel
+import java.util.concurrent.Executors
+
+/**
+ * 基于内存映射文件的边播边加载数据源
+ *
+ * 1. 文件按 [REGION_SIZE] 分区映射，写满一个区再映射下一个，不重新映射已写的数据
+ * 2. 写线程把片段拷贝到映射内存，写完再更新 [writeIndex]，读线程只读取 [writeIndex] 之前的数据
+ * 3. 读直接从映射内存拷贝到播放器的 buffer，不经过系统调用
+ * 4. 片段通道结束后把文件截断到实际长度，映射文件就是完整的音频文件，通过 [onComplete] 回调
+ * 5. 没有可读数据时在 [readWaiter] 上等待片段入队，最多等待 readTimeoutMs，不空转
+ *
+ * @param onComplete 文件写完后在加载线程回调，可以把文件移入缓存
+ * @author wangshichao
+ * @date 2024/7/6
+ */
+internal class MmapDataSource(
+    path: String,
+    initData: ByteArray,
+    private val chunkChannel: ChunkChannel? = null,
+    private val onComplete: ((File) -> Unit)? = null,
+    readTimeoutMs: Long = ReadWaiter.DEFAULT_TIMEOUT_MS
+) : BaseDataSource(false), ChunkSource {
+    class Factory(
+        path: String,
+        byteArray: ByteArray,
+        var listener: TransferListener? = null,
+        chunkChannel: ChunkChannel? = null,
+        onComplete: ((File) -> Unit)? = null,
+        readTimeoutMs: Long = ReadWaiter.DEFAULT_TIMEOUT_MS
+    ) : DataSource.Factory {
+        val dataSource = MmapDataSource(path, byteArray, chunkChannel, onComplete, readTimeoutMs)
+
+        override fun createDataSource(): DataSource {
+            listener?.let {
+                dataSource.addTransferListener(it)
+            }
+            return dataSource
+        }
+    }
+
+    companion object {
+        /**
+         * 每次映射的区域大小，一般的tts回复一个区就能放下
+         */
+        const val REGION_SIZE = 1024 * 1024
+    }
+
+    private val TAG = "Mmap-ExoPlayer"
+    private val file = File(path)
+    private var randomAccessFile: RandomAccessFile? = null
+    private var fileChannel: FileChannel? = null
+    private var uri: Uri? = null
+
+    @Volatile
+    private var opened = false
+
+    /**
+     * 已映射的区域，只由写线程追加，整体替换后发布
+     */
+    @Volatile
+    private var regions = arrayOfNulls<MappedByteBuffer>(0)
+
+    /**
+     * 写线程使用的视图，不修改映射本身的 position
+     */
+    private var writeView: ByteBuffer? = null
+
+    /**
+     * 读线程使用的视图，按需从 [regions] 复制
+     */
+    private val readViews = ArrayList<ByteBuffer>()
+
+    /**
+     * 已写入的字节数，写完数据后更新，读线程以此判断可读范围
+     */
+    @Volatile
+    private var writeIndex = 0L
+
+    /**
+     * 读取位置，只在加载线程访问
+     */
+    private var readPosition = 0L
+
+    @Volatile
+    private var noMoreData = false
+
+    @Volatile
+    private var completed = false
+
+    @Volatile
+    private var released = false
+    private val appendLock = Object()
+
+    /**
+     * 加载线程和预填充任务都会取片段，保证通道只有一个消费者
+     */
+    private val drainLock = Object()
+    private val appendExecutor = Executors.newSingleThreadExecutor()
+
+    /**
+     * 没有数据时的读等待，同时统计等待和读取耗时
+     */
+    val readWaiter = ReadWaiter(readTimeoutMs)
+
+    override val storeType: ChunkStoreType
+        get() = ChunkStoreType.MMAP
+
+    init {
+        initFile(path)
+        try {
+            appendData(initData)
+        } catch (e: IOException) {
+            throw FileDataSourceException(e, PlaybackException.ERROR_CODE_IO_UNSPECIFIED)
+        }
+        chunkChannel?.consumerWaiter = readWaiter
+    }
+
+    @Throws(IOException::class)
+    override fun open(dataSpec: DataSpec): Long {
+        uri = dataSpec.uri
+        transferInitializing(dataSpec)
+        readPosition = dataSpec.position
+        Log.w(TAG, "open: readPosition=$readPosition writeIndex=$writeIndex")
+        opened = true
+        transferStarted(dataSpec)
+        return C.LENGTH_UNSET.toLong()
+    }
+
+    /**
+     * 从映射内存读取最多length字节的数据，从buffer的offset位置开始填充
+     */
+    @Throws(IOException::class)
+    override fun read(buffer: ByteArray, offset: Int, length: Int): Int {
+        if (length == 0) {
+            return 0
+        }
+        var available: Long
+        while (true) {
+            // 先记下版本再检查数据，检查后入队的片段会让等待立即返回
+            val version = readWaiter.version
+            drainChunkChannel()
+            // 先判断结束标记再取写入位置，避免结束前最后写入的数据被漏读
+            val finished = noMoreData
+            available = writeIndex - readPosition
+            if (available > 0L) {
+                break
+            }
+            if (finished) {
+                return C.RESULT_END_OF_INPUT
+            }
+            // 等待片段入队，超时返回0交给播放器重试
+            if (!readWaiter.await(version)) {
+                return 0
+            }
+        }
+        val startTime = System.nanoTime()
+        val readLength = Math.min(length.toLong(), available).toInt()
+        var copied = 0
+        while (copied < readLength) {
+            val view = readView((readPosition / REGION_SIZE).toInt())
+            val regionOffset = (readPosition % REGION_SIZE).toInt()
+            val count = Math.min(readLength - copied, REGION_SIZE - regionOffset)
+            view.position(regionOffset)
+            view.get(buffer, offset + copied, count)
+            copied += count
+            readPosition += count
+        }
+        bytesTransferred(readLength)
+        readWaiter.recordRead(startTime)
+        return readLength
+    }
+
+    override fun getUri(): Uri? {
+        return uri
+    }
+
+    /**
+     * 关闭源。映射在文件关闭后仍然有效，写完或取消前保留文件以便继续写入。会话已结束时同时释放映射
+     */
+    override fun close() {
+        Log.w(TAG, "close $readWaiter")
+        uri = null
+        if (released) {
+            closeFile()
+            releaseRegions()
+            readViews.clear()
+        } else if (completed || chunkChannel?.isCancelled == true) {
+            closeFile()
+        }
+        if (opened) {
+            opened = false
+            transferEnded()
+        }
+    }
+
+    override fun appendDataAsync(newData: ByteArray) {
+        appendExecutor.execute {
+            try {
+                appendData(newData)
+            } catch (e: IOException) {
+                Log.e(TAG, "appendDataAsync: ${e.message}")
+            }
+        }
+    }
+
+    override fun prefill() {
+        chunkChannel ?: return
+        appendExecutor.execute {
+            try {
+                while (!noMoreData) {
+                    val version = readWaiter.version
+                    drainChunkChannel()
+                    if (!noMoreData) {
+                        readWaiter.await(version, false)
+                    }
+                }
+            } catch (e: IOException) {
+                Log.e(TAG, "prefill: ${e.message}")
+            }
+        }
+    }
+
+    override fun noMoreDataAsync() {
+        appendExecutor.execute {
+            try {
+                noMoreData()
+            } catch (e: IOException) {
+                Log.e(TAG, "noMoreDataAsync: ${e.message}")
+            }
+        }
+    }
+
+    override fun metrics(): ChunkSourceMetrics {
+        // 映射内存不在堆上
+        return readWaiter.metrics(storeType, writeIndex, 0L)
+    }
+
+    override fun release() {
+        released = true
+        synchronized(appendLock) {
+            // 中途停止时文件不完整，不再截断和回调完成
+            noMoreData = true
+        }
+        readWaiter.signal()
+        // 排在已提交的写入之后关闭。播放器正在读取时由 close 关闭
+        appendExecutor.execute {
+            if (!opened) {
+                closeFile()
+                releaseRegions()
+            }
+        }
+        appendExecutor.shutdown()
+    }
+
+    /**
+     * 追加数据，写满当前区域时映射下一个区域
+     */
+    @Throws(IOException::class)
+    fun appendData(newData: ByteArray) {
+        synchronized(appendLock) {
+            val channel = fileChannel ?: return
+            var position = writeIndex
+            var written = 0
+            while (written < newData.size) {
+                val regionIndex = (position / REGION_SIZE).toInt()
+                if (regionIndex >= regions.size) {
+                    mapRegion(channel, regionIndex)
+                }
+                val view = writeView ?: return
+                val regionOffset = (position % REGION_SIZE).toInt()
+                val count = Math.min(newData.size - written, REGION_SIZE - regionOffset)
+                view.position(regionOffset)
+                view.put(newData, written, count)
+                written += count
+                position += count
+            }
+            // 数据写完再发布
+            writeIndex = position
+        }
+        readWaiter.signal()
+    }
+
+    /**
+     * 没有更多数据，截断文件并回调完成
+     */
+    @Throws(IOException::class)
+    fun noMoreData() {
+        synchronized(appendLock) {
+            if (noMoreData) {
+                return
+            }
+            val channel = fileChannel
+            if (channel != null) {
+                val startTime = System.currentTimeMillis()
+                regions.forEach { it?.force() }
+                channel.truncate(writeIndex)
+                completed = true
+                Log.w(TAG, "noMoreData: length=$writeIndex regions=${regions.size} cost=${System.currentTimeMillis() - startTime}")
+            }
+            noMoreData = true
+        }
+        readWaiter.signal()
+        if (completed) {
+            onComplete?.invoke(file)
+        }
+    }
+
+    /**
+     * 从片段通道取出已到达的片段写入映射内存。通道关闭且取完后标记没有更多数据
+     */
+    @Throws(IOException::class)
+    private fun drainChunkChannel() {
+        synchronized(drainLock) {
+            val channel = chunkChannel ?: return
+            var chunk = channel.poll()
+            while (chunk != null) {
+                appendData(chunk)
+                chunk = channel.poll()
+            }
+            if (channel.isCancelled) {
+                // 取消时文件不完整，不回调完成
+                noMoreData = true
+                return
+            }
+            if (channel.isFinished() && !noMoreData) {
+                Log.w(TAG, "drainChunkChannel: finished $channel")
+                noMoreData()
+            }
+        }
+    }
+
+    /**
+     * 映射新的区域，映射超过文件长度时文件自动扩展
+     */
+    @Throws(IOException::class)
+    private fun mapRegion(channel: FileChannel, regionIndex: Int) {
+        val region = channel.map(
+            FileChannel.MapMode.READ_WRITE,
+            regionIndex.toLong() * REGION_SIZE,
+            REGION_SIZE.toLong()
+        )
+        writeView = region.duplicate()
+        regions = regions.copyOf(regionIndex + 1).also { it[regionIndex] = region }
+    }
+
+    private fun readView(regionIndex: Int): ByteBuffer {
+        while (readViews.size <= regionIndex) {
+            readViews.add(regions[readViews.size]!!.duplicate())
+        }
+        return readViews[regionIndex]
+    }
+
+    @Throws(FileDataSourceException::class)
+    private fun initFile(path: String) {
+        YWFileUtil.createNewFile(path) ?: return
+        try {
+            randomAccessFile = RandomAccessFile(path, "rw").also {
+                fileChannel = it.channel
+            }
+        } catch (e: IOException) {
+            throw FileDataSourceException(e, PlaybackException.ERROR_CODE_IO_FILE_NOT_FOUND)
+        } catch (e: SecurityException) {
+            throw FileDataSourceException(e, PlaybackException.ERROR_CODE_IO_NO_PERMISSION)
+        }
+    }
+
+    /**
+     * 去掉对映射的引用，映射内存在回收时解除
+     */
+    private fun releaseRegions() {
+        synchronized(appendLock) {
+            regions = arrayOfNulls(0)
+            writeView = null
+        }
+    }
+
+    private fun closeFile() {
+        synchronized(appendLock) {
+            try {
+                fileChannel?.close()
+                randomAccessFile?.close()
+            } catch (e: IOException) {
+                Log.e(TAG, "closeFile: ${e.message}")
+            } finally {
+                fileChannel = null
+                randomAccessFile = null
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.base.player.exoplayer
+
+import android.util.Log
+import androidx.media3.common.C
+import com.example.base.util.JsonUtilKt
+
+/**
+ * 单次分片播放的体验指标
+ *
+ * @param firstChunkMs 会话开始到首个片段到达的耗时，没有片段时为 C.TIME_UNSET
+ * @param firstAudioMs 会话开始到开始出声的耗时，未出声时为 C.TIME_UNSET
+ * @param rebufferCount 出声后的卡顿次数
+ * @param rebufferMs 卡顿总时长
+ * @param readCount 数据源读取次数
+ * @param bytesRead 数据源读取总字节数
+ * @param decoderInitMs 解码器初始化耗时，复用解码器时为 C.TIME_UNSET
+ * @param droppedBuffers 音频解码器丢弃的缓冲数量，来自 DecoderCounters.droppedBufferCount
+ * @param underrunCount 音频输出欠载的次数
+ * @author wangshichao
+ * @date 2024/7/8
+ */
+class PlaybackSessionMetrics(
+    val key: String,
+    val storeType: ChunkStoreType,
+    val firstChunkMs: Long,
+    val firstAudioMs: Long,
+    val rebufferCount: Int,
+    val rebufferMs: Long,
+    val readCount: Long,
+    val bytesRead: Long,
+    val decoderInitMs: Long,
+    val droppedBuffers: Int,
+    val underrunCount: Int
+) {
+    /**
+     * 平均每次读取的字节数
+     */
+    val bytesPerRead: Long
+        get() = if (readCount > 0) bytesRead / readCount else 0L
+
+    override fun toString(): String {
+        return "PlaybackSessionMetrics(key=$key storeType=$storeType firstChunkMs=$firstChunkMs firstAudioMs=$firstAudioMs " +
+                "rebufferCount=$rebufferCount rebufferMs=$rebufferMs readCount=$readCount bytesPerRead=$bytesPerRead " +
+                "decoderInitMs=$decoderInitMs droppedBuffers=$droppedBuffers underrunCount=$underrunCount)"
+    }
+}
+
+/**
+ * 固定分桶的直方图，内存占用不随样本数增长
+ *
+ * @param bounds 各桶的上界（包含），递增。超过最后一个上界的样本放入溢出桶
+ */
+class QoeHistogram(private val bounds: LongArray) {
+    private val counts = LongArray(bounds.size + 1)
+    private var count = 0L
+    private var sum = 0L
+    private var max = 0L
+
+    fun add(value: Long) {
+        var index = bounds.indexOfFirst { value <= it }
+        if (index < 0) {
+            index = bounds.size
+        }
+        counts[index]++
+        count++
+        sum += value
+        if (value > max) {
+            max = value
+        }
+    }
+
+    /**
+     * 百分位数，取样本所在桶的上界，不超过最大值
+     *
+     * @param percentile 0到100
+     */
+    fun percentile(percentile: Int): Long {
+        if (count == 0L) {
+            return 0L
+        }
+        val target = Math.max(1L, Math.ceil(count * percentile / 100.0).toLong())
+        var cumulative = 0L
+        for (i in counts.indices) {
+            cumulative += counts[i]
+            if (cumulative >= target) {
+                return if (i < bounds.size) Math.min(bounds[i], max) else max
+            }
+        }
+        return max
+    }
+
+    fun snapshot(): Snapshot {
+        return Snapshot(
+            count = count,
+            mean = if (count > 0) sum / count else 0L,
+            max = max,
+            p50 = percentile(50),
+            p90 = percentile(90),
+            p99 = percentile(99),
+            buckets = counts.indices.map { i ->
+                Bucket(if (i < bounds.size) bounds[i].toString() else "+Inf", counts[i])
+            }
+        )
+    }
+
+    data class Bucket(val le: String, val count: Long)
+
+    data class Snapshot(
+        val count: Long,
+        val mean: Long,
+        val max: Long,
+        val p50: Long,
+        val p90: Long,
+        val p99: Long,
+        val buckets: List<Bucket>
+    )
+}
+
+/**
+ * 播放体验指标汇总
+ *
+ * 1. 每个分片播放会话结束时 [record]，各项指标按固定分桶汇总
+ * 2. [toJson] 导出汇总，供看板统计分位数
+ *
+ * @author wangshichao
+ * @date 2024/7/8
+ */
+object PlaybackQoe {
+    private const val TAG = "PlaybackQoe"
+    private val LATENCY_BOUNDS = longArrayOf(25, 50, 100, 200, 300, 500, 750, 1000, 1500, 2000, 3000, 5000, 10000)
+    private val COUNT_BOUNDS = longArrayOf(0, 1, 2, 3, 5, 10, 20)
+    private val BYTES_BOUNDS = longArrayOf(256, 512, 1024, 2048, 4096, 8192, 16384, 32768, 65536)
+
+    /**
+     * 导出的汇总
+     *
+     * @param abandonedCount 未出声就结束的会话数量
+     */
+    data class Report(
+        val sessionCount: Long,
+        val abandonedCount: Long,
+        val storeTypes: Map<String, Long>,
+        val histograms: Map<String, QoeHistogram.Snapshot>
+    )
+
+    private var sessionCount = 0L
+    private var abandonedCount = 0L
+    private val storeTypes = linkedMapOf<String, Long>()
+    private val firstChunkMs = QoeHistogram(LATENCY_BOUNDS)
+    private val firstAudioMs = QoeHistogram(LATENCY_BOUNDS)
+    private val rebufferCount = QoeHistogram(COUNT_BOUNDS)
+    private val rebufferMs = QoeHistogram(LATENCY_BOUNDS)
+    private val bytesPerRead = QoeHistogram(BYTES_BOUNDS)
+    private val decoderInitMs = QoeHistogram(LATENCY_BOUNDS)
+    private val droppedBuffers = QoeHistogram(COUNT_BOUNDS)
+    private val underrunCount = QoeHistogram(COUNT_BOUNDS)
+
+    @Synchronized
+    fun record(metrics: PlaybackSessionMetrics) {
+        Log.i(TAG, "record $metrics")
+        sessionCount++
+        storeTypes[metrics.storeType.name] = (storeTypes[metrics.storeType.name] ?: 0L) + 1
+        if (metrics.firstChunkMs != C.TIME_UNSET) {
+            firstChunkMs.add(metrics.firstChunkMs)
+        }
+        if (metrics.firstAudioMs == C.TIME_UNSET) {
+            // 未出声的会话只计数，卡顿等指标没有意义
+            abandonedCount++
+            return
+        }
+        firstAudioMs.add(metrics.firstAudioMs)
+        rebufferCount.add(metrics.rebufferCount.toLong())
+        rebufferMs.add(metrics.rebufferMs)
+        if (metrics.readCount > 0) {
+            bytesPerRead.add(metrics.bytesPerRead)
+        }
+        if (metrics.decoderInitMs != C.TIME_UNSET) {
+            decoderInitMs.add(metrics.decoderInitMs)
+        }
+        droppedBuffers.add(metrics.droppedBuffers.toLong())
+        underrunCount.add(metrics.underrunCount.toLong())
+    }
+
+    @Synchronized
+    fun snapshot(): Report {
+        return Report(
+            sessionCount = sessionCount,
+            abandonedCount = abandonedCount,
+            storeTypes = LinkedHashMap(storeTypes),
+            histograms = linkedMapOf(
+                "firstChunkMs" to firstChunkMs.snapshot(),
+                "firstAudioMs" to firstAudioMs.snapshot(),
+                "rebufferCount" to rebufferCount.snapshot(),
+                "rebufferMs" to rebufferMs.snapshot(),
+                "bytesPerRead" to bytesPerRead.snapshot(),
+                "decoderInitMs" to decoderInitMs.snapshot(),
+                "droppedBuffers" to droppedBuffers.snapshot(),
+                "underrunCount" to underrunCount.snapshot()
+            )
+        )
+    }
+
+    fun toJson(): String {
+        return JsonUtilKt.toJson(snapshot())
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.base.player.exoplayer
+
+import androidx.media3.common.C
+import androidx.media3.datasource.DataSource
+import androidx.media3.datasource.DataSpec
+import androidx.media3.datasource.TransferListener
+import androidx.media3.exoplayer.DecoderCounters
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 单次分片播放的指标采集
+ *
+ * 1. 播放事件来自 ExoPlayerWrapper 的 AnalyticsListener，在主线程调用
+ * 2. 读取次数和字节数来自数据源的 [TransferListener]，在加载线程调用
+ * 3. 丢弃的解码缓冲取自音频渲染器的 [DecoderCounters.droppedBufferCount]，按会话期间的增量计算
+ * 4. 会话结束时 [finish] 生成 [PlaybackSessionMetrics]
+ *
+ * @author wangshichao
+ * @date 2024/7/8
+ */
+internal class PlaybackSessionTracker(
+    private val key: String,
+    private val storeType: ChunkStoreType
+) : TransferListener {
+
+    /**
+     * 会话开始的系统时间，即打开片段通道或收到首个片段的时间
+     */
+    val startTimeMs = System.currentTimeMillis()
+
+    /**
+     * 开始出声的系统时间，未出声时为 C.TIME_UNSET
+     */
+    var audibleTimeMs = C.TIME_UNSET
+        private set
+
+    private var rebufferCount = 0
+    private var rebufferStartMs = C.TIME_UNSET
+    private var rebufferMs = 0L
+    private var decoderInitMs = C.TIME_UNSET
+    private var droppedBuffers = 0
+    private var underrunCount = 0
+
+    /**
+     * 会话期间启用的音频解码计数，以及上次累计时的丢弃数
+     */
+    private var audioCounters: DecoderCounters? = null
+    private var droppedBufferBase = 0
+    private val readCount = AtomicLong(0L)
+    private val bytesRead = AtomicLong(0L)
+
+    /**
+     * 开始出声，只记录第一次
+     *
+     * @return 是否是第一次
+     */
+    fun onAudible(timeMs: Long): Boolean {
+        if (audibleTimeMs != C.TIME_UNSET) {
+            return false
+        }
+        audibleTimeMs = timeMs
+        return true
+    }
+
+    /**
+     * 进入缓冲。出声之后的缓冲算作卡顿
+     */
+    fun onBuffering(timeMs: Long) {
+        if (audibleTimeMs == C.TIME_UNSET || rebufferStartMs != C.TIME_UNSET) {
+            return
+        }
+        rebufferCount++
+        rebufferStartMs = timeMs
+    }
+
+    fun onReady(timeMs: Long) {
+        if (rebufferStartMs == C.TIME_UNSET) {
+            return
+        }
+        rebufferMs += timeMs - rebufferStartMs
+        rebufferStartMs = C.TIME_UNSET
+    }
+
+    /**
+     * 解码器初始化完成。同一会话多次初始化时累加
+     */
+    fun onDecoderInitialized(initializationDurationMs: Long) {
+        decoderInitMs = if (decoderInitMs == C.TIME_UNSET) {
+            initializationDurationMs
+        } else {
+            decoderInitMs + initializationDurationMs
+        }
+    }
+
+    /**
+     * 音频渲染器启用，之后丢弃的解码缓冲计入本会话
+     */
+    fun onAudioEnabled(counters: DecoderCounters) {
+        collectDroppedBuffers()
+        counters.ensureUpdated()
+        audioCounters = counters
+        droppedBufferBase = counters.droppedBufferCount
+    }
+
+    /**
+     * 音频渲染器停用，累计到目前为止丢弃的解码缓冲
+     */
+    fun onAudioDisabled(counters: DecoderCounters) {
+        if (audioCounters !== counters) {
+            return
+        }
+        collectDroppedBuffers()
+        audioCounters = null
+    }
+
+    /**
+     * 音频输出欠载，AudioTrack 没有数据可播
+     */
+    fun onUnderrun() {
+        underrunCount++
+    }
+
+    /**
+     * 结束会话，未结束的卡顿计到当前时间
+     *
+     * @param firstChunkTimeMs 首个片段到达的系统时间，还没有片段时为0
+     */
+    fun finish(firstChunkTimeMs: Long): PlaybackSessionMetrics {
+        onReady(System.currentTimeMillis())
+        collectDroppedBuffers()
+        audioCounters = null
+        val audible = audibleTimeMs
+        return PlaybackSessionMetrics(
+            key = key,
+            storeType = storeType,
+            firstChunkMs = if (firstChunkTimeMs > 0L) Math.max(0L, firstChunkTimeMs - startTimeMs) else C.TIME_UNSET,
+            firstAudioMs = if (audible != C.TIME_UNSET) Math.max(0L, audible - startTimeMs) else C.TIME_UNSET,
+            rebufferCount = rebufferCount,
+            rebufferMs = rebufferMs,
+            readCount = readCount.get(),
+            bytesRead = bytesRead.get(),
+            decoderInitMs = decoderInitMs,
+            droppedBuffers = droppedBuffers,
+            underrunCount = underrunCount
+        )
+    }
+
+    private fun collectDroppedBuffers() {
+        val counters = audioCounters ?: return
+        // 计数在播放线程更新，读取前同步
+        counters.ensureUpdated()
+        val count = counters.droppedBufferCount
+        droppedBuffers += Math.max(0, count - droppedBufferBase)
+        droppedBufferBase = count
+    }
+
+    override fun onTransferInitializing(source: DataSource, dataSpec: DataSpec, isNetwork: Boolean) {}
+
+    override fun onTransferStart(source: DataSource, dataSpec: DataSpec, isNetwork: Boolean) {}
+
+    override fun onBytesTransferred(
+        source: DataSource,
+        dataSpec: DataSpec,
+        isNetwork: Boolean,
+        bytesTransferred: Int
+    ) {
+        readCount.incrementAndGet()
+        bytesRead.addAndGet(bytesTransferred.toLong())
+    }
+
+    override fun onTransferEnd(source: DataSource, dataSpec: DataSpec, isNetwork: Boolean) {}
+}
@@ -0,0 +1,145 @@
+package com.example.base.player.exoplayer
+
+import java.io.InterruptedIOException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 边播边加载数据源的读等待
+ *
+ * 1. 没有可读数据时，加载线程在 [await] 挂起，追加数据、片段入队或结束时 [signal] 唤醒，不再空转调用 read
+ * 2. 最多等待 [timeoutMs]，超时后 read 返回0，播放器有机会检查取消
+ * 3. 统计等待和读取的耗时，便于区分网络慢还是读取慢
+ *
+ * @param timeoutMs 单次等待的超时时间
+ * @author wangshichao
+ * @date 2024/7/6
+ */
+internal class ReadWaiter(private val timeoutMs: Long = DEFAULT_TIMEOUT_MS) {
+    companion object {
+        const val DEFAULT_TIMEOUT_MS = 200L
+    }
+
+    private val lock = Object()
+
+    /**
+     * 每次 [signal] 加一。读线程检查数据前先记下版本，版本变化说明期间有新数据
+     */
+    @Volatile
+    var version = 0L
+        private set
+
+    private val waitTimeNanos = AtomicLong(0L)
+    private val readTimeNanos = AtomicLong(0L)
+    private val readCountValue = AtomicLong(0L)
+    private val waitCountValue = AtomicLong(0L)
+    private val timeoutCountValue = AtomicLong(0L)
+
+    @Volatile
+    private var maxReadNanos = 0L
+
+    /**
+     * 等待数据的总时长
+     */
+    val waitMs: Long
+        get() = TimeUnit.NANOSECONDS.toMillis(waitTimeNanos.get())
+
+    /**
+     * 读取数据的总时长
+     */
+    val readMs: Long
+        get() = TimeUnit.NANOSECONDS.toMillis(readTimeNanos.get())
+
+    val waitCount: Long
+        get() = waitCountValue.get()
+
+    val readCount: Long
+        get() = readCountValue.get()
+
+    /**
+     * 等待超时仍没有数据的次数
+     */
+    val timeoutCount: Long
+        get() = timeoutCountValue.get()
+
+    /**
+     * 有新数据或没有更多数据，写线程调用
+     */
+    fun signal() {
+        synchronized(lock) {
+            version++
+            lock.notifyAll()
+        }
+    }
+
+    /**
+     * 等待版本从 [lastVersion] 变化，读线程调用
+     *
+     * @param record 是否计入等待统计，预填充等非读取的等待不计入
+     * @return 是否等到新的信号，超时返回false
+     */
+    @Throws(InterruptedIOException::class)
+    fun await(lastVersion: Long, record: Boolean = true): Boolean {
+        val startTime = System.nanoTime()
+        val deadline = startTime + TimeUnit.MILLISECONDS.toNanos(timeoutMs)
+        if (record) {
+            waitCountValue.incrementAndGet()
+        }
+        try {
+            synchronized(lock) {
+                while (version == lastVersion) {
+                    val remaining = deadline - System.nanoTime()
+                    if (remaining <= 0) {
+                        if (record) {
+                            timeoutCountValue.incrementAndGet()
+                        }
+                        return false
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining)
+                }
+                return true
+            }
+        } catch (e: InterruptedException) {
+            Thread.currentThread().interrupt()
+            throw InterruptedIOException()
+        } finally {
+            if (record) {
+                waitTimeNanos.addAndGet(System.nanoTime() - startTime)
+            }
+        }
+    }
+
+    /**
+     * 记录一次读取耗时
+     *
+     * @param startTime 读取开始时的 System.nanoTime()
+     */
+    fun recordRead(startTime: Long) {
+        val cost = System.nanoTime() - startTime
+        readTimeNanos.addAndGet(cost)
+        readCountValue.incrementAndGet()
+        // 只有加载线程读取，不需要原子比较
+        if (cost > maxReadNanos) {
+            maxReadNanos = cost
+        }
+    }
+
+    /**
+     * 生成数据源统计，读取耗时来自本对象
+     */
+    fun metrics(storeType: ChunkStoreType, bytesBuffered: Long, peakHeapBytes: Long): ChunkSourceMetrics {
+        return ChunkSourceMetrics(
+            storeType = storeType,
+            bytesBuffered = bytesBuffered,
+            peakHeapBytes = peakHeapBytes,
+            readCount = readCount,
+            readUs = TimeUnit.NANOSECONDS.toMicros(readTimeNanos.get()),
+            maxReadUs = TimeUnit.NANOSECONDS.toMicros(maxReadNanos),
+            waitMs = waitMs
+        )
+    }
+
+    override fun toString(): String {
+        return "ReadWaiter(waitMs=$waitMs readMs=$readMs waitCount=$waitCount timeoutCount=$timeoutCount)"
+    }
+}
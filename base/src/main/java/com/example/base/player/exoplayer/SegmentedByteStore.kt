@@ -0,0 +1,163 @@
+package com.example.base.player.exoplayer
+
+import java.io.IOException
+import java.io.OutputStream
+
+/**
+ * 分段字节存储。用于边播边加载的数据源，替代每次追加都拷贝整个数组
+ *
+ * 1. 追加 [append] 只保存片段引用，O(1) 且不拷贝
+ * 2. 读取 [read] 直接从 position 所在片段拷贝到调用方 buffer
+ * 3. [retainConsumed] 为 false 时，已读完的片段通过 [releaseBefore] 释放，降低长音频的堆内存占用
+ * 4. 读写可能在不同线程，内部加锁保证线程安全
+ *
+ * @param retainConsumed 是否保留已消费的片段，保留时支持回退seek
+ */
+internal class SegmentedByteStore(private val retainConsumed: Boolean = true) {
+
+    private class Segment(val start: Long, val data: ByteArray) {
+        val end: Long get() = start + data.size
+    }
+
+    private val lock = Object()
+    private val segments = ArrayList<Segment>()
+
+    /**
+     * 最近一次读取的片段下标，顺序读时避免重复查找
+     */
+    private var cursor = 0
+
+    /**
+     * 已写入的总字节数
+     */
+    @Volatile
+    var size: Long = 0L
+        private set
+
+    /**
+     * 已释放的字节数。小于该位置的数据不可再读取
+     */
+    @Volatile
+    var releasedPosition: Long = 0L
+        private set
+
+    /**
+     * 同一时刻持有的最大字节数
+     */
+    @Volatile
+    var peakBytes: Long = 0L
+        private set
+
+    /**
+     * 追加片段。调用方不应再修改 [data]
+     */
+    fun append(data: ByteArray) {
+        if (data.isEmpty()) {
+            return
+        }
+        synchronized(lock) {
+            segments.add(Segment(size, data))
+            size += data.size
+            if (size - releasedPosition > peakBytes) {
+                peakBytes = size - releasedPosition
+            }
+        }
+    }
+
+    /**
+     * 从 [position] 开始读取最多 [length] 字节到 [buffer] 的 [offset] 位置
+     *
+     * @return 实际读取的字节数，没有可读数据时返回0
+     */
+    fun read(position: Long, buffer: ByteArray, offset: Int, length: Int): Int {
+        synchronized(lock) {
+            if (position < releasedPosition || position >= size || length <= 0) {
+                return 0
+            }
+            var index = findSegment(position)
+            var readPosition = position
+            var copied = 0
+            while (copied < length && index < segments.size) {
+                val segment = segments[index]
+                val segmentOffset = (readPosition - segment.start).toInt()
+                val count = Math.min(length - copied, segment.data.size - segmentOffset)
+                System.arraycopy(segment.data, segmentOffset, buffer, offset + copied, count)
+                copied += count
+                readPosition += count
+                if (readPosition >= segment.end) {
+                    index++
+                }
+            }
+            cursor = Math.min(index, segments.size - 1)
+            return copied
+        }
+    }
+
+    /**
+     * 释放 [position] 之前已完整消费的片段。[retainConsumed] 为 true 时不释放
+     */
+    fun releaseBefore(position: Long) {
+        if (retainConsumed) {
+            return
+        }
+        synchronized(lock) {
+            var count = 0
+            while (count < segments.size && segments[count].end <= position) {
+                count++
+            }
+            if (count == 0) {
+                return
+            }
+            releasedPosition = segments[count - 1].end
+            segments.subList(0, count).clear()
+            cursor = Math.max(0, cursor - count)
+        }
+    }
+
+    /**
+     * 释放全部片段，之后只能追加不能读取已有数据
+     */
+    fun clear() {
+        synchronized(lock) {
+            releasedPosition = size
+            segments.clear()
+            cursor = 0
+        }
+    }
+
+    /**
+     * 按顺序把持有的片段写入 [out]
+     */
+    @Throws(IOException::class)
+    fun writeTo(out: OutputStream) {
+        val snapshot = synchronized(lock) { segments.toList() }
+        snapshot.forEach { out.write(it.data) }
+    }
+
+    /**
+     * 查找 [position] 所在片段下标。顺序读时命中 [cursor] 或其下一个片段，否则二分查找
+     */
+    private fun findSegment(position: Long): Int {
+        if (cursor < segments.size) {
+            val current = segments[cursor]
+            if (position >= current.start && position < current.end) {
+                return cursor
+            }
+            if (cursor + 1 < segments.size && position >= current.end && position < segments[cursor + 1].end) {
+                return cursor + 1
+            }
+        }
+        var low = 0
+        var high = segments.size - 1
+        while (low <= high) {
+            val mid = (low + high) ushr 1
+            val segment = segments[mid]
+            when {
+                position < segment.start -> high = mid - 1
+                position >= segment.end -> low = mid + 1
+                else -> return mid
+            }
+        }
+        return segments.size
+    }
+}
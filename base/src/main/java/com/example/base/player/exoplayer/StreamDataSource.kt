@@ -10,28 +10,44 @@ import androidx.media3.datasource.DataSource
 import androidx.media3.datasource.DataSourceException
 import androidx.media3.datasource.DataSpec
 import androidx.media3.datasource.TransferListener
+import java.io.File
+import java.io.FileOutputStream
 import java.io.IOException
 import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
 import java.util.concurrent.atomic.AtomicBoolean
 import java.util.concurrent.atomic.AtomicLong
 
 /**
  * 支持边播边（外部）加载的数据源。参考 [ByteArrayDataSource]
  *
- * 1. 使用字节数组 [data] 读写数据
+ * 1. 使用分段存储 [store] 读写数据，追加片段不拷贝已有数据
  * 2. 读 [read] 和写 [appendData] 在不同的线程，需要保证线程安全
+ * 3. [retainConsumed] 为 false 时释放已播放的片段，长音频不再持有全部数据
+ * 4. 没有可读数据时在 [readWaiter] 上等待写入，最多等待 readTimeoutMs，不空转
+ * 5. 设置 [chunkChannel] 时在加载线程从通道取出片段；设置 [completeFile] 时结束后把数据写入文件并回调 [onComplete]
  *
  * @author wangshichao
  * @date 2024/6/30
  */
 internal class StreamDataSource(
-    initData: ByteArray
-) : BaseDataSource(false) {
-    class Factory(byteArray: ByteArray, var listener: TransferListener? = null) : DataSource.Factory {
+    initData: ByteArray,
+    private val retainConsumed: Boolean = true,
+    readTimeoutMs: Long = ReadWaiter.DEFAULT_TIMEOUT_MS,
+    private val chunkChannel: ChunkChannel? = null,
+    private val completeFile: File? = null,
+    private val onComplete: ((File) -> Unit)? = null
+) : BaseDataSource(false), ChunkSource {
+    class Factory(
+        byteArray: ByteArray,
+        var listener: TransferListener? = null,
+        retainConsumed: Boolean = true,
+        readTimeoutMs: Long = ReadWaiter.DEFAULT_TIMEOUT_MS
+    ) : DataSource.Factory {
         val dataSource: StreamDataSource
 
         init {
-            dataSource = StreamDataSource(byteArray)
+            dataSource = StreamDataSource(byteArray, retainConsumed, readTimeoutMs)
         }
 
         override fun createDataSource(): DataSource {
@@ -44,17 +60,31 @@ internal class StreamDataSource(
 
     private val TAG = "Stream-ExoPlayer"
     private var uri: Uri? = null
-    private var readPosition = 0
+    private var readPosition = 0L
     private var bytesRemaining = AtomicLong(0L)
     private var opened = false
     private var noMoreData = AtomicBoolean(false)
     private val lock = Object()
-    private var data: ByteArray = ByteArray(0)
+
+    /**
+     * 加载线程和预填充任务都会取片段，保证通道只有一个消费者
+     */
+    private val drainLock = Object()
+    private val store = SegmentedByteStore(retainConsumed)
     private val appendExecutor = Executors.newSingleThreadExecutor()
 
+    /**
+     * 没有数据时的读等待，同时统计等待和读取耗时
+     */
+    val readWaiter = ReadWaiter(readTimeoutMs)
+
+    override val storeType: ChunkStoreType
+        get() = ChunkStoreType.HEAP
+
     init {
-        data = initData
-        bytesRemaining.set(data.size.toLong())
+        store.append(initData)
+        bytesRemaining.set(store.size)
+        chunkChannel?.consumerWaiter = readWaiter
     }
 
     /**
@@ -64,12 +94,13 @@ internal class StreamDataSource(
     override fun open(dataSpec: DataSpec): Long {
         uri = dataSpec.uri
         transferInitializing(dataSpec)
-        readPosition = dataSpec.position.toInt()
+        readPosition = dataSpec.position
         synchronized(lock) {
-            if (dataSpec.position > data.size) {
+            // 已释放的片段无法回退读取
+            if (dataSpec.position > store.size || dataSpec.position < store.releasedPosition) {
                 throw DataSourceException(PlaybackException.ERROR_CODE_IO_READ_POSITION_OUT_OF_RANGE)
             }
-            bytesRemaining.set(data.size - dataSpec.position)
+            bytesRemaining.set(store.size - dataSpec.position)
         }
         if (dataSpec.length != C.LENGTH_UNSET.toLong()) {
             bytesRemaining.set(Math.min(bytesRemaining.get(), dataSpec.length))
@@ -84,31 +115,40 @@ internal class StreamDataSource(
      * 从输入中读取最多length字节的数据，从buffer的offset位置开始填充length长度。
      */
     override fun read(buffer: ByteArray, offset: Int, length: Int): Int {
-        Log.i(TAG, "read: offset=$offset readLength=$length bytesRemaining=$bytesRemaining noMoreData=$noMoreData")
-        val startTime = System.currentTimeMillis()
         var readLength = length
         if (readLength == 0) {
             return 0
         }
-        // 没有可用数据且没有更多数据加载，输入结束
-        if (bytesRemaining.get() == 0L && noMoreData.get()) {
-            return C.RESULT_END_OF_INPUT
-        }
-
-        if (bytesRemaining.get() == 0L) {
-            return 0
+        while (true) {
+            // 先记下版本再检查数据，检查后到达的数据会让等待立即返回
+            val version = readWaiter.version
+            drainChunkChannel()
+            val finished = noMoreData.get()
+            if (bytesRemaining.get() > 0L) {
+                break
+            }
+            // 没有可用数据且没有更多数据加载，输入结束
+            if (finished) {
+                return C.RESULT_END_OF_INPUT
+            }
+            // 等待追加数据，超时返回0交给播放器重试
+            if (!readWaiter.await(version)) {
+                return 0
+            }
         }
+        val startTime = System.nanoTime()
 
         // 从buffer的offset位置开始填充readLength长度的数据
         synchronized(lock) {
-            readLength = Math.min(readLength, bytesRemaining.get().toInt())
-            System.arraycopy(data, readPosition, buffer, offset, readLength)
+            readLength = Math.min(readLength.toLong(), bytesRemaining.get()).toInt()
+            readLength = store.read(readPosition, buffer, offset, readLength)
             // 更新可用数据
             readPosition += readLength
             bytesRemaining.set(bytesRemaining.get() - readLength)
         }
+        store.releaseBefore(readPosition)
         bytesTransferred(readLength)
-        Log.i(TAG, "read: readPosition=${readPosition} bytesRemaining:${bytesRemaining} cost=${System.currentTimeMillis() - startTime}")
+        readWaiter.recordRead(startTime)
         return readLength
     }
 
@@ -120,7 +160,7 @@ internal class StreamDataSource(
      * 关闭源
      */
     override fun close() {
-        Log.w(TAG, "close")
+        Log.w(TAG, "close $readWaiter")
         if (opened) {
             opened = false
             transferEnded()
@@ -128,12 +168,42 @@ internal class StreamDataSource(
         uri = null
     }
 
-    fun appendDataAsync(newData: ByteArray) {
+    override fun appendDataAsync(newData: ByteArray) {
         appendExecutor.execute {
             appendData(newData)
         }
     }
 
+    override fun prefill() {
+        chunkChannel ?: return
+        appendExecutor.execute {
+            while (!noMoreData.get()) {
+                val version = readWaiter.version
+                drainChunkChannel()
+                if (!noMoreData.get()) {
+                    readWaiter.await(version, false)
+                }
+            }
+        }
+    }
+
+    override fun noMoreDataAsync() {
+        appendExecutor.execute {
+            noMoreData()
+        }
+    }
+
+    override fun metrics(): ChunkSourceMetrics {
+        return readWaiter.metrics(storeType, store.size, store.peakBytes)
+    }
+
+    override fun release() {
+        // 中途停止时数据不完整，不再写文件和回调完成
+        noMoreData.set(true)
+        readWaiter.signal()
+        appendExecutor.shutdown()
+    }
+
     /**
      * 追加数据
      *
@@ -142,18 +212,69 @@ internal class StreamDataSource(
      */
     private fun appendData(newData: ByteArray) {
         val newLength = newData.size
-        Log.i(TAG, "appendData: newData=${newLength} bytesRemaining=$bytesRemaining}")
         val startTime = System.currentTimeMillis()
         synchronized(lock) {
-            val lastData = data
-            data = lastData.plus(newData)
+            store.append(newData)
             bytesRemaining.set(bytesRemaining.get() + newLength)
         }
+        readWaiter.signal()
         Log.w(TAG, "appendData: newData=${newLength} bytesRemaining=$bytesRemaining cost=${System.currentTimeMillis() - startTime}")
     }
 
     fun noMoreData() {
-        noMoreData.set(true)
-        Log.w(TAG, "noMoreData")
+        if (noMoreData.getAndSet(true)) {
+            return
+        }
+        readWaiter.signal()
+        Log.w(TAG, "noMoreData: size=${store.size}")
+        val file = completeFile ?: return
+        val callback = onComplete ?: return
+        // 已播放的片段释放后无法得到完整音频
+        if (!retainConsumed) {
+            return
+        }
+        try {
+            appendExecutor.execute { writeCompleteFile(file, callback) }
+        } catch (e: RejectedExecutionException) {
+            Log.w(TAG, "noMoreData: released")
+        }
+    }
+
+    private fun writeCompleteFile(file: File, callback: (File) -> Unit) {
+        try {
+            file.parentFile?.mkdirs()
+            FileOutputStream(file).use {
+                store.writeTo(it)
+                it.fd.sync()
+            }
+        } catch (e: IOException) {
+            Log.e(TAG, "noMoreData: write ${file.path} fail ${e.message}")
+            file.delete()
+            return
+        }
+        callback(file)
+    }
+
+    /**
+     * 从片段通道取出已到达的片段写入存储。通道关闭且取完后标记没有更多数据
+     */
+    private fun drainChunkChannel() {
+        synchronized(drainLock) {
+            val channel = chunkChannel ?: return
+            var chunk = channel.poll()
+            while (chunk != null) {
+                appendData(chunk)
+                chunk = channel.poll()
+            }
+            if (channel.isCancelled) {
+                // 取消时数据不完整，不回调完成
+                noMoreData.set(true)
+                return
+            }
+            if (channel.isFinished() && !noMoreData.get()) {
+                Log.w(TAG, "drainChunkChannel: finished $channel")
+                noMoreData()
+            }
+        }
     }
 }
\ No newline at end of file
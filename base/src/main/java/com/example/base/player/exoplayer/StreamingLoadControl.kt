@@ -0,0 +1,176 @@
+package com.example.base.player.exoplayer
+
+import android.os.SystemClock
+import android.util.Log
+import androidx.media3.common.C
+import androidx.media3.common.Timeline
+import androidx.media3.common.util.Util
+import androidx.media3.exoplayer.DefaultLoadControl
+import androidx.media3.exoplayer.source.MediaSource
+import androidx.media3.exoplayer.upstream.DefaultAllocator
+
+/**
+ * 流式音频的缓冲控制，分片边到边播
+ *
+ * 1. 默认缓冲控制起播前要缓冲2.5秒，对几百毫秒一个片段的tts音频延迟太大。这里缓冲 [minStartMs] 即起播
+ * 2. 缓冲中按已缓冲时长的增长估计片段到达速率 [arrivalRate]，即每秒到达多少秒音频
+ * 3. 到达速率低于播放速度时，起播前多缓冲差额部分，保证 [lookaheadMs] 内不会播空
+ * 4. 卡顿后再起播至少缓冲 [minRebufferMs]，每卡顿一次阈值递增，避免反复卡顿。阈值不超过 [maxStartMs]
+ *
+ * 只在播放线程调用，每个播放器单独一个实例
+ *
+ * @param minStartMs 首次起播的最小缓冲时长
+ * @param minRebufferMs 卡顿后再起播的最小缓冲时长
+ * @param maxStartMs 起播缓冲时长的上限
+ * @param lookaheadMs 起播后至少能连续播放的时长，用于计算到达速率不足时的缓冲差额
+ * @author wangshichao
+ * @date 2024/7/7
+ */
+class StreamingLoadControl(
+    private val minStartMs: Long = DEFAULT_MIN_START_MS,
+    private val minRebufferMs: Long = DEFAULT_MIN_REBUFFER_MS,
+    private val maxStartMs: Long = DEFAULT_MAX_START_MS,
+    private val lookaheadMs: Long = DEFAULT_LOOKAHEAD_MS
+) : DefaultLoadControl(
+    DefaultAllocator(true, C.DEFAULT_BUFFER_SEGMENT_SIZE),
+    DefaultLoadControl.DEFAULT_MIN_BUFFER_MS,
+    DefaultLoadControl.DEFAULT_MAX_BUFFER_MS,
+    minStartMs.toInt(),
+    minRebufferMs.toInt(),
+    DefaultLoadControl.DEFAULT_TARGET_BUFFER_BYTES,
+    true,
+    DefaultLoadControl.DEFAULT_BACK_BUFFER_DURATION_MS,
+    DefaultLoadControl.DEFAULT_RETAIN_BACK_BUFFER_FROM_KEYFRAME
+) {
+    companion object {
+        private const val TAG = "StreamingLoadControl"
+        const val DEFAULT_MIN_START_MS = 100L
+        const val DEFAULT_MIN_REBUFFER_MS = 300L
+        const val DEFAULT_MAX_START_MS = 2_000L
+        const val DEFAULT_LOOKAHEAD_MS = 2_000L
+
+        /**
+         * 两次采样间隔不足时不计算速率，避免抖动
+         */
+        private const val MIN_SAMPLE_INTERVAL_US = 50_000L
+
+        /**
+         * 两次采样间隔过长说明中间在播放，重新开始采样
+         */
+        private const val MAX_SAMPLE_INTERVAL_US = 1_000_000L
+
+        /**
+         * 新采样在速率估计中的权重
+         */
+        private const val RATE_WEIGHT = 0.3f
+    }
+
+    /**
+     * 片段到达速率，每秒到达的音频秒数。还没有采样时小于0
+     */
+    @Volatile
+    var arrivalRate = -1f
+        private set
+
+    /**
+     * 本次准备后的卡顿次数
+     */
+    @Volatile
+    var rebufferCount = 0
+        private set
+
+    private var sampleTimeUs = C.TIME_UNSET
+    private var sampleBufferedUs = 0L
+
+    /**
+     * 是否已起播，用于区分首次缓冲和卡顿
+     */
+    private var started = false
+
+    override fun onPrepared() {
+        super.onPrepared()
+        reset()
+    }
+
+    override fun onStopped() {
+        super.onStopped()
+        reset()
+    }
+
+    override fun onReleased() {
+        super.onReleased()
+        reset()
+    }
+
+    override fun shouldStartPlayback(
+        timeline: Timeline,
+        mediaPeriodId: MediaSource.MediaPeriodId,
+        bufferedDurationUs: Long,
+        playbackSpeed: Float,
+        rebuffering: Boolean,
+        targetLiveOffsetUs: Long
+    ): Boolean {
+        if (rebuffering && started) {
+            started = false
+            rebufferCount++
+            resetSample()
+            Log.w(TAG, "rebuffer count=$rebufferCount arrivalRate=$arrivalRate")
+        }
+        sampleArrival(bufferedDurationUs)
+        val thresholdUs = startThresholdUs(playbackSpeed, rebuffering)
+        if (bufferedDurationUs < thresholdUs) {
+            return false
+        }
+        Log.i(TAG, "shouldStartPlayback bufferedMs=${Util.usToMs(bufferedDurationUs)} " +
+                "thresholdMs=${Util.usToMs(thresholdUs)} arrivalRate=$arrivalRate rebuffering=$rebuffering")
+        started = true
+        resetSample()
+        return true
+    }
+
+    /**
+     * 起播需要的缓冲时长。到达速率不足时补上 [lookaheadMs] 内播放和到达的差额
+     */
+    private fun startThresholdUs(playbackSpeed: Float, rebuffering: Boolean): Long {
+        val minMs = if (rebuffering) minRebufferMs * Math.max(1, rebufferCount) else minStartMs
+        val rate = arrivalRate
+        val deficitMs = if (rate >= 0f) (lookaheadMs * (playbackSpeed - rate)).toLong() else 0L
+        return Util.msToUs(Math.min(Math.max(minMs, deficitMs), maxStartMs))
+    }
+
+    /**
+     * 缓冲中播放位置不变，已缓冲时长的增长就是到达的音频时长
+     */
+    private fun sampleArrival(bufferedDurationUs: Long) {
+        val nowUs = SystemClock.elapsedRealtimeNanos() / 1000
+        val lastTimeUs = sampleTimeUs
+        val elapsedUs = nowUs - lastTimeUs
+        val arrivedUs = bufferedDurationUs - sampleBufferedUs
+        if (lastTimeUs == C.TIME_UNSET || arrivedUs < 0 || elapsedUs > MAX_SAMPLE_INTERVAL_US) {
+            // 首次采样、切换媒体项或间隔过长，重新开始
+            sampleTimeUs = nowUs
+            sampleBufferedUs = bufferedDurationUs
+            return
+        }
+        if (elapsedUs < MIN_SAMPLE_INTERVAL_US) {
+            return
+        }
+        val rate = arrivedUs.toFloat() / elapsedUs
+        val lastRate = arrivalRate
+        arrivalRate = if (lastRate < 0f) rate else lastRate + RATE_WEIGHT * (rate - lastRate)
+        sampleTimeUs = nowUs
+        sampleBufferedUs = bufferedDurationUs
+    }
+
+    private fun resetSample() {
+        sampleTimeUs = C.TIME_UNSET
+        sampleBufferedUs = 0L
+    }
+
+    private fun reset() {
+        resetSample()
+        started = false
+        rebufferCount = 0
+        arrivalRate = -1f
+    }
+}
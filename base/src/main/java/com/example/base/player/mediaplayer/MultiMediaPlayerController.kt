@@ -3,14 +3,25 @@ package com.example.base.player.mediaplayer
 /**
  * 多实例播放器控制器
  *
+ * 销毁的播放器重置后留作复用，最多保留 [MAX_IDLE_PLAYERS] 个，避免每个key都重新创建 MediaPlayer
+ *
  * @author wangshichao
  * @date 2024/6/13
  */
 class MultiMediaPlayerController {
+    companion object {
+        private const val MAX_IDLE_PLAYERS = 2
+    }
+
     private val map by lazy {
         mutableMapOf<String, PlayerWrapper>()
     }
 
+    /**
+     * 已重置、可复用的播放器
+     */
+    private val idlePlayers = ArrayDeque<PlayerWrapper>()
+
     private var onCompleteListener: ((key: String) -> Unit)? = null
     private var onPlaybackStateChangedListener: ((time: Float) -> Unit)? = null
     private var onErrorListener: ((key: String, desc: String) -> Unit)? = null
@@ -21,11 +32,11 @@ class MultiMediaPlayerController {
         onPrepareReady: (() -> Unit)? = null,
         onPrepareError: ((desc: String?) -> Unit)? = null
     ) {
-        val player = PlayerWrapper()
+        val player = obtainPlayer()
         player.prepare(url, {
             onPrepareReady?.invoke()
         }, { desc ->
-            map.remove(key)?.release()
+            map.remove(key)?.let { recyclePlayer(it) }
             onPrepareError?.invoke(desc)
         })
         player.setOnCompletionListener {
@@ -41,7 +52,7 @@ class MultiMediaPlayerController {
     }
 
     fun destroy(key: String) {
-        map.remove(key)?.release()
+        map.remove(key)?.let { recyclePlayer(it) }
     }
 
     fun play(key: String) {
@@ -84,5 +95,28 @@ class MultiMediaPlayerController {
             it.value.release()
         }
         map.clear()
+        idlePlayers.forEach {
+            it.release()
+        }
+        idlePlayers.clear()
+    }
+
+    private fun obtainPlayer(): PlayerWrapper {
+        return idlePlayers.removeFirstOrNull() ?: PlayerWrapper()
+    }
+
+    /**
+     * 重置后放回复用队列，队列已满时释放
+     */
+    private fun recyclePlayer(player: PlayerWrapper) {
+        if (idlePlayers.size >= MAX_IDLE_PLAYERS) {
+            player.release()
+            return
+        }
+        player.setOnCompletionListener(null)
+        player.setOnPlaybackStateChangedListener(null)
+        player.setOnErrorListener(null)
+        player.reset()
+        idlePlayers.addLast(player)
     }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.example.base.util
+
+import java.nio.ByteBuffer
+
+/**
+ * 十六进制解码工具。查表解码，不创建中间字符串
+ *
+ * 1. 支持 [CharSequence] 和 UTF-8 字节数组两种输入，可只解码其中一段
+ * 2. 支持写入调用方提供的 [ByteArray] 或 [ByteBuffer]，便于复用缓冲区
+ *
+ * @author wangshichao
+ * @date 2024/7/2
+ */
+object HexUtil {
+    /**
+     * 字符到半字节的映射表，非法字符为-1
+     */
+    private val DIGITS = IntArray(128) { -1 }.also { table ->
+        for (c in '0'..'9') table[c.code] = c - '0'
+        for (c in 'a'..'f') table[c.code] = c - 'a' + 10
+        for (c in 'A'..'F') table[c.code] = c - 'A' + 10
+    }
+
+    /**
+     * 解码整个十六进制字符串
+     */
+    @JvmStatic
+    fun decode(hex: CharSequence): ByteArray {
+        return decode(hex, 0, hex.length)
+    }
+
+    /**
+     * 解码 [hex] 中 [start, end) 区间
+     */
+    @JvmStatic
+    fun decode(hex: CharSequence, start: Int, end: Int): ByteArray {
+        val out = ByteArray(decodedLength(start, end))
+        decode(hex, start, end, out, 0)
+        return out
+    }
+
+    /**
+     * 解码 [hex] 中 [start, end) 区间，写入 [out] 的 [outOffset] 位置
+     *
+     * @return 写入的字节数
+     */
+    @JvmStatic
+    fun decode(hex: CharSequence, start: Int, end: Int, out: ByteArray, outOffset: Int): Int {
+        val length = decodedLength(start, end)
+        checkCapacity(out.size - outOffset, length)
+        var i = start
+        var j = outOffset
+        while (i < end) {
+            out[j++] = ((digit(hex[i].code) shl 4) or digit(hex[i + 1].code)).toByte()
+            i += 2
+        }
+        return length
+    }
+
+    /**
+     * 解码 UTF-8 编码的十六进制字节 [hex] 中 [start, end) 区间，写入 [out] 的 [outOffset] 位置
+     *
+     * @return 写入的字节数
+     */
+    @JvmStatic
+    fun decode(hex: ByteArray, start: Int, end: Int, out: ByteArray, outOffset: Int): Int {
+        val length = decodedLength(start, end)
+        checkCapacity(out.size - outOffset, length)
+        var i = start
+        var j = outOffset
+        while (i < end) {
+            out[j++] = ((digit(hex[i].toInt()) shl 4) or digit(hex[i + 1].toInt())).toByte()
+            i += 2
+        }
+        return length
+    }
+
+    /**
+     * 解码 [hex] 中 [start, end) 区间，从 [out] 当前位置写入
+     *
+     * @return 写入的字节数
+     */
+    @JvmStatic
+    fun decode(hex: CharSequence, start: Int, end: Int, out: ByteBuffer): Int {
+        val length = decodedLength(start, end)
+        checkCapacity(out.remaining(), length)
+        if (out.hasArray()) {
+            decode(hex, start, end, out.array(), out.arrayOffset() + out.position())
+            out.position(out.position() + length)
+            return length
+        }
+        var i = start
+        while (i < end) {
+            out.put(((digit(hex[i].code) shl 4) or digit(hex[i + 1].code)).toByte())
+            i += 2
+        }
+        return length
+    }
+
+    /**
+     * [start, end) 区间解码后的字节数
+     */
+    @JvmStatic
+    fun decodedLength(start: Int, end: Int): Int {
+        val charCount = end - start
+        if (charCount < 0 || charCount % 2 != 0) {
+            throw IllegalArgumentException("illegal hex length $charCount")
+        }
+        return charCount / 2
+    }
+
+    private fun digit(c: Int): Int {
+        val value = if (c in 0 until 128) DIGITS[c] else -1
+        if (value < 0) {
+            throw IllegalArgumentException("illegal hex char $c")
+        }
+        return value
+    }
+
+    private fun checkCapacity(capacity: Int, length: Int) {
+        if (capacity < length) {
+            throw IndexOutOfBoundsException("need $length bytes but only $capacity available")
+        }
+    }
+}
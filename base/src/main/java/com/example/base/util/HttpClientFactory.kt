@@ -0,0 +1,165 @@
+package com.example.base.util
+
+import android.os.SystemClock
+import android.util.Log
+import okhttp3.Call
+import okhttp3.Callback
+import okhttp3.ConnectionPool
+import okhttp3.Dispatcher
+import okhttp3.HttpUrl
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.Response
+import java.io.IOException
+import java.util.concurrent.TimeUnit
+
+/**
+ * OkHttpClient 工厂
+ *
+ * 1. 所有子系统共用一个连接池和调度器，一个子系统建立的连接可以被其他子系统复用
+ * 2. 通过 [newBuilder] 派生各自的超时和拦截器，不要直接 new OkHttpClient.Builder()
+ * 3. [warmUp] 提前建立到指定域名的连接，例如进入聊天页时连接tts域名
+ *
+ * @author wangshichao
+ * @date 2024/7/6
+ */
+object HttpClientFactory {
+    private const val TAG = "HttpClientFactory"
+
+    /**
+     * 空闲连接保留时长，需要大于服务端的keep-alive才有意义
+     */
+    private const val KEEP_ALIVE_MINUTES = 5L
+    private const val MAX_IDLE_CONNECTIONS = 10
+
+    /**
+     * 同一个域名预热的最小间隔，也是预热后认为连接仍可用的时长
+     */
+    private const val WARM_UP_INTERVAL_MS = 30_000L
+
+    private val connectionPool = ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES)
+
+    private val dispatcher = Dispatcher().apply {
+        maxRequests = 64
+        // sse 长连接会一直占用名额
+        maxRequestsPerHost = 10
+    }
+
+    private class WarmUpState {
+        var isWarming = false
+
+        /**
+         * 上次预热成功的时间
+         */
+        var readyTime = 0L
+        val callbacks = mutableListOf<(Boolean) -> Unit>()
+    }
+
+    /**
+     * 各域名的预热状态，key为 scheme://host:port
+     */
+    private val warmUpStateMap = HashMap<String, WarmUpState>()
+
+    /**
+     * 共享的基础 client，只设置通用的超时
+     */
+    val client: OkHttpClient by lazy {
+        OkHttpClient.Builder()
+            .connectionPool(connectionPool)
+            .dispatcher(dispatcher)
+            .connectTimeout(15, TimeUnit.SECONDS)
+            .readTimeout(30, TimeUnit.SECONDS)
+            .writeTimeout(30, TimeUnit.SECONDS)
+            .build()
+    }
+
+    /**
+     * 派生 client。连接池、调度器和 TLS 配置与 [client] 共用
+     */
+    fun newBuilder(): OkHttpClient.Builder {
+        return client.newBuilder()
+    }
+
+    /**
+     * 预热到 url 所在域名的连接，完成 DNS、TCP 和 TLS 握手后放回连接池
+     *
+     * @param force 保活时为true，跳过 [WARM_UP_INTERVAL_MS] 内的去重，一定发出请求刷新连接的空闲时间
+     * @param onReady 连接可用（true）或预热失败（false）时在网络线程回调，正在预热时等待本次结果
+     * @return 是否发起了新的预热，正在预热或刚预热过时返回false
+     */
+    fun warmUp(url: String, force: Boolean = false, onReady: ((Boolean) -> Unit)? = null): Boolean {
+        val origin = originOf(url) ?: run {
+            onReady?.invoke(false)
+            return false
+        }
+        val now = SystemClock.elapsedRealtime()
+        val ready = synchronized(warmUpStateMap) {
+            val state = warmUpStateMap.getOrPut(origin) { WarmUpState() }
+            when {
+                state.isWarming -> {
+                    onReady?.let { state.callbacks.add(it) }
+                    return false
+                }
+                !force && state.readyTime > 0 && now - state.readyTime < WARM_UP_INTERVAL_MS -> true
+                else -> {
+                    state.isWarming = true
+                    onReady?.let { state.callbacks.add(it) }
+                    false
+                }
+            }
+        }
+        if (ready) {
+            onReady?.invoke(true)
+            return false
+        }
+        val request = Request.Builder()
+            .url("$origin/")
+            .head()
+            .build()
+        client.newCall(request).enqueue(object : Callback {
+            override fun onResponse(call: Call, response: Response) {
+                // 只需要连接，响应内容不关心
+                response.close()
+                onWarmUpResult(origin, true, now)
+            }
+
+            override fun onFailure(call: Call, e: IOException) {
+                Log.w(TAG, "warmUp $origin fail ${e.message}")
+                onWarmUpResult(origin, false, now)
+            }
+        })
+        return true
+    }
+
+    /**
+     * url 所在域名最近是否预热成功，连接大概率仍在连接池中
+     */
+    fun isWarm(url: String): Boolean {
+        val origin = originOf(url) ?: return false
+        val readyTime = synchronized(warmUpStateMap) { warmUpStateMap[origin]?.readyTime } ?: 0L
+        return readyTime > 0 && SystemClock.elapsedRealtime() - readyTime < WARM_UP_INTERVAL_MS
+    }
+
+    private fun onWarmUpResult(origin: String, success: Boolean, startTime: Long) {
+        val now = SystemClock.elapsedRealtime()
+        val callbacks = synchronized(warmUpStateMap) {
+            val state = warmUpStateMap[origin] ?: return
+            state.isWarming = false
+            if (success) {
+                state.readyTime = now
+            }
+            state.callbacks.toList().also { state.callbacks.clear() }
+        }
+        Log.i(TAG, "warmUp $origin success=$success cost=${now - startTime} " +
+                "connections=${connectionPool.connectionCount()}")
+        callbacks.forEach { it(success) }
+    }
+
+    /**
+     * scheme://host:port
+     */
+    private fun originOf(url: String): String? {
+        val httpUrl = HttpUrl.parse(url) ?: return null
+        return "${httpUrl.scheme()}://${httpUrl.host()}:${httpUrl.port()}"
+    }
+}
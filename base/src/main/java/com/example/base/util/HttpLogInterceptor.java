@@ -2,7 +2,6 @@ package com.example.base.util;
 
 
 import android.text.TextUtils;
-import android.util.Log;
 
 import androidx.annotation.Nullable;
 
@@ -15,8 +14,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.UnsupportedCharsetException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.zip.GZIPInputStream;
 import okhttp3.Headers;
 import okhttp3.Interceptor;
@@ -27,54 +26,48 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import okhttp3.internal.http.HttpHeaders;
 import okio.Buffer;
-import okio.BufferedSource;
-import okio.GzipSource;
+import okio.ForwardingSource;
 import okio.Okio;
+import okio.Source;
 
 /**
  * Created by ronaldo on 2017/9/29.
  * 日志拦截器，打印url和header
+ *
+ * 响应体不再提前读取全部内容，而是在业务读取时复制前N字节，sse等流式响应不受影响。
+ * 请求线程只复制原始数据，在单独的线程解析后交给 {@link HttpModelController} 批量写入，不增加请求耗时
  */
 
 public class HttpLogInterceptor implements Interceptor {
 
     private static final Charset UTF8 = Charset.forName("UTF-8");
+    private static final Executor LOG_EXECUTOR = Executors.newSingleThreadExecutor();
     private long maxContentLength = 250000L;
+    /**
+     * 流式响应只记录开头的内容
+     */
+    private long maxStreamCaptureLength = 4096L;
     private static final String HEADERS_PARAMS_CONTENT_ENCODING = "Content-Encoding";
 
     @Override
     public Response intercept(Chain chain) throws IOException {
         Request request = chain.request();
-        String requestBodyContent = "";
-        String responseBodyContent = "";
-
-        String url = request.url().toString();
-        String method = request.method();
-        Headers headers = request.headers();
+        long httpRequestTime = System.currentTimeMillis();
+        HttpModel httpModel = new HttpModel();
+        httpModel.setRequestUrl(request.url().toString());
+        httpModel.setRequestMethod(request.method());
+        httpModel.setRequestHeaders(request.headers());
+        httpModel.setRequestTimeMillis(httpRequestTime);
+        // 请求体只复制，在日志线程解析
         RequestBody requestBody = request.body();
-        boolean isHasRequestBody = requestBody != null;
-        if (isHasRequestBody) {
+        RequestSnapshot requestSnapshot = null;
+        if (requestBody != null) {
             Buffer buffer = new Buffer();
             requestBody.writeTo(buffer);
-            Charset charset = UTF8;
-            MediaType contentType = requestBody.contentType();
-            if (contentType != null) {
-                charset = contentType.charset(UTF8);
-            }
-            boolean isGzip = requestBodyGzipped(headers);
-            requestBodyContent = readFromBuffer(buffer.clone(), charset, isGzip);
+            requestSnapshot = new RequestSnapshot(buffer, requestBody.contentType(),
+                    requestBodyGzipped(request.headers()));
         }
 
-        HttpModel httpModel = new HttpModel();
-        httpModel.setRequestUrl(url);
-        httpModel.setRequestMethod(method);
-        httpModel.setRequestHeaders(headers.toString());
-        httpModel.setRequestBodyContent(requestBodyContent);
-        Date nowTime = new Date();
-        SimpleDateFormat time = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-        httpModel.setRequestTime(time.format(nowTime));
-
-        long httpRequestTime = System.currentTimeMillis();
         Response response = chain.proceed(request);
         if (response == null) {
             throw new IOException("interceptor response can not be null");
@@ -82,44 +75,175 @@ public class HttpLogInterceptor implements Interceptor {
         long httpResponseTime = System.currentTimeMillis();
         long durationTime = httpResponseTime - httpRequestTime;
         httpModel.setDurationTime(durationTime);
-        int code = response.code();
-        String msg = response.message();
-        String protocol = response.protocol().toString();
-        Headers responseHeads = response.headers();
+        httpModel.setResponseCode(response.code());
+        httpModel.setResponseMsg(response.message());
+        httpModel.setResponseProtocol(response.protocol().toString());
+        httpModel.setResponseHeaders(response.headers());
+
         ResponseBody responseBody = response.body();
-        if (HttpHeaders.hasBody(response)) {
-            BufferedSource source = getNativeSource(response);
-            source.request(Long.MAX_VALUE);
-            Buffer buffer = source.buffer();
-            Charset charset = UTF8;
-            MediaType contentType = responseBody.contentType();
-            if (contentType != null) {
-                try {
-                    charset = contentType.charset(UTF8);
-                } catch (UnsupportedCharsetException e) {
-                    return response;
+        if (responseBody == null || !HttpHeaders.hasBody(response)) {
+            logAsync(httpModel, requestSnapshot, null, null, false, false, 0L, 0L);
+            return response;
+        }
+        // 不提前读取响应体，边读边复制前N字节，读完或关闭后再打印
+        boolean isStream = isStreamBody(response, responseBody);
+        long captureLimit = isStream ? maxStreamCaptureLength : maxContentLength;
+        TeeSource teeSource = new TeeSource(responseBody.source(), httpModel, requestSnapshot, responseBody.contentType(),
+                responseBodyGzipped(response.headers()), isStream, captureLimit, httpResponseTime);
+        ResponseBody teeBody = ResponseBody.create(responseBody.contentType(),
+                responseBody.contentLength(), Okio.buffer(teeSource));
+        return response.newBuilder().body(teeBody).build();
+    }
+
+    /**
+     * 是否为流式响应。sse 或 chunked 编码的响应体可能持续很久，只记录开头的内容
+     */
+    private boolean isStreamBody(Response response, ResponseBody responseBody) {
+        MediaType contentType = responseBody.contentType();
+        if (contentType != null && "text".equals(contentType.type())
+                && "event-stream".equals(contentType.subtype())) {
+            return true;
+        }
+        return "chunked".equalsIgnoreCase(response.header("Transfer-Encoding"))
+                || responseBody.contentLength() == -1L;
+    }
+
+    /**
+     * 请求体副本
+     */
+    private static class RequestSnapshot {
+        final Buffer buffer;
+        @Nullable
+        final MediaType contentType;
+        final boolean isGzip;
+
+        RequestSnapshot(Buffer buffer, @Nullable MediaType contentType, boolean isGzip) {
+            this.buffer = buffer;
+            this.contentType = contentType;
+            this.isGzip = isGzip;
+        }
+    }
+
+    private Charset charsetOf(@Nullable MediaType contentType) {
+        if (contentType == null) {
+            return UTF8;
+        }
+        try {
+            return contentType.charset(UTF8);
+        } catch (UnsupportedCharsetException e) {
+            return UTF8;
+        }
+    }
+
+    /**
+     * 在日志线程解析复制的请求体和响应体，保存到 {@link HttpModelController}，不占用网络线程
+     */
+    private void logAsync(final HttpModel httpModel, @Nullable final RequestSnapshot requestSnapshot,
+                          @Nullable final Buffer captured,
+                          @Nullable final MediaType contentType, final boolean isGzip,
+                          final boolean isStream, final long totalBytes, final long bodyDuration) {
+        LOG_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (requestSnapshot != null) {
+                    httpModel.setRequestBodyContent(readFromBuffer(requestSnapshot.buffer,
+                            charsetOf(requestSnapshot.contentType), requestSnapshot.isGzip));
+                } else {
+                    httpModel.setRequestBodyContent("");
+                }
+                String responseBodyContent = "";
+                if (captured != null && captured.size() > 0) {
+                    Charset charset = charsetOf(contentType);
+                    if (!isGzip && !isPlaintext(captured)) {
+                        responseBodyContent = "--- binary body " + totalBytes + " bytes ---";
+                    } else {
+                        String body = readFromBuffer(captured, charset, isGzip);
+                        responseBodyContent = isStream ? body : buildBeautyJson(body);
+                    }
+                }
+                if (isStream) {
+                    responseBodyContent += "\n\n--- stream " + totalBytes + " bytes in " + bodyDuration + "ms ---";
+                } else if (totalBytes > maxContentLength) {
+                    responseBodyContent += "\n\n--- Content truncated " + totalBytes + " bytes ---";
                 }
+                httpModel.setResponseBodyContent(responseBodyContent);
+                HttpModelController.getInstance().putHttpModel(httpModel);
             }
-            responseBodyContent = readFromBuffer(buffer.clone(), charset, false);
+        });
+    }
+
+    /**
+     * 透传响应体，同时复制前 captureLimit 字节。读到末尾或关闭时打印一次日志
+     */
+    private class TeeSource extends ForwardingSource {
+        private final HttpModel httpModel;
+        @Nullable
+        private final RequestSnapshot requestSnapshot;
+        @Nullable
+        private final MediaType contentType;
+        private final boolean isGzip;
+        private final boolean isStream;
+        private final long captureLimit;
+        private final long startTime;
+        private final Buffer captured = new Buffer();
+        private long totalBytes = 0L;
+        private boolean finished = false;
+
+        TeeSource(Source delegate, HttpModel httpModel, @Nullable RequestSnapshot requestSnapshot,
+                  @Nullable MediaType contentType, boolean isGzip, boolean isStream, long captureLimit,
+                  long startTime) {
+            super(delegate);
+            this.httpModel = httpModel;
+            this.requestSnapshot = requestSnapshot;
+            this.contentType = contentType;
+            this.isGzip = isGzip;
+            this.isStream = isStream;
+            this.captureLimit = captureLimit;
+            this.startTime = startTime;
         }
 
-        httpModel.setResponseCode(code);
-        httpModel.setResponseMsg(msg);
-        httpModel.setResponseProtocol(protocol);
-        httpModel.setResponseHeaders(responseHeads.toString());
-        httpModel.setResponseBodyContent(buildBeautyJson(responseBodyContent));
-//        HttpModelController.getInstance().putHttpModel(httpModel);
-        Log.i("HttpLog", httpModel.toString());
-        Log.i("HttpLog", httpModel.toCurl());
-        return response;
-    }
+        @Override
+        public long read(Buffer sink, long byteCount) throws IOException {
+            long read;
+            try {
+                read = super.read(sink, byteCount);
+            } catch (IOException e) {
+                finish();
+                throw e;
+            }
+            if (read == -1L) {
+                finish();
+                return read;
+            }
+            synchronized (this) {
+                long remaining = captureLimit - captured.size();
+                if (!finished && remaining > 0) {
+                    sink.copyTo(captured, sink.size() - read, Math.min(read, remaining));
+                }
+                totalBytes += read;
+            }
+            return read;
+        }
 
-    private BufferedSource getNativeSource(BufferedSource input, boolean isGzipped) {
-        if (isGzipped) {
-            GzipSource source = new GzipSource(input);
-            return Okio.buffer(source);
-        } else {
-            return input;
+        @Override
+        public void close() throws IOException {
+            finish();
+            super.close();
+        }
+
+        private void finish() {
+            Buffer snapshot;
+            long bytes;
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                finished = true;
+                snapshot = captured;
+                bytes = totalBytes;
+            }
+            logAsync(httpModel, requestSnapshot, snapshot, contentType, isGzip, isStream, bytes,
+                    System.currentTimeMillis() - startTime);
         }
     }
 
@@ -166,16 +290,6 @@ public class HttpLogInterceptor implements Interceptor {
         return body;
     }
 
-    private BufferedSource getNativeSource(Response response) throws IOException {
-        if (responseBodyGzipped(response.headers())) {
-            BufferedSource source = response.peekBody(maxContentLength).source();
-            if (source.buffer().size() < maxContentLength) {
-                return getNativeSource(source, true);
-            }
-        }
-        return response.body().source();
-    }
-
     /**
      * Returns true if the body in question probably contains human readable text. Uses a small
      * sample
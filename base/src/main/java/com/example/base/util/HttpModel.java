@@ -4,12 +4,26 @@ import android.os.Parcel;
 import android.os.Parcelable;
 import android.text.TextUtils;
 
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+import okhttp3.Headers;
+
 /**
  * Created by ronaldo on 2017/10/26.
+ * 请求线程只保存原始字段，header 和时间在查看时再格式化
  */
 
 public class HttpModel implements Parcelable {
 
+    private static final ThreadLocal<SimpleDateFormat> TIME_FORMAT = new ThreadLocal<SimpleDateFormat>() {
+        @Override
+        protected SimpleDateFormat initialValue() {
+            return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault());
+        }
+    };
+
     // 网络请求的url
     private String requestUrl;
     // 网络请求的方法
@@ -20,6 +34,12 @@ public class HttpModel implements Parcelable {
     private String requestBodyContent;
     // 网络请求的时间
     private String requestTime;
+    // 网络请求的时间戳
+    private long requestTimeMillis;
+    // 未格式化的请求头部
+    private transient Headers rawRequestHeaders;
+    // 未格式化的返回头部
+    private transient Headers rawResponseHeaders;
     // 网络请求的时间
     private long durationTime;
     // 网络数据返回的code
@@ -50,9 +70,17 @@ public class HttpModel implements Parcelable {
     }
 
     public String getRequestHeaders() {
+        if (requestHeaders == null && rawRequestHeaders != null) {
+            requestHeaders = rawRequestHeaders.toString();
+        }
         return requestHeaders;
     }
 
+    public void setRequestHeaders(Headers requestHeaders) {
+        this.rawRequestHeaders = requestHeaders;
+        this.requestHeaders = null;
+    }
+
     public void setRequestHeaders(String requestHeaders) {
         this.requestHeaders = requestHeaders;
     }
@@ -90,9 +118,17 @@ public class HttpModel implements Parcelable {
     }
 
     public String getResponseHeaders() {
+        if (responseHeaders == null && rawResponseHeaders != null) {
+            responseHeaders = rawResponseHeaders.toString();
+        }
         return responseHeaders;
     }
 
+    public void setResponseHeaders(Headers responseHeaders) {
+        this.rawResponseHeaders = responseHeaders;
+        this.responseHeaders = null;
+    }
+
     public void setResponseHeaders(String responseHeaders) {
         this.responseHeaders = responseHeaders;
     }
@@ -106,9 +142,21 @@ public class HttpModel implements Parcelable {
     }
 
     public String getRequestTime() {
+        if (requestTime == null && requestTimeMillis > 0) {
+            requestTime = TIME_FORMAT.get().format(new Date(requestTimeMillis));
+        }
         return requestTime;
     }
 
+    public long getRequestTimeMillis() {
+        return requestTimeMillis;
+    }
+
+    public void setRequestTimeMillis(long requestTimeMillis) {
+        this.requestTimeMillis = requestTimeMillis;
+        this.requestTime = null;
+    }
+
     public void setRequestTime(String requestTime) {
         this.requestTime = requestTime;
     }
@@ -124,10 +172,10 @@ public class HttpModel implements Parcelable {
     @Override
     public String toString() {
         StringBuilder stringBuilder = new StringBuilder();
-        stringBuilder.append("request time**" + requestTime + "\n");
+        stringBuilder.append("request time**" + getRequestTime() + "\n");
         stringBuilder.append("request url**" + requestUrl + "\n");
         stringBuilder.append("request method**" + requestMethod + "\n");
-        stringBuilder.append("request heads**\n" + requestHeaders.toString());
+        stringBuilder.append("request heads**\n" + getRequestHeaders());
         if (!TextUtils.isEmpty(requestBodyContent)) {
             stringBuilder.append("requestBodyContent**" + requestBodyContent + "\n\n");
         } else {
@@ -137,7 +185,7 @@ public class HttpModel implements Parcelable {
         stringBuilder.append("response code**" + responseCode + "\n");
         stringBuilder.append("response msg**" + responseMsg + "\n");
         stringBuilder.append("response protocol**" + responseProtocol + "\n");
-        stringBuilder.append("response heads**\n" + responseHeaders + "\n");
+        stringBuilder.append("response heads**\n" + getResponseHeaders() + "\n");
         if (!TextUtils.isEmpty(responseBodyContent)) {
             stringBuilder.append("responseBodyContent**\n" + responseBodyContent);
         } else {
@@ -150,7 +198,7 @@ public class HttpModel implements Parcelable {
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("curl --location --request " + requestMethod);
         stringBuilder.append(" '" + requestUrl + "' \\\n");
-        String[] headers = requestHeaders.split("\n");
+        String[] headers = getRequestHeaders().split("\n");
         for (String hd : headers) {
             stringBuilder.append("--header '" + hd + "' \\\n");
         }
@@ -162,14 +210,15 @@ public class HttpModel implements Parcelable {
     public void writeToParcel(Parcel dest, int flags) {
         dest.writeString(requestUrl);
         dest.writeString(requestMethod);
-        dest.writeString(requestHeaders);
+        dest.writeString(getRequestHeaders());
         dest.writeString(requestBodyContent);
-        dest.writeString(requestTime);
+        dest.writeString(getRequestTime());
+        dest.writeLong(requestTimeMillis);
         dest.writeLong(durationTime);
         dest.writeInt(responseCode);
         dest.writeString(responseMsg);
         dest.writeString(responseProtocol);
-        dest.writeString(responseHeaders);
+        dest.writeString(getResponseHeaders());
         dest.writeString(responseBodyContent);
     }
 
@@ -196,6 +245,7 @@ public class HttpModel implements Parcelable {
         requestHeaders = in.readString();
         requestBodyContent = in.readString();
         requestTime = in.readString();
+        requestTimeMillis = in.readLong();
         durationTime = in.readLong();
         responseCode = in.readInt();
         responseMsg = in.readString();
@@ -0,0 +1,240 @@
+package com.example.base.util;
+
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import com.example.base.AppContext;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 网络请求记录
+ *
+ * 1. 内存中保留最近 {@link #MAX_MODEL_COUNT} 条记录，超出后覆盖最旧的。
+ *    请求和返回内容可能很大，总字节数超过 {@link #MAX_TOTAL_BYTES} 时也移除最旧的，至少保留最新一条
+ * 2. 记录只保存原始字段，查看时再格式化，写入 {@link #putHttpModel} 只在请求线程做入队
+ * 3. 后台线程定时或积累一批后统一追加写入日志文件，文件超过上限后轮转。同一时间最多有一次待执行的写入
+ *
+ * @author wangshichao
+ * @date 2024/7/5
+ */
+public class HttpModelController {
+    private static final String TAG = "HttpLog";
+    private static final int MAX_MODEL_COUNT = 200;
+    private static final long MAX_TOTAL_BYTES = 4L * 1024 * 1024;
+    private static final int BATCH_SIZE = 32;
+    private static final long FLUSH_DELAY_MS = 1000L;
+    private static final long MAX_FILE_LENGTH = 5L * 1024 * 1024;
+    private static final String LOG_FILE_NAME = "http_log.txt";
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private static volatile HttpModelController instance;
+
+    private final HttpModel[] models = new HttpModel[MAX_MODEL_COUNT];
+    /**
+     * 每条记录估算的内存字节数，与 {@link #models} 位置对应
+     */
+    private final long[] modelBytes = new long[MAX_MODEL_COUNT];
+    private long totalBytes = 0L;
+    /**
+     * 下一条记录写入的位置
+     */
+    private int nextIndex = 0;
+    private int modelCount = 0;
+
+    private final ConcurrentLinkedQueue<HttpModel> pendingQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger(0);
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService writeExecutor = Executors.newSingleThreadScheduledExecutor();
+
+    /**
+     * 写入后是否同时输出到logcat，在后台线程输出
+     */
+    private volatile boolean logcatEnabled = AppContext.INSTANCE.isDebug();
+
+    @Nullable
+    private File logFile;
+
+    public static HttpModelController getInstance() {
+        if (instance == null) {
+            synchronized (HttpModelController.class) {
+                if (instance == null) {
+                    instance = new HttpModelController();
+                }
+            }
+        }
+        return instance;
+    }
+
+    private HttpModelController() {
+    }
+
+    public void setLogcatEnabled(boolean logcatEnabled) {
+        this.logcatEnabled = logcatEnabled;
+    }
+
+    /**
+     * 保存一条记录，不做格式化和文件读写
+     */
+    public void putHttpModel(HttpModel httpModel) {
+        long bytes = estimateBytes(httpModel);
+        synchronized (models) {
+            // 覆盖最旧的记录
+            totalBytes += bytes - modelBytes[nextIndex];
+            models[nextIndex] = httpModel;
+            modelBytes[nextIndex] = bytes;
+            nextIndex = (nextIndex + 1) % MAX_MODEL_COUNT;
+            if (modelCount < MAX_MODEL_COUNT) {
+                modelCount++;
+            }
+            while (totalBytes > MAX_TOTAL_BYTES && modelCount > 1) {
+                removeOldest();
+            }
+        }
+        pendingQueue.offer(httpModel);
+        int count = pendingCount.incrementAndGet();
+        // 已有待执行的写入时由它一并写入，不重复提交
+        if (flushScheduled.compareAndSet(false, true)) {
+            if (count >= BATCH_SIZE) {
+                writeExecutor.execute(this::flush);
+            } else {
+                writeExecutor.schedule(this::flush, FLUSH_DELAY_MS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * 最近的记录，最新的在前
+     */
+    public List<HttpModel> getHttpModels() {
+        synchronized (models) {
+            List<HttpModel> list = new ArrayList<>(modelCount);
+            for (int i = 1; i <= modelCount; i++) {
+                list.add(models[(nextIndex - i + MAX_MODEL_COUNT) % MAX_MODEL_COUNT]);
+            }
+            return list;
+        }
+    }
+
+    public void clear() {
+        synchronized (models) {
+            for (int i = 0; i < MAX_MODEL_COUNT; i++) {
+                models[i] = null;
+                modelBytes[i] = 0L;
+            }
+            nextIndex = 0;
+            modelCount = 0;
+            totalBytes = 0L;
+        }
+    }
+
+    /**
+     * 移除最旧的一条记录，持有 {@link #models} 锁时调用
+     */
+    private void removeOldest() {
+        int oldestIndex = (nextIndex - modelCount + MAX_MODEL_COUNT) % MAX_MODEL_COUNT;
+        totalBytes -= modelBytes[oldestIndex];
+        models[oldestIndex] = null;
+        modelBytes[oldestIndex] = 0L;
+        modelCount--;
+    }
+
+    /**
+     * 估算记录占用的内存，只计算可能很大的字符串，按每个字符2字节
+     */
+    private static long estimateBytes(HttpModel httpModel) {
+        long chars = length(httpModel.getRequestUrl())
+                + length(httpModel.getRequestBodyContent())
+                + length(httpModel.getResponseBodyContent());
+        return chars * 2;
+    }
+
+    private static int length(@Nullable String text) {
+        return text == null ? 0 : text.length();
+    }
+
+    /**
+     * 日志文件路径，无法获取存储目录时返回null
+     */
+    @Nullable
+    public File getLogFile() {
+        if (logFile == null) {
+            try {
+                File dir = YWFileUtil.getStorageFileDir(AppContext.INSTANCE.getApplication());
+                if (dir != null) {
+                    logFile = new File(dir, LOG_FILE_NAME);
+                }
+            } catch (RuntimeException e) {
+                Log.w(TAG, "getLogFile: " + e.getMessage());
+            }
+        }
+        return logFile;
+    }
+
+    /**
+     * 在写入线程把待写入的记录一次性追加到文件
+     */
+    private void flush() {
+        flushScheduled.set(false);
+        List<HttpModel> batch = new ArrayList<>();
+        HttpModel httpModel;
+        while ((httpModel = pendingQueue.poll()) != null) {
+            batch.add(httpModel);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        pendingCount.addAndGet(-batch.size());
+        if (logcatEnabled) {
+            for (HttpModel model : batch) {
+                Log.i(TAG, model.toString());
+                Log.i(TAG, model.toCurl());
+            }
+        }
+        File file = getLogFile();
+        if (file == null) {
+            return;
+        }
+        rotateIfNeeded(file);
+        BufferedWriter writer = null;
+        try {
+            writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), UTF8));
+            for (HttpModel model : batch) {
+                writer.write(model.toString());
+                writer.write("\n\n");
+            }
+            writer.flush();
+        } catch (IOException e) {
+            Log.w(TAG, "flush: write " + file.getPath() + " fail " + e.getMessage());
+        } finally {
+            YWFileUtil.INSTANCE.close(writer);
+        }
+    }
+
+    private void rotateIfNeeded(File file) {
+        if (file.length() < MAX_FILE_LENGTH) {
+            return;
+        }
+        File oldFile = new File(file.getPath() + ".1");
+        if (oldFile.exists() && !oldFile.delete()) {
+            Log.w(TAG, "rotate: delete " + oldFile.getPath() + " fail");
+        }
+        if (!file.renameTo(oldFile)) {
+            Log.w(TAG, "rotate: rename " + file.getPath() + " fail");
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.base.download
+
+import okhttp3.HttpUrl
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okio.Buffer
+import org.junit.After
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Ignore
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.File
+import java.io.FileOutputStream
+import java.util.Random
+import java.util.logging.Logger
+
+/**
+ * 下载写入方式的吞吐量对比，MockWebServer 在本机提供数据
+ *
+ * 1. 原写法：byteStream 按8KB读入数组，写入 FileOutputStream，每次读取回调进度，结束后重命名
+ * 2. [DownloadTask]：FileChannel.transferFrom 直接写入预分配的临时文件，再原子重命名
+ *
+ * 吞吐量对比耗时较长且受机器负载影响，默认不随单测运行，需要时去掉 [Ignore] 手动运行。
+ * 结果输出到日志，新写法明显慢于原写法时断言失败
+ *
+ * @author wangshichao
+ * @date 2024/7/5
+ */
+class DownloadWriteBenchmark {
+    companion object {
+        private const val BODY_SIZE = 16 * 1024 * 1024
+        private const val BUFFER_SIZE = 8 * 1024
+        private const val WARM_UP_ROUNDS = 2
+        private const val ROUNDS = 5
+
+        /**
+         * 新写法的吞吐量不低于原写法的比例，留出机器抖动的余量
+         */
+        private const val MIN_SPEEDUP = 0.8
+        private val LOG = Logger.getLogger("DownloadWriteBenchmark")
+    }
+
+    @get:Rule
+    val tempFolder = TemporaryFolder()
+
+    private val client = OkHttpClient()
+    private val body = ByteArray(BODY_SIZE).also { Random(1L).nextBytes(it) }
+    private lateinit var server: MockWebServer
+
+    @Before
+    fun setUp() {
+        server = MockWebServer()
+        server.start()
+    }
+
+    @After
+    fun tearDown() {
+        server.shutdown()
+    }
+
+    @Ignore("吞吐量对比，手动运行")
+    @Test
+    fun byteStreamVsTransferFrom() {
+        val url = server.url("/audio.dat")
+        val streamFile = File(tempFolder.root, "stream.dat")
+        val saveFile = File(tempFolder.root, "task.dat")
+
+        repeat(WARM_UP_ROUNDS) {
+            downloadWithByteStream(url, streamFile)
+            downloadWithTask(url, saveFile)
+        }
+        var streamNanos = 0L
+        var transferNanos = 0L
+        repeat(ROUNDS) {
+            streamNanos += measure { downloadWithByteStream(url, streamFile) }
+            transferNanos += measure { downloadWithTask(url, saveFile) }
+        }
+
+        assertArrayEquals(body, streamFile.readBytes())
+        assertArrayEquals(body, saveFile.readBytes())
+        val streamThroughput = throughput(streamNanos)
+        val transferThroughput = throughput(transferNanos)
+        val result = "byteStream: $streamThroughput MB/s transferFrom: $transferThroughput MB/s"
+        LOG.info(result)
+        assertTrue(result, transferThroughput >= streamThroughput * MIN_SPEEDUP)
+    }
+
+    @Test
+    fun completeReplacesExistingFile() {
+        val saveFile = File(tempFolder.root, "replace.dat")
+        saveFile.writeText("old")
+        downloadWithTask(server.url("/audio.dat"), saveFile)
+        assertArrayEquals(body, saveFile.readBytes())
+    }
+
+    /**
+     * 原 FileDownloadManager.saveResponseBodyToFile 的写入方式
+     */
+    private fun downloadWithByteStream(url: HttpUrl, file: File) {
+        enqueueBody()
+        val tempFile = File(file.path + ".temp")
+        client.newCall(Request.Builder().url(url).build()).execute().use { response ->
+            val responseBody = response.body()!!
+            val contentLength = responseBody.contentLength()
+            var progress = 0f
+            responseBody.byteStream().use { inputStream ->
+                FileOutputStream(tempFile).use { outputStream ->
+                    val buffer = ByteArray(BUFFER_SIZE)
+                    var bytesRead: Int
+                    var totalBytesRead = 0L
+                    while (inputStream.read(buffer).also { bytesRead = it } != -1) {
+                        outputStream.write(buffer, 0, bytesRead)
+                        totalBytesRead += bytesRead.toLong()
+                        // 原写法每次读取都回调进度
+                        progress = totalBytesRead / contentLength.toFloat()
+                    }
+                }
+            }
+            assertTrue(progress == 1f)
+        }
+        file.delete()
+        assertTrue(tempFile.renameTo(file))
+    }
+
+    private fun downloadWithTask(url: HttpUrl, file: File) {
+        enqueueBody()
+        val urlString = url.toString()
+        DownloadTask(client, urlString, file.path, 1)
+            .execute(ProgressTracker(urlString, ProgressTracker.Dispatcher { _, _, _ -> }))
+    }
+
+    private fun enqueueBody() {
+        server.enqueue(MockResponse().setBody(Buffer().write(body)))
+    }
+
+    private inline fun measure(block: () -> Unit): Long {
+        val startTime = System.nanoTime()
+        block()
+        return System.nanoTime() - startTime
+    }
+
+    private fun throughput(nanos: Long): Long {
+        return BODY_SIZE.toLong() * ROUNDS * 1_000_000_000L / nanos / (1024 * 1024)
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.base.player.audiotrack
+
+import com.example.base.player.audiotrack.Mp3TestData.FRAME_SIZE
+import com.example.base.player.audiotrack.Mp3TestData.HEADER_44100_128K
+import com.example.base.player.audiotrack.Mp3TestData.SAMPLES_PER_FRAME
+import com.example.base.player.audiotrack.Mp3TestData.SAMPLE_RATE
+import com.example.base.player.audiotrack.Mp3TestData.concat
+import com.example.base.player.audiotrack.Mp3TestData.frameTimeUs
+import com.example.base.player.audiotrack.Mp3TestData.frames
+import com.example.base.player.audiotrack.Mp3TestData.id3Tag
+import com.example.base.player.audiotrack.Mp3TestData.scanInChunks
+import com.example.base.player.audiotrack.Mp3TestData.vbriFrame
+import com.example.base.player.audiotrack.Mp3TestData.xingFrame
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+/**
+ * [Mp3FrameScanner] 单测，每种数据都按不同的分片大小扫描，确认分片边界不影响结果
+ *
+ * @author wangshichao
+ * @date 2024/7/9
+ */
+class Mp3FrameScannerTest {
+    companion object {
+        private val CHUNK_SIZES = intArrayOf(1, 3, 7, 100, 4096, Int.MAX_VALUE)
+    }
+
+    @Test
+    fun cbrDurationIsExact() {
+        val data = frames(HEADER_44100_128K, 100)
+        CHUNK_SIZES.forEach { chunkSize ->
+            val scanner = Mp3FrameScanner()
+            scanner.scanInChunks(data, chunkSize)
+            scanner.end()
+            assertEquals(100L, scanner.frameCount())
+            assertEquals(SAMPLE_RATE, scanner.sampleRate())
+            assertEquals(2, scanner.channels())
+            assertEquals(100L * SAMPLES_PER_FRAME * 1_000_000L / SAMPLE_RATE, scanner.durationUs())
+            assertEquals(data.size.toLong(), scanner.position())
+            assertEquals(0L, scanner.skippedBytes())
+            assertEquals(Mp3FrameScanner.TIME_UNSET, scanner.headerFrames())
+        }
+    }
+
+    @Test
+    fun cbrEstimateUsesAverageBitrate() {
+        val data = frames(HEADER_44100_128K, 10)
+        val scanner = Mp3FrameScanner()
+        scanner.scan(data, 0, data.size)
+        val bitrate = scanner.averageBitrate()
+        assertEquals(FRAME_SIZE * 8L * SAMPLE_RATE / SAMPLES_PER_FRAME, bitrate.toLong())
+        // 共100帧，只扫描了前10帧
+        val contentLength = FRAME_SIZE * 100L
+        assertEquals(contentLength * 8 * 1_000_000L / bitrate, scanner.estimateDurationUs(contentLength))
+        assertEquals(Mp3FrameScanner.TIME_UNSET, scanner.estimateDurationUs(Mp3FrameScanner.TIME_UNSET))
+    }
+
+    @Test
+    fun skipId3SplitAcrossChunks() {
+        val id3 = id3Tag(300)
+        val data = concat(id3, frames(HEADER_44100_128K, 20))
+        // 分片边界落在标签头中间、标签体中间和标签与第一帧之间
+        val splits = listOf(intArrayOf(5), intArrayOf(150), intArrayOf(id3.size), intArrayOf(2, 9, 11, 309, 312))
+        splits.forEach { split ->
+            val scanner = Mp3FrameScanner()
+            var offset = 0
+            (split.toList() + data.size).forEach { end ->
+                scanner.scan(data, offset, end - offset)
+                offset = end
+            }
+            scanner.end()
+            assertEquals(20L, scanner.frameCount())
+            assertEquals(0L, scanner.skippedBytes())
+            assertEquals(id3.size.toLong(), scanner.getPosition(0))
+        }
+        CHUNK_SIZES.forEach { chunkSize ->
+            val scanner = Mp3FrameScanner()
+            scanner.scanInChunks(data, chunkSize)
+            assertEquals(20L, scanner.frameCount())
+            assertEquals(id3.size.toLong(), scanner.getPosition(0))
+        }
+    }
+
+    @Test
+    fun skipGarbageBeforeFirstFrame() {
+        val garbage = byteArrayOf(1, 2, 3, 0xFF.toByte(), 0x00, 5)
+        val data = concat(garbage, frames(HEADER_44100_128K, 5))
+        val scanner = Mp3FrameScanner()
+        scanner.scanInChunks(data, 2)
+        assertEquals(5L, scanner.frameCount())
+        assertEquals(garbage.size.toLong(), scanner.skippedBytes())
+        assertEquals(garbage.size.toLong(), scanner.getPosition(0))
+    }
+
+    @Test
+    fun xingWithLameDelayAndPadding() {
+        val audioFrames = 100
+        val xing = xingFrame("Xing", audioFrames, FRAME_SIZE * (audioFrames + 1), "LAME", 576, 1000)
+        val data = concat(xing, frames(HEADER_44100_128K, audioFrames))
+        CHUNK_SIZES.forEach { chunkSize ->
+            val scanner = Mp3FrameScanner()
+            // 只扫描到第10帧时，按头部记录的帧数预估总时长
+            val partial = xing.size + FRAME_SIZE * 10
+            scanner.scanInChunks(data.copyOf(partial), chunkSize)
+            val expectedUs = (audioFrames.toLong() * SAMPLES_PER_FRAME - 576 - 1000) * 1_000_000L / SAMPLE_RATE
+            assertEquals(expectedUs, scanner.estimateDurationUs(data.size.toLong()))
+            // 扫描中只扣除编码延迟
+            assertEquals((10L * SAMPLES_PER_FRAME - 576) * 1_000_000L / SAMPLE_RATE, scanner.durationUs())
+
+            scanner.scan(data, partial, data.size - partial)
+            scanner.end()
+            assertEquals(audioFrames.toLong(), scanner.frameCount())
+            assertEquals(audioFrames.toLong(), scanner.headerFrames())
+            assertEquals(FRAME_SIZE * (audioFrames + 1L), scanner.headerBytes())
+            assertEquals(576, scanner.encoderDelay())
+            assertEquals(1000, scanner.encoderPadding())
+            assertEquals(expectedUs, scanner.durationUs())
+            // Xing 帧不是音频，第一个定位点是它后面的帧
+            assertEquals(xing.size.toLong(), scanner.getPosition(0))
+        }
+    }
+
+    @Test
+    fun infoWithoutLameTagHasNoDelay() {
+        val info = xingFrame("Info", 10, FRAME_SIZE * 11, "XXXX", 576, 1000)
+        val data = concat(info, frames(HEADER_44100_128K, 10))
+        val scanner = Mp3FrameScanner()
+        scanner.scan(data, 0, data.size)
+        scanner.end()
+        assertEquals(10L, scanner.frameCount())
+        assertEquals(10L, scanner.headerFrames())
+        assertEquals(0, scanner.encoderDelay())
+        assertEquals(0, scanner.encoderPadding())
+        assertEquals(10L * SAMPLES_PER_FRAME * 1_000_000L / SAMPLE_RATE, scanner.durationUs())
+    }
+
+    @Test
+    fun vbriHeader() {
+        val vbri = vbriFrame(50, 123_456)
+        val data = concat(vbri, frames(HEADER_44100_128K, 50))
+        CHUNK_SIZES.forEach { chunkSize ->
+            val scanner = Mp3FrameScanner()
+            scanner.scanInChunks(data.copyOf(vbri.size + FRAME_SIZE * 5), chunkSize)
+            assertEquals(50L, scanner.headerFrames())
+            assertEquals(123_456L, scanner.headerBytes())
+            assertEquals(50L * SAMPLES_PER_FRAME * 1_000_000L / SAMPLE_RATE, scanner.estimateDurationUs(data.size.toLong()))
+            assertEquals(5L, scanner.frameCount())
+            assertEquals(vbri.size.toLong(), scanner.getPosition(0))
+        }
+    }
+
+    @Test
+    fun seekTableDecimation() {
+        val frameCount = 1000
+        val data = frames(HEADER_44100_128K, frameCount)
+        val scanner = Mp3FrameScanner(8, 100_000)
+        scanner.scanInChunks(data, 4096)
+        scanner.end()
+
+        val count = scanner.seekPointCount()
+        assertTrue("count=$count", count in 2..8)
+        assertEquals(0L, scanner.seekTimeUs(0))
+        assertEquals(0L, scanner.seekPosition(0))
+        for (i in 0 until count) {
+            // 每个定位点都在帧开头，时间与该帧一致
+            val position = scanner.seekPosition(i)
+            assertEquals(0L, position % FRAME_SIZE)
+            assertEquals(frameTimeUs((position / FRAME_SIZE).toInt()), scanner.seekTimeUs(i))
+            if (i > 0) {
+                assertTrue(scanner.seekTimeUs(i) > scanner.seekTimeUs(i - 1))
+            }
+        }
+        // 删减后仍然覆盖整个文件，而不是停在开头
+        val durationUs = scanner.durationUs()
+        assertTrue(scanner.seekTimeUs(count - 1) > durationUs / 2)
+
+        for (i in 1 until count) {
+            val timeUs = scanner.seekTimeUs(i)
+            assertEquals(scanner.seekPosition(i), scanner.getPosition(timeUs))
+            assertEquals(scanner.seekPosition(i - 1), scanner.getPosition(timeUs - 1))
+        }
+        assertEquals(scanner.seekPosition(count - 1), scanner.getPosition(durationUs))
+    }
+
+    @Test
+    fun seekTableKeepsAllPointsWhenNotFull() {
+        val data = frames(HEADER_44100_128K, 100)
+        val scanner = Mp3FrameScanner(Mp3FrameScanner.DEFAULT_SEEK_POINTS, frameTimeUs(10))
+        scanner.scan(data, 0, data.size)
+        assertEquals(10, scanner.seekPointCount())
+        for (i in 0 until 10) {
+            assertEquals(FRAME_SIZE * 10L * i, scanner.seekPosition(i))
+        }
+    }
+
+    @Test
+    fun resetClearsState() {
+        val scanner = Mp3FrameScanner()
+        val xing = xingFrame("Xing", 10, 0, "LAME", 576, 1000)
+        scanner.scan(xing, 0, xing.size)
+        scanner.end()
+        scanner.reset()
+        val data = frames(HEADER_44100_128K, 3)
+        scanner.scan(data, 0, data.size)
+        assertEquals(3L, scanner.frameCount())
+        assertEquals(Mp3FrameScanner.TIME_UNSET, scanner.headerFrames())
+        assertEquals(0, scanner.encoderDelay())
+        assertEquals(-1L, Mp3FrameScanner().getPosition(0))
+    }
+}
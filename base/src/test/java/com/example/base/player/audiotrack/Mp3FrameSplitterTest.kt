@@ -0,0 +1,106 @@
+package com.example.base.player.audiotrack
+
+import com.example.base.player.audiotrack.Mp3TestData.FRAME_SIZE
+import com.example.base.player.audiotrack.Mp3TestData.HEADER_44100_128K
+import com.example.base.player.audiotrack.Mp3TestData.HEADER_48000_128K
+import com.example.base.player.audiotrack.Mp3TestData.concat
+import com.example.base.player.audiotrack.Mp3TestData.frame
+import com.example.base.player.audiotrack.Mp3TestData.frames
+import com.example.base.player.audiotrack.Mp3TestData.id3Tag
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+/**
+ * [Mp3FrameSplitter] 单测
+ *
+ * @author wangshichao
+ * @date 2024/7/9
+ */
+class Mp3FrameSplitterTest {
+
+    @Test
+    fun frameIsReturnedOnlyWhenComplete() {
+        val frame = frame(HEADER_44100_128K)
+        val splitter = Mp3FrameSplitter(64)
+        splitter.append(frame, 0, 100)
+        assertFalse(splitter.nextFrame())
+        splitter.append(frame, 100, frame.size - 100)
+        assertTrue(splitter.nextFrame())
+        assertEquals(FRAME_SIZE, splitter.header().frameSize)
+        assertEquals(HEADER_44100_128K, MpegAudioHeader.readHeader(splitter.buffer(), splitter.frameOffset()))
+        splitter.consumeFrame()
+        assertFalse(splitter.nextFrame())
+    }
+
+    @Test
+    fun skipId3SplitAcrossAppends() {
+        val id3 = id3Tag(300)
+        val data = concat(id3, frames(HEADER_44100_128K, 3))
+        intArrayOf(1, 5, 64, 1000).forEach { chunkSize ->
+            val splitter = Mp3FrameSplitter(16)
+            assertEquals("chunkSize=$chunkSize", 3, splitAll(splitter, data, chunkSize))
+            assertEquals(0L, splitter.skippedBytes())
+        }
+    }
+
+    @Test
+    fun resyncAfterGarbage() {
+        val garbage = byteArrayOf(0, 0xFF.toByte(), 0xFF.toByte(), 7)
+        val data = concat(garbage, frame(HEADER_44100_128K), garbage, frame(HEADER_44100_128K))
+        val splitter = Mp3FrameSplitter()
+        assertEquals(2, splitAll(splitter, data, data.size))
+        assertEquals(garbage.size * 2L, splitter.skippedBytes())
+    }
+
+    @Test
+    fun lockToFirstFrame() {
+        // 第一帧确定为44100Hz，之后48000Hz的帧头按无效数据跳过
+        val other = frame(HEADER_48000_128K)
+        val data = concat(frame(HEADER_44100_128K), other, frame(HEADER_44100_128K))
+        val splitter = Mp3FrameSplitter()
+        assertEquals(2, splitAll(splitter, data, data.size))
+        assertEquals(other.size.toLong(), splitter.skippedBytes())
+
+        splitter.reset()
+        splitter.append(other, 0, other.size)
+        assertTrue(splitter.nextFrame())
+        assertEquals(48000, splitter.header().sampleRate)
+    }
+
+    @Test
+    fun bufferGrowsForLargeAppend() {
+        val data = frames(HEADER_44100_128K, 10)
+        val splitter = Mp3FrameSplitter(16)
+        splitter.append(data, 0, data.size)
+        var count = 0
+        while (splitter.nextFrame()) {
+            assertEquals(FRAME_SIZE * count, splitter.frameOffset())
+            splitter.consumeFrame()
+            count++
+        }
+        assertEquals(10, count)
+    }
+
+    /**
+     * 分片追加并取出所有完整帧
+     *
+     * @return 帧数
+     */
+    private fun splitAll(splitter: Mp3FrameSplitter, data: ByteArray, chunkSize: Int): Int {
+        var count = 0
+        var offset = 0
+        while (offset < data.size) {
+            val length = minOf(chunkSize, data.size - offset)
+            splitter.append(data, offset, length)
+            offset += length
+            while (splitter.nextFrame()) {
+                assertEquals(HEADER_44100_128K, MpegAudioHeader.readHeader(splitter.buffer(), splitter.frameOffset()))
+                splitter.consumeFrame()
+                count++
+            }
+        }
+        return count
+    }
+}
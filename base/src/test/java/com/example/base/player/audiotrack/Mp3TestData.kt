@@ -0,0 +1,147 @@
+package com.example.base.player.audiotrack
+
+import java.io.ByteArrayOutputStream
+
+/**
+ * 单测用的 mp3 数据，按帧头生成只有帧头、其余为0的帧
+ *
+ * @author wangshichao
+ * @date 2024/7/9
+ */
+internal object Mp3TestData {
+    /**
+     * MPEG1 Layer III 128kbps 44100Hz 立体声，不带填充，帧长417
+     */
+    const val HEADER_44100_128K = 0xFFFB9000.toInt()
+
+    /**
+     * 同上，带填充，帧长418
+     */
+    const val HEADER_44100_128K_PADDING = 0xFFFB9200.toInt()
+
+    /**
+     * MPEG1 Layer III 128kbps 48000Hz 立体声，帧长384
+     */
+    const val HEADER_48000_128K = 0xFFFB9400.toInt()
+
+    /**
+     * MPEG1 Layer III 128kbps 44100Hz 单声道
+     */
+    const val HEADER_44100_128K_MONO = 0xFFFB90C0.toInt()
+
+    const val FRAME_SIZE = 417
+    const val SAMPLES_PER_FRAME = 1152
+    const val SAMPLE_RATE = 44100
+
+    /**
+     * 只有帧头的帧，长度按帧头计算
+     */
+    fun frame(header: Int): ByteArray {
+        val parser = MpegAudioHeader()
+        check(parser.setForHeaderData(header)) { "invalid header" }
+        val frame = ByteArray(parser.frameSize)
+        writeInt(frame, 0, header)
+        return frame
+    }
+
+    fun frames(header: Int, count: Int): ByteArray {
+        val frame = frame(header)
+        val out = ByteArrayOutputStream(frame.size * count)
+        repeat(count) { out.write(frame) }
+        return out.toByteArray()
+    }
+
+    /**
+     * ID3v2 标签，标签体填充帧头样式的字节，确认扫描时不会当作帧
+     */
+    fun id3Tag(bodySize: Int): ByteArray {
+        val tag = ByteArray(10 + bodySize)
+        tag[0] = 'I'.code.toByte()
+        tag[1] = 'D'.code.toByte()
+        tag[2] = '3'.code.toByte()
+        tag[3] = 4
+        tag[6] = ((bodySize shr 21) and 0x7F).toByte()
+        tag[7] = ((bodySize shr 14) and 0x7F).toByte()
+        tag[8] = ((bodySize shr 7) and 0x7F).toByte()
+        tag[9] = (bodySize and 0x7F).toByte()
+        for (i in 10 until tag.size step 4) {
+            tag[i] = 0xFF.toByte()
+            if (i + 1 < tag.size) {
+                tag[i + 1] = 0xFB.toByte()
+            }
+        }
+        return tag
+    }
+
+    /**
+     * 第一帧的 Xing/Info 头，包含帧数、字节数、目录和质量，之后是编码器标签
+     *
+     * @param tag "Xing" 或 "Info"
+     * @param encoder 编码器标签的前4字节，如 "LAME"
+     */
+    fun xingFrame(tag: String, frames: Int, bytes: Int, encoder: String, delay: Int, padding: Int): ByteArray {
+        val frame = frame(HEADER_44100_128K)
+        // 立体声 MPEG1 的边信息32字节
+        var offset = 4 + 32
+        writeTag(frame, offset, tag)
+        writeInt(frame, offset + 4, 0xF)
+        writeInt(frame, offset + 8, frames)
+        writeInt(frame, offset + 12, bytes)
+        offset += 16 + 100 + 4
+        writeTag(frame, offset, encoder)
+        val value = (delay shl 12) or padding
+        frame[offset + 21] = (value shr 16).toByte()
+        frame[offset + 22] = (value shr 8).toByte()
+        frame[offset + 23] = value.toByte()
+        return frame
+    }
+
+    /**
+     * 第一帧的 VBRI 头，位于帧头后32字节
+     */
+    fun vbriFrame(frames: Int, bytes: Int): ByteArray {
+        val frame = frame(HEADER_44100_128K)
+        val offset = 4 + 32
+        writeTag(frame, offset, "VBRI")
+        frame[offset + 5] = 1
+        writeInt(frame, offset + 10, bytes)
+        writeInt(frame, offset + 14, frames)
+        return frame
+    }
+
+    fun concat(vararg parts: ByteArray): ByteArray {
+        val out = ByteArrayOutputStream()
+        parts.forEach { out.write(it) }
+        return out.toByteArray()
+    }
+
+    /**
+     * 按固定大小分片扫描，模拟网络分片到达
+     */
+    fun Mp3FrameScanner.scanInChunks(data: ByteArray, chunkSize: Int) {
+        var offset = 0
+        while (offset < data.size) {
+            val length = minOf(chunkSize, data.size - offset)
+            scan(data, offset, length)
+            offset += length
+        }
+    }
+
+    /**
+     * 第 index 个音频帧开始时的时间，与扫描器的取整方式一致
+     */
+    fun frameTimeUs(index: Int): Long {
+        return index.toLong() * SAMPLES_PER_FRAME * 1_000_000L / SAMPLE_RATE
+    }
+
+    private fun writeTag(data: ByteArray, offset: Int, tag: String) {
+        tag.forEachIndexed { i, c -> data[offset + i] = c.code.toByte() }
+    }
+
+    private fun writeInt(data: ByteArray, offset: Int, value: Int) {
+        data[offset] = (value ushr 24).toByte()
+        data[offset + 1] = (value ushr 16).toByte()
+        data[offset + 2] = (value ushr 8).toByte()
+        data[offset + 3] = value.toByte()
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.base.player.audiotrack
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+/**
+ * [MpegAudioHeader] 单测
+ *
+ * @author wangshichao
+ * @date 2024/7/9
+ */
+class MpegAudioHeaderTest {
+
+    @Test
+    fun readHeaderIsBigEndian() {
+        val data = byteArrayOf(0, 0xFF.toByte(), 0xFB.toByte(), 0x90.toByte(), 0x64)
+        assertEquals(0xFFFB9064.toInt(), MpegAudioHeader.readHeader(data, 1))
+    }
+
+    @Test
+    fun mpeg1Layer3() {
+        val header = MpegAudioHeader()
+        assertTrue(header.setForHeaderData(Mp3TestData.HEADER_44100_128K))
+        assertEquals(MpegAudioHeader.VERSION_1, header.version)
+        assertEquals(3, header.layer)
+        assertEquals(2, header.channels)
+        assertEquals(44100, header.sampleRate)
+        assertEquals(128_000, header.bitrate)
+        assertEquals(1152, header.samplesPerFrame)
+        assertEquals(417, header.frameSize)
+
+        assertTrue(header.setForHeaderData(Mp3TestData.HEADER_44100_128K_PADDING))
+        assertEquals(418, header.frameSize)
+
+        assertTrue(header.setForHeaderData(Mp3TestData.HEADER_44100_128K_MONO))
+        assertEquals(MpegAudioHeader.CHANNEL_MODE_MONO, header.channelMode)
+        assertEquals(1, header.channels)
+    }
+
+    @Test
+    fun mpeg2Layer3() {
+        // MPEG2 Layer III 64kbps 22050Hz
+        val header = MpegAudioHeader()
+        assertTrue(header.setForHeaderData(0xFFF38000.toInt()))
+        assertEquals(MpegAudioHeader.VERSION_2, header.version)
+        assertEquals(22050, header.sampleRate)
+        assertEquals(64_000, header.bitrate)
+        assertEquals(576, header.samplesPerFrame)
+        assertEquals(72 * 64_000 / 22050, header.frameSize)
+    }
+
+    @Test
+    fun mpeg25Layer3() {
+        // MPEG2.5 Layer III 8kbps 8000Hz
+        val header = MpegAudioHeader()
+        assertTrue(header.setForHeaderData(0xFFE31800.toInt()))
+        assertEquals(MpegAudioHeader.VERSION_2_5, header.version)
+        assertEquals(8000, header.sampleRate)
+        assertEquals(8_000, header.bitrate)
+        assertEquals(576, header.samplesPerFrame)
+        assertEquals(72, header.frameSize)
+    }
+
+    @Test
+    fun mpeg1Layer1() {
+        // MPEG1 Layer I 32kbps 44100Hz 带填充
+        val header = MpegAudioHeader()
+        assertTrue(header.setForHeaderData(0xFFFF1200.toInt()))
+        assertEquals(1, header.layer)
+        assertEquals(384, header.samplesPerFrame)
+        assertEquals((12 * 32_000 / 44100 + 1) * 4, header.frameSize)
+    }
+
+    @Test
+    fun invalidHeaderKeepsValues() {
+        val header = MpegAudioHeader()
+        assertTrue(header.setForHeaderData(Mp3TestData.HEADER_44100_128K))
+        val invalidHeaders = intArrayOf(
+            // 同步字不完整
+            0xFFDB9000.toInt(),
+            // 保留的版本
+            0xFFEB9000.toInt(),
+            // 保留的层
+            0xFFF99000.toInt(),
+            // 自由码率
+            0xFFFB0000.toInt(),
+            // 无效码率
+            0xFFFBF000.toInt(),
+            // 保留的采样率
+            0xFFFB9C00.toInt()
+        )
+        invalidHeaders.forEach {
+            assertFalse(Integer.toHexString(it), header.setForHeaderData(it))
+        }
+        assertEquals(44100, header.sampleRate)
+        assertEquals(417, header.frameSize)
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.base.player.audiotrack
+
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import java.nio.ByteBuffer
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import kotlin.concurrent.thread
+
+/**
+ * [PcmRingBuffer] 单测
+ *
+ * @author wangshichao
+ * @date 2024/7/9
+ */
+class PcmRingBufferTest {
+
+    @Test
+    fun readAndWriteWrapAround() {
+        val buffer = PcmRingBuffer(8)
+        assertEquals(6, buffer.write(ByteBuffer.wrap(bytes(0, 6))))
+        val dst = ByteArray(8)
+        assertEquals(4, buffer.read(dst, 0, 4, 0))
+        assertArrayEquals(bytes(0, 4), dst.copyOf(4))
+
+        // 写入位置从6开始，跨过末尾回到开头
+        assertEquals(5, buffer.write(ByteBuffer.wrap(bytes(6, 5))))
+        assertEquals(7, buffer.available())
+        assertEquals(7, buffer.read(dst, 1, 7, 0))
+        assertArrayEquals(bytes(4, 7), dst.copyOfRange(1, 8))
+        assertEquals(0, buffer.available())
+    }
+
+    @Test
+    fun readReturnsAvailableWithoutWaiting() {
+        val buffer = PcmRingBuffer(8)
+        buffer.write(ByteBuffer.wrap(bytes(0, 3)))
+        val dst = ByteArray(8)
+        assertEquals(3, buffer.read(dst, 0, 8, 1000))
+    }
+
+    @Test
+    fun readTimeout() {
+        val buffer = PcmRingBuffer(8)
+        val startTime = System.nanoTime()
+        assertEquals(0, buffer.read(ByteArray(4), 0, 4, 50))
+        assertTrue(System.nanoTime() - startTime >= TimeUnit.MILLISECONDS.toNanos(50))
+    }
+
+    @Test
+    fun writeWaitsUntilRead() {
+        val buffer = PcmRingBuffer(8)
+        val data = bytes(0, 100)
+        var written = 0
+        val writer = thread {
+            written = buffer.write(ByteBuffer.wrap(data))
+        }
+        val received = ByteArray(data.size)
+        var offset = 0
+        val dst = ByteArray(3)
+        while (offset < data.size) {
+            val read = buffer.read(dst, 0, dst.size, 1000)
+            assertTrue(read > 0)
+            System.arraycopy(dst, 0, received, offset, read)
+            offset += read
+        }
+        writer.join(1000)
+        assertEquals(data.size, written)
+        assertArrayEquals(data, received)
+    }
+
+    @Test
+    fun closeDrainsThenEnds() {
+        val buffer = PcmRingBuffer(8)
+        buffer.write(ByteBuffer.wrap(bytes(0, 5)))
+        buffer.close()
+        assertTrue(buffer.isClosed)
+        // 关闭后不再写入
+        assertEquals(0, buffer.write(ByteBuffer.wrap(bytes(0, 2))))
+        val dst = ByteArray(8)
+        assertEquals(5, buffer.read(dst, 0, 8, 0))
+        assertEquals(-1, buffer.read(dst, 0, 8, 1000))
+    }
+
+    @Test
+    fun closeWakesBlockedReaderAndWriter() {
+        val reader = PcmRingBuffer(8)
+        val readerStarted = CountDownLatch(1)
+        var readResult = 0
+        val readThread = thread {
+            readerStarted.countDown()
+            readResult = reader.read(ByteArray(4), 0, 4, 10_000)
+        }
+        readerStarted.await()
+        Thread.sleep(50)
+        reader.close()
+        readThread.join(1000)
+        assertEquals(-1, readResult)
+
+        val writer = PcmRingBuffer(8)
+        var written = 0
+        val writeThread = thread {
+            written = writer.write(ByteBuffer.wrap(bytes(0, 20)))
+        }
+        Thread.sleep(50)
+        writer.close()
+        writeThread.join(1000)
+        assertEquals(8, written)
+    }
+
+    @Test
+    fun clearReopens() {
+        val buffer = PcmRingBuffer(8)
+        buffer.write(ByteBuffer.wrap(bytes(0, 5)))
+        buffer.close()
+        buffer.clear()
+        assertEquals(0, buffer.available())
+        assertTrue(!buffer.isClosed)
+        assertEquals(3, buffer.write(ByteBuffer.wrap(bytes(10, 3))))
+        val dst = ByteArray(3)
+        assertEquals(3, buffer.read(dst, 0, 3, 0))
+        assertArrayEquals(bytes(10, 3), dst)
+    }
+
+    private fun bytes(start: Int, count: Int): ByteArray {
+        return ByteArray(count) { (start + it).toByte() }
+    }
+}